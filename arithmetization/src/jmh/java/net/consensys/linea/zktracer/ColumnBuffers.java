@@ -0,0 +1,43 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/** Helpers for the benchmarks committing a module several times into the same column buffers. */
+public final class ColumnBuffers {
+  private static final byte[] ZEROS = new byte[64 * 1024];
+
+  private ColumnBuffers() {}
+
+  /**
+   * Zero the given column buffers and rewind them, so that they can be committed into again: the
+   * generated Trace classes write with relative puts, and skip over the left-padding of the byte
+   * columns, which must thus already be zeros.
+   *
+   * @param buffers the column buffers to reset
+   */
+  public static void reset(final List<? extends ByteBuffer> buffers) {
+    for (ByteBuffer buffer : buffers) {
+      buffer.clear();
+      while (buffer.hasRemaining()) {
+        buffer.put(ZEROS, 0, Math.min(ZEROS.length, buffer.remaining()));
+      }
+      buffer.clear();
+    }
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.consensys.linea.zktracer.module.Module;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the line counting and the commit of a single module once a replay has been traced, so
+ * that the gc profiler reports the allocation rate of each module separately. Any module of the
+ * trace may be benchmarked with e.g. {@code -p module=EXP}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ModuleCommitBenchmark {
+  @Param({"2492975-2492977.json.gz"})
+  private String replay;
+
+  @Param({"HUB", "MMU", "MMIO", "ROM", "WCP", "RLP_TXN"})
+  private String module;
+
+  private Module traced;
+
+  private Path traceFile;
+
+  private RandomAccessFile file;
+
+  private List<MappedByteBuffer> buffers;
+
+  @Setup(Level.Trial)
+  public void trace() throws IOException {
+    final ZkTracer tracer = Replays.trace(Replays.load(this.replay));
+    // Commit the whole trace once, so that the modules this one depends on are committed
+    this.traceFile = Files.createTempFile("module-commit-benchmark", ".lt");
+    tracer.writeToFile(this.traceFile);
+
+    this.traced =
+        tracer.getHub().getModulesToTrace().stream()
+            .filter(m -> m.moduleKey().equals(this.module))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("unknown module " + this.module));
+
+    final List<ColumnHeader> headers = this.traced.columnsHeaders();
+    this.file = new RandomAccessFile(this.traceFile.toFile(), "rw");
+    this.file.setLength(0);
+    this.file.setLength(headers.stream().mapToLong(ColumnHeader::dataSize).sum());
+    this.buffers = TraceColumns.map(this.file.getChannel(), 0, headers);
+  }
+
+  @Setup(Level.Invocation)
+  public void resetBuffers() {
+    ColumnBuffers.reset(this.buffers);
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanUp() throws IOException {
+    this.buffers = null;
+    this.file.close();
+    Files.deleteIfExists(this.traceFile);
+  }
+
+  @Benchmark
+  public int lineCount() {
+    return this.traced.lineCount();
+  }
+
+  @Benchmark
+  public List<MappedByteBuffer> commit() {
+    this.traced.commit(this.buffers);
+    return this.buffers;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import net.consensys.linea.blockcapture.snapshots.ConflationSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Replays the conflations captured in the test resources, and measures the three stages a
+ * conflation goes through when building blocks: tracing, line counting and trace serialization.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ReplayBenchmark {
+  @Param({
+    "start-vs-prepare-tx.json.gz",
+    "2492975-2492977.json.gz",
+    "2982051-2982061.json.gz",
+    "3149945-3149946.json.gz",
+    "5995097.json.gz",
+    "5995162.json.gz"
+  })
+  private String replay;
+
+  private ConflationSnapshot conflation;
+
+  /** A tracer having traced the conflation, for the benchmarks of the later stages */
+  private ZkTracer tracer;
+
+  private Path traceFile;
+
+  @Setup(Level.Trial)
+  public void load() throws IOException {
+    this.conflation = Replays.load(this.replay);
+    this.tracer = Replays.trace(this.conflation);
+    this.traceFile = Files.createTempFile("replay-benchmark", ".lt");
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanUp() throws IOException {
+    Files.deleteIfExists(this.traceFile);
+  }
+
+  @Benchmark
+  public ZkTracer trace() {
+    return Replays.trace(this.conflation);
+  }
+
+  @Benchmark
+  public Map<String, Integer> lineCount() {
+    return this.tracer.getModulesLineCount();
+  }
+
+  @Benchmark
+  public Path writeToFile() {
+    this.tracer.writeToFile(this.traceFile);
+    return this.traceFile;
+  }
+}
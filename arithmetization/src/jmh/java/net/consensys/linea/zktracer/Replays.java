@@ -0,0 +1,66 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import com.google.gson.Gson;
+import net.consensys.linea.blockcapture.snapshots.ConflationSnapshot;
+import net.consensys.linea.zktracer.testing.ToyExecutionEnvironment;
+
+/** Loads and traces the conflations captured in the test resources, as the replay tests do. */
+final class Replays {
+  private Replays() {}
+
+  /**
+   * Loads a .json or .json.gz replay file from the test resources.
+   *
+   * @param filename the file in resources/replays/ containing the replay
+   * @return the captured conflation
+   */
+  static ConflationSnapshot load(final String filename) {
+    final InputStream fileStream =
+        Replays.class.getClassLoader().getResourceAsStream("replays/%s".formatted(filename));
+    if (fileStream == null) {
+      throw new IllegalArgumentException(
+          "unable to find %s in replay resources".formatted(filename));
+    }
+
+    try (Reader reader =
+        new InputStreamReader(
+            filename.toLowerCase().endsWith("gz") ? new GZIPInputStream(fileStream) : fileStream,
+            StandardCharsets.UTF_8)) {
+      return new Gson().fromJson(reader, ConflationSnapshot.class);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Traces a conflation with a fresh tracer, without checking the resulting trace.
+   *
+   * @param conflation the conflation to trace
+   * @return the tracer having traced the conflation
+   */
+  static ZkTracer trace(final ConflationSnapshot conflation) {
+    return ToyExecutionEnvironment.builder().build().traceReplay(conflation);
+  }
+}
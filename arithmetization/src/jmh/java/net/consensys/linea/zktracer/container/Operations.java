@@ -0,0 +1,49 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.container;
+
+import java.util.Random;
+
+import net.consensys.linea.zktracer.module.add.AddOperation;
+import net.consensys.linea.zktracer.opcode.OpCode;
+import org.apache.tuweni.bytes.Bytes;
+
+/** Generates the module operations stored in the containers by their benchmarks. */
+final class Operations {
+  private Operations() {}
+
+  /**
+   * Generates random ADD operations, a given share of them being duplicates of previous ones.
+   *
+   * @param count the number of operations to generate
+   * @param duplicatePercent the percentage of duplicate operations
+   * @return the operations
+   */
+  static AddOperation[] generate(final int count, final int duplicatePercent) {
+    final Random random = new Random(count);
+    final AddOperation[] operations = new AddOperation[count];
+    for (int i = 0; i < count; i++) {
+      if (i > 0 && random.nextInt(100) < duplicatePercent) {
+        operations[i] = operations[random.nextInt(i)];
+      } else {
+        operations[i] =
+            new AddOperation(
+                OpCode.ADD, Bytes.ofUnsignedLong(random.nextLong()), Bytes.ofUnsignedInt(i));
+      }
+    }
+    return operations;
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.container;
+
+import java.util.concurrent.TimeUnit;
+
+import net.consensys.linea.zktracer.container.stacked.list.StackedList;
+import net.consensys.linea.zktracer.module.add.AddOperation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Fills a {@link StackedList} as the modules do over a conflation: one context per transaction,
+ * some of them being popped.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StackedListBenchmark {
+  @Param({"100000"})
+  private int operationCount;
+
+  @Param({"100"})
+  private int operationsPerTransaction;
+
+  /** one transaction out of popEvery is reverted */
+  @Param({"10"})
+  private int popEvery;
+
+  private AddOperation[] operations;
+
+  private StackedList<AddOperation> filled;
+
+  @Setup
+  public void generate() {
+    this.operations = Operations.generate(this.operationCount, 0);
+    this.filled = this.fill();
+  }
+
+  private StackedList<AddOperation> fill() {
+    final StackedList<AddOperation> list = new StackedList<>();
+    int transaction = 0;
+    for (int i = 0; i < this.operations.length; i++) {
+      if (i % this.operationsPerTransaction == 0) {
+        if (transaction++ % this.popEvery == 1) {
+          list.pop();
+        }
+        list.enter();
+      }
+      list.add(this.operations[i]);
+    }
+    return list;
+  }
+
+  @Benchmark
+  public StackedList<AddOperation> add() {
+    return this.fill();
+  }
+
+  @Benchmark
+  public int lineCount() {
+    return this.filled.lineCount();
+  }
+
+  @Benchmark
+  public void iterate(Blackhole blackhole) {
+    for (AddOperation operation : this.filled) {
+      blackhole.consume(operation);
+    }
+  }
+
+  @Benchmark
+  public void get(Blackhole blackhole) {
+    for (int i = 0; i < this.filled.size(); i++) {
+      blackhole.consume(this.filled.get(i));
+    }
+  }
+}
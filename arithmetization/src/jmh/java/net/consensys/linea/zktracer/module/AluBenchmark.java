@@ -0,0 +1,112 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.module;
+
+import static net.consensys.linea.zktracer.module.constants.GlobalConstants.EVM_INST_LT;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.consensys.linea.zktracer.module.add.AddOperation;
+import net.consensys.linea.zktracer.module.ext.ExtOperation;
+import net.consensys.linea.zktracer.module.mod.ModOperation;
+import net.consensys.linea.zktracer.module.mul.MulOperation;
+import net.consensys.linea.zktracer.module.wcp.WcpOperation;
+import net.consensys.linea.zktracer.opcode.OpCode;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures what the ALU modules do for each instruction while tracing, i.e. creating the operation
+ * and computing its line count. Their commits are measured by {@code ModuleCommitBenchmark}, e.g.
+ * with {@code -p module=ADD,MUL,MOD,EXT,WCP}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AluBenchmark {
+  private static final int ARGUMENTS = 1024;
+
+  private final Bytes32[] arguments = new Bytes32[ARGUMENTS + 2];
+
+  @Setup
+  public void generate() {
+    final Random random = new Random(ARGUMENTS);
+    for (int i = 0; i < this.arguments.length; i++) {
+      // Mix full words with small ones, as found on the stack
+      final byte[] word = new byte[random.nextBoolean() ? Bytes32.SIZE : random.nextInt(9)];
+      random.nextBytes(word);
+      this.arguments[i] = Bytes32.leftPad(Bytes.wrap(word));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ARGUMENTS)
+  public void add(Blackhole blackhole) {
+    for (int i = 0; i < ARGUMENTS; i++) {
+      blackhole.consume(
+          new AddOperation(OpCode.ADD, this.arguments[i], this.arguments[i + 1]).lineCount());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ARGUMENTS)
+  public void mul(Blackhole blackhole) {
+    for (int i = 0; i < ARGUMENTS; i++) {
+      blackhole.consume(
+          new MulOperation(OpCode.MUL, this.arguments[i], this.arguments[i + 1]).lineCount());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ARGUMENTS)
+  public void mod(Blackhole blackhole) {
+    for (int i = 0; i < ARGUMENTS; i++) {
+      blackhole.consume(
+          new ModOperation(OpCode.MOD, this.arguments[i], this.arguments[i + 1]).lineCount());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ARGUMENTS)
+  public void mulmod(Blackhole blackhole) {
+    for (int i = 0; i < ARGUMENTS; i++) {
+      blackhole.consume(
+          new ExtOperation(
+                  OpCode.MULMOD, this.arguments[i], this.arguments[i + 1], this.arguments[i + 2])
+              .lineCount());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ARGUMENTS)
+  public void lt(Blackhole blackhole) {
+    for (int i = 0; i < ARGUMENTS; i++) {
+      blackhole.consume(
+          new WcpOperation((byte) EVM_INST_LT, this.arguments[i], this.arguments[i + 1])
+              .lineCount());
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.module.tables;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.consensys.linea.zktracer.ColumnBuffers;
+import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
+import net.consensys.linea.zktracer.module.Module;
+import net.consensys.linea.zktracer.module.tables.bin.BinRt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Commits the BIN reference table, either generating it every time or copying the column images
+ * cached by {@link CachedReferenceTable} as the tracer does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BinRtBenchmark {
+  @Param({"false", "true"})
+  private boolean cached;
+
+  private Module table;
+
+  private Path traceFile;
+
+  private RandomAccessFile file;
+
+  private List<MappedByteBuffer> buffers;
+
+  @Setup
+  public void map() throws IOException {
+    this.table = this.cached ? new CachedReferenceTable(new BinRt()) : new BinRt();
+
+    final List<ColumnHeader> headers = this.table.columnsHeaders();
+    this.traceFile = Files.createTempFile("bin-rt-benchmark", ".lt");
+    this.file = new RandomAccessFile(this.traceFile.toFile(), "rw");
+    this.file.setLength(headers.stream().mapToLong(ColumnHeader::dataSize).sum());
+    this.buffers = TraceColumns.map(this.file.getChannel(), 0, headers);
+  }
+
+  @Setup(Level.Invocation)
+  public void resetBuffers() {
+    ColumnBuffers.reset(this.buffers);
+  }
+
+  @TearDown
+  public void cleanUp() throws IOException {
+    this.buffers = null;
+    this.file.close();
+    Files.deleteIfExists(this.traceFile);
+  }
+
+  @Benchmark
+  public List<MappedByteBuffer> commit() {
+    this.table.commit(this.buffers);
+    return this.buffers;
+  }
+}
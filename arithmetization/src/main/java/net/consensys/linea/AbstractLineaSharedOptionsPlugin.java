@@ -18,6 +18,7 @@ package net.consensys.linea;
 import lombok.extern.slf4j.Slf4j;
 import net.consensys.linea.config.LineaTracerCliOptions;
 import net.consensys.linea.config.LineaTracerConfiguration;
+import net.consensys.linea.zktracer.ModuleProfiler;
 import org.hyperledger.besu.plugin.BesuContext;
 import org.hyperledger.besu.plugin.BesuPlugin;
 import org.hyperledger.besu.plugin.services.PicoCLIOptions;
@@ -51,6 +52,7 @@ public abstract class AbstractLineaSharedOptionsPlugin implements BesuPlugin {
   public void beforeExternalServices() {
     if (!configured) {
       tracerConfiguration = tracerCliOptions.toDomainObject();
+      ModuleProfiler.enable(tracerConfiguration.profilingEnabled());
       configured = true;
     }
 
@@ -21,6 +21,7 @@ public class LineaTracerCliOptions {
 
   public static final String MODULE_LIMIT_FILE_PATH = "--plugin-linea-module-limit-file-path";
   public static final String DEFAULT_MODULE_LIMIT_FILE_PATH = "moduleLimitFile.toml";
+  public static final String PROFILING_ENABLED = "--plugin-linea-tracer-profiling-enabled";
 
   @CommandLine.Option(
       names = {MODULE_LIMIT_FILE_PATH},
@@ -30,6 +31,15 @@ public class LineaTracerCliOptions {
           "Path to the toml file containing the module limits (default: ${DEFAULT-VALUE})")
   private String moduleLimitFilePath = DEFAULT_MODULE_LIMIT_FILE_PATH;
 
+  @CommandLine.Option(
+      names = {PROFILING_ENABLED},
+      hidden = true,
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Profile the time spent by every module in each of its tracing hooks "
+              + "(default: ${DEFAULT-VALUE})")
+  private boolean profilingEnabled = false;
+
   private LineaTracerCliOptions() {}
 
   /**
@@ -50,6 +60,7 @@ public class LineaTracerCliOptions {
   public static LineaTracerCliOptions fromConfig(final LineaTracerConfiguration config) {
     final LineaTracerCliOptions options = create();
     options.moduleLimitFilePath = config.moduleLimitsFilePath();
+    options.profilingEnabled = config.profilingEnabled();
     return options;
   }
 
@@ -59,13 +70,17 @@ public class LineaTracerCliOptions {
    * @return the Linea factory configuration
    */
   public LineaTracerConfiguration toDomainObject() {
-    return LineaTracerConfiguration.builder().moduleLimitsFilePath(moduleLimitFilePath).build();
+    return LineaTracerConfiguration.builder()
+        .moduleLimitsFilePath(moduleLimitFilePath)
+        .profilingEnabled(profilingEnabled)
+        .build();
   }
 
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
         .add(MODULE_LIMIT_FILE_PATH, moduleLimitFilePath)
+        .add(PROFILING_ENABLED, profilingEnabled)
         .toString();
   }
 }
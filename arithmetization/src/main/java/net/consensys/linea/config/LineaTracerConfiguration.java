@@ -19,4 +19,4 @@ import lombok.Builder;
 
 /** The Linea tracer configuration. */
 @Builder(toBuilder = true)
-public record LineaTracerConfiguration(String moduleLimitsFilePath) {}
+public record LineaTracerConfiguration(String moduleLimitsFilePath, boolean profilingEnabled) {}
@@ -15,14 +15,18 @@
 package net.consensys.linea.continoustracing;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import lombok.extern.slf4j.Slf4j;
 import net.consensys.linea.continoustracing.exception.InvalidBlockTraceException;
 import net.consensys.linea.continoustracing.exception.TraceVerificationException;
 import net.consensys.linea.corset.CorsetValidator;
+import net.consensys.linea.corset.CorsetValidatorPool;
 import net.consensys.linea.zktracer.ZkTracer;
 import org.apache.commons.io.FileUtils;
 import org.hyperledger.besu.datatypes.Hash;
@@ -34,17 +38,61 @@ import org.hyperledger.besu.plugin.services.TraceService;
 public class ContinuousTracer {
   private static final Optional<Path> TRACES_PATH =
       Optional.ofNullable(System.getenv("TRACES_DIR")).map(Paths::get);
+
+  /** A memory-backed file system, where files never reach a disk */
+  private static final Path SHARED_MEMORY_PATH = Path.of("/dev/shm");
+
+  /**
+   * How much larger than a trace the free space of the memory-backed file system must be to write
+   * the trace there, accounting for the scratch file of narrow traces
+   */
+  private static final int MEMORY_HEADROOM_FACTOR = 2;
+
   private final TraceService traceService;
   private final CorsetValidator corsetValidator;
 
+  /** Where to write traces, if explicitly set */
+  private final Optional<Path> tracesPath;
+
+  /** Where to write traces that fit in memory, if possible at all */
+  private final Optional<Path> memoryPath;
+
   public ContinuousTracer(final TraceService traceService, final CorsetValidator corsetValidator) {
+    this(
+        traceService,
+        corsetValidator,
+        TRACES_PATH,
+        Optional.of(SHARED_MEMORY_PATH).filter(p -> Files.isDirectory(p) && Files.isWritable(p)));
+  }
+
+  ContinuousTracer(
+      final TraceService traceService,
+      final CorsetValidator corsetValidator,
+      final Optional<Path> tracesPath,
+      final Optional<Path> memoryPath) {
     this.traceService = traceService;
     this.corsetValidator = corsetValidator;
+    this.tracesPath = tracesPath;
+    this.memoryPath = memoryPath;
   }
 
   public CorsetValidator.Result verifyTraceOfBlock(
       final Hash blockHash, final String zkEvmBin, final ZkTracer zkTracer)
       throws TraceVerificationException, InvalidBlockTraceException {
+    this.traceBlock(blockHash, zkTracer);
+    return this.validateTrace(blockHash, this.writeTrace(blockHash, zkTracer), zkEvmBin);
+  }
+
+  /**
+   * Trace a single block as a whole conflation.
+   *
+   * @param blockHash the block to trace
+   * @param zkTracer the tracer to accumulate the trace into
+   * @throws TraceVerificationException if the block could not be traced
+   * @throws InvalidBlockTraceException if any transaction of the block failed to be traced
+   */
+  public void traceBlock(final Hash blockHash, final ZkTracer zkTracer)
+      throws TraceVerificationException, InvalidBlockTraceException {
     zkTracer.traceStartConflation(1);
 
     final BlockTraceResult blockTraceResult;
@@ -67,23 +115,109 @@ public class ContinuousTracer {
             transactionTraceResult.errorMessage().orElse("Unknown error"));
       }
     }
+  }
+
+  /**
+   * Serialize a block trace in a temporary file, in the format expected by the validator. Unless
+   * <code>TRACES_DIR</code> is set, the file is preferably created in memory, so that short-lived
+   * block traces do not hit the disk.
+   *
+   * @param blockHash the traced block
+   * @param zkTracer the tracer holding the trace of the block
+   * @return the trace file
+   * @throws TraceVerificationException if the trace could not be written
+   */
+  public Path writeTrace(final Hash blockHash, final ZkTracer zkTracer)
+      throws TraceVerificationException {
+    try {
+      return this.tracesPath
+          .or(() -> this.memoryPath.filter(p -> fitsIn(p, zkTracer)))
+          .map(p -> zkTracer.writeToTmpFile(p, corsetValidator.getTraceFormat()))
+          .orElseGet(() -> zkTracer.writeToTmpFile(corsetValidator.getTraceFormat()));
+    } catch (RuntimeException e) {
+      log.error(
+          "Error while writing trace of block {}: {}", blockHash.toHexString(), e.getMessage());
+      throw new TraceVerificationException(blockHash, e.getMessage());
+    }
+  }
+
+  private static boolean fitsIn(final Path directory, final ZkTracer zkTracer) {
+    try {
+      return Files.getFileStore(directory).getUsableSpace()
+          >= MEMORY_HEADROOM_FACTOR * zkTracer.traceFileSize();
+    } catch (IOException e) {
+      log.warn("Unable to determine the free space in {}: {}", directory, e.getMessage());
+      return false;
+    }
+  }
 
+  /**
+   * Check a block trace against the constraints. The trace file is deleted if it is valid, and
+   * kept for investigation otherwise.
+   *
+   * @param blockHash the traced block
+   * @param traceFile the trace of the block
+   * @param zkEvmBin the constraints to check the trace against
+   * @return the validation result
+   * @throws TraceVerificationException if the validator could not be run
+   */
+  public CorsetValidator.Result validateTrace(
+      final Hash blockHash, final Path traceFile, final String zkEvmBin)
+      throws TraceVerificationException {
     final CorsetValidator.Result result;
     try {
-      result =
-          corsetValidator.validate(
-              TRACES_PATH.map(zkTracer::writeToTmpFile).orElseGet(zkTracer::writeToTmpFile),
-              zkEvmBin);
-      if (!result.isValid()) {
-        log.error("Trace of block {} is not valid", blockHash.toHexString());
-        return result;
-      }
+      result = corsetValidator.validate(traceFile, zkEvmBin);
     } catch (RuntimeException e) {
       log.error(
           "Error while validating trace of block {}: {}", blockHash.toHexString(), e.getMessage());
       throw new TraceVerificationException(blockHash, e.getMessage());
     }
 
+    return this.reportValidation(blockHash, result);
+  }
+
+  /**
+   * Schedule the check of a block trace against the constraints on a pool of validators. As with
+   * {@link #validateTrace(Hash, Path, String)}, the trace file is deleted if it is valid.
+   *
+   * @param blockHash the traced block
+   * @param traceFile the trace of the block
+   * @param zkEvmBin the constraints to check the trace against
+   * @param validators the pool running the validation
+   * @return the eventual validation result, failed with a {@link TraceVerificationException} if
+   *     the validator could not be run
+   * @throws InterruptedException if interrupted while waiting for an available validator
+   */
+  public CompletableFuture<CorsetValidator.Result> validateTrace(
+      final Hash blockHash,
+      final Path traceFile,
+      final String zkEvmBin,
+      final CorsetValidatorPool validators)
+      throws InterruptedException {
+    return validators
+        .submit(traceFile, zkEvmBin)
+        .handle(
+            (result, e) -> {
+              if (e != null) {
+                final Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                log.error(
+                    "Error while validating trace of block {}: {}",
+                    blockHash.toHexString(),
+                    cause.getMessage());
+                throw new CompletionException(
+                    new TraceVerificationException(blockHash, cause.getMessage()));
+              }
+              return this.reportValidation(blockHash, result);
+            });
+  }
+
+  private CorsetValidator.Result reportValidation(
+      final Hash blockHash, final CorsetValidator.Result result) {
+    if (!result.isValid()) {
+      log.error("Trace of block {} is not valid", blockHash.toHexString());
+      return result;
+    }
+
     try {
       FileUtils.delete(result.traceFile());
     } catch (IOException e) {
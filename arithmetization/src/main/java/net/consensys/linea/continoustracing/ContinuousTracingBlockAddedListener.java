@@ -12,81 +12,25 @@
  *
  * SPDX-License-Identifier: Apache-2.0
  */
-package net.consensys.linea.continoustracing;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+package net.consensys.linea.continoustracing;
 
-import lombok.extern.slf4j.Slf4j;
-import net.consensys.linea.continoustracing.exception.InvalidBlockTraceException;
-import net.consensys.linea.continoustracing.exception.InvalidTraceHandlerException;
-import net.consensys.linea.continoustracing.exception.TraceVerificationException;
-import net.consensys.linea.corset.CorsetValidator;
-import net.consensys.linea.zktracer.ZkTracer;
-import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.plugin.data.AddedBlockContext;
-import org.hyperledger.besu.plugin.data.BlockHeader;
 import org.hyperledger.besu.plugin.services.BesuEvents;
 
-@Slf4j
+/**
+ * Hands every new block over to the {@link ContinuousTracingPipeline}; this may hold block import
+ * back while the pipeline is saturated, depending on its {@link OverflowPolicy}.
+ */
 public class ContinuousTracingBlockAddedListener implements BesuEvents.BlockAddedListener {
-  private final ContinuousTracer continuousTracer;
-  private final TraceFailureHandler traceFailureHandler;
-  private final String zkEvmBin;
+  private final ContinuousTracingPipeline pipeline;
 
-  static final int BLOCK_PARALLELISM = 5;
-  final ThreadPoolExecutor pool =
-      new ThreadPoolExecutor(
-          BLOCK_PARALLELISM,
-          BLOCK_PARALLELISM,
-          0L,
-          TimeUnit.SECONDS,
-          new ArrayBlockingQueue<>(BLOCK_PARALLELISM),
-          new ThreadPoolExecutor.CallerRunsPolicy());
-
-  public ContinuousTracingBlockAddedListener(
-      final ContinuousTracer continuousTracer,
-      final TraceFailureHandler traceFailureHandler,
-      final String zkEvmBin) {
-    this.continuousTracer = continuousTracer;
-    this.traceFailureHandler = traceFailureHandler;
-    this.zkEvmBin = zkEvmBin;
+  public ContinuousTracingBlockAddedListener(final ContinuousTracingPipeline pipeline) {
+    this.pipeline = pipeline;
   }
 
   @Override
   public void onBlockAdded(final AddedBlockContext addedBlockContext) {
-    pool.submit(
-        () -> {
-          final BlockHeader blockHeader = addedBlockContext.getBlockHeader();
-          final Hash blockHash = blockHeader.getBlockHash();
-          log.info("Tracing block {} ({})", blockHeader.getNumber(), blockHash.toHexString());
-
-          try {
-            final CorsetValidator.Result traceResult =
-                continuousTracer.verifyTraceOfBlock(blockHash, zkEvmBin, new ZkTracer());
-            Files.delete(traceResult.traceFile().toPath());
-
-            if (!traceResult.isValid()) {
-              log.error("Corset returned and error for block {}", blockHeader.getNumber());
-              traceFailureHandler.handleCorsetFailure(blockHeader, traceResult);
-              return;
-            }
-            log.info("Trace for block {} verified successfully", blockHeader.getNumber());
-          } catch (InvalidBlockTraceException e) {
-            log.error("Error while tracing block {}: {}", blockHeader.getNumber(), e.getMessage());
-            traceFailureHandler.handleBlockTraceFailure(blockHeader.getNumber(), e.txHash(), e);
-          } catch (TraceVerificationException e) {
-            log.error(e.getMessage());
-          } catch (InvalidTraceHandlerException e) {
-            log.error("Error while handling invalid trace: {}", e.getMessage());
-          } catch (IOException e) {
-            log.error("IO error: {}", e.getMessage());
-          } finally {
-            log.info("End of tracing block {}", blockHeader.getNumber());
-          }
-        });
+    this.pipeline.submit(addedBlockContext.getBlockHeader());
   }
 }
@@ -22,6 +22,18 @@ public class ContinuousTracingCliOptions {
       "--plugin-linea-continuous-tracing-enabled";
   public static final String CONTINUOUS_TRACING_ZK_EVM_BIN =
       "--plugin-linea-continuous-tracing-zk-evm-bin";
+  public static final String CONTINUOUS_TRACING_TRACING_WORKERS =
+      "--plugin-linea-continuous-tracing-tracing-workers";
+  public static final String CONTINUOUS_TRACING_SERIALIZATION_WORKERS =
+      "--plugin-linea-continuous-tracing-serialization-workers";
+  public static final String CONTINUOUS_TRACING_VALIDATION_WORKERS =
+      "--plugin-linea-continuous-tracing-validation-workers";
+  public static final String CONTINUOUS_TRACING_MAX_IN_FLIGHT_TRACERS =
+      "--plugin-linea-continuous-tracing-max-in-flight-tracers";
+  public static final String CONTINUOUS_TRACING_MAX_PENDING_BLOCKS =
+      "--plugin-linea-continuous-tracing-max-pending-blocks";
+  public static final String CONTINUOUS_TRACING_OVERFLOW_POLICY =
+      "--plugin-linea-continuous-tracing-overflow-policy";
 
   @CommandLine.Option(
       names = {CONTINUOUS_TRACING_ENABLED},
@@ -37,6 +49,51 @@ public class ContinuousTracingCliOptions {
       description = "Path to the ZkEvm binary")
   private String zkEvmBin = null;
 
+  @CommandLine.Option(
+      names = {CONTINUOUS_TRACING_TRACING_WORKERS},
+      hidden = true,
+      paramLabel = "<INTEGER>",
+      description = "Number of blocks traced simultaneously (default: ${DEFAULT-VALUE})")
+  private int tracingWorkers = 5;
+
+  @CommandLine.Option(
+      names = {CONTINUOUS_TRACING_SERIALIZATION_WORKERS},
+      hidden = true,
+      paramLabel = "<INTEGER>",
+      description = "Number of block traces serialized simultaneously (default: ${DEFAULT-VALUE})")
+  private int serializationWorkers = 2;
+
+  @CommandLine.Option(
+      names = {CONTINUOUS_TRACING_VALIDATION_WORKERS},
+      hidden = true,
+      paramLabel = "<INTEGER>",
+      description = "Number of block traces validated simultaneously (default: ${DEFAULT-VALUE})")
+  private int validationWorkers = 5;
+
+  @CommandLine.Option(
+      names = {CONTINUOUS_TRACING_MAX_IN_FLIGHT_TRACERS},
+      hidden = true,
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximal number of block traces held in memory, from tracing to serialization (default: ${DEFAULT-VALUE})")
+  private int maxInFlightTracers = 8;
+
+  @CommandLine.Option(
+      names = {CONTINUOUS_TRACING_MAX_PENDING_BLOCKS},
+      hidden = true,
+      paramLabel = "<INTEGER>",
+      description =
+          "Number of blocks that may wait to be traced before the overflow policy applies (default: ${DEFAULT-VALUE})")
+  private int maxPendingBlocks = 64;
+
+  @CommandLine.Option(
+      names = {CONTINUOUS_TRACING_OVERFLOW_POLICY},
+      hidden = true,
+      paramLabel = "<POLICY>",
+      description =
+          "What to do with new blocks when the pending blocks limit is reached: BLOCK holds block import back until they can be queued, SKIP does not validate them (default: ${DEFAULT-VALUE})")
+  private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
   private ContinuousTracingCliOptions() {}
 
   public static ContinuousTracingCliOptions create() {
@@ -44,7 +101,15 @@ public class ContinuousTracingCliOptions {
   }
 
   public ContinuousTracingConfiguration toDomainObject() {
-    return new ContinuousTracingConfiguration(continuousTracingEnabled, zkEvmBin);
+    return new ContinuousTracingConfiguration(
+        continuousTracingEnabled,
+        zkEvmBin,
+        tracingWorkers,
+        serializationWorkers,
+        validationWorkers,
+        maxInFlightTracers,
+        maxPendingBlocks,
+        overflowPolicy);
   }
 
   @Override
@@ -52,6 +117,12 @@ public class ContinuousTracingCliOptions {
     return MoreObjects.toStringHelper(this)
         .add(CONTINUOUS_TRACING_ENABLED, continuousTracingEnabled)
         .add(CONTINUOUS_TRACING_ZK_EVM_BIN, zkEvmBin)
+        .add(CONTINUOUS_TRACING_TRACING_WORKERS, tracingWorkers)
+        .add(CONTINUOUS_TRACING_SERIALIZATION_WORKERS, serializationWorkers)
+        .add(CONTINUOUS_TRACING_VALIDATION_WORKERS, validationWorkers)
+        .add(CONTINUOUS_TRACING_MAX_IN_FLIGHT_TRACERS, maxInFlightTracers)
+        .add(CONTINUOUS_TRACING_MAX_PENDING_BLOCKS, maxPendingBlocks)
+        .add(CONTINUOUS_TRACING_OVERFLOW_POLICY, overflowPolicy)
         .toString();
   }
 }
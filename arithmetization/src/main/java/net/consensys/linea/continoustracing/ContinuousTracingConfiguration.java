@@ -12,6 +12,28 @@
  *
  * SPDX-License-Identifier: Apache-2.0
  */
+
 package net.consensys.linea.continoustracing;
 
-public record ContinuousTracingConfiguration(boolean continuousTracing, String zkEvmBin) {}
+/**
+ * @param continuousTracing whether continuous tracing is enabled
+ * @param zkEvmBin the constraints to validate traces against
+ * @param tracingWorkers the number of blocks traced simultaneously
+ * @param serializationWorkers the number of block traces serialized simultaneously
+ * @param validationWorkers the number of block traces validated simultaneously
+ * @param maxInFlightTracers the maximal number of block traces held in memory between the start of
+ *     their tracing and the end of their serialization; this bounds memory use by a number of
+ *     traces, not of bytes, as the memory held by a trace grows with its block
+ * @param maxPendingBlocks the number of blocks that may wait to be traced before the overflow
+ *     policy kicks in
+ * @param overflowPolicy what to do with new blocks when too many are waiting to be traced
+ */
+public record ContinuousTracingConfiguration(
+    boolean continuousTracing,
+    String zkEvmBin,
+    int tracingWorkers,
+    int serializationWorkers,
+    int validationWorkers,
+    int maxInFlightTracers,
+    int maxPendingBlocks,
+    OverflowPolicy overflowPolicy) {}
@@ -0,0 +1,249 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.continoustracing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+import net.consensys.linea.continoustracing.exception.InvalidBlockTraceException;
+import net.consensys.linea.continoustracing.exception.InvalidTraceHandlerException;
+import net.consensys.linea.continoustracing.exception.TraceVerificationException;
+import net.consensys.linea.corset.CorsetValidator;
+import net.consensys.linea.corset.CorsetValidatorPool;
+import net.consensys.linea.metrics.LineaMetricCategory;
+import net.consensys.linea.zktracer.ZkTracer;
+import org.hyperledger.besu.plugin.data.BlockHeader;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+
+/**
+ * Verifies the trace of incoming blocks in three stages, each with its own workers: tracing,
+ * serialization and validation, the latter being run by a {@link CorsetValidatorPool}. Stages hand
+ * their output over to the next one through bounded queues, so that a slow stage throttles the
+ * previous ones; and the number of {@link ZkTracer} alive at any time – from the start of tracing
+ * to the end of serialization – is capped. The cap bounds memory use by a number of tracers, not of
+ * bytes: the memory held by each one grows with the size of its block.
+ *
+ * <p>When the tracing queue is full, submitting a block either waits for room in the queue or
+ * skips the block, depending on the configured {@link OverflowPolicy}.
+ */
+@Slf4j
+public class ContinuousTracingPipeline {
+  private record TracedBlock(BlockHeader header, ZkTracer tracer) {}
+
+  private final ContinuousTracer continuousTracer;
+  private final TraceFailureHandler traceFailureHandler;
+  private final String zkEvmBin;
+  private final Supplier<ZkTracer> tracerFactory;
+
+  /** One permit per {@link ZkTracer} that may be alive at the same time */
+  private final Semaphore tracerPermits;
+
+  private final int maxInFlightTracers;
+  private final OverflowPolicy overflowPolicy;
+
+  private final PipelineStage<BlockHeader> tracing;
+  private final PipelineStage<TracedBlock> serialization;
+  private final CorsetValidatorPool validators;
+
+  private Counter skippedBlocks;
+
+  public ContinuousTracingPipeline(
+      final ContinuousTracer continuousTracer,
+      final TraceFailureHandler traceFailureHandler,
+      final CorsetValidatorPool validators,
+      final ContinuousTracingConfiguration configuration,
+      final Supplier<ZkTracer> tracerFactory) {
+    this.continuousTracer = continuousTracer;
+    this.validators = validators;
+    this.traceFailureHandler = traceFailureHandler;
+    this.zkEvmBin = configuration.zkEvmBin();
+    this.tracerFactory = tracerFactory;
+    this.maxInFlightTracers = configuration.maxInFlightTracers();
+    this.tracerPermits = new Semaphore(this.maxInFlightTracers);
+    this.overflowPolicy = configuration.overflowPolicy();
+
+    this.tracing =
+        new PipelineStage<>(
+            "tracing",
+            configuration.tracingWorkers(),
+            configuration.maxPendingBlocks(),
+            this::trace);
+    this.serialization =
+        new PipelineStage<>(
+            "serialization",
+            configuration.serializationWorkers(),
+            this.maxInFlightTracers,
+            this::serialize);
+  }
+
+  /**
+   * Publish the depth of every stage queue and the number of live tracers.
+   *
+   * @param metricsSystem where to publish the metrics
+   */
+  public void registerMetrics(final MetricsSystem metricsSystem) {
+    final LineaMetricCategory category = LineaMetricCategory.CONTINUOUS_TRACING;
+    metricsSystem.createIntegerGauge(
+        category,
+        "tracing_queue_depth",
+        "Number of blocks waiting to be traced",
+        this.tracing::queueDepth);
+    metricsSystem.createIntegerGauge(
+        category,
+        "serialization_queue_depth",
+        "Number of block traces waiting to be serialized",
+        this.serialization::queueDepth);
+    metricsSystem.createIntegerGauge(
+        category,
+        "validation_queue_depth",
+        "Number of block trace files waiting for or undergoing validation",
+        this.validators::queueDepth);
+    metricsSystem.createIntegerGauge(
+        category,
+        "in_flight_tracers",
+        "Number of tracers currently holding a block trace in memory",
+        () -> this.maxInFlightTracers - this.tracerPermits.availablePermits());
+    this.skippedBlocks =
+        metricsSystem.createCounter(
+            category, "skipped_blocks", "Number of blocks skipped because the pipeline was full");
+  }
+
+  public void start() {
+    this.serialization.start();
+    this.tracing.start();
+  }
+
+  public void stop() {
+    this.tracing.stop();
+    this.serialization.stop();
+    this.validators.close();
+  }
+
+  /**
+   * Schedule the verification of a block trace. If the pipeline is saturated, either wait for it to
+   * catch up or skip the block, depending on the {@link OverflowPolicy}.
+   *
+   * @param blockHeader the block to verify
+   * @return whether the block has been scheduled
+   */
+  public boolean submit(final BlockHeader blockHeader) {
+    if (this.tracing.offer(blockHeader)) {
+      return true;
+    }
+
+    if (this.overflowPolicy == OverflowPolicy.BLOCK) {
+      log.warn(
+          "Continuous tracing is saturated, waiting to schedule block {} ({})",
+          blockHeader.getNumber(),
+          blockHeader.getBlockHash().toHexString());
+      try {
+        this.tracing.put(blockHeader);
+        return true;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        log.warn("Interrupted while scheduling block {}", blockHeader.getNumber());
+        return false;
+      }
+    }
+
+    log.warn(
+        "Continuous tracing is saturated, skipping block {} ({})",
+        blockHeader.getNumber(),
+        blockHeader.getBlockHash().toHexString());
+    if (this.skippedBlocks != null) {
+      this.skippedBlocks.inc();
+    }
+    return false;
+  }
+
+  private void trace(final BlockHeader blockHeader) throws InterruptedException {
+    log.info(
+        "Tracing block {} ({})", blockHeader.getNumber(), blockHeader.getBlockHash().toHexString());
+
+    this.tracerPermits.acquire();
+    boolean handedOver = false;
+    try {
+      final ZkTracer zkTracer = this.tracerFactory.get();
+      this.continuousTracer.traceBlock(blockHeader.getBlockHash(), zkTracer);
+      this.serialization.put(new TracedBlock(blockHeader, zkTracer));
+      handedOver = true;
+    } catch (InvalidBlockTraceException e) {
+      log.error("Error while tracing block {}: {}", blockHeader.getNumber(), e.getMessage());
+      this.traceFailureHandler.handleBlockTraceFailure(blockHeader.getNumber(), e.txHash(), e);
+    } catch (TraceVerificationException e) {
+      log.error(e.getMessage());
+    } finally {
+      if (!handedOver) {
+        this.tracerPermits.release();
+        log.info("End of tracing block {}", blockHeader.getNumber());
+      }
+    }
+  }
+
+  private void serialize(final TracedBlock block) throws InterruptedException {
+    final Path traceFile;
+    try {
+      traceFile = this.continuousTracer.writeTrace(block.header().getBlockHash(), block.tracer());
+    } catch (TraceVerificationException e) {
+      log.error(e.getMessage());
+      log.info("End of tracing block {}", block.header().getNumber());
+      return;
+    } finally {
+      this.tracerPermits.release();
+    }
+
+    final BlockHeader blockHeader = block.header();
+    this.continuousTracer
+        .validateTrace(blockHeader.getBlockHash(), traceFile, this.zkEvmBin, this.validators)
+        .whenComplete((result, e) -> this.validated(blockHeader, traceFile, result, e));
+  }
+
+  private void validated(
+      final BlockHeader blockHeader,
+      final Path traceFile,
+      final CorsetValidator.Result traceResult,
+      final Throwable error) {
+    try {
+      if (error != null) {
+        final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        log.error(cause.getMessage());
+        return;
+      }
+
+      if (!traceResult.isValid()) {
+        log.error("Corset returned and error for block {}", blockHeader.getNumber());
+        this.traceFailureHandler.handleCorsetFailure(blockHeader, traceResult);
+        return;
+      }
+      log.info("Trace for block {} verified successfully", blockHeader.getNumber());
+    } catch (InvalidTraceHandlerException e) {
+      log.error("Error while handling invalid trace: {}", e.getMessage());
+    } finally {
+      try {
+        Files.deleteIfExists(traceFile);
+      } catch (IOException e) {
+        log.error("IO error: {}", e.getMessage());
+      }
+      log.info("End of tracing block {}", blockHeader.getNumber());
+    }
+  }
+}
@@ -19,11 +19,16 @@ import java.util.Optional;
 import com.google.auto.service.AutoService;
 import lombok.extern.slf4j.Slf4j;
 import net.consensys.linea.corset.CorsetValidator;
+import net.consensys.linea.corset.CorsetValidatorPool;
+import net.consensys.linea.metrics.LineaMetricCategory;
+import net.consensys.linea.zktracer.ZkTracer;
 import org.hyperledger.besu.plugin.BesuContext;
 import org.hyperledger.besu.plugin.BesuPlugin;
 import org.hyperledger.besu.plugin.services.BesuEvents;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.PicoCLIOptions;
 import org.hyperledger.besu.plugin.services.TraceService;
+import org.hyperledger.besu.plugin.services.metrics.MetricCategoryRegistry;
 
 @Slf4j
 @AutoService(BesuPlugin.class)
@@ -31,8 +36,12 @@ public class ContinuousTracingPlugin implements BesuPlugin {
   public static final String NAME = "linea-continuous";
   public static final String ENV_WEBHOOK_URL = "SLACK_SHADOW_NODE_WEBHOOK_URL";
 
+  /** How many traces each validation worker may hold, including the one being validated */
+  private static final int VALIDATION_QUEUE_CAPACITY = 2;
+
   private final ContinuousTracingCliOptions options;
   private BesuContext context;
+  private ContinuousTracingPipeline pipeline;
 
   public ContinuousTracingPlugin() {
     options = ContinuousTracingCliOptions.create();
@@ -54,6 +63,9 @@ public class ContinuousTracingPlugin implements BesuPlugin {
                         "Expecting a PicoCLI options to register CLI options with, but none found."));
 
     cmdlineOptions.addPicoCLIOptions(getName().get(), options);
+    context
+        .getService(MetricCategoryRegistry.class)
+        .ifPresent(r -> r.addMetricCategory(LineaMetricCategory.CONTINUOUS_TRACING));
 
     this.context = context;
   }
@@ -96,13 +108,27 @@ public class ContinuousTracingPlugin implements BesuPlugin {
       System.exit(1);
     }
 
-    besuEvents.addBlockAddedListener(
-        new ContinuousTracingBlockAddedListener(
-            new ContinuousTracer(traceService, new CorsetValidator()),
+    final CorsetValidator corsetValidator = new CorsetValidator();
+    this.pipeline =
+        new ContinuousTracingPipeline(
+            new ContinuousTracer(traceService, corsetValidator),
             new TraceFailureHandler(SlackNotificationService.create(webHookUrl)),
-            tracingConfiguration.zkEvmBin()));
+            new CorsetValidatorPool(
+                corsetValidator,
+                tracingConfiguration.validationWorkers(),
+                VALIDATION_QUEUE_CAPACITY),
+            tracingConfiguration,
+            ZkTracer::new);
+    context.getService(MetricsSystem.class).ifPresent(this.pipeline::registerMetrics);
+    this.pipeline.start();
+
+    besuEvents.addBlockAddedListener(new ContinuousTracingBlockAddedListener(this.pipeline));
   }
 
   @Override
-  public void stop() {}
+  public void stop() {
+    if (this.pipeline != null) {
+      this.pipeline.stop();
+    }
+  }
 }
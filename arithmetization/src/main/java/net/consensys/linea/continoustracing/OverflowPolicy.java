@@ -0,0 +1,29 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.continoustracing;
+
+/**
+ * What the {@link ContinuousTracingPipeline} does with a new block when its tracing queue is full.
+ */
+public enum OverflowPolicy {
+  /**
+   * Wait for room in the tracing queue, holding block import back; every block is validated, and
+   * memory stays bounded by the pending blocks and in-flight tracers limits.
+   */
+  BLOCK,
+  /** Drop the block without validating it, so that block import is never held back. */
+  SKIP
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.continoustracing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A step of the {@link ContinuousTracingPipeline}: a bounded queue of items, consumed by a fixed
+ * set of dedicated workers.
+ *
+ * @param <T> the type of the items processed by this stage
+ */
+@Slf4j
+final class PipelineStage<T> {
+  /** How long stopping a stage waits for its workers to finish their current item */
+  private static final Duration STOP_TIMEOUT = Duration.ofSeconds(30);
+  /** Processes a single item; may block while handing work over to the next stage. */
+  @FunctionalInterface
+  interface Handler<T> {
+    void handle(T item) throws InterruptedException;
+  }
+
+  private final String name;
+  private final BlockingQueue<T> queue;
+  private final List<Thread> workers;
+
+  PipelineStage(
+      final String name, final int workers, final int capacity, final Handler<T> handler) {
+    this.name = name;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.workers = new ArrayList<>(workers);
+    for (int i = 0; i < workers; i++) {
+      final Thread worker = new Thread(() -> this.work(handler), "continuous-" + name + "-" + i);
+      worker.setDaemon(true);
+      this.workers.add(worker);
+    }
+  }
+
+  void start() {
+    this.workers.forEach(Thread::start);
+  }
+
+  /**
+   * Interrupt the workers, and wait a bounded time for them to finish their current item. Items
+   * still waiting in the queue are dropped.
+   */
+  void stop() {
+    this.workers.forEach(Thread::interrupt);
+
+    final long deadline = System.nanoTime() + STOP_TIMEOUT.toNanos();
+    for (Thread worker : this.workers) {
+      try {
+        worker.join(Math.max(1, (deadline - System.nanoTime()) / 1_000_000));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      if (worker.isAlive()) {
+        log.warn("{} did not stop within {}", worker.getName(), STOP_TIMEOUT);
+      }
+    }
+  }
+
+  /**
+   * Enqueue an item without waiting.
+   *
+   * @param item the item to process
+   * @return false if the stage is saturated and the item was not enqueued
+   */
+  boolean offer(final T item) {
+    return this.queue.offer(item);
+  }
+
+  /**
+   * Enqueue an item, waiting for room in the queue if the stage is saturated.
+   *
+   * @param item the item to process
+   * @throws InterruptedException if interrupted while waiting
+   */
+  void put(final T item) throws InterruptedException {
+    this.queue.put(item);
+  }
+
+  /**
+   * @return the number of items waiting to be processed
+   */
+  int queueDepth() {
+    return this.queue.size();
+  }
+
+  private void work(final Handler<T> handler) {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        final T item = this.queue.take();
+        try {
+          handler.handle(item);
+        } catch (RuntimeException e) {
+          log.error("Unexpected error in {} stage: {}", this.name, e.getMessage(), e);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
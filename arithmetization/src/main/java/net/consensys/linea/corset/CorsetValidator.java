@@ -20,14 +20,20 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import net.consensys.linea.zktracer.TraceFormat;
 import org.apache.commons.io.IOUtils;
 
 /**
@@ -46,7 +52,13 @@ import org.apache.commons.io.IOUtils;
  * auto</code> (enables <code>fieldArithmetic</code> and <code>autoConstraints</code> and sets
  * <code>expansion=2</code>). Note, it doesn't make sense to have <code>expand</code> without <code>
  * fields</code>. Likewise, it doesn't make sense to have <code>auto</code> without <code>expand
- * </code>.
+ * </code>. The <code>narrow</code> flag declares that the corset binary reads narrow ({@link
+ * TraceFormat#V2}) trace files. The <code>serve</code> flag declares that the corset binary can
+ * check a stream of traces from a single long-lived process (see {@link CorsetWorker}).
+ *
+ * <p>A validation taking longer than the configured timeout is aborted by killing its <code>corset
+ * </code> process. The timeout, in seconds, can be set using the environment variable <code>
+ * CORSET_TIMEOUT</code>.
  */
 @Slf4j
 public class CorsetValidator {
@@ -54,6 +66,15 @@ public class CorsetValidator {
 
   private static final String ZK_EVM_RELATIVE_PATH = "/zkevm-constraints/zkevm.bin";
 
+  /** Kills the <code>corset</code> processes running past their timeout */
+  static final ScheduledExecutorService WATCHDOG =
+      Executors.newSingleThreadScheduledExecutor(
+          r -> {
+            final Thread thread = new Thread(r, "corset-watchdog");
+            thread.setDaemon(true);
+            return thread;
+          });
+
   /** Specifies the default zkEVM.bin file to use (including its path). */
   private String defaultZkEvm = null;
 
@@ -81,6 +102,22 @@ public class CorsetValidator {
    */
   @Getter @Setter private boolean autoConstraints = false;
 
+  /**
+   * Specifies the most recent trace file format that the <code>corset</code> binary understands,
+   * and hence the format traces destined to this validator should be written in. Narrow traces
+   * ({@link TraceFormat#V2}) are enabled through the <code>narrow</code> flag.
+   */
+  @Getter @Setter private TraceFormat traceFormat = TraceFormat.V1;
+
+  /**
+   * Specifies whether the <code>corset</code> binary can check a stream of traces from a single
+   * process, sparing the start-up and constraint loading costs for every trace.
+   */
+  @Getter @Setter private boolean serving = false;
+
+  /** Specifies how long a single validation may run before its process is killed. */
+  @Getter @Setter private Duration timeout = Duration.ofMinutes(5);
+
   public CorsetValidator() {
     initCorset();
     configCorset();
@@ -95,9 +132,15 @@ public class CorsetValidator {
   }
 
   public Result validate(final Path filename, final String zkEvmBin) throws RuntimeException {
+    final Optional<Result> unsupported = checkFormat(filename, this.traceFormat);
+    if (unsupported.isPresent()) {
+      return unsupported.get();
+    }
+
     final Process corsetValidationProcess;
     try {
-      List<String> options = buildOptions(filename, zkEvmBin);
+      List<String> options =
+          buildOptions(List.of("-T", filename.toAbsolutePath().toString()), zkEvmBin);
       corsetValidationProcess =
           new ProcessBuilder(options)
               .redirectInput(ProcessBuilder.Redirect.INHERIT)
@@ -108,29 +151,91 @@ public class CorsetValidator {
       throw new RuntimeException(e);
     }
 
-    final String corsetOutput;
+    // Killing the process closes its output, hence also unblocks the reading below
+    final AtomicBoolean timedOut = new AtomicBoolean(false);
+    final ScheduledFuture<?> watchdog =
+        WATCHDOG.schedule(
+            () -> {
+              if (corsetValidationProcess.isAlive()) {
+                timedOut.set(true);
+                corsetValidationProcess.destroyForcibly();
+              }
+            },
+            this.timeout.toMillis(),
+            TimeUnit.MILLISECONDS);
     try {
-      corsetOutput =
-          IOUtils.toString(corsetValidationProcess.getInputStream(), Charset.defaultCharset());
-    } catch (IOException e) {
-      log.error(
-          "Error while catching output corsetValidationProcess: %s".formatted(e.getMessage()));
-      throw new RuntimeException(e);
+      final String corsetOutput;
+      try {
+        corsetOutput =
+            IOUtils.toString(corsetValidationProcess.getInputStream(), Charset.defaultCharset());
+      } catch (IOException e) {
+        log.error(
+            "Error while catching output corsetValidationProcess: %s".formatted(e.getMessage()));
+        throw new RuntimeException(e);
+      }
+
+      try {
+        corsetValidationProcess.waitFor();
+      } catch (InterruptedException e) {
+        corsetValidationProcess.destroyForcibly();
+        Thread.currentThread().interrupt();
+        log.error("Interrupted while validating trace file: %s".formatted(e.getMessage()));
+        throw new RuntimeException(e);
+      }
+
+      if (timedOut.get()) {
+        final String message =
+            "Validation of %s timed out after %s".formatted(filename, this.timeout);
+        log.error(message);
+        throw new RuntimeException(message);
+      }
+
+      if (corsetValidationProcess.exitValue() != 0) {
+        log.error("Validation failed: %s".formatted(corsetOutput));
+        return new Result(false, filename.toFile(), corsetOutput);
+      }
+
+      return new Result(true, filename.toFile(), corsetOutput);
+    } finally {
+      watchdog.cancel(false);
     }
+  }
+
+  /**
+   * Create a long-lived worker checking traces against the given constraints; only meaningful if
+   * the <code>corset</code> binary is {@link #serving()}.
+   *
+   * @param zkEvmBin the constraints to validate traces against
+   * @return a worker, whose process is started on its first validation
+   */
+  CorsetWorker newWorker(final String zkEvmBin) {
+    return new CorsetWorker(
+        buildOptions(List.of("--serve"), zkEvmBin), this.timeout, this.traceFormat);
+  }
 
+  /**
+   * Check that a trace file is in a format supported by the <code>corset</code> binary.
+   *
+   * @param filename the trace file
+   * @param supported the most recent format supported by the binary
+   * @return a failed result if the format is not supported, empty otherwise
+   */
+  static Optional<Result> checkFormat(final Path filename, final TraceFormat supported) {
+    final TraceFormat fileFormat;
     try {
-      corsetValidationProcess.waitFor(5, TimeUnit.SECONDS);
-    } catch (InterruptedException e) {
-      log.error("Timeout while validating trace file: %s".formatted(e.getMessage()));
+      fileFormat = TraceFormat.of(filename);
+    } catch (IOException e) {
+      log.error("Unable to read trace file %s: %s".formatted(filename, e.getMessage()));
       throw new RuntimeException(e);
     }
-
-    if (corsetValidationProcess.exitValue() != 0) {
-      log.error("Validation failed: %s".formatted(corsetOutput));
-      return new Result(false, filename.toFile(), corsetOutput);
+    if (fileFormat.compareTo(supported) > 0) {
+      final String message =
+          "Trace format %s is not supported by this corset, which expects at most %s"
+              .formatted(fileFormat, supported);
+      log.error(message);
+      return Optional.of(new Result(false, filename.toFile(), message));
     }
-
-    return new Result(true, filename.toFile(), corsetOutput);
+    return Optional.empty();
   }
 
   private void initCorset() {
@@ -189,6 +294,8 @@ public class CorsetValidator {
       this.fieldArithmetic = false;
       this.expansion = 0;
       this.autoConstraints = false;
+      this.traceFormat = TraceFormat.V1;
+      this.serving = false;
       // Check for default case (empty string)
       if (!flags.isEmpty()) {
         // split flags by separator
@@ -211,6 +318,12 @@ public class CorsetValidator {
             case "auto":
               this.autoConstraints = true;
               break;
+            case "narrow":
+              this.traceFormat = TraceFormat.V2;
+              break;
+            case "serve":
+              this.serving = true;
+              break;
             default:
               // Error
               throw new RuntimeException("Unknown Corset configuration flag: %s".formatted(flag));
@@ -218,6 +331,15 @@ public class CorsetValidator {
         }
       }
     }
+
+    String timeoutSeconds = System.getenv().get("CORSET_TIMEOUT");
+    if (timeoutSeconds != null) {
+      try {
+        this.timeout = Duration.ofSeconds(Long.parseLong(timeoutSeconds.trim()));
+      } catch (NumberFormatException e) {
+        throw new RuntimeException("Malformed CORSET_TIMEOUT: %s".formatted(timeoutSeconds));
+      }
+    }
   }
 
   private void initDefaultZkEvm() {
@@ -248,17 +370,17 @@ public class CorsetValidator {
   /**
    * Construct the list of options to be used when running Corset.
    *
+   * @param traceOptions the options specifying the trace(s) to check
    * @return
    */
-  private List<String> buildOptions(Path filename, String zkEvmBin) {
+  private List<String> buildOptions(List<String> traceOptions, String zkEvmBin) {
     ArrayList<String> options = new ArrayList<>();
     // Specify corset binary
     options.add(corsetBin);
     // Specify corset "check" command.
     options.add("check");
-    // Specify corset trace file to use
-    options.add("-T");
-    options.add(filename.toAbsolutePath().toString());
+    // Specify corset trace file(s) to use
+    options.addAll(traceOptions);
     // Specify reporting options where:
     //
     // -q Decrease logging verbosity
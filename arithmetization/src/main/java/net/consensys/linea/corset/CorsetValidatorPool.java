@@ -0,0 +1,201 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.corset;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A fixed set of long-lived workers validating traces with a shared {@link CorsetValidator}, each
+ * with its own queue. Traces are dispatched to the least loaded worker, and their results are
+ * delivered asynchronously.
+ *
+ * <p>If the <code>corset</code> binary is {@link CorsetValidator#serving()}, each worker keeps a
+ * warm {@link CorsetWorker} process, which is only restarted when it fails or when the constraints
+ * change. Otherwise, each validation runs its own <code>corset</code> process.
+ *
+ * <p>A validation failing to run – e.g. because its <code>corset</code> process could not start,
+ * crashed or timed out – fails its future right away: as a timeout would most likely repeat itself,
+ * it is not retried. A worker thread dying on an unexpected error is replaced by a fresh one.
+ */
+public class CorsetValidatorPool implements AutoCloseable {
+  private static final class Worker {
+    private final ExecutorService executor;
+
+    /** The number of validations queued or running on this worker */
+    private final AtomicInteger load = new AtomicInteger(0);
+
+    /** The warm process of this worker, only used from its executor thread */
+    private volatile CorsetWorker process = null;
+
+    /** The constraints loaded by the warm process */
+    private String zkEvmBin = null;
+
+    private Worker(final int id) {
+      this.executor =
+          Executors.newSingleThreadExecutor(
+              r -> {
+                final Thread thread = new Thread(r, "corset-validator-" + id);
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+  }
+
+  private final CorsetValidator validator;
+  private final List<Worker> workers;
+
+  /** One permit per validation that may be queued or running at the same time */
+  private final Semaphore capacity;
+
+  /**
+   * @param validator the validator running the <code>corset</code> processes
+   * @param workers the number of validations running in parallel
+   * @param queueCapacity the number of validations each worker may hold, including the running one
+   */
+  public CorsetValidatorPool(
+      final CorsetValidator validator, final int workers, final int queueCapacity) {
+    if (workers < 1 || queueCapacity < 1) {
+      throw new IllegalArgumentException(
+          "invalid validator pool settings: %d workers, queue capacity %d"
+              .formatted(workers, queueCapacity));
+    }
+
+    this.validator = validator;
+    this.capacity = new Semaphore(workers * queueCapacity);
+    this.workers = new ArrayList<>(workers);
+    for (int i = 0; i < workers; i++) {
+      this.workers.add(new Worker(i));
+    }
+  }
+
+  /**
+   * Schedule the validation of a trace file, waiting for room if every worker queue is full.
+   *
+   * @param traceFile the trace to validate
+   * @param zkEvmBin the constraints to validate the trace against
+   * @return the eventual validation result; failed if the validation could not be run
+   * @throws InterruptedException if interrupted while waiting for room
+   */
+  public CompletableFuture<CorsetValidator.Result> submit(
+      final Path traceFile, final String zkEvmBin) throws InterruptedException {
+    this.capacity.acquire();
+
+    final Worker worker =
+        this.workers.stream().min(Comparator.comparingInt(w -> w.load.get())).orElseThrow();
+    worker.load.incrementAndGet();
+
+    final CompletableFuture<CorsetValidator.Result> result = new CompletableFuture<>();
+    result.whenComplete(
+        (r, e) -> {
+          worker.load.decrementAndGet();
+          this.capacity.release();
+        });
+    try {
+      worker.executor.execute(new Task(worker, traceFile, zkEvmBin, result));
+    } catch (RejectedExecutionException e) {
+      // The pool has been closed
+      result.completeExceptionally(e);
+    }
+
+    return result;
+  }
+
+  /**
+   * @return the number of validations queued or running
+   */
+  public int queueDepth() {
+    return this.workers.stream().mapToInt(w -> w.load.get()).sum();
+  }
+
+  /** Stop every worker; the validations that did not complete yet are cancelled. */
+  @Override
+  public void close() {
+    for (Worker worker : this.workers) {
+      for (Runnable pending : worker.executor.shutdownNow()) {
+        if (pending instanceof Task task) {
+          task.result.cancel(false);
+        }
+      }
+      // Killing the process unblocks the running validation, if any
+      final CorsetWorker process = worker.process;
+      if (process != null) {
+        process.close();
+      }
+    }
+  }
+
+  private final class Task implements Runnable {
+    private final Worker worker;
+    private final Path traceFile;
+    private final String zkEvmBin;
+    private final CompletableFuture<CorsetValidator.Result> result;
+
+    private Task(
+        final Worker worker,
+        final Path traceFile,
+        final String zkEvmBin,
+        final CompletableFuture<CorsetValidator.Result> result) {
+      this.worker = worker;
+      this.traceFile = traceFile;
+      this.zkEvmBin = zkEvmBin;
+      this.result = result;
+    }
+
+    @Override
+    public void run() {
+      if (!this.result.isDone()) {
+        validate(this.worker, this.traceFile, this.zkEvmBin, this.result);
+      }
+    }
+  }
+
+  private void validate(
+      final Worker worker,
+      final Path traceFile,
+      final String zkEvmBin,
+      final CompletableFuture<CorsetValidator.Result> result) {
+    try {
+      if (this.validator.serving()) {
+        result.complete(this.warmProcess(worker, zkEvmBin).validate(traceFile));
+      } else {
+        result.complete(this.validator.validate(traceFile, zkEvmBin));
+      }
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+  }
+
+  /** Return the warm process of a worker, (re)created if it checks other constraints. */
+  private CorsetWorker warmProcess(final Worker worker, final String zkEvmBin) {
+    if (worker.process == null || !zkEvmBin.equals(worker.zkEvmBin)) {
+      if (worker.process != null) {
+        worker.process.close();
+      }
+      worker.process = this.validator.newWorker(zkEvmBin);
+      worker.zkEvmBin = zkEvmBin;
+    }
+    return worker.process;
+  }
+}
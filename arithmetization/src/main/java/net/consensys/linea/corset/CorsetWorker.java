@@ -0,0 +1,157 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.corset;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import lombok.extern.slf4j.Slf4j;
+import net.consensys.linea.zktracer.TraceFormat;
+
+/**
+ * A long-lived <code>corset check --serve</code> process checking a stream of traces, so that the
+ * constraints are only loaded once. Traces are exchanged over the standard streams of the process:
+ *
+ * <ul>
+ *   <li>a request is the absolute path of the trace file, followed by a newline;
+ *   <li>a response is a header line made of the exit code of the check and of the byte length of
+ *       its output, separated by a space, followed by the output itself.
+ * </ul>
+ *
+ * A check running past the timeout kills the process and fails; as does the process exiting. In
+ * both cases, a fresh process is started for the next trace. Not thread-safe: a worker must only be
+ * used by a single thread at a time, {@link #close()} excepted.
+ */
+@Slf4j
+final class CorsetWorker implements AutoCloseable {
+  private final List<String> command;
+  private final Duration timeout;
+  private final TraceFormat traceFormat;
+
+  /** The running process, if any; killed from any thread on close */
+  private volatile Process process = null;
+
+  private OutputStream requests;
+  private InputStream responses;
+
+  /**
+   * @param command the command starting the <code>corset</code> process
+   * @param timeout how long a single check may run before the process is killed
+   * @param traceFormat the most recent trace format understood by the process
+   */
+  CorsetWorker(final List<String> command, final Duration timeout, final TraceFormat traceFormat) {
+    this.command = command;
+    this.timeout = timeout;
+    this.traceFormat = traceFormat;
+  }
+
+  /**
+   * Check a trace file, starting the <code>corset</code> process if it is not running.
+   *
+   * @param filename the trace to check
+   * @return the validation result
+   * @throws RuntimeException if the process could not be started, exited or timed out
+   */
+  CorsetValidator.Result validate(final Path filename) throws RuntimeException {
+    final Optional<CorsetValidator.Result> unsupported =
+        CorsetValidator.checkFormat(filename, this.traceFormat);
+    if (unsupported.isPresent()) {
+      return unsupported.get();
+    }
+
+    final Process current = this.start();
+    // Killing the process closes its output, hence also unblocks the reading below
+    final AtomicBoolean timedOut = new AtomicBoolean(false);
+    final ScheduledFuture<?> watchdog =
+        CorsetValidator.WATCHDOG.schedule(
+            () -> {
+              timedOut.set(true);
+              current.destroyForcibly();
+            },
+            this.timeout.toMillis(),
+            TimeUnit.MILLISECONDS);
+    try {
+      this.requests.write((filename.toAbsolutePath() + "\n").getBytes(StandardCharsets.UTF_8));
+      this.requests.flush();
+
+      final String[] header = this.readLine().split(" ");
+      final int exitCode = Integer.parseInt(header[0]);
+      final int outputLength = Integer.parseInt(header[1]);
+      final String output =
+          new String(this.responses.readNBytes(outputLength), StandardCharsets.UTF_8);
+      if (exitCode != 0) {
+        log.error("Validation failed: %s".formatted(output));
+      }
+      return new CorsetValidator.Result(exitCode == 0, filename.toFile(), output);
+    } catch (IOException | RuntimeException e) {
+      this.close();
+      final String message =
+          timedOut.get()
+              ? "Validation of %s timed out after %s".formatted(filename, this.timeout)
+              : "Corset worker failed while validating %s: %s".formatted(filename, e.getMessage());
+      log.error(message);
+      throw new RuntimeException(message, e);
+    } finally {
+      watchdog.cancel(false);
+    }
+  }
+
+  private Process start() {
+    if (this.process == null) {
+      try {
+        this.process =
+            new ProcessBuilder(this.command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+      } catch (IOException e) {
+        log.error("Unable to start corset worker: %s".formatted(e.getMessage()));
+        throw new RuntimeException(e);
+      }
+      this.requests = this.process.getOutputStream();
+      this.responses = new BufferedInputStream(this.process.getInputStream());
+    }
+    return this.process;
+  }
+
+  private String readLine() throws IOException {
+    final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    for (int b = this.responses.read(); b != '\n'; b = this.responses.read()) {
+      if (b < 0) {
+        throw new IOException("corset worker exited");
+      }
+      line.write(b);
+    }
+    return line.toString(StandardCharsets.UTF_8);
+  }
+
+  /** Kill the <code>corset</code> process, if running; the next check starts a fresh one. */
+  @Override
+  public void close() {
+    if (this.process != null) {
+      this.process.destroyForcibly();
+      this.process = null;
+    }
+  }
+}
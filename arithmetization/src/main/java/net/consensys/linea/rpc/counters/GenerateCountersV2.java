@@ -23,6 +23,7 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.consensys.linea.config.LineaL1L2BridgeConfiguration;
 import net.consensys.linea.zktracer.ZkTracer;
 import net.consensys.linea.zktracer.json.JsonConverter;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
@@ -94,7 +95,8 @@ public class GenerateCountersV2 {
                   .computeIfAbsent(
                       requestedBlockNumber,
                       blockNumber -> {
-                        final ZkTracer tracer = new ZkTracer();
+                        final ZkTracer tracer =
+                            new ZkTracer(LineaL1L2BridgeConfiguration.EMPTY, true);
                         traceService.trace(
                             blockNumber,
                             blockNumber,
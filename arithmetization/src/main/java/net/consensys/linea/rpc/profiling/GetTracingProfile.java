@@ -0,0 +1,77 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.rpc.profiling;
+
+import java.security.InvalidParameterException;
+
+import lombok.extern.slf4j.Slf4j;
+import net.consensys.linea.zktracer.ModuleProfiler;
+import net.consensys.linea.zktracer.json.JsonConverter;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
+import org.hyperledger.besu.plugin.services.exception.PluginRpcEndpointException;
+import org.hyperledger.besu.plugin.services.rpc.PluginRpcRequest;
+
+/** This class is used to retrieve the per-module tracing profile accumulated so far. */
+@Slf4j
+public class GetTracingProfile {
+  private static final JsonConverter CONVERTER = JsonConverter.builder().build();
+
+  public String getNamespace() {
+    return "linea";
+  }
+
+  public String getName() {
+    return "getModulesTracingProfileV1";
+  }
+
+  /**
+   * Executes an RPC request to retrieve the tracing profile.
+   *
+   * @param request The PluginRpcRequest object encapsulating the parameters of the RPC request,
+   *     i.e. an optional {@link TracingProfileRequestParams}.
+   * @return A TracingProfile object holding the profile of every module profiled so far.
+   *     <p>If an exception occurs during the execution of the request, it is caught and wrapped in
+   *     a PluginRpcEndpointException and rethrown.
+   */
+  public TracingProfile execute(final PluginRpcRequest request) {
+    try {
+      final Object[] rawParams = request.getParams();
+
+      // validate params size
+      if (rawParams.length > 1) {
+        throw new InvalidParameterException(
+            "Expected at most a single params object in the params array but got %d"
+                .formatted(rawParams.length));
+      }
+
+      final TracingProfileRequestParams params =
+          rawParams.length == 0
+              ? new TracingProfileRequestParams(false)
+              : CONVERTER.fromJson(
+                  CONVERTER.toJson(rawParams[0]), TracingProfileRequestParams.class);
+
+      final TracingProfile r =
+          new TracingProfile(ModuleProfiler.enabled(), ModuleProfiler.profiles());
+      if (params.reset()) {
+        ModuleProfiler.reset();
+        log.info("Tracing profile reset");
+      }
+      return r;
+    } catch (Exception ex) {
+      throw new PluginRpcEndpointException(RpcErrorType.PLUGIN_INTERNAL_ERROR, ex.getMessage());
+    }
+  }
+}
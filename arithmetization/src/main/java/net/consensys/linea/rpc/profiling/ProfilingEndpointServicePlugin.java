@@ -0,0 +1,115 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.rpc.profiling;
+
+import java.util.Locale;
+
+import com.google.auto.service.AutoService;
+import net.consensys.linea.AbstractLineaSharedOptionsPlugin;
+import net.consensys.linea.metrics.LineaMetricCategory;
+import net.consensys.linea.zktracer.ModuleProfiler;
+import org.hyperledger.besu.plugin.BesuContext;
+import org.hyperledger.besu.plugin.BesuPlugin;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.RpcEndpointService;
+import org.hyperledger.besu.plugin.services.metrics.MetricCategoryRegistry;
+
+/**
+ * Sets up an RPC endpoint exposing the per-module tracing profile.
+ *
+ * <p>The ProfilingEndpointServicePlugin registers an RPC endpoint named
+ * 'getModulesTracingProfileV1' under the 'linea' namespace, see {@link GetTracingProfile}. When
+ * profiling is enabled, the profile of every module is also published as metrics.
+ */
+@AutoService(BesuPlugin.class)
+public class ProfilingEndpointServicePlugin extends AbstractLineaSharedOptionsPlugin {
+  private BesuContext besuContext;
+  private RpcEndpointService rpcEndpointService;
+
+  /**
+   * Register the RPC service and the profiling metric category.
+   *
+   * @param context the BesuContext to be used.
+   */
+  @Override
+  public void register(final BesuContext context) {
+    super.register(context);
+    besuContext = context;
+    rpcEndpointService =
+        context
+            .getService(RpcEndpointService.class)
+            .orElseThrow(
+                () ->
+                    new RuntimeException(
+                        "Failed to obtain RpcEndpointService from the BesuContext."));
+    context
+        .getService(MetricCategoryRegistry.class)
+        .ifPresent(r -> r.addMetricCategory(LineaMetricCategory.TRACING_PROFILE));
+  }
+
+  @Override
+  public void beforeExternalServices() {
+    super.beforeExternalServices();
+    final GetTracingProfile method = new GetTracingProfile();
+    rpcEndpointService.registerRPCEndpoint(
+        method.getNamespace(), method.getName(), method::execute);
+
+    if (tracerConfiguration.profilingEnabled()) {
+      besuContext.getService(MetricsSystem.class).ifPresent(this::registerMetrics);
+    }
+  }
+
+  /**
+   * Publish, for every module as soon as it is profiled, the time spent in and the number of calls
+   * to each of its hooks, as well as the number of operations it was given and how many of them
+   * were duplicates.
+   *
+   * @param metricsSystem where to publish the metrics
+   */
+  private void registerMetrics(final MetricsSystem metricsSystem) {
+    final LineaMetricCategory category = LineaMetricCategory.TRACING_PROFILE;
+    ModuleProfiler.onNewModule(
+        moduleKey -> {
+          final String module = moduleKey.toLowerCase(Locale.ROOT);
+          for (ModuleProfiler.Hook hook : ModuleProfiler.Hook.values()) {
+            final String prefix = module + "_" + hook.name().toLowerCase(Locale.ROOT);
+            metricsSystem.createLongGauge(
+                category,
+                prefix + "_nanos",
+                "Time spent by %s in its %s hook, in nanoseconds".formatted(moduleKey, hook),
+                () -> ModuleProfiler.nanos(moduleKey, hook));
+            metricsSystem.createLongGauge(
+                category,
+                prefix + "_calls",
+                "Number of calls to the %s hook of %s".formatted(hook, moduleKey),
+                () -> ModuleProfiler.calls(moduleKey, hook));
+          }
+          metricsSystem.createLongGauge(
+              category,
+              module + "_operations",
+              "Number of operations given to %s".formatted(moduleKey),
+              () -> ModuleProfiler.operations(moduleKey));
+          metricsSystem.createLongGauge(
+              category,
+              module + "_duplicate_operations",
+              "Number of operations given to %s that were already traced".formatted(moduleKey),
+              () -> ModuleProfiler.duplicates(moduleKey));
+        });
+  }
+
+  @Override
+  public void start() {}
+}
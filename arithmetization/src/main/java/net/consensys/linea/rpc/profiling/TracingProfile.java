@@ -0,0 +1,26 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.rpc.profiling;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import net.consensys.linea.zktracer.ModuleProfiler;
+
+/** TracingProfile represents the time spent by every module in each of its tracing hooks. */
+public record TracingProfile(
+    @JsonProperty("profilingEnabled") boolean profilingEnabled,
+    @JsonProperty("modules") Map<String, ModuleProfiler.ModuleProfile> modules) {}
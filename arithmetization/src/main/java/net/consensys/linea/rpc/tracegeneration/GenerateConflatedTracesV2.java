@@ -15,14 +15,24 @@
 
 package net.consensys.linea.rpc.tracegeneration;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.security.InvalidParameterException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 import com.google.common.base.Stopwatch;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.consensys.linea.zktracer.TraceCompression;
+import net.consensys.linea.zktracer.TraceFormat;
 import net.consensys.linea.zktracer.ZkTracer;
 import net.consensys.linea.zktracer.json.JsonConverter;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
@@ -37,16 +47,32 @@ import org.hyperledger.besu.plugin.services.rpc.PluginRpcRequest;
  * named 'generateConflatedTracesToFileV0' under the 'rollup' namespace. When this endpoint is
  * called, it triggers the execution of the 'execute' method, which generates conflated file traces
  * based on the provided request parameters and writes them to a file.
+ *
+ * <p>Traces are reused at the granularity of whole conflations: a request for a conflation that
+ * was already traced returns the existing file. Blocks are never reused across different
+ * conflations, as traces are laid out relatively to the whole conflation (stamps, transaction
+ * numbers, de-duplication across blocks) and can not be assembled from independently traced blocks.
  */
 @Slf4j
 @RequiredArgsConstructor
 public class GenerateConflatedTracesV2 {
   private static final JsonConverter CONVERTER = JsonConverter.builder().build();
+  private static final int COMMIT_PARALLELISM = Runtime.getRuntime().availableProcessors();
 
   private final BesuContext besuContext;
+  private final Supplier<ZkTracer> tracerFactory;
   private Path tracesPath;
+  private Path scratchPath;
   private TraceService traceService;
 
+  /** The traces currently being computed, indexed by their target file */
+  private final ConcurrentMap<Path, CompletableFuture<String>> inFlightTraces =
+      new ConcurrentHashMap<>();
+
+  public GenerateConflatedTracesV2(final BesuContext besuContext) {
+    this(besuContext, ZkTracer::new);
+  }
+
   public String getNamespace() {
     return "linea";
   }
@@ -62,14 +88,6 @@ public class GenerateConflatedTracesV2 {
    * @return an execution file trace.
    */
   public TraceFile execute(final PluginRpcRequest request) {
-    Stopwatch sw = Stopwatch.createStarted();
-    if (this.traceService == null) {
-      this.traceService = getTraceService();
-    }
-    if (this.tracesPath == null) {
-      this.tracesPath = getTracesPath();
-    }
-
     final Object[] rawParams = request.getParams();
 
     // validate params size
@@ -84,26 +102,83 @@ public class GenerateConflatedTracesV2 {
           CONVERTER.fromJson(CONVERTER.toJson(rawParams[0]), TraceRequestParams.class);
 
       params.validateTracerVersion();
+      params.validateTraceFileOptions();
 
-      final long fromBlock = params.startBlockNumber();
-      final long toBlock = params.endBlockNumber();
-      final ZkTracer tracer = new ZkTracer();
-      traceService.trace(
-          fromBlock,
-          toBlock,
-          worldStateBeforeTracing -> tracer.traceStartConflation(toBlock - fromBlock + 1),
-          tracer::traceEndConflation,
-          tracer);
-      log.info("[TRACING] trace for {}-{} computed in {}", fromBlock, toBlock, sw);
-      sw.reset().start();
-      final String path = writeTraceToFile(tracer, params);
-      log.info("[TRACING] trace for {}-{} serialized to {} in {}", path, toBlock, fromBlock, sw);
-      return new TraceFile(params.expectedTracesEngineVersion(), path);
+      return new TraceFile(params.expectedTracesEngineVersion(), this.traceToFile(params));
     } catch (Exception ex) {
       throw new PluginRpcEndpointException(RpcErrorType.PLUGIN_INTERNAL_ERROR, ex.getMessage());
     }
   }
 
+  /**
+   * Trace a conflation into a file, waiting for the identical request in flight if any.
+   *
+   * @param params the validated request parameters
+   * @return the absolute path of the trace file
+   */
+  String traceToFile(final TraceRequestParams params) {
+    Stopwatch sw = Stopwatch.createStarted();
+    if (this.traceService == null) {
+      this.traceService = getTraceService();
+    }
+    if (this.tracesPath == null) {
+      this.tracesPath = getTracesPath();
+    }
+    if (this.scratchPath == null) {
+      this.scratchPath = getScratchPath();
+    }
+
+    final Path fileName = generateOutputFileName(params);
+    final CompletableFuture<String> trace = new CompletableFuture<>();
+    final CompletableFuture<String> inFlightTrace =
+        this.inFlightTraces.putIfAbsent(fileName, trace);
+    if (inFlightTrace != null) {
+      // The same conflation is already being traced, e.g. by a request being retried
+      log.info("[TRACING] waiting for in-flight trace {}", fileName);
+      return inFlightTrace.join();
+    }
+
+    try {
+      trace.complete(this.computeTrace(params, fileName, sw));
+    } catch (RuntimeException e) {
+      trace.completeExceptionally(e);
+      throw e;
+    } finally {
+      this.inFlightTraces.remove(fileName, trace);
+    }
+    return trace.join();
+  }
+
+  /**
+   * Trace a conflation into the given file, unless a previous request already did.
+   *
+   * <p>The trace only depends on the block range, the tracer version and the file options, which
+   * all appear in the file name; so an existing file is the complete result of an identical request
+   * and is reused as is.
+   */
+  private String computeTrace(
+      final TraceRequestParams params, final Path fileName, final Stopwatch sw) {
+    if (Files.exists(fileName)) {
+      log.info("[TRACING] reusing existing trace {}", fileName);
+      return fileName.toAbsolutePath().toString();
+    }
+
+    final long fromBlock = params.startBlockNumber();
+    final long toBlock = params.endBlockNumber();
+    final ZkTracer tracer = this.tracerFactory.get();
+    traceService.trace(
+        fromBlock,
+        toBlock,
+        worldStateBeforeTracing -> tracer.traceStartConflation(toBlock - fromBlock + 1),
+        tracer::traceEndConflation,
+        tracer);
+    log.info("[TRACING] trace for {}-{} computed in {}", fromBlock, toBlock, sw);
+    sw.reset().start();
+    final String path = writeTraceToFile(tracer, params, fileName);
+    log.info("[TRACING] trace for {}-{} serialized to {} in {}", fromBlock, toBlock, path, sw);
+    return path;
+  }
+
   private Path getTracesPath() {
     final String envVar = System.getenv("TRACES_DIR");
     if (envVar == null) {
@@ -120,6 +195,15 @@ public class GenerateConflatedTracesV2 {
     }
   }
 
+  /**
+   * Modules are committed into scratch files before being narrowed or compressed into the trace
+   * file; these preferably live on a local volume rather than on the one shared with the prover.
+   */
+  private static Path getScratchPath() {
+    final String envVar = System.getenv("TRACES_SCRATCH_DIR");
+    return Paths.get(envVar == null ? System.getProperty("java.io.tmpdir") : envVar);
+  }
+
   private TraceService getTraceService() {
     return this.besuContext
         .getService(TraceService.class)
@@ -130,9 +214,36 @@ public class GenerateConflatedTracesV2 {
   }
 
   private String writeTraceToFile(
-      final ZkTracer tracer, final TraceRequestParams traceRequestParams) {
-    final Path fileName = generateOutputFileName(traceRequestParams);
-    tracer.writeToFile(fileName);
+      final ZkTracer tracer, final TraceRequestParams traceRequestParams, final Path fileName) {
+    // Only publish complete files under their final name, so that they can safely be reused
+    final Path partialFile = fileName.resolveSibling(fileName.getFileName() + ".partial");
+    try {
+      if (traceRequestParams.traceFileCompression() == TraceCompression.NONE) {
+        tracer.writeToFile(
+            partialFile,
+            COMMIT_PARALLELISM,
+            traceRequestParams.traceFileFormat(),
+            this.scratchPath);
+      } else {
+        tracer.writeToFile(
+            partialFile,
+            COMMIT_PARALLELISM,
+            traceRequestParams.traceFileCompression(),
+            this.scratchPath);
+      }
+      Files.move(partialFile, fileName, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException | RuntimeException e) {
+      try {
+        Files.deleteIfExists(partialFile);
+      } catch (IOException suppressed) {
+        e.addSuppressed(suppressed);
+      }
+      throw e instanceof RuntimeException runtime ? runtime : new RuntimeException(e);
+    }
+    tracer.getModulesCommitTime().entrySet().stream()
+        .sorted(Map.Entry.<String, Duration>comparingByValue().reversed())
+        .limit(5)
+        .forEach(e -> log.info("[TRACING] module {} committed in {}", e.getKey(), e.getValue()));
     return fileName.toAbsolutePath().toString();
   }
 
@@ -151,10 +262,13 @@ public class GenerateConflatedTracesV2 {
                 traceRequestParams.startBlockNumber(),
                 traceRequestParams.endBlockNumber(),
                 traceRequestParams.expectedTracesEngineVersion(),
-                getFileFormat())));
+                getFileFormat(traceRequestParams))));
   }
 
-  private String getFileFormat() {
-    return "lt";
+  private static String getFileFormat(final TraceRequestParams traceRequestParams) {
+    final String extension = traceRequestParams.traceFileCompression().fileExtension();
+    final TraceFormat format = traceRequestParams.traceFileFormat();
+    // Traces in different formats must not share a name, as existing files are reused
+    return format == TraceFormat.V1 ? extension : format.name().toLowerCase() + "." + extension;
   }
 }
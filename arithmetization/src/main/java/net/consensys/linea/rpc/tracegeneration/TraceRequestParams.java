@@ -16,12 +16,63 @@
 package net.consensys.linea.rpc.tracegeneration;
 
 import java.security.InvalidParameterException;
+import java.util.Arrays;
 
+import net.consensys.linea.zktracer.TraceCompression;
+import net.consensys.linea.zktracer.TraceFormat;
 import net.consensys.linea.zktracer.ZkTracer;
 
-/** Holds needed parameters for sending an execution trace generation request. */
+/**
+ * Holds needed parameters for sending an execution trace generation request.
+ *
+ * @param traceFormat the optional name of the trace file format to produce, e.g. <code>v2</code>;
+ *     defaults to {@link TraceFormat#V1}
+ * @param traceCompression the optional name of the compression to apply to the trace file, e.g.
+ *     <code>deflate</code>; defaults to {@link TraceCompression#NONE}
+ */
 public record TraceRequestParams(
-    long startBlockNumber, long endBlockNumber, String expectedTracesEngineVersion) {
+    long startBlockNumber,
+    long endBlockNumber,
+    String expectedTracesEngineVersion,
+    String traceFormat,
+    String traceCompression) {
+
+  public TraceFormat traceFileFormat() {
+    if (this.traceFormat == null) {
+      return TraceFormat.V1;
+    }
+    try {
+      return TraceFormat.fromName(this.traceFormat);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidParameterException(
+          String.format(
+              "INVALID_TRACE_FORMAT: unknown trace format %s, expected one of %s",
+              this.traceFormat, Arrays.toString(TraceFormat.values())));
+    }
+  }
+
+  public TraceCompression traceFileCompression() {
+    if (this.traceCompression == null) {
+      return TraceCompression.NONE;
+    }
+    try {
+      return TraceCompression.fromName(this.traceCompression);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidParameterException(
+          String.format(
+              "INVALID_TRACE_COMPRESSION: unknown trace compression %s, expected one of %s",
+              this.traceCompression, Arrays.toString(TraceCompression.values())));
+    }
+  }
+
+  public void validateTraceFileOptions() {
+    if (traceFileCompression() != TraceCompression.NONE && traceFileFormat() != TraceFormat.V1) {
+      throw new InvalidParameterException(
+          String.format(
+              "INVALID_TRACE_OPTIONS: %s compression is only available for the %s format",
+              traceFileCompression(), TraceFormat.V1));
+    }
+  }
 
   public void validateTracerVersion() {
     if (!expectedTracesEngineVersion.equals(getTracerRuntime())) {
@@ -0,0 +1,165 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import lombok.Getter;
+import net.consensys.linea.zktracer.CompressedTraceWriter.Block;
+
+/**
+ * Reads back the columns of a {@link TraceCompression#DEFLATE} trace file, as laid out by {@link
+ * CompressedTraceWriter}, inflating only the blocks of the requested columns.
+ */
+public final class CompressedTraceReader implements Closeable {
+  private final FileChannel in;
+
+  /** The headers of the columns, in file order */
+  @Getter private final List<ColumnHeader> headers;
+
+  private final List<List<Block>> index;
+
+  /**
+   * Open a compressed trace file and load its index.
+   *
+   * @param traceFile the file to read
+   * @throws IOException if the file can not be read or is not a compressed trace file
+   */
+  public CompressedTraceReader(final Path traceFile) throws IOException {
+    this.in = FileChannel.open(traceFile, StandardOpenOption.READ);
+    try {
+      final ByteBuffer preamble = this.read(0, CompressedTraceWriter.MAGIC.length + 2 + 4);
+      final byte[] magic = new byte[CompressedTraceWriter.MAGIC.length];
+      preamble.get(magic);
+      if (!Arrays.equals(magic, CompressedTraceWriter.MAGIC)) {
+        throw new IOException("%s is not a compressed trace file".formatted(traceFile));
+      }
+      final int version = preamble.getShort();
+      if (version != CompressedTraceWriter.VERSION) {
+        throw new IOException(
+            "unsupported compressed trace version %d in %s".formatted(version, traceFile));
+      }
+
+      final int columnCount = preamble.getInt();
+      this.headers = new ArrayList<>(columnCount);
+      long offset = preamble.capacity();
+      for (int i = 0; i < columnCount; i++) {
+        final int nameLength = this.read(offset, 2).getShort();
+        final ByteBuffer entry = this.read(offset + 2, nameLength + 1 + 4);
+        final byte[] name = new byte[nameLength];
+        entry.get(name);
+        this.headers.add(new ColumnHeader(new String(name), entry.get(), entry.getInt()));
+        offset += 2 + nameLength + 1 + 4;
+      }
+
+      final long indexOffset = this.read(this.in.size() - 8, 8).getLong();
+      final ByteBuffer indexBuffer = this.read(indexOffset, this.in.size() - 8 - indexOffset);
+      if (indexBuffer.getInt() != columnCount) {
+        throw new IOException("corrupted index in %s".formatted(traceFile));
+      }
+      this.index = new ArrayList<>(columnCount);
+      for (int i = 0; i < columnCount; i++) {
+        final int blockCount = indexBuffer.getInt();
+        final List<Block> blocks = new ArrayList<>(blockCount);
+        for (int b = 0; b < blockCount; b++) {
+          blocks.add(new Block(indexBuffer.getLong(), indexBuffer.getInt(), indexBuffer.getInt()));
+        }
+        this.index.add(blocks);
+      }
+    } catch (IOException | RuntimeException e) {
+      this.in.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Inflate the data of a single column.
+   *
+   * @param name the name of the column
+   * @return the column data, as it would be laid out in a {@link TraceFormat#V1} file
+   * @throws IOException if the file can not be read, or if the column does not exist
+   */
+  public byte[] readColumn(final String name) throws IOException {
+    for (int i = 0; i < this.headers.size(); i++) {
+      if (this.headers.get(i).name().equals(name)) {
+        return this.readColumn(i);
+      }
+    }
+    throw new IOException("no column named %s".formatted(name));
+  }
+
+  /**
+   * Inflate the data of a single column.
+   *
+   * @param column the position of the column in {@link #getHeaders()}
+   * @return the column data, as it would be laid out in a {@link TraceFormat#V1} file
+   * @throws IOException if the file can not be read
+   */
+  public byte[] readColumn(final int column) throws IOException {
+    final byte[] data = new byte[this.headers.get(column).dataSize()];
+    final Inflater inflater = new Inflater();
+    try {
+      int position = 0;
+      for (Block b : this.index.get(column)) {
+        inflater.reset();
+        inflater.setInput(this.read(b.offset(), b.compressedSize()));
+        int inflated = 0;
+        while (inflated < b.size() && !inflater.finished()) {
+          final int n = inflater.inflate(data, position + inflated, b.size() - inflated);
+          if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+            break;
+          }
+          inflated += n;
+        }
+        if (inflated != b.size()) {
+          throw new IOException("truncated block in column " + this.headers.get(column).name());
+        }
+        position += inflated;
+      }
+    } catch (DataFormatException e) {
+      throw new IOException(e);
+    } finally {
+      inflater.end();
+    }
+
+    return data;
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.in.close();
+  }
+
+  private ByteBuffer read(final long position, final long size) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size));
+    while (buffer.hasRemaining()) {
+      if (this.in.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("unexpected end of compressed trace file");
+      }
+    }
+    return buffer.flip();
+  }
+}
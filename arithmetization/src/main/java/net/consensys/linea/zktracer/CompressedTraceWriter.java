@@ -0,0 +1,246 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+
+import net.consensys.linea.zktracer.module.Module;
+
+/**
+ * Writes a {@link TraceCompression#DEFLATE} trace file, compressing the columns of every module as
+ * soon as it has been committed, so that compression overlaps with the commit of the other
+ * modules. Modules are compressed straight out of their scratch mapping, which is released as soon
+ * as all of its columns are compressed; a bounded number of modules may await compression at any
+ * time, so that scratch space stays small.
+ *
+ * <p>The file starts with the {@link #MAGIC} bytes and the container version as a u16, followed by
+ * the column headers exactly as in a {@link TraceFormat#V1} file. Then come the compressed blocks
+ * of all the columns, in no particular order, each one holding up to {@link #BLOCK_SIZE} bytes of
+ * column data. The file ends with an index giving, for every column in header order, the u32
+ * number of its blocks, then for each of them its u64 offset in the file, its u32 compressed size
+ * and its u32 inflated size; the last 8 bytes of the file are the offset of this index.
+ */
+final class CompressedTraceWriter implements ModuleCommitter.CommitListener, Closeable {
+  /** The bytes opening a compressed trace file. */
+  static final byte[] MAGIC = {'z', 'k', 'l', 'z'};
+
+  /** The version of the compressed container layout. */
+  static final int VERSION = 1;
+
+  /** The largest amount of column data compressed as a single block */
+  static final int BLOCK_SIZE = 1 << 20;
+
+  /** Where a compressed block lies in the file, and how much column data it inflates to. */
+  record Block(long offset, int compressedSize, int size) {
+    static final int SIZE = 8 + 4 + 4;
+  }
+
+  private final FileChannel out;
+  private final List<ColumnHeader> headers;
+
+  /** The index of the first column of every module in {@link #headers} */
+  private final Map<Module, Integer> firstColumns = new HashMap<>();
+
+  /** The blocks of every column; each entry is only ever written by the task compressing it */
+  private final List<List<Block>> index;
+
+  /** Where the next compressed block will be written */
+  private final AtomicLong nextOffset;
+
+  private final ScratchColumns scratch;
+
+  /** Bounds the number of committed modules whose columns are not compressed yet */
+  private final Semaphore uncompressedModules;
+
+  private final ExecutorService executor;
+  private final List<CompletableFuture<Void>> pending =
+      Collections.synchronizedList(new ArrayList<>());
+
+  /**
+   * Create the compressed trace file and write its header.
+   *
+   * @param target where to write the compressed trace
+   * @param moduleHeaders the headers of the columns of every module, in file order
+   * @param scratch where the modules are committed, released once compressed
+   * @param parallelism the number of columns that may be compressed simultaneously
+   * @throws IOException if the file can not be written
+   */
+  CompressedTraceWriter(
+      final Path target,
+      final Map<Module, List<ColumnHeader>> moduleHeaders,
+      final ScratchColumns scratch,
+      final int parallelism)
+      throws IOException {
+    this.scratch = scratch;
+    this.uncompressedModules = new Semaphore(Math.max(1, parallelism));
+    this.headers = moduleHeaders.values().stream().flatMap(List::stream).toList();
+    int first = 0;
+    for (Map.Entry<Module, List<ColumnHeader>> e : moduleHeaders.entrySet()) {
+      this.firstColumns.put(e.getKey(), first);
+      first += e.getValue().size();
+    }
+    this.index = new ArrayList<>(this.headers.size());
+    for (int i = 0; i < this.headers.size(); i++) {
+      this.index.add(List.of());
+    }
+
+    this.out =
+        FileChannel.open(
+            target,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+    this.executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+
+    final ByteBuffer header =
+        ByteBuffer.allocate(
+            MAGIC.length + 2 + 4 + this.headers.stream().mapToInt(ColumnHeader::headerSize).sum());
+    header.put(MAGIC);
+    header.putShort((short) VERSION);
+    header.putInt(this.headers.size());
+    for (ColumnHeader h : this.headers) {
+      header.putShort((short) h.name().length());
+      header.put(h.name().getBytes());
+      header.put((byte) h.bytesPerElement());
+      header.putInt(h.length());
+    }
+    this.nextOffset = new AtomicLong(header.capacity());
+    writeFully(this.out, header.flip(), 0);
+  }
+
+  @Override
+  public void committed(final Module module, final List<MappedByteBuffer> columns) {
+    // Hold the committing thread back while too many modules are waiting to be compressed
+    this.uncompressedModules.acquireUninterruptibly();
+
+    final int first = this.firstColumns.get(module);
+    final CompletableFuture<?>[] compressions = new CompletableFuture<?>[columns.size()];
+    for (int i = 0; i < columns.size(); i++) {
+      final int column = first + i;
+      final ByteBuffer data = columns.get(i);
+      compressions[i] =
+          CompletableFuture.runAsync(() -> this.compressColumn(column, data), this.executor);
+    }
+    this.pending.add(
+        CompletableFuture.allOf(compressions)
+            .whenComplete(
+                (r, e) -> {
+                  this.scratch.release(module);
+                  this.uncompressedModules.release();
+                }));
+  }
+
+  /**
+   * Wait for all the columns to be compressed, then write the index closing the file. Must only be
+   * called once all the modules have been committed.
+   *
+   * @throws IOException if the file can not be written
+   */
+  void finish() throws IOException {
+    try {
+      CompletableFuture.allOf(this.pending.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+
+    final int blockCount = this.index.stream().mapToInt(List::size).sum();
+    final ByteBuffer indexBuffer =
+        ByteBuffer.allocate(4 + 4 * this.index.size() + Block.SIZE * blockCount + 8);
+    final long indexOffset = this.nextOffset.get();
+    indexBuffer.putInt(this.index.size());
+    for (List<Block> blocks : this.index) {
+      indexBuffer.putInt(blocks.size());
+      for (Block b : blocks) {
+        indexBuffer.putLong(b.offset());
+        indexBuffer.putInt(b.compressedSize());
+        indexBuffer.putInt(b.size());
+      }
+    }
+    indexBuffer.putLong(indexOffset);
+    writeFully(this.out, indexBuffer.flip(), indexOffset);
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.executor.shutdownNow();
+    this.out.close();
+  }
+
+  private void compressColumn(final int column, final ByteBuffer data) {
+    final int size = data.limit();
+    final List<Block> blocks = new ArrayList<>(size / BLOCK_SIZE + 1);
+    final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      final byte[] raw = new byte[Math.min(size, BLOCK_SIZE)];
+      byte[] compressed = new byte[raw.length / 2 + 64];
+      for (int start = 0; start < size; start += BLOCK_SIZE) {
+        final int length = Math.min(BLOCK_SIZE, size - start);
+        data.get(start, raw, 0, length);
+
+        deflater.reset();
+        deflater.setInput(raw, 0, length);
+        deflater.finish();
+        int compressedSize = 0;
+        while (!deflater.finished()) {
+          if (compressedSize == compressed.length) {
+            compressed = Arrays.copyOf(compressed, 2 * compressed.length);
+          }
+          compressedSize +=
+              deflater.deflate(compressed, compressedSize, compressed.length - compressedSize);
+        }
+
+        final long offset = this.nextOffset.getAndAdd(compressedSize);
+        writeFully(this.out, ByteBuffer.wrap(compressed, 0, compressedSize), offset);
+        blocks.add(new Block(offset, compressedSize, length));
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    } finally {
+      deflater.end();
+    }
+
+    this.index.set(column, blocks);
+  }
+
+  private static void writeFully(final FileChannel out, final ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      position += out.write(buffer, position);
+    }
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import java.nio.MappedByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import com.google.common.base.Stopwatch;
+import lombok.extern.slf4j.Slf4j;
+import net.consensys.linea.zktracer.module.Module;
+
+/**
+ * Commits a set of modules into their column buffers, possibly in parallel, while honoring the
+ * commit-time dependencies between modules.
+ */
+@Slf4j
+class ModuleCommitter {
+  /** Notified whenever a module has been fully committed into its buffers. */
+  @FunctionalInterface
+  interface CommitListener {
+    /**
+     * Called on the thread that committed the module, right after its commit.
+     *
+     * @param module the module that has been committed
+     * @param buffers the column buffers the module has been committed into
+     */
+    void committed(Module module, List<MappedByteBuffer> buffers);
+  }
+
+  /** The modules to commit, in their canonical order */
+  private final List<Module> modules;
+
+  /** For each module, the modules that must be fully committed before it may start */
+  private final Map<Module, List<Module>> dependencies;
+
+  /** The wall time spent committing each module, indexed by module key */
+  private final Map<String, Duration> commitTimes =
+      Collections.synchronizedMap(new LinkedHashMap<>());
+
+  ModuleCommitter(final List<Module> modules, final Map<Module, List<Module>> dependencies) {
+    this.modules = modules;
+    this.dependencies = dependencies;
+
+    for (Module m : dependencies.keySet()) {
+      for (Module dependency : dependencies.get(m)) {
+        if (!modules.contains(dependency)) {
+          throw new IllegalArgumentException(
+              "module %s depends on %s, which is not committed"
+                  .formatted(m.moduleKey(), dependency.moduleKey()));
+        }
+      }
+    }
+  }
+
+  /**
+   * Commit every module into its buffers.
+   *
+   * @param buffers the column buffers of every module
+   * @param parallelism the maximal number of modules to commit simultaneously; 1 or less commits
+   *     everything on the caller thread
+   * @return the wall time spent committing each module
+   */
+  Map<String, Duration> commit(
+      final Map<Module, List<MappedByteBuffer>> buffers, final int parallelism) {
+    return this.commit(buffers::get, parallelism, (m, b) -> {});
+  }
+
+  /**
+   * Commit every module into its buffers, notifying the given listener as soon as each module is
+   * done.
+   *
+   * @param buffers provides the column buffers of a module, right before it is committed
+   * @param parallelism the maximal number of modules to commit simultaneously; 1 or less commits
+   *     everything on the caller thread
+   * @param listener notified after each module commit
+   * @return the wall time spent committing each module
+   */
+  Map<String, Duration> commit(
+      final Function<Module, List<MappedByteBuffer>> buffers,
+      final int parallelism,
+      final CommitListener listener) {
+    this.commitTimes.clear();
+    if (parallelism <= 1) {
+      for (Module m : this.sequentialOrder()) {
+        this.commitOne(m, buffers.apply(m), listener);
+      }
+    } else {
+      final ExecutorService executor =
+          Executors.newFixedThreadPool(Math.min(parallelism, this.modules.size()));
+      try {
+        final Map<Module, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        for (Module m : this.sequentialOrder()) {
+          final CompletableFuture<?>[] prerequisites =
+              this.dependencies.getOrDefault(m, List.of()).stream()
+                  .map(futures::get)
+                  .toArray(CompletableFuture[]::new);
+          futures.put(
+              m,
+              CompletableFuture.allOf(prerequisites)
+                  .thenRunAsync(() -> this.commitOne(m, buffers.apply(m), listener), executor));
+        }
+        CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw e;
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    return Map.copyOf(this.commitTimes);
+  }
+
+  private void commitOne(
+      final Module m, final List<MappedByteBuffer> buffers, final CommitListener listener) {
+    final Stopwatch sw = Stopwatch.createStarted();
+    m.commit(buffers);
+    final Duration elapsed = sw.elapsed();
+    this.commitTimes.put(m.moduleKey(), elapsed);
+    ModuleProfiler.record(m, ModuleProfiler.Hook.COMMIT, elapsed.toNanos());
+    log.debug("[TRACING] module {} committed in {}", m.moduleKey(), elapsed);
+    listener.committed(m, buffers);
+  }
+
+  /**
+   * Sort the modules so that every module comes after all of its dependencies, while otherwise
+   * preserving their canonical order.
+   *
+   * @return the modules in a valid commit order
+   */
+  private List<Module> sequentialOrder() {
+    final List<Module> sorted = new ArrayList<>(this.modules.size());
+    final Map<Module, Boolean> visiting = new LinkedHashMap<>();
+    for (Module m : this.modules) {
+      this.visit(m, visiting, sorted);
+    }
+    return sorted;
+  }
+
+  private void visit(
+      final Module m, final Map<Module, Boolean> visiting, final List<Module> sorted) {
+    final Boolean state = visiting.get(m);
+    if (state != null) {
+      if (state) {
+        throw new IllegalStateException(
+            "circular commit dependency involving module " + m.moduleKey());
+      }
+      return;
+    }
+
+    visiting.put(m, true);
+    for (Module dependency : this.dependencies.getOrDefault(m, List.of())) {
+      this.visit(dependency, visiting, sorted);
+    }
+    visiting.put(m, false);
+    sorted.add(m);
+  }
+}
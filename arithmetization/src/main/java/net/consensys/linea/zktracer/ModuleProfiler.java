@@ -0,0 +1,263 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import net.consensys.linea.zktracer.container.stacked.set.StackedSet;
+import net.consensys.linea.zktracer.module.Module;
+
+/**
+ * Accumulates, for every module and across all the tracers of the process, the time spent in each
+ * of its tracing hooks and the number of times they were called, as well as how many of the
+ * operations of the modules storing them in a {@link StackedSet} were de-duplicated.
+ *
+ * <p>Profiling is disabled by default, in which case every hook only costs a branch. The time
+ * spent by the hub itself is accounted for in its pre-opcode hook for the building of its trace
+ * sections, and in its post-opcode hook for the execution of the deferred actions.
+ *
+ * <p>While building its trace sections, the hub directly hands operations over to other modules,
+ * e.g. the MMU calls of its IMC fragments. This time is accounted for in the pre-opcode hook of the
+ * hub, not in any hook of the called modules, whose own hooks only time their own tracing of the
+ * instruction.
+ */
+public final class ModuleProfiler {
+  /** The profiled tracing hooks of the modules */
+  public enum Hook {
+    START_TX,
+    END_TX,
+    CONTEXT_ENTER,
+    CONTEXT_EXIT,
+    PRE_OPCODE,
+    POST_OPCODE,
+    LINE_COUNT,
+    COMMIT
+  }
+
+  private static final int HOOK_COUNT = Hook.values().length;
+
+  private static volatile boolean enabled = false;
+
+  private static final ConcurrentMap<String, ModuleStats> STATS = new ConcurrentHashMap<>();
+
+  /** Notified of the key of every module the first time it is profiled */
+  private static final List<Consumer<String>> NEW_MODULE_LISTENERS = new CopyOnWriteArrayList<>();
+
+  private ModuleProfiler() {}
+
+  public static void enable(final boolean enable) {
+    enabled = enable;
+  }
+
+  public static boolean enabled() {
+    return enabled;
+  }
+
+  /**
+   * Registers a listener notified of the key of every module the first time it is profiled, e.g. to
+   * publish metrics for it.
+   *
+   * @param listener the listener to register
+   */
+  public static void onNewModule(final Consumer<String> listener) {
+    NEW_MODULE_LISTENERS.add(listener);
+    STATS.keySet().forEach(listener);
+  }
+
+  /**
+   * Starts timing a hook.
+   *
+   * @return the start time of the hook, or 0 if profiling is disabled
+   */
+  public static long start() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Accounts for a hook whose timing was started by {@link #start()}.
+   *
+   * @param m the module the hook belongs to
+   * @param hook the hook
+   * @param start the value returned by {@link #start()}
+   */
+  public static void stop(final Module m, final Hook hook, final long start) {
+    // Hooks started while profiling was disabled are not accounted for
+    if (start != 0) {
+      record(m, hook, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Accounts for a hook timed by the caller.
+   *
+   * @param m the module the hook belongs to
+   * @param hook the hook
+   * @param nanos the duration of the hook
+   */
+  public static void record(final Module m, final Hook hook, final long nanos) {
+    if (enabled) {
+      stats(m.moduleKey()).record(hook, nanos);
+    }
+  }
+
+  /**
+   * Accounts for the operations of the modules storing them in a {@link StackedSet}, once they are
+   * done tracing a conflation.
+   *
+   * @param modules the modules having traced a conflation
+   */
+  public static void recordOperations(final List<Module> modules) {
+    if (!enabled) {
+      return;
+    }
+    for (Module m : modules) {
+      m.operationSet()
+          .ifPresent(
+              set -> {
+                final ModuleStats stats = stats(m.moduleKey());
+                stats.operations.addAndGet(set.additions());
+                stats.duplicates.addAndGet(set.duplicates());
+              });
+    }
+  }
+
+  /**
+   * @return the profile of every module profiled so far, sorted by module key
+   */
+  public static Map<String, ModuleProfile> profiles() {
+    final Map<String, ModuleProfile> profiles = new TreeMap<>();
+    STATS.forEach((key, stats) -> profiles.put(key, stats.profile()));
+    return profiles;
+  }
+
+  /**
+   * @param moduleKey the key of a module
+   * @param hook a hook
+   * @return the cumulated time spent in the hook of the module, in nanoseconds
+   */
+  public static long nanos(final String moduleKey, final Hook hook) {
+    final ModuleStats stats = STATS.get(moduleKey);
+    return stats == null ? 0 : stats.nanos.get(hook.ordinal());
+  }
+
+  /**
+   * @param moduleKey the key of a module
+   * @param hook a hook
+   * @return the number of calls to the hook of the module
+   */
+  public static long calls(final String moduleKey, final Hook hook) {
+    final ModuleStats stats = STATS.get(moduleKey);
+    return stats == null ? 0 : stats.calls.get(hook.ordinal());
+  }
+
+  /**
+   * @param moduleKey the key of a module
+   * @return the number of operations given to the module
+   */
+  public static long operations(final String moduleKey) {
+    final ModuleStats stats = STATS.get(moduleKey);
+    return stats == null ? 0 : stats.operations.get();
+  }
+
+  /**
+   * @param moduleKey the key of a module
+   * @return the number of operations given to the module that were already traced
+   */
+  public static long duplicates(final String moduleKey) {
+    final ModuleStats stats = STATS.get(moduleKey);
+    return stats == null ? 0 : stats.duplicates.get();
+  }
+
+  /** Discards everything accounted for so far. */
+  public static void reset() {
+    STATS.values().forEach(ModuleStats::reset);
+  }
+
+  private static ModuleStats stats(final String moduleKey) {
+    final ModuleStats stats = STATS.get(moduleKey);
+    if (stats != null) {
+      return stats;
+    }
+
+    final ModuleStats created = new ModuleStats();
+    final ModuleStats concurrent = STATS.putIfAbsent(moduleKey, created);
+    if (concurrent != null) {
+      return concurrent;
+    }
+    NEW_MODULE_LISTENERS.forEach(l -> l.accept(moduleKey));
+    return created;
+  }
+
+  private static final class ModuleStats {
+    private final AtomicLongArray nanos = new AtomicLongArray(HOOK_COUNT);
+    private final AtomicLongArray calls = new AtomicLongArray(HOOK_COUNT);
+    private final AtomicLong operations = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+
+    private void record(final Hook hook, final long elapsed) {
+      this.nanos.addAndGet(hook.ordinal(), elapsed);
+      this.calls.incrementAndGet(hook.ordinal());
+    }
+
+    private void reset() {
+      for (int i = 0; i < HOOK_COUNT; i++) {
+        this.nanos.set(i, 0);
+        this.calls.set(i, 0);
+      }
+      this.operations.set(0);
+      this.duplicates.set(0);
+    }
+
+    private ModuleProfile profile() {
+      final Map<Hook, HookProfile> hooks = new EnumMap<>(Hook.class);
+      for (Hook hook : Hook.values()) {
+        final long hookCalls = this.calls.get(hook.ordinal());
+        if (hookCalls > 0) {
+          hooks.put(hook, new HookProfile(hookCalls, this.nanos.get(hook.ordinal())));
+        }
+      }
+      return new ModuleProfile(hooks, this.operations.get(), this.duplicates.get());
+    }
+  }
+
+  /** The number of calls to a hook, and the cumulated time spent in it. */
+  public record HookProfile(
+      @JsonProperty("calls") long calls, @JsonProperty("nanos") long nanos) {}
+
+  /**
+   * The profile of a module: its hooks, and the number of operations it was given as well as how
+   * many of them were duplicates, if it stores them in a {@link StackedSet}.
+   */
+  public record ModuleProfile(
+      @JsonProperty("hooks") Map<Hook, HookProfile> hooks,
+      @JsonProperty("operations") long operations,
+      @JsonProperty("duplicateOperations") long duplicates) {
+    @JsonProperty("deduplicationRate")
+    public double deduplicationRate() {
+      return this.operations == 0 ? 0 : (double) this.duplicates / this.operations;
+    }
+  }
+}
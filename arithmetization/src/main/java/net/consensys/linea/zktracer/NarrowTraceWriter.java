@@ -0,0 +1,205 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.consensys.linea.zktracer.module.Module;
+
+/**
+ * Writes a {@link TraceFormat#V2} trace file, where every column is stored with the narrowest
+ * element width able to hold all of its values.
+ *
+ * <p>Every module is narrowed straight out of the scratch mapping it has been committed into, as
+ * soon as it has been committed, then its scratch file is released. The header size does not depend
+ * on the column widths, so the data of the columns is appended after it as the modules complete,
+ * and the header is written last, listing the columns in the order of their data.
+ */
+final class NarrowTraceWriter implements ModuleCommitter.CommitListener, Closeable {
+  /** The size of the buffer accumulating narrowed column data before it is written to disk */
+  private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+  /** A narrowed column, and where its data starts in the file */
+  private record Placement(long offset, ColumnHeader header) {}
+
+  private final FileChannel out;
+  private final Map<Module, List<ColumnHeader>> moduleHeaders;
+  private final ScratchColumns scratch;
+  private final int columnCount;
+
+  /** Where the data of the next narrowed column will be written */
+  private final AtomicLong nextOffset;
+
+  private final List<Placement> placements = Collections.synchronizedList(new ArrayList<>());
+
+  /**
+   * Create the narrow trace file.
+   *
+   * @param target where to write the narrow trace
+   * @param moduleHeaders the headers of the columns of every module, at their full width
+   * @param scratch where the modules are committed, released once narrowed
+   * @throws IOException if the file can not be created
+   */
+  NarrowTraceWriter(
+      final Path target,
+      final Map<Module, List<ColumnHeader>> moduleHeaders,
+      final ScratchColumns scratch)
+      throws IOException {
+    this.moduleHeaders = moduleHeaders;
+    this.scratch = scratch;
+    this.columnCount = moduleHeaders.values().stream().mapToInt(List::size).sum();
+    this.nextOffset =
+        new AtomicLong(headerSize(moduleHeaders.values().stream().flatMap(List::stream).toList()));
+    this.out =
+        FileChannel.open(
+            target,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  @Override
+  public void committed(final Module module, final List<MappedByteBuffer> columns) {
+    final List<ColumnHeader> headers = this.moduleHeaders.get(module);
+    try {
+      final ByteBuffer chunk = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+      for (int i = 0; i < headers.size(); i++) {
+        final ColumnHeader h = headers.get(i);
+        final ByteBuffer column = columns.get(i);
+        final ColumnHeader narrow =
+            ColumnHeader.make(h.name(), narrowestWidth(column, h.bytesPerElement()), h.length());
+        final long offset = this.nextOffset.getAndAdd(narrow.dataSize());
+        this.writeColumn(column, h.bytesPerElement(), narrow.bytesPerElement(), offset, chunk);
+        this.placements.add(new Placement(offset, narrow));
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    } finally {
+      this.scratch.release(module);
+    }
+  }
+
+  /**
+   * Write the header closing the file. Must only be called once all the modules have been
+   * committed.
+   *
+   * @throws IOException if the file can not be written
+   */
+  void finish() throws IOException {
+    if (this.placements.size() != this.columnCount) {
+      throw new IllegalStateException(
+          "%d columns out of %d have been narrowed"
+              .formatted(this.placements.size(), this.columnCount));
+    }
+
+    final List<ColumnHeader> headers =
+        this.placements.stream()
+            .sorted(Comparator.comparingLong(Placement::offset))
+            .map(Placement::header)
+            .toList();
+
+    final ByteBuffer header = ByteBuffer.allocate(headerSize(headers));
+    TraceFormat.V2.writePreamble(header);
+    header.putInt(headers.size());
+    for (ColumnHeader h : headers) {
+      header.putShort((short) h.name().length());
+      header.put(h.name().getBytes());
+      header.put((byte) h.bytesPerElement());
+      header.putInt(h.length());
+    }
+    writeFully(this.out, header.flip(), 0);
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.out.close();
+  }
+
+  private void writeColumn(
+      final ByteBuffer column,
+      final int wideWidth,
+      final int narrowWidth,
+      long position,
+      final ByteBuffer chunk)
+      throws IOException {
+    if (narrowWidth == wideWidth) {
+      // Nothing to narrow: write the column as is
+      writeFully(this.out, column.slice(0, column.limit()), position);
+      return;
+    }
+
+    final int skip = wideWidth - narrowWidth;
+    chunk.clear();
+    for (int offset = 0; offset < column.limit(); offset += wideWidth) {
+      if (chunk.remaining() < narrowWidth) {
+        position += writeFully(this.out, chunk.flip(), position);
+        chunk.clear();
+      }
+      chunk.put(chunk.position(), column, offset + skip, narrowWidth);
+      chunk.position(chunk.position() + narrowWidth);
+    }
+    writeFully(this.out, chunk.flip(), position);
+  }
+
+  private static int headerSize(final List<ColumnHeader> headers) {
+    return TraceFormat.V2.preambleSize()
+        + 4
+        + headers.stream().mapToInt(ColumnHeader::headerSize).sum();
+  }
+
+  /**
+   * Compute the smallest element width able to store every value of a big-endian column.
+   *
+   * @param column the column data
+   * @param width the element width of the column
+   * @return the narrowest sufficient width, at least 1
+   */
+  static int narrowestWidth(final ByteBuffer column, final int width) {
+    // The number of leading bytes that are zero in all the elements seen so far
+    int zeroPrefix = width - 1;
+    for (int offset = 0; offset < column.limit() && zeroPrefix > 0; offset += width) {
+      for (int b = 0; b < zeroPrefix; b++) {
+        if (column.get(offset + b) != 0) {
+          zeroPrefix = b;
+          break;
+        }
+      }
+    }
+
+    return width - zeroPrefix;
+  }
+
+  private static int writeFully(final FileChannel out, final ByteBuffer buffer, long position)
+      throws IOException {
+    final int size = buffer.remaining();
+    while (buffer.hasRemaining()) {
+      position += out.write(buffer, position);
+    }
+    return size;
+  }
+}
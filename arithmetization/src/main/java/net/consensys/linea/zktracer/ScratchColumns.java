@@ -0,0 +1,106 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import net.consensys.linea.zktracer.module.Module;
+
+/**
+ * Temporary storage for the columns of the modules of a trace whose final layout is only known once
+ * they are committed, e.g. narrowed or compressed.
+ *
+ * <p>Every module is committed into its own scratch file, which is deleted as soon as the module
+ * has been written to its final destination; so that only the modules being committed or written
+ * occupy scratch space at any time, rather than the whole trace.
+ */
+@Slf4j
+final class ScratchColumns implements Closeable {
+  /** Where scratch files are created when no other directory is specified */
+  static final Path DEFAULT_DIRECTORY = Path.of(System.getProperty("java.io.tmpdir"));
+
+  private final Path directory;
+  private final Map<Module, List<ColumnHeader>> moduleHeaders;
+
+  /** The scratch file of every module committed and not yet released */
+  private final Map<Module, Path> files = new ConcurrentHashMap<>();
+
+  /**
+   * @param directory where to create the scratch files; preferably a local volume
+   * @param moduleHeaders the headers of the columns of every module
+   * @throws IOException if the directory can not be created
+   */
+  ScratchColumns(final Path directory, final Map<Module, List<ColumnHeader>> moduleHeaders)
+      throws IOException {
+    this.directory = Files.createDirectories(directory);
+    this.moduleHeaders = moduleHeaders;
+  }
+
+  /**
+   * Create and map the zero-filled scratch file of a module.
+   *
+   * @param module the module about to be committed
+   * @return a buffer for each column of the module
+   */
+  List<MappedByteBuffer> open(final Module module) {
+    final List<ColumnHeader> headers = this.moduleHeaders.get(module);
+    try {
+      final Path file = Files.createTempFile(this.directory, module.moduleKey() + "-", ".scratch");
+      this.files.put(module, file);
+      try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+        raf.setLength(headers.stream().mapToLong(ColumnHeader::dataSize).sum());
+        // The mapping outlives the file descriptor
+        return TraceColumns.map(raf.getChannel(), 0, headers);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Delete the scratch file of a module, whose columns must not be accessed anymore. Its space is
+   * reclaimed once its mapping has been garbage collected.
+   *
+   * @param module a module previously opened
+   */
+  void release(final Module module) {
+    final Path file = this.files.remove(module);
+    if (file == null) {
+      return;
+    }
+
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("unable to delete scratch trace file {}: {}", file, e.getMessage());
+    }
+  }
+
+  /** Delete the scratch files left over, e.g. by a failed commit. */
+  @Override
+  public void close() {
+    List.copyOf(this.files.keySet()).forEach(this::release);
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The storage backend targeted by the generated {@code Trace} classes: the columns of a module are
+ * carved out of a single memory mapping of the module region of the trace file, and rely on the
+ * region being zero-filled beforehand so that padding never has to be written.
+ */
+public final class TraceColumns {
+  /** The largest region that may be covered by a single {@link MappedByteBuffer} */
+  private static final long MAX_MAPPING_SIZE = Integer.MAX_VALUE;
+
+  private TraceColumns() {}
+
+  /**
+   * Map the contiguous columns of a module, starting at the given offset in the trace file.
+   * Columns are sliced out of as few mappings as possible, i.e. a single one unless the module
+   * region exceeds 2GB.
+   *
+   * @param channel the trace file, which must be zero-filled over the module region
+   * @param offset where the first column of the module starts in the file
+   * @param headers the headers of the module columns, in the order they are laid out in the file
+   * @return a buffer for each column
+   * @throws IOException if the file can not be mapped
+   */
+  public static List<MappedByteBuffer> map(
+      final FileChannel channel, final long offset, final List<ColumnHeader> headers)
+      throws IOException {
+    return map(channel, FileChannel.MapMode.READ_WRITE, offset, headers);
+  }
+
+  /**
+   * Map the contiguous columns of a module with the given access mode.
+   *
+   * @param channel the trace file
+   * @param mode how the columns will be accessed
+   * @param offset where the first column of the module starts in the file
+   * @param headers the headers of the module columns, in the order they are laid out in the file
+   * @return a buffer for each column
+   * @throws IOException if the file can not be mapped
+   */
+  public static List<MappedByteBuffer> map(
+      final FileChannel channel,
+      final FileChannel.MapMode mode,
+      final long offset,
+      final List<ColumnHeader> headers)
+      throws IOException {
+    final List<MappedByteBuffer> columns = new ArrayList<>(headers.size());
+
+    long mappingOffset = offset;
+    int first = 0;
+    while (first < headers.size()) {
+      // Gather as many consecutive columns as fit in a single mapping
+      long mappingSize = 0;
+      int last = first;
+      while (last < headers.size()
+          && mappingSize + headers.get(last).dataSize() <= MAX_MAPPING_SIZE) {
+        mappingSize += headers.get(last).dataSize();
+        last++;
+      }
+
+      final MappedByteBuffer mapping = channel.map(mode, mappingOffset, mappingSize);
+      int position = 0;
+      for (int i = first; i < last; i++) {
+        final int columnSize = headers.get(i).dataSize();
+        columns.add(mapping.slice(position, columnSize));
+        position += columnSize;
+      }
+
+      mappingOffset += mappingSize;
+      first = last;
+    }
+
+    return columns;
+  }
+
+  /**
+   * Write a big-endian value in a fixed-width column cell, left-padded with zeros. The padding is
+   * skipped over rather than written, as the column is zero-filled beforehand.
+   *
+   * @param column the column to write to
+   * @param bytes the value to write
+   * @param width the width of a cell of the column
+   */
+  public static void putLeftPadded(final ByteBuffer column, final byte[] bytes, final int width) {
+    if (bytes.length < width) {
+      column.position(column.position() + width - bytes.length);
+    }
+    column.put(bytes);
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+/** How the columns of a trace file are compressed, if at all. */
+public enum TraceCompression {
+  /** A plain, uncompressed trace file. */
+  NONE("lt"),
+  /**
+   * Every column is split in blocks compressed with deflate, and indexed so that a single column
+   * may be read back without inflating the whole file; see {@link CompressedTraceReader}.
+   */
+  DEFLATE("ltz");
+
+  private final String fileExtension;
+
+  TraceCompression(String fileExtension) {
+    this.fileExtension = fileExtension;
+  }
+
+  /**
+   * @return the extension of the trace files compressed this way
+   */
+  public String fileExtension() {
+    return this.fileExtension;
+  }
+
+  /**
+   * Parse a compression mode from its user-facing name, e.g. <code>deflate</code>.
+   *
+   * @param name the name of the compression mode
+   * @return the corresponding compression mode
+   */
+  public static TraceCompression fromName(String name) {
+    return TraceCompression.valueOf(name.trim().toUpperCase());
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The successive layouts of the <code>.lt</code> trace files.
+ *
+ * <p>A {@link #V1} file is made of a header listing, for every column, its name, its element width
+ * and its length; immediately followed by the data of all the columns, in the same order.
+ *
+ * <p>A {@link #V2} file starts with the {@link #MAGIC} bytes and the format version as a u16, then
+ * follows the {@link #V1} layout; but every column is stored with the narrowest element width that
+ * fits all of its values, as stated in its header.
+ */
+public enum TraceFormat {
+  V1(1),
+  V2(2);
+
+  /** The bytes opening any trace file more recent than {@link #V1}. */
+  public static final byte[] MAGIC = {'z', 'k', 'l', 't'};
+
+  private final int version;
+
+  TraceFormat(int version) {
+    this.version = version;
+  }
+
+  /**
+   * @return the number of bytes preceding the column headers
+   */
+  public int preambleSize() {
+    return this == V1 ? 0 : MAGIC.length + 2;
+  }
+
+  /**
+   * Write the bytes preceding the column headers.
+   *
+   * @param buffer where to write the preamble
+   */
+  public void writePreamble(ByteBuffer buffer) {
+    if (this != V1) {
+      buffer.put(MAGIC);
+      buffer.putShort((short) this.version);
+    }
+  }
+
+  /**
+   * Parse a format from its user-facing name, e.g. <code>v2</code>.
+   *
+   * @param name the name of the format
+   * @return the corresponding format
+   */
+  public static TraceFormat fromName(String name) {
+    return TraceFormat.valueOf(name.trim().toUpperCase());
+  }
+
+  /**
+   * Determine the format of an existing trace file.
+   *
+   * @param traceFile the file to inspect
+   * @return the format of the file
+   * @throws IOException if the file can not be read
+   */
+  public static TraceFormat of(Path traceFile) throws IOException {
+    final byte[] preamble = new byte[MAGIC.length + 2];
+    try (InputStream in = Files.newInputStream(traceFile)) {
+      if (in.readNBytes(preamble, 0, preamble.length) < preamble.length
+          || !Arrays.equals(preamble, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+        return V1;
+      }
+    }
+
+    final int version = ByteBuffer.wrap(preamble, MAGIC.length, 2).getShort();
+    for (TraceFormat format : values()) {
+      if (format.version == version) {
+        return format;
+      }
+    }
+    throw new IllegalArgumentException(
+        "unknown trace format version %d in %s".formatted(version, traceFile));
+  }
+}
@@ -24,13 +24,16 @@ import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -58,6 +61,11 @@ import org.hyperledger.besu.plugin.data.BlockBody;
 import org.hyperledger.besu.plugin.data.BlockHeader;
 import org.hyperledger.besu.plugin.data.ProcessableBlockHeader;
 
+/**
+ * Traces a single conflation; a new tracer must be built for each conflation. Building one is
+ * cheap, as the immutable configuration – opcodes, spillings, reference tables – is loaded once and
+ * shared by every tracer.
+ */
 @Slf4j
 public class ZkTracer implements ConflationAwareOperationTracer {
   /** The {@link GasCalculator} used in this version of the arithmetization */
@@ -67,36 +75,59 @@ public class ZkTracer implements ConflationAwareOperationTracer {
 
   @Getter private final Hub hub;
   private final Optional<Pin55> pin55;
-  private final Map<String, Integer> spillings = new HashMap<>();
   private Hash hashOfLastTransactionTraced = Hash.EMPTY;
 
+  /** The wall time spent committing each module during the latest trace serialization. */
+  @Getter private Map<String, Duration> modulesCommitTime = Map.of();
+
   /** Accumulate all the exceptions that happened at tracing time. */
   @Getter private final List<Exception> tracingExceptions = new FiniteList<>(50);
 
+  /**
+   * The spillings configured in src/main/resources/spillings.toml; they are immutable, and thus
+   * only parsed once and shared by every tracer.
+   */
+  private static final class Spillings {
+    private static final Map<String, Integer> BY_MODULE = load();
+
+    private static Map<String, Integer> load() {
+      try {
+        final TomlTable table =
+            Toml.parse(ZkTracer.class.getClassLoader().getResourceAsStream("spillings.toml"))
+                .getTable("spillings");
+        final Map<String, Integer> spillings = new HashMap<>();
+        table.toMap().keySet().forEach(k -> spillings.put(k, Math.toIntExact(table.getLong(k))));
+        return Map.copyOf(spillings);
+      } catch (final Exception e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
   public ZkTracer() {
     this(LineaL1L2BridgeConfiguration.EMPTY);
   }
 
   public ZkTracer(final LineaL1L2BridgeConfiguration bridgeConfiguration) {
-    this.hub = new Hub(bridgeConfiguration.contract(), bridgeConfiguration.topic());
+    this(bridgeConfiguration, false);
+  }
+
+  /**
+   * @param bridgeConfiguration the L1/L2 bridge to monitor
+   * @param countingOnly whether the tracer is only used to compute line counts; such a tracer can
+   *     not be serialized, but retains much less data
+   */
+  public ZkTracer(
+      final LineaL1L2BridgeConfiguration bridgeConfiguration, final boolean countingOnly) {
+    this.hub = new Hub(bridgeConfiguration.contract(), bridgeConfiguration.topic(), countingOnly);
 
     // Load opcodes configured in src/main/resources/opcodes.yml.
     OpCodes.load();
-    // Load spillings configured in src/main/resources/spillings.toml.
-    try {
-      final TomlTable table =
-          Toml.parse(getClass().getClassLoader().getResourceAsStream("spillings.toml"))
-              .getTable("spillings");
-      table.toMap().keySet().forEach(k -> spillings.put(k, Math.toIntExact(table.getLong(k))));
-
-      for (Module m : this.hub.getModulesToCount()) {
-        if (!this.spillings.containsKey(m.moduleKey())) {
-          throw new IllegalStateException(
-              "Spilling for module " + m.moduleKey() + " not defined in spillings.toml");
-        }
+    for (Module m : this.hub.getModulesToCount()) {
+      if (!Spillings.BY_MODULE.containsKey(m.moduleKey())) {
+        throw new IllegalStateException(
+            "Spilling for module " + m.moduleKey() + " not defined in spillings.toml");
       }
-    } catch (final Exception e) {
-      throw new RuntimeException(e);
     }
 
     // >>>> CHANGE ME >>>>
@@ -121,9 +152,31 @@ public class ZkTracer implements ConflationAwareOperationTracer {
   }
 
   public Path writeToTmpFile(final Path rootDir) {
+    return this.writeToTmpFile(rootDir, TraceFormat.V1);
+  }
+
+  public Path writeToTmpFile(final TraceFormat format) {
+    try {
+      final Path traceFile = Files.createTempFile(null, ".lt");
+      this.writeToFile(traceFile, 1, format);
+      return traceFile;
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Serialize the accumulated trace to a new temporary file in the given directory, which also
+   * holds the scratch columns of the narrowed formats, e.g. /dev/shm to keep them off the disk.
+   *
+   * @param rootDir the directory in which to create the trace file and the scratch columns
+   * @param format the layout of the trace file
+   * @return the path to the trace file
+   */
+  public Path writeToTmpFile(final Path rootDir, final TraceFormat format) {
     try {
       final Path traceFile = Files.createTempFile(rootDir, null, ".lt");
-      this.writeToFile(traceFile);
+      this.writeToFile(traceFile, 1, format, rootDir);
       return traceFile;
     } catch (IOException e) {
       throw new RuntimeException(e);
@@ -131,14 +184,162 @@ public class ZkTracer implements ConflationAwareOperationTracer {
   }
 
   public void writeToFile(final Path filename) {
+    this.writeToFile(filename, 1);
+  }
+
+  /**
+   * Serialize the accumulated trace to the given file.
+   *
+   * @param filename the file to write the trace to
+   * @param parallelism the number of modules that may be committed simultaneously
+   */
+  public void writeToFile(final Path filename, final int parallelism) {
+    this.writeToFile(filename, parallelism, TraceFormat.V1);
+  }
+
+  /**
+   * Serialize the accumulated trace to the given file, in the given format.
+   *
+   * @param filename the file to write the trace to
+   * @param parallelism the number of modules that may be committed simultaneously
+   * @param format the layout of the trace file
+   */
+  public void writeToFile(final Path filename, final int parallelism, final TraceFormat format) {
+    this.writeToFile(filename, parallelism, format, ScratchColumns.DEFAULT_DIRECTORY);
+  }
+
+  /**
+   * Serialize the accumulated trace to the given file, in the given format.
+   *
+   * @param filename the file to write the trace to
+   * @param parallelism the number of modules that may be committed simultaneously
+   * @param format the layout of the trace file
+   * @param scratchDirectory where to commit the modules whose columns need to be narrowed before
+   *     they are written to the trace file; preferably a local volume
+   */
+  public void writeToFile(
+      final Path filename,
+      final int parallelism,
+      final TraceFormat format,
+      final Path scratchDirectory) {
+    switch (format) {
+      case V1 -> this.commitToFile(filename, this.moduleHeaders(), parallelism);
+      case V2 -> {
+        // Column widths are only known once committed: every module is committed in its own
+        // scratch file, then narrowed into the target.
+        final Map<Module, List<ColumnHeader>> moduleHeaders = this.moduleHeaders();
+        try (ScratchColumns scratch = new ScratchColumns(scratchDirectory, moduleHeaders);
+            NarrowTraceWriter writer = new NarrowTraceWriter(filename, moduleHeaders, scratch)) {
+          this.commit(moduleHeaders, scratch::open, parallelism, writer);
+          writer.finish();
+        } catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Serialize the accumulated trace to the given file, compressing its columns as the modules are
+   * committed.
+   *
+   * @param filename the file to write the trace to
+   * @param parallelism the number of modules that may be committed, and of columns that may be
+   *     compressed, simultaneously
+   * @param compression how to compress the columns
+   */
+  public void writeToFile(
+      final Path filename, final int parallelism, final TraceCompression compression) {
+    this.writeToFile(filename, parallelism, compression, ScratchColumns.DEFAULT_DIRECTORY);
+  }
+
+  /**
+   * Serialize the accumulated trace to the given file, compressing its columns as the modules are
+   * committed.
+   *
+   * @param filename the file to write the trace to
+   * @param parallelism the number of modules that may be committed, and of columns that may be
+   *     compressed, simultaneously
+   * @param compression how to compress the columns
+   * @param scratchDirectory where to commit the modules before they are compressed into the trace
+   *     file; preferably a local volume
+   */
+  public void writeToFile(
+      final Path filename,
+      final int parallelism,
+      final TraceCompression compression,
+      final Path scratchDirectory) {
+    if (compression == TraceCompression.NONE) {
+      this.writeToFile(filename, parallelism);
+      return;
+    }
+
+    // Every module is committed in its own scratch file, compressed into the target as soon as it
+    // is done, then deleted.
+    final Map<Module, List<ColumnHeader>> moduleHeaders = this.moduleHeaders();
+    try (ScratchColumns scratch = new ScratchColumns(scratchDirectory, moduleHeaders);
+        CompressedTraceWriter writer =
+            new CompressedTraceWriter(filename, moduleHeaders, scratch, parallelism)) {
+      this.commit(moduleHeaders, scratch::open, parallelism, writer);
+      writer.finish();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Compute the size of the trace file that would currently be written; exact for the {@link
+   * TraceFormat#V1} format, and an upper bound for the others.
+   *
+   * @return the size of the trace file, in bytes
+   */
+  public long traceFileSize() {
+    final List<ColumnHeader> headers =
+        this.moduleHeaders().values().stream().flatMap(List::stream).toList();
+    return v1HeaderSize(headers) + headers.stream().mapToLong(ColumnHeader::dataSize).sum();
+  }
+
+  private static int v1HeaderSize(final List<ColumnHeader> headers) {
+    return headers.stream().mapToInt(ColumnHeader::headerSize).sum() + 4;
+  }
+
+  /**
+   * Collect the headers of the columns of every module to trace, in file order.
+   *
+   * @return the column headers of every module
+   */
+  private Map<Module, List<ColumnHeader>> moduleHeaders() {
     maybeThrowTracingExceptions();
+    if (this.hub.countingOnly()) {
+      throw new IllegalStateException("a counting-only tracer can not be serialized");
+    }
 
-    final List<Module> modules = this.hub.getModulesToTrace();
+    final Map<Module, List<ColumnHeader>> moduleHeaders = new LinkedHashMap<>();
+    for (Module m : this.hub.getModulesToTrace()) {
+      moduleHeaders.put(m, m.columnsHeaders());
+    }
+    return moduleHeaders;
+  }
+
+  /**
+   * Commit all the modules into a {@link TraceFormat#V1} trace file.
+   *
+   * @param filename the file to write the trace to
+   * @param moduleHeaders the column headers of every module, as given by {@link #moduleHeaders()}
+   * @param parallelism the number of modules that may be committed simultaneously
+   */
+  private void commitToFile(
+      final Path filename,
+      final Map<Module, List<ColumnHeader>> moduleHeaders,
+      final int parallelism) {
     final List<ColumnHeader> traceMap =
-        modules.stream().flatMap(m -> m.columnsHeaders().stream()).toList();
-    final int headerSize = traceMap.stream().mapToInt(ColumnHeader::headerSize).sum() + 4;
+        moduleHeaders.values().stream().flatMap(List::stream).toList();
+    final int headerSize = v1HeaderSize(traceMap);
 
     try (RandomAccessFile file = new RandomAccessFile(filename.toString(), "rw")) {
+      // The generated trace builders expect the column regions to be zero-filled; discard
+      // whatever a previous file may have left there.
+      file.setLength(0);
       file.setLength(traceMap.stream().mapToLong(ColumnHeader::cumulatedSize).sum());
       MappedByteBuffer header =
           file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, headerSize);
@@ -151,21 +352,41 @@ public class ZkTracer implements ConflationAwareOperationTracer {
         header.put((byte) h.bytesPerElement());
         header.putInt(h.length());
       }
+
+      // Column offsets are fully known at this point, so that every module may be committed
+      // independently into its own regions.
       long offset = headerSize;
-      for (Module m : modules) {
-        List<MappedByteBuffer> buffers = new ArrayList<>();
-        for (ColumnHeader columnHeader : m.columnsHeaders()) {
-          final int columnLength = columnHeader.dataSize();
-          buffers.add(file.getChannel().map(FileChannel.MapMode.READ_WRITE, offset, columnLength));
-          offset += columnLength;
-        }
-        m.commit(buffers);
+      final Map<Module, List<MappedByteBuffer>> buffers = new HashMap<>();
+      for (Module m : moduleHeaders.keySet()) {
+        final List<ColumnHeader> headers = moduleHeaders.get(m);
+        buffers.put(m, TraceColumns.map(file.getChannel(), offset, headers));
+        offset += headers.stream().mapToLong(ColumnHeader::dataSize).sum();
       }
+
+      this.commit(moduleHeaders, buffers::get, parallelism, (m, b) -> {});
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * Commit all the modules into the buffers provided for each of them.
+   *
+   * @param moduleHeaders the column headers of every module, as given by {@link #moduleHeaders()}
+   * @param buffers provides the column buffers of a module, right before it is committed
+   * @param parallelism the number of modules that may be committed simultaneously
+   * @param listener notified as soon as each module is committed
+   */
+  private void commit(
+      final Map<Module, List<ColumnHeader>> moduleHeaders,
+      final Function<Module, List<MappedByteBuffer>> buffers,
+      final int parallelism,
+      final ModuleCommitter.CommitListener listener) {
+    this.modulesCommitTime =
+        new ModuleCommitter(List.copyOf(moduleHeaders.keySet()), this.hub.getCommitDependencies())
+            .commit(buffers, parallelism, listener);
+  }
+
   @Override
   public void traceStartConflation(final long numBlocksInConflation) {
     try {
@@ -181,6 +402,7 @@ public class ZkTracer implements ConflationAwareOperationTracer {
     try {
       this.hub.traceEndConflation(state);
       this.pin55.ifPresent(Pin55::traceEndConflation);
+      ModuleProfiler.recordOperations(this.hub.getModulesToCount());
     } catch (final Exception e) {
       this.tracingExceptions.add(e);
     }
@@ -323,19 +545,19 @@ public class ZkTracer implements ConflationAwareOperationTracer {
     maybeThrowTracingExceptions();
     final HashMap<String, Integer> modulesLineCount = new HashMap<>();
 
-    hub.getModulesToCount()
-        .forEach(
-            m ->
-                modulesLineCount.put(
-                    m.moduleKey(),
-                    m.lineCount()
-                        + Optional.ofNullable(this.spillings.get(m.moduleKey()))
-                            .orElseThrow(
-                                () ->
-                                    new IllegalStateException(
-                                        "Module "
-                                            + m.moduleKey()
-                                            + " not found in spillings.toml"))));
+    for (Module m : hub.getModulesToCount()) {
+      final long start = ModuleProfiler.start();
+      final int lineCount = m.lineCount();
+      ModuleProfiler.stop(m, ModuleProfiler.Hook.LINE_COUNT, start);
+      modulesLineCount.put(
+          m.moduleKey(),
+          lineCount
+              + Optional.ofNullable(Spillings.BY_MODULE.get(m.moduleKey()))
+                  .orElseThrow(
+                      () ->
+                          new IllegalStateException(
+                              "Module " + m.moduleKey() + " not found in spillings.toml")));
+    }
     modulesLineCount.put("BLOCK_TRANSACTIONS", hub.cumulatedTxCount());
     return modulesLineCount;
   }
@@ -0,0 +1,519 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.bytestheta;
+
+import java.util.Arrays;
+
+import com.google.common.primitives.Longs;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Allocation-free unsigned arithmetic on integers stored as arrays of 64-bit limbs, in
+ * little-endian order: limb 0 holds the least significant bits, as in {@link BaseTheta}. An EVM
+ * word spans {@link #WORD_LIMBS} limbs; wider intermediate values, such as the 512-bit product of
+ * two words, simply use longer arrays.
+ *
+ * <p>Results are written into caller-provided arrays, and silently truncated to their length.
+ * Unless stated otherwise, an output array may be the same as one of the operands.
+ */
+public final class LimbArithmetic {
+  /** The number of limbs of a 256-bit EVM word */
+  public static final int WORD_LIMBS = 4;
+
+  /** The largest operand supported by the division, in limbs */
+  private static final int MAX_DIVISION_LIMBS = 2 * WORD_LIMBS;
+
+  private static final long DIGIT_MASK = 0xffffffffL;
+
+  /** Per-thread working memory of the operations requiring temporaries */
+  private static final class Scratch {
+    private final int[] dividend = new int[2 * MAX_DIVISION_LIMBS + 1];
+    private final int[] divisor = new int[2 * MAX_DIVISION_LIMBS];
+    private final int[] quotient = new int[2 * MAX_DIVISION_LIMBS];
+    private final int[] remainder = new int[2 * MAX_DIVISION_LIMBS];
+    private final int[] normalizedDivisor = new int[2 * MAX_DIVISION_LIMBS];
+    private final long[] power = new long[WORD_LIMBS];
+    private final long[] product = new long[WORD_LIMBS];
+  }
+
+  private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+  private LimbArithmetic() {}
+
+  /**
+   * Decompose a word into its limbs.
+   *
+   * @param x the word
+   * @param out where to write the {@link #WORD_LIMBS} limbs of the word
+   */
+  public static void fromBytes32(final Bytes32 x, final long[] out) {
+    for (int k = 0; k < WORD_LIMBS; k++) {
+      out[WORD_LIMBS - 1 - k] = x.getLong(8 * k);
+    }
+  }
+
+  /**
+   * @param x a word
+   * @return the {@link #WORD_LIMBS} limbs of the word
+   */
+  public static long[] fromBytes32(final Bytes32 x) {
+    final long[] limbs = new long[WORD_LIMBS];
+    fromBytes32(x, limbs);
+    return limbs;
+  }
+
+  /**
+   * @param x the limbs of a word
+   * @return the big-endian representation of the word
+   */
+  public static Bytes32 toBytes32(final long[] x) {
+    return Bytes32.wrap(toByteArray(x));
+  }
+
+  /**
+   * @param x the limbs of an integer
+   * @return the big-endian representation of the integer, 8 bytes per limb
+   */
+  public static Bytes toBytes(final long[] x) {
+    return Bytes.wrap(toByteArray(x));
+  }
+
+  /**
+   * @param limb a limb
+   * @return the 8-byte big-endian representation of the limb
+   */
+  public static Bytes limbBytes(final long limb) {
+    return Bytes.wrap(Longs.toByteArray(limb));
+  }
+
+  /**
+   * @param limb a limb
+   * @param j the index of a byte in the big-endian representation of the limb
+   * @return the byte at that index
+   */
+  public static byte byteOf(final long limb, final int j) {
+    return (byte) (limb >>> (56 - 8 * j));
+  }
+
+  /**
+   * @param limb a limb
+   * @param j the index of a byte in the big-endian representation of the limb
+   * @param b the new value of the byte
+   * @return the limb, with the byte at that index replaced
+   */
+  public static long withByte(final long limb, final int j, final byte b) {
+    final int shift = 56 - 8 * j;
+    return (limb & ~(0xffL << shift)) | ((b & 0xffL) << shift);
+  }
+
+  /**
+   * Compute the value of the first bytes of the big-endian representation of a limb, i.e. the value
+   * accumulated byte after byte in the ACC columns of the arithmetic modules.
+   *
+   * @param limb a limb
+   * @param length the number of leading bytes to keep, between 1 and 8
+   * @return the value of the leading bytes
+   */
+  public static Bytes accumulator(final long limb, final int length) {
+    return limbBytes(limb >>> (64 - 8 * length));
+  }
+
+  public static boolean isZero(final long[] x) {
+    for (long limb : x) {
+      if (limb != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param x a word
+   * @return whether the word is negative, when interpreted as a two's complement signed integer
+   */
+  public static boolean isNegative(final long[] x) {
+    return x[x.length - 1] < 0;
+  }
+
+  /**
+   * Compare two unsigned integers of the same length.
+   *
+   * @return a negative number, zero or a positive number if x is respectively smaller, equal or
+   *     larger than y
+   */
+  public static int compareUnsigned(final long[] x, final long[] y) {
+    for (int k = x.length - 1; k >= 0; k--) {
+      final int cmp = Long.compareUnsigned(x[k], y[k]);
+      if (cmp != 0) {
+        return cmp;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Compare two two's complement signed integers of the same length.
+   *
+   * @return a negative number, zero or a positive number if x is respectively smaller, equal or
+   *     larger than y
+   */
+  public static int compareSigned(final long[] x, final long[] y) {
+    final boolean xNegative = isNegative(x);
+    if (xNegative != isNegative(y)) {
+      return xNegative ? -1 : 1;
+    }
+    return compareUnsigned(x, y);
+  }
+
+  /**
+   * Compute x + y.
+   *
+   * @return the carry out of the most significant limb of the output
+   */
+  public static long add(final long[] x, final long[] y, final long[] out) {
+    long carry = 0;
+    for (int k = 0; k < out.length; k++) {
+      final long xk = x[k];
+      final long sum = xk + y[k] + carry;
+      carry = (Long.compareUnsigned(sum, xk) < 0 || (carry == 1 && sum == xk)) ? 1 : 0;
+      out[k] = sum;
+    }
+    return carry;
+  }
+
+  /**
+   * Compute x - y.
+   *
+   * @return the borrow out of the most significant limb of the output
+   */
+  public static long subtract(final long[] x, final long[] y, final long[] out) {
+    long borrow = 0;
+    for (int k = 0; k < out.length; k++) {
+      final long xk = x[k];
+      final long yk = y[k];
+      out[k] = xk - yk - borrow;
+      borrow = (Long.compareUnsigned(xk, yk) < 0 || (borrow == 1 && xk == yk)) ? 1 : 0;
+    }
+    return borrow;
+  }
+
+  /** Compute the two's complement opposite of x. */
+  public static void negate(final long[] x, final long[] out) {
+    long carry = 1;
+    for (int k = 0; k < out.length; k++) {
+      final long limb = ~x[k] + carry;
+      carry = (carry == 1 && limb == 0) ? 1 : 0;
+      out[k] = limb;
+    }
+  }
+
+  /**
+   * Add a limb to x, at the given limb position.
+   *
+   * @return the carry out of the most significant limb of x
+   */
+  public static long addLimb(final long[] x, final long limb, final int position) {
+    long carry = limb;
+    for (int k = position; k < x.length && carry != 0; k++) {
+      final long sum = x[k] + carry;
+      carry = Long.compareUnsigned(sum, x[k]) < 0 ? 1 : 0;
+      x[k] = sum;
+    }
+    return carry;
+  }
+
+  /**
+   * Add the 128-bit product of two limbs to x, at the given limb position.
+   *
+   * @return the carry out of the most significant limb of x
+   */
+  public static long addProduct(final long[] x, final long a, final long b, final int position) {
+    final long carry = addLimb(x, a * b, position);
+    if (position + 1 >= x.length) {
+      return carry;
+    }
+    return carry + addLimb(x, Math.unsignedMultiplyHigh(a, b), position + 1);
+  }
+
+  /**
+   * Compute x * y, truncated to the length of the output. The output must not be the same as any
+   * of the operands.
+   */
+  public static void multiply(final long[] x, final long[] y, final long[] out) {
+    Arrays.fill(out, 0);
+    for (int i = 0; i < x.length && i < out.length; i++) {
+      final long xi = x[i];
+      if (xi == 0) {
+        continue;
+      }
+      long carry = 0;
+      int j = 0;
+      for (; j < y.length && i + j < out.length; j++) {
+        long lo = xi * y[j];
+        long hi = Math.unsignedMultiplyHigh(xi, y[j]);
+        lo += out[i + j];
+        if (Long.compareUnsigned(lo, out[i + j]) < 0) {
+          hi++;
+        }
+        lo += carry;
+        if (Long.compareUnsigned(lo, carry) < 0) {
+          hi++;
+        }
+        out[i + j] = lo;
+        carry = hi;
+      }
+      if (i + j < out.length) {
+        out[i + j] = carry;
+      }
+    }
+  }
+
+  /**
+   * Compute the word x^e, modulo 2^256.
+   *
+   * @param x the base, as a word
+   * @param e the exponent, as a word
+   * @param out where to write the power
+   */
+  public static void pow(final long[] x, final long[] e, final long[] out) {
+    final Scratch scratch = SCRATCH.get();
+    final long[] power = scratch.power;
+    final long[] product = scratch.product;
+    Arrays.fill(power, 0);
+    power[0] = 1;
+    for (int bit = bitLength(e) - 1; bit >= 0; bit--) {
+      multiply(power, power, product);
+      System.arraycopy(product, 0, power, 0, WORD_LIMBS);
+      if (testBit(e, bit)) {
+        multiply(power, x, product);
+        System.arraycopy(product, 0, power, 0, WORD_LIMBS);
+      }
+    }
+    System.arraycopy(power, 0, out, 0, WORD_LIMBS);
+  }
+
+  /**
+   * Compute the quotient and the remainder of the Euclidean division of n by d, both of at most
+   * {@link #MAX_DIVISION_LIMBS} limbs.
+   *
+   * @param n the dividend
+   * @param d the divisor, which must not be zero
+   * @param q where to write the quotient, or null if it is not needed
+   * @param r where to write the remainder, or null if it is not needed
+   * @throws ArithmeticException if the divisor is zero
+   */
+  public static void divide(final long[] n, final long[] d, final long[] q, final long[] r) {
+    final Scratch scratch = SCRATCH.get();
+    final int m = toDigits(n, scratch.dividend);
+    final int length = toDigits(d, scratch.divisor);
+    if (length == 0) {
+      throw new ArithmeticException("division by zero");
+    }
+
+    final int[] quotient = scratch.quotient;
+    final int[] remainder = scratch.remainder;
+    Arrays.fill(quotient, 0);
+    Arrays.fill(remainder, 0);
+    if (m < length) {
+      System.arraycopy(scratch.dividend, 0, remainder, 0, m);
+    } else if (length == 1) {
+      divideByDigit(scratch.dividend, m, scratch.divisor[0] & DIGIT_MASK, quotient, remainder);
+    } else {
+      divideDigits(scratch.dividend, m, scratch.divisor, length, quotient, remainder, scratch);
+    }
+
+    if (q != null) {
+      fromDigits(quotient, q);
+    }
+    if (r != null) {
+      fromDigits(remainder, r);
+    }
+  }
+
+  public static boolean testBit(final long[] x, final int n) {
+    return (x[n / 64] & (1L << (n % 64))) != 0;
+  }
+
+  public static int bitLength(final long[] x) {
+    for (int k = x.length - 1; k >= 0; k--) {
+      if (x[k] != 0) {
+        return 64 * k + 64 - Long.numberOfLeadingZeros(x[k]);
+      }
+    }
+    return 0;
+  }
+
+  public static int bitCount(final long[] x) {
+    int count = 0;
+    for (long limb : x) {
+      count += Long.bitCount(limb);
+    }
+    return count;
+  }
+
+  /**
+   * @return the number of trailing zero bits of x, i.e. its 2-adicity; or its bit size if it is
+   *     zero
+   */
+  public static int numberOfTrailingZeros(final long[] x) {
+    for (int k = 0; k < x.length; k++) {
+      if (x[k] != 0) {
+        return 64 * k + Long.numberOfTrailingZeros(x[k]);
+      }
+    }
+    return 64 * x.length;
+  }
+
+  /**
+   * @return the number of leading zero bytes in the big-endian representation of the 128-bit
+   *     integer made of the two given limbs
+   */
+  public static int numberOfLeadingZeroBytes(final long hi, final long lo) {
+    return (hi != 0 ? Long.numberOfLeadingZeros(hi) : 64 + Long.numberOfLeadingZeros(lo)) / 8;
+  }
+
+  private static byte[] toByteArray(final long[] x) {
+    final byte[] bytes = new byte[8 * x.length];
+    for (int k = 0; k < x.length; k++) {
+      final long limb = x[k];
+      for (int j = 0; j < 8; j++) {
+        bytes[8 * (x.length - 1 - k) + j] = byteOf(limb, j);
+      }
+    }
+    return bytes;
+  }
+
+  /** Split limbs into little-endian 32-bit digits, and return the number of significant ones. */
+  private static int toDigits(final long[] x, final int[] digits) {
+    if (x.length > MAX_DIVISION_LIMBS) {
+      throw new IllegalArgumentException(
+          "division operands are limited to %d limbs".formatted(MAX_DIVISION_LIMBS));
+    }
+    int length = 0;
+    for (int k = 0; k < x.length; k++) {
+      digits[2 * k] = (int) x[k];
+      digits[2 * k + 1] = (int) (x[k] >>> 32);
+      if (x[k] != 0) {
+        length = 2 * k + ((x[k] >>> 32) != 0 ? 2 : 1);
+      }
+    }
+    return length;
+  }
+
+  private static void fromDigits(final int[] digits, final long[] out) {
+    for (int k = 0; k < out.length; k++) {
+      out[k] =
+          2 * k + 1 < digits.length
+              ? ((digits[2 * k + 1] & DIGIT_MASK) << 32) | (digits[2 * k] & DIGIT_MASK)
+              : 0;
+    }
+  }
+
+  private static void divideByDigit(
+      final int[] u, final int m, final long v, final int[] q, final int[] r) {
+    long remainder = 0;
+    for (int j = m - 1; j >= 0; j--) {
+      final long current = (remainder << 32) | (u[j] & DIGIT_MASK);
+      q[j] = (int) Long.divideUnsigned(current, v);
+      remainder = Long.remainderUnsigned(current, v);
+    }
+    r[0] = (int) remainder;
+  }
+
+  /**
+   * Knuth's algorithm D (TAOCP vol. 2, 4.3.1) on 32-bit digits, after Hacker's Delight 9-2.
+   *
+   * @param u the m digits of the dividend
+   * @param v the n digits of the divisor, n >= 2 and v[n-1] != 0
+   * @param q where to write the m - n + 1 digits of the quotient
+   * @param r where to write the n digits of the remainder
+   */
+  private static void divideDigits(
+      final int[] u,
+      final int m,
+      final int[] v,
+      final int n,
+      final int[] q,
+      final int[] r,
+      final Scratch scratch) {
+    final long base = 1L << 32;
+
+    // Normalize, so that the most significant digit of the divisor has its top bit set
+    final int shift = Integer.numberOfLeadingZeros(v[n - 1]);
+    final int[] vn = scratch.normalizedDivisor;
+    for (int i = n - 1; i > 0; i--) {
+      vn[i] = (v[i] << shift) | (int) ((v[i - 1] & DIGIT_MASK) >>> (32 - shift));
+    }
+    vn[0] = v[0] << shift;
+
+    // The dividend is normalized in place, with one extra digit
+    final int[] un = u;
+    un[m] = (int) ((u[m - 1] & DIGIT_MASK) >>> (32 - shift));
+    for (int i = m - 1; i > 0; i--) {
+      un[i] = (u[i] << shift) | (int) ((u[i - 1] & DIGIT_MASK) >>> (32 - shift));
+    }
+    un[0] = u[0] << shift;
+
+    final long vTop = vn[n - 1] & DIGIT_MASK;
+    final long vNext = vn[n - 2] & DIGIT_MASK;
+    for (int j = m - n; j >= 0; j--) {
+      // Estimate the quotient digit, which is then off by at most one
+      final long numerator = ((un[j + n] & DIGIT_MASK) << 32) | (un[j + n - 1] & DIGIT_MASK);
+      long qhat = Long.divideUnsigned(numerator, vTop);
+      long rhat = Long.remainderUnsigned(numerator, vTop);
+      while (qhat >= base
+          || Long.compareUnsigned(qhat * vNext, (rhat << 32) | (un[j + n - 2] & DIGIT_MASK)) > 0) {
+        qhat--;
+        rhat += vTop;
+        if (rhat >= base) {
+          break;
+        }
+      }
+
+      // Multiply and subtract
+      long borrow = 0;
+      long t;
+      for (int i = 0; i < n; i++) {
+        final long p = qhat * (vn[i] & DIGIT_MASK);
+        t = (un[i + j] & DIGIT_MASK) - borrow - (p & DIGIT_MASK);
+        un[i + j] = (int) t;
+        borrow = (p >>> 32) - (t >> 32);
+      }
+      t = (un[j + n] & DIGIT_MASK) - borrow;
+      un[j + n] = (int) t;
+
+      q[j] = (int) qhat;
+      if (t < 0) {
+        // The estimate was one too large: add the divisor back
+        q[j]--;
+        long carry = 0;
+        for (int i = 0; i < n; i++) {
+          t = (un[i + j] & DIGIT_MASK) + (vn[i] & DIGIT_MASK) + carry;
+          un[i + j] = (int) t;
+          carry = t >>> 32;
+        }
+        un[j + n] += (int) carry;
+      }
+    }
+
+    // Unnormalize the remainder
+    for (int i = 0; i < n - 1; i++) {
+      r[i] = (int) (((un[i] & DIGIT_MASK) >>> shift) | ((un[i + 1] & DIGIT_MASK) << (32 - shift)));
+    }
+    r[n - 1] = (int) ((un[n - 1] & DIGIT_MASK) >>> shift);
+  }
+}
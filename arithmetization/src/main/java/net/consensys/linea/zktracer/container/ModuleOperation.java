@@ -23,6 +23,11 @@ public abstract class ModuleOperation {
   /** the number of lines this operation will generate within its module trace */
   private int lineCount = -1;
 
+  /** the cached hash code of this operation, valid iff {@link #hashed} */
+  private int hash;
+
+  private boolean hashed = false;
+
   protected abstract int computeLineCount();
 
   public int lineCount() {
@@ -32,4 +37,19 @@ public abstract class ModuleOperation {
 
     return this.lineCount;
   }
+
+  /**
+   * Operations are not modified once they have been added to a module, so that their hash code
+   * only needs to be computed once.
+   *
+   * @return the hash code of this operation
+   */
+  public final int cachedHashCode() {
+    if (!this.hashed) {
+      this.hash = this.hashCode();
+      this.hashed = true;
+    }
+
+    return this.hash;
+  }
 }
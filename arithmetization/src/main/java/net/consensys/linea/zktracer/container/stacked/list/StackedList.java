@@ -15,12 +15,14 @@
 
 package net.consensys.linea.zktracer.container.stacked.list;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 import net.consensys.linea.zktracer.container.ModuleOperation;
 import net.consensys.linea.zktracer.container.StackedContainer;
@@ -30,21 +32,49 @@ import org.jetbrains.annotations.NotNull;
  * Implements a system of nested lists behaving as a single one, where the current context
  * modification can transparently be dropped.
  *
+ * <p>All the elements are stored contiguously in fixed-size chunks, and each context is only
+ * represented by the index of its first element; random accesses are thus constant-time, and
+ * dropping a context amounts to truncating the list.
+ *
  * @param <E> the type of elements stored in the list
  */
 public class StackedList<E extends ModuleOperation> implements List<E>, StackedContainer {
+  private static final int CHUNK_SHIFT = 10;
+  private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  /** The elements of all the contexts, from the oldest one */
+  private Object[][] chunks = new Object[0][];
+
+  /** The index of the first element of every context */
+  private int[] contextStarts = new int[16];
 
-  private final List<CountedList<E>> lists = new ArrayList<>();
+  /** The number of contexts currently entered */
+  private int depth = 0;
 
-  /** The cached number of elements in this container */
+  /** The number of elements in this container */
   private int totalSize;
 
+  /** The number of leading elements whose line count is summed in {@link #countedLines} */
+  private int countedElements = 0;
+
+  /** The cumulated line count of the first {@link #countedElements} elements */
+  private int countedLines = 0;
+
   @Override
   public String toString() {
     StringBuilder r = new StringBuilder();
     r.append("[[");
-    for (var l : this.lists) {
-      r.append(l.toString());
+    for (int c = 0; c < this.depth; c++) {
+      final int end = c + 1 < this.depth ? this.contextStarts[c + 1] : this.totalSize;
+      r.append("[");
+      for (int i = this.contextStarts[c]; i < end; i++) {
+        if (i > this.contextStarts[c]) {
+          r.append(", ");
+        }
+        r.append(this.get(i));
+      }
+      r.append("]");
     }
     r.append("]]");
     return r.toString();
@@ -52,23 +82,71 @@ public class StackedList<E extends ModuleOperation> implements List<E>, StackedC
 
   @Override
   public void enter() {
-    this.lists.add(new CountedList<>());
+    if (this.depth == this.contextStarts.length) {
+      this.contextStarts = Arrays.copyOf(this.contextStarts, 2 * this.depth);
+    }
+    this.contextStarts[this.depth++] = this.totalSize;
   }
 
+  /**
+   * Enter a new context, expected to hold about the given number of elements.
+   *
+   * @param initialCapacity the expected number of elements in the new context
+   */
   public void enter(int initialCapacity) {
-    this.lists.add(new CountedList<>(initialCapacity));
+    this.enter();
+    this.ensureCapacity(this.totalSize + initialCapacity);
   }
 
+  /**
+   * @return the latest element added to the current context
+   */
   public E getLast() {
-    return this.lists.get(this.lists.size() - 1).getLast();
+    if (this.depth == 0 || this.totalSize == this.contextStarts[this.depth - 1]) {
+      throw new NoSuchElementException("the current context is empty");
+    }
+    return this.get(this.totalSize - 1);
   }
 
   @Override
   public void pop() {
-    if (this.lists.isEmpty()) {
+    if (this.depth == 0) {
       throw new RuntimeException("asymmetric pop");
     }
-    this.totalSize -= this.lists.remove(this.lists.size() - 1).size();
+    this.truncate(this.contextStarts[--this.depth]);
+  }
+
+  private void truncate(final int newSize) {
+    this.uncount(newSize);
+    for (int i = newSize; i < this.totalSize; i++) {
+      this.chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK] = null;
+    }
+    this.totalSize = newSize;
+  }
+
+  /** Drop the cached line counts of the elements starting at the given index. */
+  private void uncount(final int from) {
+    for (int i = from; i < this.countedElements; i++) {
+      this.countedLines -= this.get(i).lineCount();
+    }
+    this.countedElements = Math.min(this.countedElements, from);
+  }
+
+  private void ensureCapacity(final int capacity) {
+    final int chunkCount = (capacity + CHUNK_MASK) >>> CHUNK_SHIFT;
+    if (chunkCount <= this.chunks.length) {
+      return;
+    }
+
+    int newLength = Math.max(this.chunks.length, 1);
+    while (newLength < chunkCount) {
+      newLength *= 2;
+    }
+    final Object[][] newChunks = Arrays.copyOf(this.chunks, newLength);
+    for (int c = this.chunks.length; c < newLength; c++) {
+      newChunks[c] = new Object[CHUNK_SIZE];
+    }
+    this.chunks = newChunks;
   }
 
   @Override
@@ -77,12 +155,12 @@ public class StackedList<E extends ModuleOperation> implements List<E>, StackedC
   }
 
   public int lineCount() {
-    int sum = 0;
     // Deliberate use of old-style for loops out of performances concerns
-    for (int i = 0; i < this.lists.size(); i++) {
-      sum += this.lists.get(i).lineCount();
+    for (int i = this.countedElements; i < this.totalSize; i++) {
+      this.countedLines += this.get(i).lineCount();
     }
-    return sum;
+    this.countedElements = this.totalSize;
+    return this.countedLines;
   }
 
   @Override
@@ -92,19 +170,20 @@ public class StackedList<E extends ModuleOperation> implements List<E>, StackedC
 
   @Override
   public boolean contains(Object o) {
-    for (CountedList<E> l : this.lists) {
-      if (l.contains(o)) {
-        return true;
-      }
-    }
-
-    return false;
+    return this.indexOf(o) != -1;
   }
 
   @NotNull
   @Override
   public Iterator<E> iterator() {
-    return new StackedListIterator<>(this);
+    return new StackedListIterator(0);
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    for (int i = 0; i < this.totalSize; i++) {
+      action.accept(this.get(i));
+    }
   }
 
   @NotNull
@@ -121,8 +200,13 @@ public class StackedList<E extends ModuleOperation> implements List<E>, StackedC
 
   @Override
   public boolean add(E e) {
+    if (this.depth == 0) {
+      throw new IllegalStateException("no context has been entered");
+    }
+    this.ensureCapacity(this.totalSize + 1);
+    this.chunks[this.totalSize >>> CHUNK_SHIFT][this.totalSize & CHUNK_MASK] = e;
     this.totalSize++;
-    return this.lists.get(this.lists.size() - 1).add(e);
+    return true;
   }
 
   @Override
@@ -170,25 +254,35 @@ public class StackedList<E extends ModuleOperation> implements List<E>, StackedC
 
   @Override
   public void clear() {
-    this.lists.clear();
+    this.chunks = new Object[0][];
+    this.depth = 0;
     this.totalSize = 0;
+    this.countedElements = 0;
+    this.countedLines = 0;
   }
 
+  /**
+   * @param i the index of the element to fetch
+   * @return the element at the given index, or null if it is out of bounds
+   */
   @Override
+  @SuppressWarnings("unchecked")
   public E get(int i) {
-    for (CountedList<E> list : this.lists) {
-      if (i >= list.size()) {
-        i -= list.size();
-      } else {
-        return list.get(i);
-      }
+    if (i < 0 || i >= this.totalSize) {
+      return null;
     }
-    return null;
+    return (E) this.chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK];
   }
 
   @Override
   public E set(int index, E element) {
-    throw new UnsupportedOperationException("set not supported");
+    if (index < 0 || index >= this.totalSize) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    this.uncount(index);
+    final E previous = this.get(index);
+    this.chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = element;
+    return previous;
   }
 
   @Override
@@ -203,13 +297,10 @@ public class StackedList<E extends ModuleOperation> implements List<E>, StackedC
 
   @Override
   public int indexOf(Object o) {
-    int i = 0;
-    for (List<E> l : this.lists) {
-      final int ii = l.indexOf(o);
-      if (ii != -1) {
-        return i + ii;
+    for (int i = 0; i < this.totalSize; i++) {
+      if (Objects.equals(o, this.get(i))) {
+        return i;
       }
-      i += l.size();
     }
     return -1;
   }
@@ -222,13 +313,16 @@ public class StackedList<E extends ModuleOperation> implements List<E>, StackedC
   @NotNull
   @Override
   public ListIterator<E> listIterator() {
-    return new StackedListIterator<>(this);
+    return new StackedListIterator(0);
   }
 
   @NotNull
   @Override
   public ListIterator<E> listIterator(int index) {
-    throw new UnsupportedOperationException("listIterator(int) not supported");
+    if (index < 0 || index > this.totalSize) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return new StackedListIterator(index);
   }
 
   @NotNull
@@ -237,142 +331,53 @@ public class StackedList<E extends ModuleOperation> implements List<E>, StackedC
     throw new UnsupportedOperationException("subList not supported");
   }
 
-  private static class StackedListIterator<F extends ModuleOperation>
-      implements Iterator<F>, ListIterator<F> {
-    private final StackedList<F> sl;
+  private class StackedListIterator implements ListIterator<E> {
+    /** The index of the element to be returned by {@link #next()} */
+    private int cursor;
 
-    /** Position of the iterator in the list of lists */
-    private int head = 0;
+    /** The index of the element last returned, or -1 */
+    private int last = -1;
 
-    /** Position of the iterator within the current list, i.e. this.sl.lists[head] */
-    private int offset = -1;
-
-    StackedListIterator(StackedList<F> lists) {
-      this.sl = lists;
-    }
-
-    private List<F> list() {
-      if (sl.lists.isEmpty()) {
-        return List.of();
-      }
-      return this.sl.lists.get(this.head);
-    }
-
-    private List<F> list(int i) {
-      return this.sl.lists.get(i);
-    }
-
-    F read() {
-      return this.sl.lists.get(head).get(this.offset);
-    }
-
-    int toIndex() {
-      int idx = 0;
-      for (int i = 0; i < this.head; i++) {
-        idx += this.list(i).size();
-      }
-      return idx + this.offset;
-    }
-
-    boolean done() {
-      return this.head >= this.sl.lists.size() - 1 && this.offset >= this.list().size();
+    StackedListIterator(final int cursor) {
+      this.cursor = cursor;
     }
 
     @Override
     public boolean hasNext() {
-      // First check if the current list is done for
-      if (offset < this.list().size() - 1) {
-        return true;
-      }
-      // Then check for a next non-empty list
-      for (int i = this.head + 1; i < this.sl.lists.size(); i++) {
-        if (!this.list(i).isEmpty()) {
-          return true;
-        }
-      }
-      // We're empty
-      return false;
+      return this.cursor < StackedList.this.totalSize;
     }
 
     @Override
-    public F next() {
-      // If we are not yet at the end of the current list, return the natural next element
-      if (offset < this.list().size() - 1) {
-        this.offset++;
-        return this.read();
+    public E next() {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException();
       }
-
-      this.head++;
-      // Otherwise, jump to the next non-empty list if we can
-      for (int i = head; i < this.sl.lists.size(); i++) {
-        if (!this.list(i).isEmpty()) {
-          this.head = i;
-          this.offset = 0;
-          return this.read();
-        }
-      }
-
-      this.head = this.sl.lists.size() - 1;
-      this.offset = this.list().size() - 1;
-      throw new NoSuchElementException();
+      this.last = this.cursor++;
+      return StackedList.this.get(this.last);
     }
 
     @Override
     public boolean hasPrevious() {
-      if (offset > 0) {
-        return true;
-      }
-
-      if (head > 0) {
-        for (int i = head - 1; i >= 0; i--) {
-          if (!this.list(i).isEmpty()) {
-            return true;
-          }
-        }
-      }
-
-      return false;
+      return this.cursor > 0;
     }
 
     @Override
-    public F previous() {
-      // If we are not yet at the very beginning of the current list, return the natural previous
-      // element
-      if (offset > 0) {
-        this.offset--;
-        return this.read();
+    public E previous() {
+      if (!this.hasPrevious()) {
+        throw new NoSuchElementException();
       }
-
-      // Otherwise, jump to the previous non-empty list if we can
-      for (int i = head - 1; i >= 0; i--) {
-        if (!this.list(i).isEmpty()) {
-          this.head = i;
-          this.offset = this.list().size() - 1;
-          return this.read();
-        }
-      }
-
-      this.head = 0;
-      this.offset = 0;
-      return null;
+      this.last = --this.cursor;
+      return StackedList.this.get(this.last);
     }
 
     @Override
     public int nextIndex() {
-      final int idx = this.toIndex();
-      if (this.done()) {
-        return idx;
-      }
-      return idx + 1;
+      return this.cursor;
     }
 
     @Override
     public int previousIndex() {
-      final int idx = this.toIndex();
-      if (idx > 0) {
-        return idx - 1;
-      }
-      return 0;
+      return this.cursor - 1;
     }
 
     @Override
@@ -381,12 +386,15 @@ public class StackedList<E extends ModuleOperation> implements List<E>, StackedC
     }
 
     @Override
-    public void set(F e) {
-      this.sl.lists.get(head).set(this.offset, e);
+    public void set(E e) {
+      if (this.last < 0) {
+        throw new IllegalStateException();
+      }
+      StackedList.this.set(this.last, e);
     }
 
     @Override
-    public void add(F f) {
+    public void add(E e) {
       throw new UnsupportedOperationException("add not supported");
     }
   }
@@ -0,0 +1,166 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.container.stacked.set;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+import net.consensys.linea.zktracer.container.ModuleOperation;
+
+/**
+ * A {@link StackedSet} that may also be iterated in order.
+ *
+ * <p>Every layer is sorted on its own when it is sealed, typically at the end of the transaction;
+ * the sorted layers are then merged on the fly when iterating. Dropping a layer thus never requires
+ * to touch the other ones, nor to sort the whole set again.
+ *
+ * @param <E> the type of elements stored in the set
+ */
+public class SortedStackedSet<E extends ModuleOperation> extends StackedSet<E> {
+  private final Comparator<? super E> comparator;
+
+  /** The sorted elements first added in each sealed layer, from the oldest one */
+  private final Deque<List<E>> segments = new ArrayDeque<>();
+
+  public SortedStackedSet(final Comparator<? super E> comparator) {
+    this.comparator = comparator;
+  }
+
+  private boolean isSealed() {
+    return this.segments.size() == this.depth();
+  }
+
+  @Override
+  public void pop() {
+    if (this.isSealed()) {
+      this.segments.removeLast();
+    }
+    super.pop();
+  }
+
+  /**
+   * Sort the elements added to the current layer and not present in the previous ones; no element
+   * may be added to the current layer afterward.
+   *
+   * @return the newly sorted elements
+   */
+  public List<E> seal() {
+    if (this.isSealed()) {
+      throw new IllegalStateException("the current layer has already been sealed");
+    }
+
+    final List<E> segment = new ArrayList<>(this.currentContext());
+    segment.sort(this.comparator);
+
+    final List<E> sealed = Collections.unmodifiableList(segment);
+    this.segments.addLast(sealed);
+    return sealed;
+  }
+
+  /**
+   * @return the greatest element of the sealed layers, if any
+   */
+  public Optional<E> lastSealed() {
+    final Iterator<List<E>> it = this.segments.descendingIterator();
+    while (it.hasNext()) {
+      final List<E> segment = it.next();
+      if (!segment.isEmpty()) {
+        return Optional.of(segment.get(segment.size() - 1));
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * @return the elements of this set, in order
+   * @throws IllegalStateException if the current layer has not been sealed
+   */
+  public Iterable<E> sorted() {
+    if (!this.isSealed()) {
+      throw new IllegalStateException("the current layer has not been sealed");
+    }
+
+    if (this.isConcatenationSorted()) {
+      return () -> this.segments.stream().flatMap(List::stream).iterator();
+    }
+    return () -> new MergingIterator<>(this.segments, this.comparator);
+  }
+
+  /** Layers sorted by an increasing key, e.g. a stamp, do not need to be merged */
+  private boolean isConcatenationSorted() {
+    E previous = null;
+    for (List<E> segment : this.segments) {
+      if (segment.isEmpty()) {
+        continue;
+      }
+      if (previous != null && this.comparator.compare(previous, segment.get(0)) > 0) {
+        return false;
+      }
+      previous = segment.get(segment.size() - 1);
+    }
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    this.segments.clear();
+  }
+
+  private static final class MergingIterator<E> implements Iterator<E> {
+    private record Head<E>(E element, Iterator<E> rest) {}
+
+    private final PriorityQueue<Head<E>> heads;
+
+    MergingIterator(final Deque<List<E>> segments, final Comparator<? super E> comparator) {
+      this.heads =
+          new PriorityQueue<>(
+              Math.max(1, segments.size()), (a, b) -> comparator.compare(a.element(), b.element()));
+      for (List<E> segment : segments) {
+        this.advance(segment.iterator());
+      }
+    }
+
+    private void advance(final Iterator<E> it) {
+      if (it.hasNext()) {
+        this.heads.add(new Head<>(it.next(), it));
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !this.heads.isEmpty();
+    }
+
+    @Override
+    public E next() {
+      final Head<E> head = this.heads.poll();
+      if (head == null) {
+        throw new NoSuchElementException();
+      }
+      this.advance(head.rest());
+      return head.element();
+    }
+  }
+}
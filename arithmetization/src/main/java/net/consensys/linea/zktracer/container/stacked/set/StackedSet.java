@@ -15,16 +15,13 @@
 
 package net.consensys.linea.zktracer.container.stacked.set;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 import net.consensys.linea.zktracer.container.ModuleOperation;
 import net.consensys.linea.zktracer.container.StackedContainer;
@@ -34,83 +31,204 @@ import org.jetbrains.annotations.NotNull;
  * Implements a system of nested sets behaving as a single one, where the current context
  * modification can transparently be dropped.
  *
+ * <p>Distinct elements are appended to a journal in insertion order, each context being the range
+ * of the journal it added; an element already present in an older context is not journaled again.
+ * Elements are indexed by an open-addressing hash table over the journal. As contexts are always
+ * dropped in reverse order, the dropped elements are always the latest inserted in their probe
+ * sequences, and can simply be erased from the table.
+ *
  * @param <E> the type of elements stored in the set
  */
 public class StackedSet<E extends ModuleOperation> implements StackedContainer, java.util.Set<E> {
-  public final Deque<Set<E>> sets = new ArrayDeque<>();
-  private final Map<E, Integer> occurrences = new HashMap<>();
+  private static final int INITIAL_CAPACITY = 16;
+
+  /** The distinct elements of this set, in insertion order */
+  private Object[] journal = new Object[INITIAL_CAPACITY];
+
+  /** The hash code of every element of the journal */
+  private int[] hashes = new int[INITIAL_CAPACITY];
+
+  /** Indices in the journal, shifted by one so that 0 marks an empty slot */
+  private int[] table = new int[2 * INITIAL_CAPACITY];
+
+  /** The index in the journal of the first element added by every context */
+  private int[] contextStarts = new int[INITIAL_CAPACITY];
+
+  /** The number of contexts currently entered */
+  private int depth = 0;
+
+  /** The number of distinct elements currently present in this set */
+  private int size = 0;
+
+  /** The cumulated line count of the elements currently present in this set */
+  private int lineCount = 0;
+
+  /** The number of elements given to {@link #add} */
+  private long additions = 0;
+
+  /** The number of elements given to {@link #add} while already present */
+  private long duplicates = 0;
 
   @Override
   public void enter() {
-    this.sets.addLast(new HashSet<>());
+    if (this.depth == this.contextStarts.length) {
+      this.contextStarts = Arrays.copyOf(this.contextStarts, 2 * this.depth);
+    }
+    this.contextStarts[this.depth++] = this.size;
   }
 
   @Override
   public void pop() {
-    Set<E> lastSet = this.sets.removeLast();
-    for (E e : lastSet) {
-      occurrences.computeIfPresent(
-          e,
-          (k, count) -> {
-            if (count > 0) {
-              return count - 1;
-            } else {
-              throw new IllegalStateException("asymmetric element removal !");
-            }
-          });
+    if (this.depth == 0) {
+      throw new IllegalStateException("asymmetric element removal !");
     }
+
+    final int start = this.contextStarts[--this.depth];
+    for (int i = this.size - 1; i >= start; i--) {
+      this.table[this.slotOf(i)] = 0;
+      this.lineCount -= this.element(i).lineCount();
+      this.journal[i] = null;
+    }
+    this.size = start;
   }
 
-  @Override
-  public int size() {
-    int size = 0;
-    for (Integer count : occurrences.values()) {
-      if (count != 0) {
-        size++;
+  /**
+   * @return the number of contexts currently entered
+   */
+  int depth() {
+    return this.depth;
+  }
+
+  /**
+   * @return the elements added by the current context and absent from the previous ones, in
+   *     insertion order
+   */
+  List<E> currentContext() {
+    final int start = this.contextStarts[this.depth - 1];
+    final int end = this.size;
+    return new AbstractList<>() {
+      @Override
+      public E get(int index) {
+        return StackedSet.this.element(start + index);
+      }
+
+      @Override
+      public int size() {
+        return end - start;
       }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private E element(final int i) {
+    return (E) this.journal[i];
+  }
+
+  private static int spread(final int h) {
+    return h ^ (h >>> 16);
+  }
+
+  /** The slot of the table pointing to the given journal entry */
+  private int slotOf(final int journalIndex) {
+    final int mask = this.table.length - 1;
+    int slot = spread(this.hashes[journalIndex]) & mask;
+    while (this.table[slot] != journalIndex + 1) {
+      slot = (slot + 1) & mask;
     }
-    return size;
+    return slot;
   }
 
-  public int lineCount() {
-    int sum = 0;
-    for (Map.Entry<E, Integer> entry : occurrences.entrySet()) {
-      if (entry.getValue() > 0) {
-        sum += entry.getKey().lineCount();
+  /** The slot of the table holding the given element, or the empty slot where to insert it */
+  private int find(final Object o, final int hash) {
+    final int mask = this.table.length - 1;
+    int slot = spread(hash) & mask;
+    while (true) {
+      final int entry = this.table[slot];
+      if (entry == 0) {
+        return slot;
       }
+      if (this.hashes[entry - 1] == hash && this.journal[entry - 1].equals(o)) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
     }
-    return sum;
+  }
+
+  private static int hashOf(final Object o) {
+    return o instanceof ModuleOperation op ? op.cachedHashCode() : o.hashCode();
+  }
+
+  private void grow() {
+    final int capacity = 2 * this.journal.length;
+    this.journal = Arrays.copyOf(this.journal, capacity);
+    this.hashes = Arrays.copyOf(this.hashes, capacity);
+
+    // Re-inserting in journal order preserves the ability to erase the latest entries in place
+    this.table = new int[2 * capacity];
+    final int mask = this.table.length - 1;
+    for (int i = 0; i < this.size; i++) {
+      int slot = spread(this.hashes[i]) & mask;
+      while (this.table[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      this.table[slot] = i + 1;
+    }
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  public int lineCount() {
+    return this.lineCount;
   }
 
   @Override
   public boolean isEmpty() {
-    throw new UnsupportedOperationException("empty not supported");
+    return this.size == 0;
   }
 
   @Override
   public boolean contains(Object o) {
-    return occurrences.containsKey(o) && occurrences.get(o) > 0;
+    if (o == null) {
+      return false;
+    }
+    return this.table[this.find(o, hashOf(o))] != 0;
   }
 
   @NotNull
   @Override
   public Iterator<E> iterator() {
-    final List<E> list = new ArrayList<>();
-    for (Map.Entry<E, Integer> entry : occurrences.entrySet()) {
-      if (entry.getValue() > 0) {
-        list.add(entry.getKey());
+    return new Iterator<>() {
+      private int i = 0;
+
+      @Override
+      public boolean hasNext() {
+        return this.i < StackedSet.this.size;
       }
+
+      @Override
+      public E next() {
+        if (!this.hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return StackedSet.this.element(this.i++);
+      }
+    };
+  }
+
+  @Override
+  public void forEach(Consumer<? super E> action) {
+    for (int i = 0; i < this.size; i++) {
+      action.accept(this.element(i));
     }
-    return list.iterator();
   }
 
   @NotNull
   @Override
   public Object[] toArray() {
-    return occurrences.entrySet().stream()
-        .filter(entry -> entry.getValue() > 0)
-        .map(Map.Entry::getKey)
-        .toArray();
+    return Arrays.copyOf(this.journal, this.size);
   }
 
   @NotNull
@@ -119,14 +237,34 @@ public class StackedSet<E extends ModuleOperation> implements StackedContainer,
     throw new UnsupportedOperationException("toArray not supported");
   }
 
+  /**
+   * @param e the element to add
+   * @return whether the element was not already present in this set
+   */
   @Override
   public boolean add(E e) {
-    final boolean isNew = this.sets.peekLast().add(e);
+    if (this.depth == 0) {
+      throw new IllegalStateException("no context has been entered");
+    }
+
+    this.additions++;
+    final int hash = e.cachedHashCode();
+    int slot = this.find(e, hash);
+    if (this.table[slot] != 0) {
+      this.duplicates++;
+      return false;
+    }
 
-    if (isNew) {
-      occurrences.put(e, occurrences.getOrDefault(e, 0) + 1);
+    if (this.size == this.journal.length) {
+      this.grow();
+      slot = this.find(e, hash);
     }
-    return isNew;
+
+    this.journal[this.size] = e;
+    this.hashes[this.size] = hash;
+    this.table[slot] = ++this.size;
+    this.lineCount += e.lineCount();
+    return true;
   }
 
   @Override
@@ -165,7 +303,27 @@ public class StackedSet<E extends ModuleOperation> implements StackedContainer,
 
   @Override
   public void clear() {
-    this.sets.clear();
-    this.occurrences.clear();
+    this.journal = new Object[INITIAL_CAPACITY];
+    this.hashes = new int[INITIAL_CAPACITY];
+    this.table = new int[2 * INITIAL_CAPACITY];
+    this.depth = 0;
+    this.size = 0;
+    this.lineCount = 0;
+    this.additions = 0;
+    this.duplicates = 0;
+  }
+
+  /**
+   * @return the number of elements given to {@link #add} since this set was created or cleared
+   */
+  public long additions() {
+    return this.additions;
+  }
+
+  /**
+   * @return how many of the elements given to {@link #add} were already present in this set
+   */
+  public long duplicates() {
+    return this.duplicates;
   }
 }
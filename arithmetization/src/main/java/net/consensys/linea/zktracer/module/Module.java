@@ -17,8 +17,10 @@ package net.consensys.linea.zktracer.module;
 
 import java.nio.MappedByteBuffer;
 import java.util.List;
+import java.util.Optional;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.container.stacked.set.StackedSet;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Transaction;
 import org.hyperledger.besu.evm.frame.MessageFrame;
@@ -73,4 +75,12 @@ public interface Module {
   default void commit(List<MappedByteBuffer> buffers) {
     throw new UnsupportedOperationException();
   }
+
+  /**
+   * @return the set de-duplicating the operations of this module, if it uses one; only used for
+   *     profiling
+   */
+  default Optional<StackedSet<?>> operationSet() {
+    return Optional.empty();
+  }
 }
@@ -15,14 +15,13 @@
 
 package net.consensys.linea.zktracer.module;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static net.consensys.linea.zktracer.types.Utils.rightPadTo;
 
 import java.math.BigInteger;
 
+import net.consensys.linea.zktracer.bytestheta.LimbArithmetic;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
-import org.apache.tuweni.units.bigints.UInt256;
 import org.hyperledger.besu.datatypes.TransactionType;
 
 /** Utility class that provides various helper methods. */
@@ -42,21 +41,24 @@ public class Util {
   }
 
   /**
-   * Checks if the shifted UInt256 argument overflows a given maximum value, and throws an exception
-   * with an error message if it does.
+   * Checks if the part above 128 bits of a sum of products overflows a given maximum value, and
+   * throws an exception with an error message if it does.
    *
-   * @param arg The UInt256 argument to be checked.
+   * @param arg The limbs of the sum, least significant first, as in {@link LimbArithmetic}.
    * @param maxVal The maximum value the shifted argument should not exceed.
    * @param err The error message to be included in the exception.
    * @return The overflow value if it doesn't exceed the maximum value.
    */
-  public static long getOverflow(UInt256 arg, long maxVal, String err) {
-    UInt256 shiftedArg = arg.shiftRight(128);
-
-    if (!shiftedArg.fitsLong()) {
+  public static long getOverflow(long[] arg, long maxVal, String err) {
+    for (int k = 3; k < arg.length; k++) {
+      if (arg[k] != 0) {
+        throw new RuntimeException("getOverflow expects a small high part");
+      }
+    }
+    long overflow = arg[2];
+    if (overflow < 0) {
       throw new RuntimeException("getOverflow expects a small high part");
     }
-    long overflow = shiftedArg.toUnsignedBigInteger().longValue();
     if (overflow > maxVal) {
       throw new RuntimeException(err);
     }
@@ -85,46 +87,21 @@ public class Util {
   }
 
   /**
-   * Converts a 64-bit unsigned integer into an 8-byte array.
-   *
-   * @param x The 64-bit unsigned integer to be converted.
-   * @return An 8-byte array representing the input value.
-   */
-  public static byte[] uInt64ToBytes(long x) {
-    byte[] xBytes = new byte[8];
-    for (int k = 0; k < 8; k++) {
-      xBytes[7 - k] = (byte) (x % 256);
-      x >>= 8;
-    }
-    return xBytes;
-  }
-
-  /**
-   * Checks if a given BigInteger value is a valid UInt256.
-   *
-   * @param number The BigInteger value to be checked.
-   * @return True if the input value is a valid UInt256, otherwise false.
-   */
-  public static boolean isUInt256(BigInteger number) {
-    return number.bitLength() <= 256;
-  }
-
-  /**
-   * Multiplies the elements of two byte array ranges and returns the sum of their UInt256 products.
+   * Adds to a sum the products of the limbs of two ranges, the first one being read in increasing
+   * order and the second one in decreasing order.
    *
-   * @param range1 The first byte array range.
-   * @param range2 The second byte array range.
-   * @return The UInt256 sum of the products of the elements in the two input ranges.
+   * @param x The limbs of the first range.
+   * @param xFrom The index of the first limb of the first range.
+   * @param y The limbs of the second range.
+   * @param yFrom The index of the first limb of the second range.
+   * @param length The number of limbs of each range.
+   * @param sum The limbs of the sum the products are added to.
    */
-  public static UInt256 multiplyRange(Bytes[] range1, Bytes[] range2) {
-    checkArgument(range1.length == range2.length);
-    UInt256 sum = UInt256.ZERO;
-    for (int i = 0; i < range1.length; i++) {
-      UInt256 prod =
-          UInt256.fromBytes(range1[i]).multiply(UInt256.fromBytes(range2[range2.length - i - 1]));
-      sum = sum.add(prod);
+  public static void multiplyRange(
+      long[] x, int xFrom, long[] y, int yFrom, int length, long[] sum) {
+    for (int i = 0; i < length; i++) {
+      LimbArithmetic.addProduct(sum, x[xFrom + i], y[yFrom + length - 1 - i], 0);
     }
-    return sum;
   }
 
   /**
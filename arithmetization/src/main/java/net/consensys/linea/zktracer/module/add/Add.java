@@ -18,6 +18,7 @@ package net.consensys.linea.zktracer.module.add;
 import java.math.BigInteger;
 import java.nio.MappedByteBuffer;
 import java.util.List;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import net.consensys.linea.zktracer.ColumnHeader;
@@ -80,4 +81,9 @@ public class Add implements Module {
     this.chunks.add(new AddOperation(OpCode.ADD, arg1, arg2));
     return arg1.toUnsignedBigInteger().add(arg2.toUnsignedBigInteger());
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.chunks);
+  }
 }
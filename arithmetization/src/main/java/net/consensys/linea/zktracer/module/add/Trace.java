@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -102,11 +103,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc1.put((byte) 0);
-    }
-    acc1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -118,11 +115,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc2.put((byte) 0);
-    }
-    acc2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -134,11 +127,7 @@ public class Trace {
       filled.set(2);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg1Hi.put((byte) 0);
-    }
-    arg1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -150,11 +139,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg1Lo.put((byte) 0);
-    }
-    arg1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -166,11 +151,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg2Hi.put((byte) 0);
-    }
-    arg2Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg2Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -182,11 +163,7 @@ public class Trace {
       filled.set(5);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg2Lo.put((byte) 0);
-    }
-    arg2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -270,11 +247,7 @@ public class Trace {
       filled.set(12);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      resHi.put((byte) 0);
-    }
-    resHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(resHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -286,11 +259,7 @@ public class Trace {
       filled.set(13);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      resLo.put((byte) 0);
-    }
-    resLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(resLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -17,6 +17,7 @@ package net.consensys.linea.zktracer.module.bin;
 
 import java.nio.MappedByteBuffer;
 import java.util.List;
+import java.util.Optional;
 
 import net.consensys.linea.zktracer.ColumnHeader;
 import net.consensys.linea.zktracer.bytestheta.BaseBytes;
@@ -84,4 +85,9 @@ public class Bin implements Module {
   public int lineCount() {
     return this.chunks.lineCount();
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.chunks);
+  }
 }
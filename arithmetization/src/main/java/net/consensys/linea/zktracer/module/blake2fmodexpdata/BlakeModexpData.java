@@ -23,12 +23,13 @@ import static net.consensys.linea.zktracer.module.constants.GlobalConstants.PHAS
 import static net.consensys.linea.zktracer.module.constants.GlobalConstants.PHASE_MODEXP_RESULT;
 
 import java.nio.MappedByteBuffer;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.container.stacked.set.SortedStackedSet;
 import net.consensys.linea.zktracer.container.stacked.set.StackedSet;
 import net.consensys.linea.zktracer.module.Module;
 import net.consensys.linea.zktracer.module.wcp.Wcp;
@@ -40,9 +41,8 @@ import org.hyperledger.besu.evm.worldstate.WorldView;
 @RequiredArgsConstructor
 public class BlakeModexpData implements Module {
   private final Wcp wcp;
-  private StackedSet<BlakeModexpDataOperation> operations = new StackedSet<>();
-  private List<BlakeModexpDataOperation> sortedOperations = new ArrayList<>();
-  private int numberOfOperationsAtStartTx = 0;
+  private final SortedStackedSet<BlakeModexpDataOperation> operations =
+      new SortedStackedSet<>(Comparator.comparingLong(BlakeModexpDataOperation::id));
 
   @Override
   public String moduleKey() {
@@ -62,26 +62,15 @@ public class BlakeModexpData implements Module {
       Bytes output,
       List<Log> logs,
       long gasUsed) {
-    final List<BlakeModexpDataOperation> newOperations =
-        new ArrayList<>(this.operations.sets.getLast())
-            .stream().sorted(Comparator.comparingLong(BlakeModexpDataOperation::id)).toList();
-
-    this.sortedOperations.addAll(newOperations);
-    final int numberOfOperationsAtEndTx = sortedOperations.size();
-    for (int i = numberOfOperationsAtStartTx; i < numberOfOperationsAtEndTx; i++) {
-      final long previousID = i == 0 ? 0 : sortedOperations.get(i - 1).id();
-      this.wcp.callLT(previousID, sortedOperations.get(i).id());
+    long previousID = this.operations.lastSealed().map(BlakeModexpDataOperation::id).orElse(0L);
+    for (BlakeModexpDataOperation operation : this.operations.seal()) {
+      this.wcp.callLT(previousID, operation.id());
+      previousID = operation.id();
     }
   }
 
-  @Override
-  public void traceStartTx(WorldView worldView, Transaction tx) {
-    this.numberOfOperationsAtStartTx = operations.size();
-  }
-
   @Override
   public void popTransaction() {
-    this.sortedOperations.removeAll(this.operations.sets.getLast());
     this.operations.pop();
   }
 
@@ -103,7 +92,7 @@ public class BlakeModexpData implements Module {
   public void commit(List<MappedByteBuffer> buffers) {
     Trace trace = new Trace(buffers);
     int stamp = 0;
-    for (BlakeModexpDataOperation o : this.sortedOperations) {
+    for (BlakeModexpDataOperation o : this.operations.sorted()) {
       stamp++;
       o.trace(trace, stamp);
     }
@@ -130,4 +119,9 @@ public class BlakeModexpData implements Module {
     }
     throw new RuntimeException("BlakeModexpOperation not found");
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.operations);
+  }
 }
@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -224,11 +225,7 @@ public class Trace {
       filled.set(10);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      limb.put((byte) 0);
-    }
-    limb.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(limb, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -617,11 +618,7 @@ public class Trace {
       filled.set(35);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      coinbaseLo.put((byte) 0);
-    }
-    coinbaseLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(coinbaseLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -645,11 +642,7 @@ public class Trace {
       filled.set(37);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      dataHi.put((byte) 0);
-    }
-    dataHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(dataHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -661,11 +654,7 @@ public class Trace {
       filled.set(38);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      dataLo.put((byte) 0);
-    }
-    dataLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(dataLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -19,26 +19,29 @@ import static net.consensys.linea.zktracer.module.constants.GlobalConstants.BLOC
 import static net.consensys.linea.zktracer.module.constants.GlobalConstants.LLARGE;
 
 import java.nio.MappedByteBuffer;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.container.stacked.set.SortedStackedSet;
 import net.consensys.linea.zktracer.container.stacked.set.StackedSet;
 import net.consensys.linea.zktracer.module.Module;
 import net.consensys.linea.zktracer.module.wcp.Wcp;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.datatypes.Transaction;
 import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.log.Log;
 import org.hyperledger.besu.evm.worldstate.WorldView;
 import org.hyperledger.besu.plugin.data.ProcessableBlockHeader;
 
 public class Blockhash implements Module {
   private final Wcp wcp;
 
-  private final StackedSet<BlockhashOperation> operations = new StackedSet<>();
-  private final List<BlockhashOperation> sortedOperations = new ArrayList<>();
+  private final SortedStackedSet<BlockhashOperation> operations =
+      new SortedStackedSet<>(new BlockhashComparator());
 
   /* Stores the result of BLOCKHASH if the result of the opcode is not 0 */
   private final Map<Bytes32, Bytes32> blockHashMap = new HashMap<>();
@@ -113,18 +116,24 @@ public class Blockhash implements Module {
     }
   }
 
+  @Override
+  public void traceEndTx(
+      WorldView worldView,
+      Transaction tx,
+      boolean isSuccessful,
+      Bytes output,
+      List<Log> logs,
+      long gasUsed) {
+    this.operations.seal();
+  }
+
   @Override
   public void traceEndConflation(WorldView state) {
-    final BlockhashComparator BLOCKHASH_COMPARATOR = new BlockhashComparator();
-    this.sortedOperations.addAll(this.operations);
-    this.sortedOperations.sort(BLOCKHASH_COMPARATOR);
-    if (!this.sortedOperations.isEmpty()) {
-      this.wcp.callGEQ(this.sortedOperations.get(0).opcodeArgument(), Bytes32.ZERO);
-      for (int i = 1; i < this.sortedOperations.size(); i++) {
-        this.wcp.callGEQ(
-            this.sortedOperations.get(i).opcodeArgument(),
-            this.sortedOperations.get(i - 1).opcodeArgument());
-      }
+    BlockhashOperation previous = null;
+    for (BlockhashOperation op : this.operations.sorted()) {
+      this.wcp.callGEQ(
+          op.opcodeArgument(), previous == null ? Bytes32.ZERO : previous.opcodeArgument());
+      previous = op;
     }
   }
 
@@ -141,7 +150,7 @@ public class Blockhash implements Module {
   @Override
   public void commit(List<MappedByteBuffer> buffers) {
     final Trace trace = new Trace(buffers);
-    for (BlockhashOperation op : this.sortedOperations) {
+    for (BlockhashOperation op : this.operations.sorted()) {
       final Bytes32 hash =
           op.result() == Bytes32.ZERO
               ? this.blockHashMap.getOrDefault(op.opcodeArgument(), Bytes32.ZERO)
@@ -150,4 +159,9 @@ public class Blockhash implements Module {
       op.trace(trace, hash);
     }
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.operations);
+  }
 }
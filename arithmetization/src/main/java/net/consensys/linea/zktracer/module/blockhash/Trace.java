@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -201,11 +202,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      blockHashHi.put((byte) 0);
-    }
-    blockHashHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(blockHashHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -217,11 +214,7 @@ public class Trace {
       filled.set(2);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      blockHashLo.put((byte) 0);
-    }
-    blockHashLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(blockHashLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -233,11 +226,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      blockNumberHi.put((byte) 0);
-    }
-    blockNumberHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(blockNumberHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -249,11 +238,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      blockNumberLo.put((byte) 0);
-    }
-    blockNumberLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(blockNumberLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -697,11 +682,7 @@ public class Trace {
       filled.set(41);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      resHi.put((byte) 0);
-    }
-    resHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(resHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -713,11 +694,7 @@ public class Trace {
       filled.set(42);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      resLo.put((byte) 0);
-    }
-    resLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(resLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
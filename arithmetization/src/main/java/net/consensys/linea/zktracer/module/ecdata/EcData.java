@@ -18,6 +18,7 @@ package net.consensys.linea.zktracer.module.ecdata;
 import java.nio.MappedByteBuffer;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import lombok.Getter;
@@ -106,4 +107,9 @@ public class EcData implements Module {
       previousId = op.id();
     }
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.operations);
+  }
 }
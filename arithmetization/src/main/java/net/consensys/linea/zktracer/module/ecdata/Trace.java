@@ -21,6 +21,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -251,11 +252,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accPairings.put((byte) 0);
-    }
-    accPairings.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accPairings, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -376,11 +373,7 @@ public class Trace {
       filled.set(10);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      extArg1Hi.put((byte) 0);
-    }
-    extArg1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(extArg1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -392,11 +385,7 @@ public class Trace {
       filled.set(11);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      extArg1Lo.put((byte) 0);
-    }
-    extArg1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(extArg1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -408,11 +397,7 @@ public class Trace {
       filled.set(12);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      extArg2Hi.put((byte) 0);
-    }
-    extArg2Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(extArg2Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -424,11 +409,7 @@ public class Trace {
       filled.set(13);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      extArg2Lo.put((byte) 0);
-    }
-    extArg2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(extArg2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -440,11 +421,7 @@ public class Trace {
       filled.set(14);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      extArg3Hi.put((byte) 0);
-    }
-    extArg3Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(extArg3Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -456,11 +433,7 @@ public class Trace {
       filled.set(15);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      extArg3Lo.put((byte) 0);
-    }
-    extArg3Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(extArg3Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -496,11 +469,7 @@ public class Trace {
       filled.set(18);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      extResHi.put((byte) 0);
-    }
-    extResHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(extResHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -512,11 +481,7 @@ public class Trace {
       filled.set(19);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      extResLo.put((byte) 0);
-    }
-    extResLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(extResLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -576,11 +541,7 @@ public class Trace {
       filled.set(24);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      indexMax.put((byte) 0);
-    }
-    indexMax.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(indexMax, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -736,11 +697,7 @@ public class Trace {
       filled.set(37);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      limb.put((byte) 0);
-    }
-    limb.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(limb, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -836,11 +793,7 @@ public class Trace {
       filled.set(45);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      totalPairings.put((byte) 0);
-    }
-    totalPairings.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(totalPairings, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -852,11 +805,7 @@ public class Trace {
       filled.set(46);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      totalSize.put((byte) 0);
-    }
-    totalSize.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(totalSize, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -868,11 +817,7 @@ public class Trace {
       filled.set(47);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      wcpArg1Hi.put((byte) 0);
-    }
-    wcpArg1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(wcpArg1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -884,11 +829,7 @@ public class Trace {
       filled.set(48);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      wcpArg1Lo.put((byte) 0);
-    }
-    wcpArg1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(wcpArg1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -900,11 +841,7 @@ public class Trace {
       filled.set(49);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      wcpArg2Hi.put((byte) 0);
-    }
-    wcpArg2Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(wcpArg2Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -916,11 +853,7 @@ public class Trace {
       filled.set(50);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      wcpArg2Lo.put((byte) 0);
-    }
-    wcpArg2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(wcpArg2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
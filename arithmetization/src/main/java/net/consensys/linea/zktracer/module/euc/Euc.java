@@ -15,18 +15,18 @@
 
 package net.consensys.linea.zktracer.module.euc;
 
-import static net.consensys.linea.zktracer.types.Conversions.bigIntegerToBytes;
-
-import java.math.BigInteger;
 import java.nio.MappedByteBuffer;
 import java.util.List;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.bytestheta.LimbArithmetic;
 import net.consensys.linea.zktracer.container.stacked.set.StackedSet;
 import net.consensys.linea.zktracer.module.Module;
 import net.consensys.linea.zktracer.module.wcp.Wcp;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 
 @RequiredArgsConstructor
 public class Euc implements Module {
@@ -67,10 +67,25 @@ public class Euc implements Module {
   }
 
   public EucOperation callEUC(final Bytes dividend, final Bytes divisor) {
-    final BigInteger dividendBI = dividend.toUnsignedBigInteger();
-    final BigInteger divisorBI = divisor.toUnsignedBigInteger();
-    final Bytes quotient = bigIntegerToBytes(dividendBI.divide(divisorBI));
-    final Bytes remainder = bigIntegerToBytes(dividendBI.remainder(divisorBI));
+    final Bytes quotient;
+    final Bytes remainder;
+    if (dividend.bitLength() <= Long.SIZE && divisor.bitLength() <= Long.SIZE) {
+      // The common case, e.g. offsets and sizes divided by LLARGE: stick to 64-bit arithmetic
+      final long dividendLong = dividend.trimLeadingZeros().toLong();
+      final long divisorLong = divisor.trimLeadingZeros().toLong();
+      quotient = minimalBytes(Long.divideUnsigned(dividendLong, divisorLong));
+      remainder = minimalBytes(Long.remainderUnsigned(dividendLong, divisorLong));
+    } else {
+      final long[] q = new long[LimbArithmetic.WORD_LIMBS];
+      final long[] r = new long[LimbArithmetic.WORD_LIMBS];
+      LimbArithmetic.divide(
+          LimbArithmetic.fromBytes32(Bytes32.leftPad(dividend)),
+          LimbArithmetic.fromBytes32(Bytes32.leftPad(divisor)),
+          q,
+          r);
+      quotient = minimalBytes(LimbArithmetic.toBytes32(q));
+      remainder = minimalBytes(LimbArithmetic.toBytes32(r));
+    }
 
     EucOperation operation = new EucOperation(dividend, divisor, quotient, remainder);
 
@@ -81,4 +96,18 @@ public class Euc implements Module {
 
     return operation;
   }
+
+  /** The minimal big-endian representation of a value, but one zero byte for zero. */
+  private static Bytes minimalBytes(final long value) {
+    return value == 0 ? Bytes.of(0) : Bytes.minimalBytes(value);
+  }
+
+  private static Bytes minimalBytes(final Bytes32 value) {
+    return value.isZero() ? Bytes.of(0) : value.trimLeadingZeros();
+  }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.operations);
+  }
 }
@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -93,11 +94,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      ceil.put((byte) 0);
-    }
-    ceil.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(ceil, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -133,11 +130,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      dividend.put((byte) 0);
-    }
-    dividend.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(dividend, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -149,11 +142,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      divisor.put((byte) 0);
-    }
-    divisor.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(divisor, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -201,11 +190,7 @@ public class Trace {
       filled.set(8);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      quotient.put((byte) 0);
-    }
-    quotient.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(quotient, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -229,11 +214,7 @@ public class Trace {
       filled.set(10);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      remainder.put((byte) 0);
-    }
-    remainder.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(remainder, b.toArrayUnsafe(), 32);
 
     return this;
   }
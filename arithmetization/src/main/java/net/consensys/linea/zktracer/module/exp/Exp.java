@@ -17,6 +17,7 @@ package net.consensys.linea.zktracer.module.exp;
 
 import java.nio.MappedByteBuffer;
 import java.util.List;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -81,4 +82,9 @@ public class Exp implements Module {
       op.tracePreprocessing(stamp, trace);
     }
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.chunks);
+  }
 }
@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -298,11 +299,7 @@ public class Trace {
       filled.set(20);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rawAccXorData1XorWcpArg1Hi.put((byte) 0);
-    }
-    rawAccXorData1XorWcpArg1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(rawAccXorData1XorWcpArg1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -350,11 +347,7 @@ public class Trace {
       filled.set(21);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      trimAccXorData2XorWcpArg1Lo.put((byte) 0);
-    }
-    trimAccXorData2XorWcpArg1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(trimAccXorData2XorWcpArg1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -378,11 +371,7 @@ public class Trace {
       filled.set(20);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rawAccXorData1XorWcpArg1Hi.put((byte) 0);
-    }
-    rawAccXorData1XorWcpArg1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(rawAccXorData1XorWcpArg1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -394,11 +383,7 @@ public class Trace {
       filled.set(21);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      trimAccXorData2XorWcpArg1Lo.put((byte) 0);
-    }
-    trimAccXorData2XorWcpArg1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(trimAccXorData2XorWcpArg1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -410,11 +395,7 @@ public class Trace {
       filled.set(22);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      data3XorWcpArg2Hi.put((byte) 0);
-    }
-    data3XorWcpArg2Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(data3XorWcpArg2Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -426,11 +407,7 @@ public class Trace {
       filled.set(23);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      data4XorWcpArg2Lo.put((byte) 0);
-    }
-    data4XorWcpArg2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(data4XorWcpArg2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -442,11 +419,7 @@ public class Trace {
       filled.set(24);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      data5.put((byte) 0);
-    }
-    data5.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(data5, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -470,11 +443,7 @@ public class Trace {
       filled.set(20);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rawAccXorData1XorWcpArg1Hi.put((byte) 0);
-    }
-    rawAccXorData1XorWcpArg1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(rawAccXorData1XorWcpArg1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -486,11 +455,7 @@ public class Trace {
       filled.set(21);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      trimAccXorData2XorWcpArg1Lo.put((byte) 0);
-    }
-    trimAccXorData2XorWcpArg1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(trimAccXorData2XorWcpArg1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -502,11 +467,7 @@ public class Trace {
       filled.set(22);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      data3XorWcpArg2Hi.put((byte) 0);
-    }
-    data3XorWcpArg2Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(data3XorWcpArg2Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -518,11 +479,7 @@ public class Trace {
       filled.set(23);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      data4XorWcpArg2Lo.put((byte) 0);
-    }
-    data4XorWcpArg2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(data4XorWcpArg2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
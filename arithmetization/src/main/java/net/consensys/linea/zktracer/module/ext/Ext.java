@@ -17,6 +17,7 @@ package net.consensys.linea.zktracer.module.ext;
 
 import java.nio.MappedByteBuffer;
 import java.util.List;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import net.consensys.linea.zktracer.ColumnHeader;
@@ -107,4 +108,9 @@ public class Ext implements Module {
   public int lineCount() {
     return this.operations.lineCount();
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.operations);
+  }
 }
@@ -15,40 +15,42 @@
 
 package net.consensys.linea.zktracer.module.ext;
 
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.WORD_LIMBS;
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.accumulator;
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.byteOf;
 import static net.consensys.linea.zktracer.module.Util.boolToInt;
 
+import java.util.Arrays;
+
 import lombok.EqualsAndHashCode;
-import net.consensys.linea.zktracer.bytestheta.BaseBytes;
-import net.consensys.linea.zktracer.bytestheta.BaseTheta;
-import net.consensys.linea.zktracer.bytestheta.BytesArray;
+import net.consensys.linea.zktracer.bytestheta.LimbArithmetic;
 import net.consensys.linea.zktracer.container.ModuleOperation;
 import net.consensys.linea.zktracer.module.ext.calculator.AbstractExtCalculator;
 import net.consensys.linea.zktracer.opcode.OpCode;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
-import org.apache.tuweni.units.bigints.UInt256;
 
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 public class ExtOperation extends ModuleOperation {
   private static final int MMEDIUM = 8;
 
   @EqualsAndHashCode.Include private final OpCode opCode;
-  @EqualsAndHashCode.Include private final BaseBytes arg1;
-  @EqualsAndHashCode.Include private final BaseBytes arg2;
-  @EqualsAndHashCode.Include private final BaseBytes arg3;
+  @EqualsAndHashCode.Include private final Bytes32 arg1;
+  @EqualsAndHashCode.Include private final Bytes32 arg2;
+  @EqualsAndHashCode.Include private final Bytes32 arg3;
   private final boolean isOneLineInstruction;
 
-  private BaseTheta result;
-  private BaseTheta aBytes;
-  private BaseTheta bBytes;
-  private BaseTheta cBytes;
-  private BaseTheta deltaBytes;
-  private BytesArray hBytes;
-  private BaseTheta rBytes;
-  private BytesArray iBytes;
-  private BytesArray jBytes;
-  private BytesArray qBytes;
+  private Bytes32 result;
+  private final long[] aLimbs = new long[WORD_LIMBS];
+  private final long[] bLimbs = new long[WORD_LIMBS];
+  private final long[] cLimbs = new long[WORD_LIMBS];
+  private final long[] deltaLimbs = new long[WORD_LIMBS];
+  private final long[] hLimbs = new long[6];
+  private final long[] rLimbs = new long[WORD_LIMBS];
+  private final long[] iLimbs = new long[7];
+  private final long[] jLimbs = new long[8];
+  private final long[] qLimbs = new long[8];
   private boolean[] cmp = new boolean[8];
   boolean[] overflowH = new boolean[8];
   boolean[] overflowJ = new boolean[8];
@@ -57,47 +59,40 @@ public class ExtOperation extends ModuleOperation {
 
   public ExtOperation(OpCode opCode, Bytes32 arg1, Bytes32 arg2, Bytes32 arg3) {
     this.opCode = opCode;
-    this.arg1 = BaseBytes.fromBytes32(arg1.copy());
-    this.arg2 = BaseBytes.fromBytes32(arg2.copy());
-    this.arg3 = BaseBytes.fromBytes32(arg3.copy());
+    this.arg1 = arg1.copy();
+    this.arg2 = arg2.copy();
+    this.arg3 = arg3.copy();
     this.isOneLineInstruction = isOneLineInstruction();
   }
 
-  public UInt256 compute() {
+  public Bytes32 compute() {
     AbstractExtCalculator computer = AbstractExtCalculator.create(this.opCode);
-    return computer.computeResult(
-        this.arg1.getBytes32(), this.arg2.getBytes32(), this.arg3.getBytes32());
+    LimbArithmetic.fromBytes32(this.arg1, this.aLimbs);
+    LimbArithmetic.fromBytes32(this.arg2, this.bLimbs);
+    LimbArithmetic.fromBytes32(this.arg3, this.cLimbs);
+
+    computer.computeJs(this.aLimbs, this.bLimbs, this.jLimbs);
+    computer.computeQsAndResult(this.jLimbs, this.cLimbs, this.qLimbs, this.rLimbs);
+    this.result = LimbArithmetic.toBytes32(this.rLimbs);
+    return this.result;
   }
 
   public void setup() {
-    this.aBytes = BaseTheta.fromBytes32(this.arg1.getBytes32());
-    this.bBytes = BaseTheta.fromBytes32(this.arg2.getBytes32());
-    this.cBytes = BaseTheta.fromBytes32(this.arg3.getBytes32());
-    this.iBytes = new BytesArray(7);
-    this.jBytes = new BytesArray(8);
-    this.qBytes = new BytesArray(8);
-    this.deltaBytes = BaseTheta.fromBytes32(Bytes32.ZERO);
-    this.hBytes = new BytesArray(6);
-
     AbstractExtCalculator computer = AbstractExtCalculator.create(this.opCode);
 
-    final UInt256 result = this.compute();
-    this.result = BaseTheta.fromBytes32(result);
-    this.rBytes = BaseTheta.fromBytes32(result);
+    this.compute();
 
-    if (!this.isOneLineInstruction) {
-      cmp = computer.computeComparisonFlags(cBytes, rBytes);
-      deltaBytes = computer.computeDeltas(cBytes, rBytes);
-      jBytes = computer.computeJs(this.arg1.getBytes32(), this.arg2.getBytes32());
-      qBytes =
-          computer.computeQs(
-              this.arg1.getBytes32(), this.arg2.getBytes32(), this.arg3.getBytes32());
-      overflowH = computer.computeHs(aBytes, bBytes, hBytes);
-      overflowI = computer.computeIs(qBytes, cBytes, iBytes);
-      overflowJ = computer.computeOverflowJ(qBytes, cBytes, rBytes, iBytes, getSigma(), getTau());
-      overflowRes =
-          computer.computeOverflowRes(
-              this.arg1, this.arg2, aBytes, bBytes, hBytes, getAlpha(), getBeta());
+    if (this.isOneLineInstruction) {
+      // Only the arguments and the result are traced for one-line instructions
+      Arrays.fill(this.jLimbs, 0);
+      Arrays.fill(this.qLimbs, 0);
+    } else {
+      cmp = computer.computeComparisonFlags(cLimbs, rLimbs);
+      computer.computeDeltas(cLimbs, rLimbs, deltaLimbs);
+      overflowH = computer.computeHs(aLimbs, bLimbs, hLimbs);
+      overflowI = computer.computeIs(qLimbs, cLimbs, iLimbs);
+      overflowJ = computer.computeOverflowJ(qLimbs, cLimbs, rLimbs, iLimbs, getSigma(), getTau());
+      overflowRes = computer.computeOverflowRes(aLimbs, bLimbs, hLimbs, getAlpha(), getBeta());
     }
   }
 
@@ -110,7 +105,8 @@ public class ExtOperation extends ModuleOperation {
   }
 
   public boolean getBit3() {
-    return UInt256.ONE.compareTo(UInt256.fromBytes(this.arg3.getBytes32())) >= 0;
+    // arg3 <= 1
+    return this.arg3.numberOfLeadingZeros() >= 255;
   }
 
   /** Returns true if any of the bit1, bit2, or bit3 flags are set. */
@@ -131,20 +127,20 @@ public class ExtOperation extends ModuleOperation {
     return this.maxCt();
   }
 
-  private UInt256 getSigma() {
-    return UInt256.valueOf(boolToInt(overflowI[0]));
+  private long getSigma() {
+    return boolToInt(overflowI[0]);
   }
 
-  private UInt256 getAlpha() {
-    return UInt256.valueOf(boolToInt(overflowH[0]));
+  private long getAlpha() {
+    return boolToInt(overflowH[0]);
   }
 
-  private UInt256 getBeta() {
-    return UInt256.valueOf(boolToInt(overflowH[1]) + 2L * boolToInt(overflowH[2]));
+  private long getBeta() {
+    return boolToInt(overflowH[1]) + 2L * boolToInt(overflowH[2]);
   }
 
-  private UInt256 getTau() {
-    return UInt256.valueOf(boolToInt(overflowI[1]) + 2L * boolToInt(overflowI[2]));
+  private long getTau() {
+    return boolToInt(overflowI[1]) + 2L * boolToInt(overflowI[2]);
   }
 
   void trace(Trace trace, int stamp) {
@@ -154,121 +150,121 @@ public class ExtOperation extends ModuleOperation {
       final int accLength = i + 1;
       trace
           // Byte A and Acc A
-          .byteA0(UnsignedByte.of(this.aBytes.get(0).get(i)))
-          .byteA1(UnsignedByte.of(this.aBytes.get(1).get(i)))
-          .byteA2(UnsignedByte.of(this.aBytes.get(2).get(i)))
-          .byteA3(UnsignedByte.of(this.aBytes.get(3).get(i)))
-          .accA0(this.aBytes.get(0).slice(0, accLength))
-          .accA1(this.aBytes.get(1).slice(0, accLength))
-          .accA2(this.aBytes.get(2).slice(0, accLength))
-          .accA3(this.aBytes.get(3).slice(0, accLength))
+          .byteA0(UnsignedByte.of(byteOf(this.aLimbs[0], i)))
+          .byteA1(UnsignedByte.of(byteOf(this.aLimbs[1], i)))
+          .byteA2(UnsignedByte.of(byteOf(this.aLimbs[2], i)))
+          .byteA3(UnsignedByte.of(byteOf(this.aLimbs[3], i)))
+          .accA0(accumulator(this.aLimbs[0], accLength))
+          .accA1(accumulator(this.aLimbs[1], accLength))
+          .accA2(accumulator(this.aLimbs[2], accLength))
+          .accA3(accumulator(this.aLimbs[3], accLength))
           // Byte B and Acc B
-          .byteB0(UnsignedByte.of(this.bBytes.get(0).get(i)))
-          .byteB1(UnsignedByte.of(this.bBytes.get(1).get(i)))
-          .byteB2(UnsignedByte.of(this.bBytes.get(2).get(i)))
-          .byteB3(UnsignedByte.of(this.bBytes.get(3).get(i)))
-          .accB0(this.bBytes.get(0).slice(0, accLength))
-          .accB1(this.bBytes.get(1).slice(0, accLength))
-          .accB2(this.bBytes.get(2).slice(0, accLength))
-          .accB3(this.bBytes.get(3).slice(0, accLength))
+          .byteB0(UnsignedByte.of(byteOf(this.bLimbs[0], i)))
+          .byteB1(UnsignedByte.of(byteOf(this.bLimbs[1], i)))
+          .byteB2(UnsignedByte.of(byteOf(this.bLimbs[2], i)))
+          .byteB3(UnsignedByte.of(byteOf(this.bLimbs[3], i)))
+          .accB0(accumulator(this.bLimbs[0], accLength))
+          .accB1(accumulator(this.bLimbs[1], accLength))
+          .accB2(accumulator(this.bLimbs[2], accLength))
+          .accB3(accumulator(this.bLimbs[3], accLength))
           // Byte C and Acc C
-          .byteC0(UnsignedByte.of(this.cBytes.get(0).get(i)))
-          .byteC1(UnsignedByte.of(this.cBytes.get(1).get(i)))
-          .byteC2(UnsignedByte.of(this.cBytes.get(2).get(i)))
-          .byteC3(UnsignedByte.of(this.cBytes.get(3).get(i)))
-          .accC0(this.cBytes.get(0).slice(0, accLength))
-          .accC1(this.cBytes.get(1).slice(0, accLength))
-          .accC2(this.cBytes.get(2).slice(0, accLength))
-          .accC3(this.cBytes.get(3).slice(0, accLength))
+          .byteC0(UnsignedByte.of(byteOf(this.cLimbs[0], i)))
+          .byteC1(UnsignedByte.of(byteOf(this.cLimbs[1], i)))
+          .byteC2(UnsignedByte.of(byteOf(this.cLimbs[2], i)))
+          .byteC3(UnsignedByte.of(byteOf(this.cLimbs[3], i)))
+          .accC0(accumulator(this.cLimbs[0], accLength))
+          .accC1(accumulator(this.cLimbs[1], accLength))
+          .accC2(accumulator(this.cLimbs[2], accLength))
+          .accC3(accumulator(this.cLimbs[3], accLength))
           // Byte Delta and Acc Delta
-          .byteDelta0(UnsignedByte.of(this.deltaBytes.get(0).get(i)))
-          .byteDelta1(UnsignedByte.of(this.deltaBytes.get(1).get(i)))
-          .byteDelta2(UnsignedByte.of(this.deltaBytes.get(2).get(i)))
-          .byteDelta3(UnsignedByte.of(this.deltaBytes.get(3).get(i)))
-          .accDelta0(this.deltaBytes.get(0).slice(0, accLength))
-          .accDelta1(this.deltaBytes.get(1).slice(0, accLength))
-          .accDelta2(this.deltaBytes.get(2).slice(0, accLength))
-          .accDelta3(this.deltaBytes.get(3).slice(0, accLength))
+          .byteDelta0(UnsignedByte.of(byteOf(this.deltaLimbs[0], i)))
+          .byteDelta1(UnsignedByte.of(byteOf(this.deltaLimbs[1], i)))
+          .byteDelta2(UnsignedByte.of(byteOf(this.deltaLimbs[2], i)))
+          .byteDelta3(UnsignedByte.of(byteOf(this.deltaLimbs[3], i)))
+          .accDelta0(accumulator(this.deltaLimbs[0], accLength))
+          .accDelta1(accumulator(this.deltaLimbs[1], accLength))
+          .accDelta2(accumulator(this.deltaLimbs[2], accLength))
+          .accDelta3(accumulator(this.deltaLimbs[3], accLength))
           // Byte H and Acc H
-          .byteH0(UnsignedByte.of(this.hBytes.get(0).get(i)))
-          .byteH1(UnsignedByte.of(this.hBytes.get(1).get(i)))
-          .byteH2(UnsignedByte.of(this.hBytes.get(2).get(i)))
-          .byteH3(UnsignedByte.of(this.hBytes.get(3).get(i)))
-          .byteH4(UnsignedByte.of(this.hBytes.get(4).get(i)))
-          .byteH5(UnsignedByte.of(this.hBytes.get(5).get(i)))
-          .accH0(this.hBytes.get(0).slice(0, accLength))
-          .accH1(this.hBytes.get(1).slice(0, accLength))
-          .accH2(this.hBytes.get(2).slice(0, accLength))
-          .accH3(this.hBytes.get(3).slice(0, accLength))
-          .accH4(this.hBytes.get(4).slice(0, accLength))
-          .accH5(this.hBytes.get(5).slice(0, accLength))
+          .byteH0(UnsignedByte.of(byteOf(this.hLimbs[0], i)))
+          .byteH1(UnsignedByte.of(byteOf(this.hLimbs[1], i)))
+          .byteH2(UnsignedByte.of(byteOf(this.hLimbs[2], i)))
+          .byteH3(UnsignedByte.of(byteOf(this.hLimbs[3], i)))
+          .byteH4(UnsignedByte.of(byteOf(this.hLimbs[4], i)))
+          .byteH5(UnsignedByte.of(byteOf(this.hLimbs[5], i)))
+          .accH0(accumulator(this.hLimbs[0], accLength))
+          .accH1(accumulator(this.hLimbs[1], accLength))
+          .accH2(accumulator(this.hLimbs[2], accLength))
+          .accH3(accumulator(this.hLimbs[3], accLength))
+          .accH4(accumulator(this.hLimbs[4], accLength))
+          .accH5(accumulator(this.hLimbs[5], accLength))
           // Byte I and Acc I
-          .byteI0(UnsignedByte.of(this.iBytes.get(0).get(i)))
-          .byteI1(UnsignedByte.of(this.iBytes.get(1).get(i)))
-          .byteI2(UnsignedByte.of(this.iBytes.get(2).get(i)))
-          .byteI3(UnsignedByte.of(this.iBytes.get(3).get(i)))
-          .byteI4(UnsignedByte.of(this.iBytes.get(4).get(i)))
-          .byteI5(UnsignedByte.of(this.iBytes.get(5).get(i)))
-          .byteI6(UnsignedByte.of(this.iBytes.get(6).get(i)))
-          .accI0(this.iBytes.get(0).slice(0, accLength))
-          .accI1(this.iBytes.get(1).slice(0, accLength))
-          .accI2(this.iBytes.get(2).slice(0, accLength))
-          .accI3(this.iBytes.get(3).slice(0, accLength))
-          .accI4(this.iBytes.get(4).slice(0, accLength))
-          .accI5(this.iBytes.get(5).slice(0, accLength))
-          .accI6(this.iBytes.get(6).slice(0, accLength))
+          .byteI0(UnsignedByte.of(byteOf(this.iLimbs[0], i)))
+          .byteI1(UnsignedByte.of(byteOf(this.iLimbs[1], i)))
+          .byteI2(UnsignedByte.of(byteOf(this.iLimbs[2], i)))
+          .byteI3(UnsignedByte.of(byteOf(this.iLimbs[3], i)))
+          .byteI4(UnsignedByte.of(byteOf(this.iLimbs[4], i)))
+          .byteI5(UnsignedByte.of(byteOf(this.iLimbs[5], i)))
+          .byteI6(UnsignedByte.of(byteOf(this.iLimbs[6], i)))
+          .accI0(accumulator(this.iLimbs[0], accLength))
+          .accI1(accumulator(this.iLimbs[1], accLength))
+          .accI2(accumulator(this.iLimbs[2], accLength))
+          .accI3(accumulator(this.iLimbs[3], accLength))
+          .accI4(accumulator(this.iLimbs[4], accLength))
+          .accI5(accumulator(this.iLimbs[5], accLength))
+          .accI6(accumulator(this.iLimbs[6], accLength))
           // Byte J and Acc J
-          .byteJ0(UnsignedByte.of(this.jBytes.get(0).get(i)))
-          .byteJ1(UnsignedByte.of(this.jBytes.get(1).get(i)))
-          .byteJ2(UnsignedByte.of(this.jBytes.get(2).get(i)))
-          .byteJ3(UnsignedByte.of(this.jBytes.get(3).get(i)))
-          .byteJ4(UnsignedByte.of(this.jBytes.get(4).get(i)))
-          .byteJ5(UnsignedByte.of(this.jBytes.get(5).get(i)))
-          .byteJ6(UnsignedByte.of(this.jBytes.get(6).get(i)))
-          .byteJ7(UnsignedByte.of(this.jBytes.get(7).get(i)))
-          .accJ0(this.jBytes.get(0).slice(0, accLength))
-          .accJ1(this.jBytes.get(1).slice(0, accLength))
-          .accJ2(this.jBytes.get(2).slice(0, accLength))
-          .accJ3(this.jBytes.get(3).slice(0, accLength))
-          .accJ4(this.jBytes.get(4).slice(0, accLength))
-          .accJ5(this.jBytes.get(5).slice(0, accLength))
-          .accJ6(this.jBytes.get(6).slice(0, accLength))
-          .accJ7(this.jBytes.get(7).slice(0, accLength))
+          .byteJ0(UnsignedByte.of(byteOf(this.jLimbs[0], i)))
+          .byteJ1(UnsignedByte.of(byteOf(this.jLimbs[1], i)))
+          .byteJ2(UnsignedByte.of(byteOf(this.jLimbs[2], i)))
+          .byteJ3(UnsignedByte.of(byteOf(this.jLimbs[3], i)))
+          .byteJ4(UnsignedByte.of(byteOf(this.jLimbs[4], i)))
+          .byteJ5(UnsignedByte.of(byteOf(this.jLimbs[5], i)))
+          .byteJ6(UnsignedByte.of(byteOf(this.jLimbs[6], i)))
+          .byteJ7(UnsignedByte.of(byteOf(this.jLimbs[7], i)))
+          .accJ0(accumulator(this.jLimbs[0], accLength))
+          .accJ1(accumulator(this.jLimbs[1], accLength))
+          .accJ2(accumulator(this.jLimbs[2], accLength))
+          .accJ3(accumulator(this.jLimbs[3], accLength))
+          .accJ4(accumulator(this.jLimbs[4], accLength))
+          .accJ5(accumulator(this.jLimbs[5], accLength))
+          .accJ6(accumulator(this.jLimbs[6], accLength))
+          .accJ7(accumulator(this.jLimbs[7], accLength))
           // Byte Q and Acc Q
-          .byteQ0(UnsignedByte.of(this.qBytes.get(0).get(i)))
-          .byteQ1(UnsignedByte.of(this.qBytes.get(1).get(i)))
-          .byteQ2(UnsignedByte.of(this.qBytes.get(2).get(i)))
-          .byteQ3(UnsignedByte.of(this.qBytes.get(3).get(i)))
-          .byteQ4(UnsignedByte.of(this.qBytes.get(4).get(i)))
-          .byteQ5(UnsignedByte.of(this.qBytes.get(5).get(i)))
-          .byteQ6(UnsignedByte.of(this.qBytes.get(6).get(i)))
-          .byteQ7(UnsignedByte.of(this.qBytes.get(7).get(i)))
-          .accQ0(this.qBytes.get(0).slice(0, accLength))
-          .accQ1(this.qBytes.get(1).slice(0, accLength))
-          .accQ2(this.qBytes.get(2).slice(0, accLength))
-          .accQ3(this.qBytes.get(3).slice(0, accLength))
-          .accQ4(this.qBytes.get(4).slice(0, accLength))
-          .accQ5(this.qBytes.get(5).slice(0, accLength))
-          .accQ6(this.qBytes.get(6).slice(0, accLength))
-          .accQ7(this.qBytes.get(7).slice(0, accLength))
+          .byteQ0(UnsignedByte.of(byteOf(this.qLimbs[0], i)))
+          .byteQ1(UnsignedByte.of(byteOf(this.qLimbs[1], i)))
+          .byteQ2(UnsignedByte.of(byteOf(this.qLimbs[2], i)))
+          .byteQ3(UnsignedByte.of(byteOf(this.qLimbs[3], i)))
+          .byteQ4(UnsignedByte.of(byteOf(this.qLimbs[4], i)))
+          .byteQ5(UnsignedByte.of(byteOf(this.qLimbs[5], i)))
+          .byteQ6(UnsignedByte.of(byteOf(this.qLimbs[6], i)))
+          .byteQ7(UnsignedByte.of(byteOf(this.qLimbs[7], i)))
+          .accQ0(accumulator(this.qLimbs[0], accLength))
+          .accQ1(accumulator(this.qLimbs[1], accLength))
+          .accQ2(accumulator(this.qLimbs[2], accLength))
+          .accQ3(accumulator(this.qLimbs[3], accLength))
+          .accQ4(accumulator(this.qLimbs[4], accLength))
+          .accQ5(accumulator(this.qLimbs[5], accLength))
+          .accQ6(accumulator(this.qLimbs[6], accLength))
+          .accQ7(accumulator(this.qLimbs[7], accLength))
           // Byte R and Acc R
-          .byteR0(UnsignedByte.of(this.rBytes.get(0).get(i)))
-          .byteR1(UnsignedByte.of(this.rBytes.get(1).get(i)))
-          .byteR2(UnsignedByte.of(this.rBytes.get(2).get(i)))
-          .byteR3(UnsignedByte.of(this.rBytes.get(3).get(i)))
-          .accR0(this.rBytes.get(0).slice(0, accLength))
-          .accR1(this.rBytes.get(1).slice(0, accLength))
-          .accR2(this.rBytes.get(2).slice(0, accLength))
-          .accR3(this.rBytes.get(3).slice(0, accLength))
+          .byteR0(UnsignedByte.of(byteOf(this.rLimbs[0], i)))
+          .byteR1(UnsignedByte.of(byteOf(this.rLimbs[1], i)))
+          .byteR2(UnsignedByte.of(byteOf(this.rLimbs[2], i)))
+          .byteR3(UnsignedByte.of(byteOf(this.rLimbs[3], i)))
+          .accR0(accumulator(this.rLimbs[0], accLength))
+          .accR1(accumulator(this.rLimbs[1], accLength))
+          .accR2(accumulator(this.rLimbs[2], accLength))
+          .accR3(accumulator(this.rLimbs[3], accLength))
           // other
-          .arg1Hi(this.arg1.getHigh())
-          .arg1Lo(this.arg1.getLow())
-          .arg2Hi(this.arg2.getHigh())
-          .arg2Lo(this.arg2.getLow())
-          .arg3Hi(this.arg3.getHigh())
-          .arg3Lo(this.arg3.getLow())
-          .resHi(this.result.getHigh())
-          .resLo(this.result.getLow())
+          .arg1Hi(this.arg1.slice(0, 16))
+          .arg1Lo(this.arg1.slice(16))
+          .arg2Hi(this.arg2.slice(0, 16))
+          .arg2Lo(this.arg2.slice(16))
+          .arg3Hi(this.arg3.slice(0, 16))
+          .arg3Lo(this.arg3.slice(16))
+          .resHi(this.result.slice(0, 16))
+          .resLo(this.result.slice(16))
           .cmp(this.cmp[i])
           .ofH(this.overflowH[i])
           .ofJ(this.overflowJ[i])
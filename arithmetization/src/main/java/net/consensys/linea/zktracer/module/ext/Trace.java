@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -411,11 +412,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accA0.put((byte) 0);
-    }
-    accA0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accA0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -427,11 +424,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accA1.put((byte) 0);
-    }
-    accA1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accA1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -443,11 +436,7 @@ public class Trace {
       filled.set(2);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accA2.put((byte) 0);
-    }
-    accA2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accA2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -459,11 +448,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accA3.put((byte) 0);
-    }
-    accA3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accA3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -475,11 +460,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accB0.put((byte) 0);
-    }
-    accB0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accB0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -491,11 +472,7 @@ public class Trace {
       filled.set(5);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accB1.put((byte) 0);
-    }
-    accB1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accB1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -507,11 +484,7 @@ public class Trace {
       filled.set(6);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accB2.put((byte) 0);
-    }
-    accB2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accB2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -523,11 +496,7 @@ public class Trace {
       filled.set(7);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accB3.put((byte) 0);
-    }
-    accB3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accB3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -539,11 +508,7 @@ public class Trace {
       filled.set(8);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accC0.put((byte) 0);
-    }
-    accC0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accC0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -555,11 +520,7 @@ public class Trace {
       filled.set(9);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accC1.put((byte) 0);
-    }
-    accC1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accC1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -571,11 +532,7 @@ public class Trace {
       filled.set(10);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accC2.put((byte) 0);
-    }
-    accC2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accC2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -587,11 +544,7 @@ public class Trace {
       filled.set(11);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accC3.put((byte) 0);
-    }
-    accC3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accC3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -603,11 +556,7 @@ public class Trace {
       filled.set(12);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accDelta0.put((byte) 0);
-    }
-    accDelta0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accDelta0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -619,11 +568,7 @@ public class Trace {
       filled.set(13);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accDelta1.put((byte) 0);
-    }
-    accDelta1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accDelta1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -635,11 +580,7 @@ public class Trace {
       filled.set(14);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accDelta2.put((byte) 0);
-    }
-    accDelta2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accDelta2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -651,11 +592,7 @@ public class Trace {
       filled.set(15);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accDelta3.put((byte) 0);
-    }
-    accDelta3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accDelta3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -667,11 +604,7 @@ public class Trace {
       filled.set(16);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accH0.put((byte) 0);
-    }
-    accH0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accH0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -683,11 +616,7 @@ public class Trace {
       filled.set(17);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accH1.put((byte) 0);
-    }
-    accH1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accH1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -699,11 +628,7 @@ public class Trace {
       filled.set(18);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accH2.put((byte) 0);
-    }
-    accH2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accH2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -715,11 +640,7 @@ public class Trace {
       filled.set(19);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accH3.put((byte) 0);
-    }
-    accH3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accH3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -731,11 +652,7 @@ public class Trace {
       filled.set(20);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accH4.put((byte) 0);
-    }
-    accH4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accH4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -747,11 +664,7 @@ public class Trace {
       filled.set(21);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accH5.put((byte) 0);
-    }
-    accH5.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accH5, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -763,11 +676,7 @@ public class Trace {
       filled.set(22);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accI0.put((byte) 0);
-    }
-    accI0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accI0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -779,11 +688,7 @@ public class Trace {
       filled.set(23);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accI1.put((byte) 0);
-    }
-    accI1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accI1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -795,11 +700,7 @@ public class Trace {
       filled.set(24);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accI2.put((byte) 0);
-    }
-    accI2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accI2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -811,11 +712,7 @@ public class Trace {
       filled.set(25);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accI3.put((byte) 0);
-    }
-    accI3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accI3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -827,11 +724,7 @@ public class Trace {
       filled.set(26);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accI4.put((byte) 0);
-    }
-    accI4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accI4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -843,11 +736,7 @@ public class Trace {
       filled.set(27);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accI5.put((byte) 0);
-    }
-    accI5.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accI5, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -859,11 +748,7 @@ public class Trace {
       filled.set(28);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accI6.put((byte) 0);
-    }
-    accI6.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accI6, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -875,11 +760,7 @@ public class Trace {
       filled.set(29);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accJ0.put((byte) 0);
-    }
-    accJ0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accJ0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -891,11 +772,7 @@ public class Trace {
       filled.set(30);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accJ1.put((byte) 0);
-    }
-    accJ1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accJ1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -907,11 +784,7 @@ public class Trace {
       filled.set(31);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accJ2.put((byte) 0);
-    }
-    accJ2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accJ2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -923,11 +796,7 @@ public class Trace {
       filled.set(32);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accJ3.put((byte) 0);
-    }
-    accJ3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accJ3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -939,11 +808,7 @@ public class Trace {
       filled.set(33);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accJ4.put((byte) 0);
-    }
-    accJ4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accJ4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -955,11 +820,7 @@ public class Trace {
       filled.set(34);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accJ5.put((byte) 0);
-    }
-    accJ5.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accJ5, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -971,11 +832,7 @@ public class Trace {
       filled.set(35);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accJ6.put((byte) 0);
-    }
-    accJ6.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accJ6, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -987,11 +844,7 @@ public class Trace {
       filled.set(36);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accJ7.put((byte) 0);
-    }
-    accJ7.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accJ7, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1003,11 +856,7 @@ public class Trace {
       filled.set(37);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accQ0.put((byte) 0);
-    }
-    accQ0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accQ0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1019,11 +868,7 @@ public class Trace {
       filled.set(38);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accQ1.put((byte) 0);
-    }
-    accQ1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accQ1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1035,11 +880,7 @@ public class Trace {
       filled.set(39);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accQ2.put((byte) 0);
-    }
-    accQ2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accQ2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1051,11 +892,7 @@ public class Trace {
       filled.set(40);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accQ3.put((byte) 0);
-    }
-    accQ3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accQ3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1067,11 +904,7 @@ public class Trace {
       filled.set(41);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accQ4.put((byte) 0);
-    }
-    accQ4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accQ4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1083,11 +916,7 @@ public class Trace {
       filled.set(42);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accQ5.put((byte) 0);
-    }
-    accQ5.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accQ5, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1099,11 +928,7 @@ public class Trace {
       filled.set(43);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accQ6.put((byte) 0);
-    }
-    accQ6.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accQ6, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1115,11 +940,7 @@ public class Trace {
       filled.set(44);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accQ7.put((byte) 0);
-    }
-    accQ7.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accQ7, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1131,11 +952,7 @@ public class Trace {
       filled.set(45);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accR0.put((byte) 0);
-    }
-    accR0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accR0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1147,11 +964,7 @@ public class Trace {
       filled.set(46);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accR1.put((byte) 0);
-    }
-    accR1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accR1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1163,11 +976,7 @@ public class Trace {
       filled.set(47);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accR2.put((byte) 0);
-    }
-    accR2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accR2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1179,11 +988,7 @@ public class Trace {
       filled.set(48);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accR3.put((byte) 0);
-    }
-    accR3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accR3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1195,11 +1000,7 @@ public class Trace {
       filled.set(49);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg1Hi.put((byte) 0);
-    }
-    arg1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1211,11 +1012,7 @@ public class Trace {
       filled.set(50);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg1Lo.put((byte) 0);
-    }
-    arg1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1227,11 +1024,7 @@ public class Trace {
       filled.set(51);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg2Hi.put((byte) 0);
-    }
-    arg2Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg2Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1243,11 +1036,7 @@ public class Trace {
       filled.set(52);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg2Lo.put((byte) 0);
-    }
-    arg2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1259,11 +1048,7 @@ public class Trace {
       filled.set(53);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg3Hi.put((byte) 0);
-    }
-    arg3Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg3Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1275,11 +1060,7 @@ public class Trace {
       filled.set(54);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg3Lo.put((byte) 0);
-    }
-    arg3Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg3Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1927,11 +1708,7 @@ public class Trace {
       filled.set(108);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      ct.put((byte) 0);
-    }
-    ct.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(ct, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1943,11 +1720,7 @@ public class Trace {
       filled.set(109);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      inst.put((byte) 0);
-    }
-    inst.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(inst, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2019,11 +1792,7 @@ public class Trace {
       filled.set(115);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      resHi.put((byte) 0);
-    }
-    resHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(resHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2035,11 +1804,7 @@ public class Trace {
       filled.set(116);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      resLo.put((byte) 0);
-    }
-    resLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(resLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2051,11 +1816,7 @@ public class Trace {
       filled.set(117);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      stamp.put((byte) 0);
-    }
-    stamp.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(stamp, b.toArrayUnsafe(), 32);
 
     return this;
   }
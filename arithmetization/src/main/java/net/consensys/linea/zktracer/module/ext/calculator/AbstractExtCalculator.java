@@ -15,151 +15,142 @@
 
 package net.consensys.linea.zktracer.module.ext.calculator;
 
-import net.consensys.linea.zktracer.bytestheta.BaseBytes;
-import net.consensys.linea.zktracer.bytestheta.BaseTheta;
-import net.consensys.linea.zktracer.bytestheta.BytesArray;
+import java.util.Arrays;
+
+import net.consensys.linea.zktracer.bytestheta.LimbArithmetic;
 import net.consensys.linea.zktracer.module.ext.calculator.addmod.AddModCalculator;
 import net.consensys.linea.zktracer.module.ext.calculator.mulmod.MulModCalculator;
 import net.consensys.linea.zktracer.opcode.OpCode;
-import org.apache.tuweni.bytes.Bytes32;
-import org.apache.tuweni.units.bigints.UInt256;
 
 /**
  * An abstract class representing a calculator for performing extended modular arithmetic
  * operations. It provides methods for computing the result of an extended modular arithmetic
  * operation, computing various intermediate variables such as comparison flags, deltas, h-values,
  * i-values, and j-values, as well as creating an instance of a calculator based on a given OpCode.
+ *
+ * <p>All the values are handled as little-endian arrays of 64-bit limbs, see {@link
+ * LimbArithmetic}. Calculators are stateless, and results are written into arrays provided by the
+ * caller.
  */
 public abstract class AbstractExtCalculator {
+  private static final AbstractExtCalculator MULMOD = new MulModCalculator();
+  private static final AbstractExtCalculator ADDMOD = new AddModCalculator();
 
   /**
-   * Computes the result of an extended modular arithmetic operation for the given arguments.
-   *
-   * @param arg1 the first argument.
-   * @param arg2 the second argument.
-   * @param arg3 the third argument.
-   * @return the result of the extended modular arithmetic operation.
-   */
-  public abstract UInt256 computeResult(Bytes32 arg1, Bytes32 arg2, Bytes32 arg3);
-
-  /**
-   * Computes the Js array for the given arguments.
-   *
-   * @param arg1 the first argument.
-   * @param arg2 the second argument.
-   * @return the Js array.
-   */
-  public abstract BytesArray computeJs(Bytes32 arg1, Bytes32 arg2);
-
-  /**
-   * Computes the Qs array for the given arguments.
+   * Computes the Js array, i.e. the full-width value of the operation on the first two arguments,
+   * before the modular reduction.
    *
    * @param arg1 the first argument.
    * @param arg2 the second argument.
-   * @param arg3 the third argument.
-   * @return the Qs array.
+   * @param jLimbs where to write the 8 limbs of the Js array.
    */
-  public abstract BytesArray computeQs(Bytes32 arg1, Bytes32 arg2, Bytes32 arg3);
+  public abstract void computeJs(long[] arg1, long[] arg2, long[] jLimbs);
 
   /**
    * Computes the overflow result for the given arguments.
    *
-   * @param arg1 the arg1 value.
-   * @param arg2 the arg2 value.
-   * @param aBytes the aBytes value.
-   * @param bBytes the bBytes value.
-   * @param hBytes the hBytes value.
+   * @param aLimbs the limbs of the first argument.
+   * @param bLimbs the limbs of the second argument.
+   * @param hLimbs the hs array.
    * @param alpha the alpha value.
    * @param beta the beta value.
    * @return the overflow result.
    */
   public abstract boolean[] computeOverflowRes(
-      final BaseBytes arg1,
-      final BaseBytes arg2,
-      final BytesArray aBytes,
-      final BytesArray bBytes,
-      final BytesArray hBytes,
-      final UInt256 alpha,
-      final UInt256 beta);
+      final long[] aLimbs, final long[] bLimbs, final long[] hLimbs, long alpha, long beta);
+
+  /**
+   * Computes the Qs array and the result of an extended modular arithmetic operation, from its Js
+   * array.
+   *
+   * @param jLimbs the Js array.
+   * @param arg3 the modulus.
+   * @param qLimbs where to write the 8 limbs of the Qs array.
+   * @param result where to write the result, which is zero if the modulus is zero.
+   */
+  public void computeQsAndResult(long[] jLimbs, long[] arg3, long[] qLimbs, long[] result) {
+    if (LimbArithmetic.isZero(arg3)) {
+      Arrays.fill(qLimbs, 0);
+      Arrays.fill(result, 0);
+      return;
+    }
+
+    LimbArithmetic.divide(jLimbs, arg3, qLimbs, result);
+  }
 
   /**
    * Computes the comparison flags for the given arguments.
    *
-   * @param cBytes the cBytes value.
-   * @param rBytes the rBytes value.
+   * @param cLimbs the cLimbs value.
+   * @param rLimbs the rLimbs value.
    * @return the comparison flags.
    */
-  public boolean[] computeComparisonFlags(BytesArray cBytes, BytesArray rBytes) {
-    return CmpFlagsCalculator.computeComparisonFlags(cBytes, rBytes);
+  public boolean[] computeComparisonFlags(long[] cLimbs, long[] rLimbs) {
+    return CmpFlagsCalculator.computeComparisonFlags(cLimbs, rLimbs);
   }
 
   /**
    * Computes the delta values for the given arguments.
    *
-   * @param cBytes the cBytes value.
-   * @param rBytes the rBytes value.
-   * @return the delta values.
+   * @param cLimbs the cLimbs value.
+   * @param rLimbs the rLimbs value.
+   * @param deltaLimbs where to write the delta values.
    */
-  public BaseTheta computeDeltas(BytesArray cBytes, BytesArray rBytes) {
-    return DeltaCalculator.computeDeltas(cBytes, rBytes);
+  public void computeDeltas(long[] cLimbs, long[] rLimbs, long[] deltaLimbs) {
+    DeltaCalculator.computeDeltas(cLimbs, rLimbs, deltaLimbs);
   }
 
   /**
    * Sets the Hs array and returns the overflow values for the given arguments.
    *
-   * @param aBytes the aBytes value.
-   * @param bBytes the bBytes value.
-   * @param hBytes the hBytes value.
-   * @return the Hs array.
+   * @param aLimbs the aLimbs value.
+   * @param bLimbs the bLimbs value.
+   * @param hLimbs the hLimbs value.
+   * @return the overflow values.
    */
-  public boolean[] computeHs(BytesArray aBytes, BytesArray bBytes, BytesArray hBytes) {
-    return BytesHCalculator.computeHsAndOverflowH(aBytes, bBytes, hBytes);
+  public boolean[] computeHs(long[] aLimbs, long[] bLimbs, long[] hLimbs) {
+    return BytesHCalculator.computeHsAndOverflowH(aLimbs, bLimbs, hLimbs);
   }
 
   /**
    * Sets the Is array and returns the overflow values for the given arguments.
    *
-   * @param qBytes the qBytes value.
-   * @param cBytes the cBytes value.
-   * @param iBytes the iBytes value.
-   * @return the Is array.
+   * @param qLimbs the qLimbs value.
+   * @param cLimbs the cLimbs value.
+   * @param iLimbs the iLimbs value.
+   * @return the overflow values.
    */
-  public boolean[] computeIs(BytesArray qBytes, BytesArray cBytes, BytesArray iBytes) {
-    return BytesICalculator.computeIsAndOverflowI(qBytes, cBytes, iBytes);
+  public boolean[] computeIs(long[] qLimbs, long[] cLimbs, long[] iLimbs) {
+    return BytesICalculator.computeIsAndOverflowI(qLimbs, cLimbs, iLimbs);
   }
 
   /**
    * Computes the and returns the overflow values for the given arguments.
    *
-   * @param qBytes the qBytes value.
-   * @param cBytes the cBytes value.
-   * @param rBytes the rBytes value.
-   * @param iBytes the iBytes value.
+   * @param qLimbs the qLimbs value.
+   * @param cLimbs the cLimbs value.
+   * @param rLimbs the rLimbs value.
+   * @param iLimbs the iLimbs value.
    * @param sigma the sigma value.
    * @param tau the tau value.
    * @return the overflow result.
    */
   public boolean[] computeOverflowJ(
-      BytesArray qBytes,
-      BytesArray cBytes,
-      BytesArray rBytes,
-      BytesArray iBytes,
-      UInt256 sigma,
-      UInt256 tau) {
-    return OverflowJCalculator.computeOverflowJ(qBytes, cBytes, rBytes, iBytes, sigma, tau);
+      long[] qLimbs, long[] cLimbs, long[] rLimbs, long[] iLimbs, long sigma, long tau) {
+    return OverflowJCalculator.computeOverflowJ(qLimbs, cLimbs, rLimbs, iLimbs, sigma, tau);
   }
 
   /**
-   * Creates a new instance of a calculator based on the given OpCode.
+   * Returns the calculator of the given OpCode.
    *
-   * @param opCode the OpCode for which to create a calculator instance.
-   * @return a new instance of a calculator.
+   * @param opCode the OpCode for which to get the calculator.
+   * @return the calculator of the OpCode.
    * @throws RuntimeException if the OpCode is not compatible with this calculator.
    */
   public static AbstractExtCalculator create(OpCode opCode) {
     return switch (opCode) {
-      case MULMOD -> new MulModCalculator();
-      case ADDMOD -> new AddModCalculator();
+      case MULMOD -> MULMOD;
+      case ADDMOD -> ADDMOD;
       default -> throw new RuntimeException(
           "Incompatible instruction for extended modular arithmetic module");
     };
@@ -15,13 +15,12 @@
 
 package net.consensys.linea.zktracer.module.ext.calculator;
 
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.WORD_LIMBS;
 import static net.consensys.linea.zktracer.module.Util.getBit;
 import static net.consensys.linea.zktracer.module.Util.getOverflow;
 import static net.consensys.linea.zktracer.module.Util.multiplyRange;
 
-import net.consensys.linea.zktracer.bytestheta.BaseTheta;
-import net.consensys.linea.zktracer.bytestheta.BytesArray;
-import org.apache.tuweni.units.bigints.UInt256;
+import java.util.Arrays;
 
 /**
  * A utility class for computing the Hs and overflow values for extended modular arithmetic
@@ -32,75 +31,89 @@ public class BytesHCalculator {
   /**
    * Sets the Hs array and returns the overflow values for the given arguments.
    *
-   * @param aBytes the aBytes value.
-   * @param bBytes the bBytes value.
-   * @param hBytes the hBytes value.
+   * @param aLimbs the aLimbs value.
+   * @param bLimbs the bLimbs value.
+   * @param hLimbs the hLimbs value.
    * @return the overflow values.
    */
-  static boolean[] computeHsAndOverflowH(BytesArray aBytes, BytesArray bBytes, BytesArray hBytes) {
+  static boolean[] computeHsAndOverflowH(long[] aLimbs, long[] bLimbs, long[] hLimbs) {
     boolean[] overflow = new boolean[8];
+    final long[] sum = new long[WORD_LIMBS];
 
     // Calculate alpha
-    long alpha = calculateAlpha(aBytes, bBytes, hBytes);
+    long alpha = calculateAlpha(aLimbs, bLimbs, hLimbs, sum);
     overflow[0] = getBit(alpha, 0);
 
     // Calculate Beta
-    long beta = calculateBeta(aBytes, bBytes, hBytes);
+    long beta = calculateBeta(aLimbs, bLimbs, hLimbs, sum);
     overflow[1] = getBit(beta, 0);
     overflow[2] = getBit(beta, 1);
 
     // Calculate gamma
-    long gamma = calculateGamma(aBytes, bBytes, hBytes);
+    long gamma = calculateGamma(aLimbs, bLimbs, hLimbs, sum);
     overflow[3] = getBit(gamma, 0);
 
     return overflow;
   }
 
   /**
-   * Calculates the alpha value for the given aBytes, bBytes, and hBytes values.
+   * Calculates the alpha value for the given aLimbs, bLimbs, and hLimbs values.
    *
-   * @param aBytes the aBytes value.
-   * @param bBytes the bBytes value.
-   * @param hBytes the hBytes value.
+   * @param aLimbs the aLimbs value.
+   * @param bLimbs the bLimbs value.
+   * @param hLimbs the hLimbs value.
+   * @param sum scratch space for the sum.
    * @return the alpha value.
    */
-  private static long calculateAlpha(BytesArray aBytes, BytesArray bBytes, BytesArray hBytes) {
-    UInt256 sum = multiplyRange(aBytes.getBytesRange(0, 1), bBytes.getBytesRange(0, 1));
-    var truc = BaseTheta.fromBytes32(sum);
-    hBytes.set(0, truc.get(0));
-    hBytes.set(1, truc.get(1));
-    return getOverflow(sum, 1, "alpha OOB");
+  private static long calculateAlpha(long[] aLimbs, long[] bLimbs, long[] hLimbs, long[] sum) {
+    return sumOfProducts(aLimbs, 0, bLimbs, 0, 2, hLimbs, 0, sum, 1, "alpha OOB");
   }
 
   /**
-   * Calculates the beta value for the given aBytes, bBytes, and hBytes values.
+   * Calculates the beta value for the given aLimbs, bLimbs, and hLimbs values.
    *
-   * @param aBytes the aBytes value.
-   * @param bBytes the bBytes value.
-   * @param hBytes the hBytes value.
+   * @param aLimbs the aLimbs value.
+   * @param bLimbs the bLimbs value.
+   * @param hLimbs the hLimbs value.
+   * @param sum scratch space for the sum.
    * @return the beta value.
    */
-  private static long calculateBeta(BytesArray aBytes, BytesArray bBytes, BytesArray hBytes) {
-    UInt256 sum = multiplyRange(aBytes.getBytesRange(0, 3), bBytes.getBytesRange(0, 3));
-    var truc = BaseTheta.fromBytes32(sum);
-    hBytes.set(2, truc.get(0));
-    hBytes.set(3, truc.get(1));
-    return getOverflow(sum, 3, "beta OOB");
+  private static long calculateBeta(long[] aLimbs, long[] bLimbs, long[] hLimbs, long[] sum) {
+    return sumOfProducts(aLimbs, 0, bLimbs, 0, 4, hLimbs, 2, sum, 3, "beta OOB");
   }
 
   /**
-   * Calculates the gamma value for the given aBytes, bBytes, and hBytes values.
+   * Calculates the gamma value for the given aLimbs, bLimbs, and hLimbs values.
    *
-   * @param aBytes the aBytes value.
-   * @param bBytes the bBytes value.
-   * @param hBytes the hBytes value.
+   * @param aLimbs the aLimbs value.
+   * @param bLimbs the bLimbs value.
+   * @param hLimbs the hLimbs value.
+   * @param sum scratch space for the sum.
    * @return the gamma value.
    */
-  private static long calculateGamma(BytesArray aBytes, BytesArray bBytes, BytesArray hBytes) {
-    UInt256 sum = multiplyRange(aBytes.getBytesRange(2, 3), bBytes.getBytesRange(2, 3));
-    var truc = BaseTheta.fromBytes32(sum);
-    hBytes.set(4, truc.get(0));
-    hBytes.set(5, truc.get(1));
-    return getOverflow(sum, 1, "gamma OOB");
+  private static long calculateGamma(long[] aLimbs, long[] bLimbs, long[] hLimbs, long[] sum) {
+    return sumOfProducts(aLimbs, 2, bLimbs, 2, 2, hLimbs, 4, sum, 1, "gamma OOB");
+  }
+
+  /**
+   * Sums the products of two ranges of limbs, stores the low 128 bits of the sum in two
+   * consecutive limbs of an output array, and returns the overflow above them.
+   */
+  static long sumOfProducts(
+      long[] x,
+      int xFrom,
+      long[] y,
+      int yFrom,
+      int length,
+      long[] out,
+      int outFrom,
+      long[] sum,
+      long maxOverflow,
+      String err) {
+    Arrays.fill(sum, 0);
+    multiplyRange(x, xFrom, y, yFrom, length, sum);
+    out[outFrom] = sum[0];
+    out[outFrom + 1] = sum[1];
+    return getOverflow(sum, maxOverflow, err);
   }
 }
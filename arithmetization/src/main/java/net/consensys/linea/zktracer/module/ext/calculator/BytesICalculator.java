@@ -15,13 +15,12 @@
 
 package net.consensys.linea.zktracer.module.ext.calculator;
 
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.WORD_LIMBS;
 import static net.consensys.linea.zktracer.module.Util.getBit;
-import static net.consensys.linea.zktracer.module.Util.getOverflow;
 import static net.consensys.linea.zktracer.module.Util.multiplyRange;
+import static net.consensys.linea.zktracer.module.ext.calculator.BytesHCalculator.sumOfProducts;
 
-import net.consensys.linea.zktracer.bytestheta.BaseTheta;
-import net.consensys.linea.zktracer.bytestheta.BytesArray;
-import org.apache.tuweni.units.bigints.UInt256;
+import java.util.Arrays;
 
 /**
  * A utility class for computing the Is and overflow values for extended modular arithmetic
@@ -31,24 +30,25 @@ public class BytesICalculator {
   /**
    * Computes the Is array and overflow values for the given arguments.
    *
-   * @param qBytes the aBytes value.
-   * @param cBytes the bBytes value.
-   * @param iBytes the hBytes value.
+   * @param qLimbs the qLimbs value.
+   * @param cLimbs the cLimbs value.
+   * @param iLimbs the iLimbs value.
    * @return the overflow values.
    */
-  static boolean[] computeIsAndOverflowI(BytesArray qBytes, BytesArray cBytes, BytesArray iBytes) {
+  static boolean[] computeIsAndOverflowI(long[] qLimbs, long[] cLimbs, long[] iLimbs) {
     boolean[] overflowI = new boolean[8];
+    final long[] sum = new long[WORD_LIMBS];
 
-    setLastByte(qBytes, cBytes, iBytes);
+    setLastLimb(qLimbs, cLimbs, iLimbs, sum);
 
-    long sigma = calculateSigma(qBytes, cBytes, iBytes);
+    long sigma = calculateSigma(qLimbs, cLimbs, iLimbs, sum);
     overflowI[0] = getBit(sigma, 0);
 
-    long tau = calculateTau(qBytes, cBytes, iBytes);
+    long tau = calculateTau(qLimbs, cLimbs, iLimbs, sum);
     overflowI[1] = getBit(tau, 0);
     overflowI[2] = getBit(tau, 1);
 
-    long rho = calculateRho(qBytes, cBytes, iBytes);
+    long rho = calculateRho(qLimbs, cLimbs, iLimbs, sum);
     overflowI[3] = getBit(rho, 0);
     overflowI[4] = getBit(rho, 1);
 
@@ -56,63 +56,55 @@ public class BytesICalculator {
   }
 
   /**
-   * Calculates the value of sigma for the given set of BytesArrays.
+   * Calculates the value of sigma for the given set of limbs.
    *
-   * @param qBytes the qBytes value.
-   * @param cBytes the cBytes value.
-   * @param iBytes the iBytes value.
+   * @param qLimbs the qLimbs value.
+   * @param cLimbs the cLimbs value.
+   * @param iLimbs the iLimbs value.
+   * @param sum scratch space for the sum.
+   * @return The computed value of sigma
    */
-  private static long calculateSigma(BytesArray qBytes, BytesArray cBytes, BytesArray iBytes) {
-    UInt256 sumSigma = multiplyRange(qBytes.getBytesRange(0, 1), cBytes.getBytesRange(0, 1));
-    BaseTheta thetaSigma = BaseTheta.fromBytes32(sumSigma);
-    iBytes.set(0, thetaSigma.get(0));
-    iBytes.set(1, thetaSigma.get(1));
-    return getOverflow(sumSigma, 1, "sigma OOB");
+  private static long calculateSigma(long[] qLimbs, long[] cLimbs, long[] iLimbs, long[] sum) {
+    return sumOfProducts(qLimbs, 0, cLimbs, 0, 2, iLimbs, 0, sum, 1, "sigma OOB");
   }
 
   /**
-   * Calculates the value of tau for the given set of BytesArrays.
+   * Calculates the value of tau for the given set of limbs.
    *
-   * @param qBytes the qBytes value.
-   * @param cBytes the cBytes value.
-   * @param iBytes the iBytes value.
+   * @param qLimbs the qLimbs value.
+   * @param cLimbs the cLimbs value.
+   * @param iLimbs the iLimbs value.
+   * @param sum scratch space for the sum.
    * @return The computed value of tau
    */
-  private static long calculateTau(BytesArray qBytes, BytesArray cBytes, BytesArray iBytes) {
-    UInt256 sumTau = multiplyRange(qBytes.getBytesRange(0, 3), cBytes.getBytesRange(0, 3));
-    BaseTheta thetaTau = BaseTheta.fromBytes32(sumTau);
-    iBytes.set(2, thetaTau.get(0));
-    iBytes.set(3, thetaTau.get(1));
-    return getOverflow(UInt256.fromBytes(sumTau), 3, "tau OOB");
+  private static long calculateTau(long[] qLimbs, long[] cLimbs, long[] iLimbs, long[] sum) {
+    return sumOfProducts(qLimbs, 0, cLimbs, 0, 4, iLimbs, 2, sum, 3, "tau OOB");
   }
 
   /**
-   * Calculates the value of rho for the given set of BytesArrays.
+   * Calculates the value of rho for the given set of limbs.
    *
-   * @param qBytes the qBytes value.
-   * @param cBytes the cBytes value.
-   * @param iBytes the iBytes value.
+   * @param qLimbs the qLimbs value.
+   * @param cLimbs the cLimbs value.
+   * @param iLimbs the iLimbs value.
+   * @param sum scratch space for the sum.
    * @return The computed value of rho
    */
-  private static long calculateRho(BytesArray qBytes, BytesArray cBytes, BytesArray iBytes) {
-
-    UInt256 sumRho = multiplyRange(qBytes.getBytesRange(2, 5), cBytes.getBytesRange(0, 3));
-    BaseTheta thetaRho = BaseTheta.fromBytes32(sumRho);
-    iBytes.set(4, thetaRho.get(0));
-    iBytes.set(5, thetaRho.get(1));
-    return getOverflow(sumRho, 3, "rho OOB");
+  private static long calculateRho(long[] qLimbs, long[] cLimbs, long[] iLimbs, long[] sum) {
+    return sumOfProducts(qLimbs, 2, cLimbs, 0, 4, iLimbs, 4, sum, 3, "rho OOB");
   }
 
   /**
-   * Set the value of the last byte for the given set of BytesArrays.
+   * Set the value of the last limb for the given set of limbs.
    *
-   * @param qBytes the qBytes value.
-   * @param cBytes the cBytes value.
-   * @param iBytes the iBytes value.
+   * @param qLimbs the qLimbs value.
+   * @param cLimbs the cLimbs value.
+   * @param iLimbs the iLimbs value.
+   * @param sum scratch space for the sum.
    */
-  private static void setLastByte(BytesArray qBytes, BytesArray cBytes, BytesArray iBytes) {
-    UInt256 lastSum = multiplyRange(qBytes.getBytesRange(4, 7), cBytes.getBytesRange(0, 3));
-    BaseTheta lastTheta = BaseTheta.fromBytes32(lastSum);
-    iBytes.set(6, lastTheta.get(0));
+  private static void setLastLimb(long[] qLimbs, long[] cLimbs, long[] iLimbs, long[] sum) {
+    Arrays.fill(sum, 0);
+    multiplyRange(qLimbs, 4, cLimbs, 0, 4, sum);
+    iLimbs[6] = sum[0];
   }
 }
@@ -15,29 +15,24 @@
 
 package net.consensys.linea.zktracer.module.ext.calculator;
 
-import net.consensys.linea.zktracer.bytestheta.BytesArray;
-import org.apache.tuweni.units.bigints.UInt256;
-
 /** A utility class for computing comparison flags for extended modular arithmetic operations. */
 public class CmpFlagsCalculator {
 
   /**
-   * Computes the comparison flags for the given cBytes and rBytes values.
+   * Computes the comparison flags for the given cLimbs and rLimbs values.
    *
-   * @param cBytes the cBytes value.
-   * @param rBytes the rBytes value.
+   * @param cLimbs the cLimbs value.
+   * @param rLimbs the rLimbs value.
    * @return the comparison flags.
    */
-  static boolean[] computeComparisonFlags(BytesArray cBytes, BytesArray rBytes) {
+  static boolean[] computeComparisonFlags(long[] cLimbs, long[] rLimbs) {
     boolean[] cmp = new boolean[8];
     for (int i = 0; i < 4; i++) {
-      UInt256 c = UInt256.fromBytes(cBytes.get(i));
-      UInt256 r = UInt256.fromBytes(rBytes.get(i));
-      boolean cGreaterThanR = c.compareTo(r) > 0;
+      boolean cGreaterThanR = Long.compareUnsigned(cLimbs[i], rLimbs[i]) > 0;
       if (cGreaterThanR) {
         cmp[i] = true;
       } else {
-        cmp[4 + i] = c.equals(r);
+        cmp[4 + i] = cLimbs[i] == rLimbs[i];
       }
     }
     return cmp;
@@ -15,40 +15,23 @@
 
 package net.consensys.linea.zktracer.module.ext.calculator;
 
-import net.consensys.linea.zktracer.bytestheta.BaseTheta;
-import net.consensys.linea.zktracer.bytestheta.BytesArray;
-import org.apache.tuweni.bytes.Bytes32;
-import org.apache.tuweni.units.bigints.UInt256;
-
 /** A utility class for computing delta values for extended modular arithmetic operations. */
 public class DeltaCalculator {
   /**
-   * Computes the delta values for the given cBytes and rBytes values.
+   * Computes the delta values for the given cLimbs and rLimbs values.
    *
-   * @param cBytes the cBytes value.
-   * @param rBytes the rBytes value.
-   * @return the delta values.
+   * @param cLimbs the cLimbs value.
+   * @param rLimbs the rLimbs value.
+   * @param deltaLimbs where to write the delta values.
    */
-  public static BaseTheta computeDeltas(BytesArray cBytes, BytesArray rBytes) {
-    BaseTheta deltaBytes = BaseTheta.fromBytes32(Bytes32.ZERO);
-
+  public static void computeDeltas(long[] cLimbs, long[] rLimbs, long[] deltaLimbs) {
     for (int i = 0; i < 4; i++) {
-      UInt256 c = UInt256.fromBytes(cBytes.get(i));
-      UInt256 r = UInt256.fromBytes(rBytes.get(i));
-      UInt256 delta;
-
-      boolean cGreaterThanR = c.compareTo(r) > 0;
+      boolean cGreaterThanR = Long.compareUnsigned(cLimbs[i], rLimbs[i]) > 0;
       if (cGreaterThanR) {
-        delta = c.subtract(r).subtract(UInt256.ONE);
+        deltaLimbs[i] = cLimbs[i] - rLimbs[i] - 1;
       } else {
-        delta = r.subtract(c);
+        deltaLimbs[i] = rLimbs[i] - cLimbs[i];
       }
-
-      // Convert the delta value to a byte array and store it in the ith element of deltaBytes
-      BaseTheta truc = (BaseTheta.fromBytes32(delta));
-      deltaBytes.set(i, truc.get(0));
     }
-
-    return deltaBytes;
   }
 }
@@ -15,34 +15,32 @@
 
 package net.consensys.linea.zktracer.module.ext.calculator;
 
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.WORD_LIMBS;
 import static net.consensys.linea.zktracer.module.Util.getBit;
 import static net.consensys.linea.zktracer.module.Util.getOverflow;
 import static net.consensys.linea.zktracer.module.Util.multiplyRange;
 
-import net.consensys.linea.zktracer.bytestheta.BytesArray;
-import org.apache.tuweni.units.bigints.UInt256;
+import java.util.Arrays;
+
+import net.consensys.linea.zktracer.bytestheta.LimbArithmetic;
 
 public class OverflowJCalculator {
 
   static boolean[] computeOverflowJ(
-      BytesArray qBytes,
-      BytesArray cBytes,
-      BytesArray rBytes,
-      BytesArray iBytes,
-      UInt256 sigma,
-      UInt256 tau) {
+      long[] qLimbs, long[] cLimbs, long[] rLimbs, long[] iLimbs, long sigma, long tau) {
     boolean[] overflow = new boolean[8];
+    final long[] sum = new long[WORD_LIMBS];
 
-    long phi = calculatePhi(qBytes, cBytes, rBytes, iBytes);
+    long phi = calculatePhi(qLimbs, cLimbs, rLimbs, iLimbs, sum);
     overflow[0] = getBit(phi, 0);
     overflow[1] = getBit(phi, 1);
 
-    long psi = calculatePsi(phi, qBytes, cBytes, rBytes, iBytes, sigma);
+    long psi = calculatePsi(phi, qLimbs, cLimbs, rLimbs, iLimbs, sigma, sum);
     overflow[2] = getBit(psi, 0);
     overflow[3] = getBit(psi, 1);
     overflow[4] = getBit(psi, 2);
 
-    long chi = calculateChi(psi, qBytes, cBytes, iBytes, tau);
+    long chi = calculateChi(psi, qLimbs, cLimbs, iLimbs, tau, sum);
     overflow[5] = getBit(chi, 0);
     overflow[6] = getBit(chi, 1);
     overflow[7] = getBit(chi, 2);
@@ -51,43 +49,42 @@ public class OverflowJCalculator {
   }
 
   private static long calculatePhi(
-      BytesArray qBytes, BytesArray cBytes, BytesArray rBytes, BytesArray iBytes) {
-    UInt256 prodPhi = multiplyRange(qBytes.getBytesRange(0, 0), cBytes.getBytesRange(0, 0));
-    UInt256 sumPhi =
-        prodPhi.add(UInt256.valueOf(iBytes.get(0).toUnsignedBigInteger().shiftLeft(64)));
-    sumPhi = sumPhi.add((UInt256.valueOf(rBytes.get(1).toUnsignedBigInteger().shiftLeft(64))));
-    sumPhi = sumPhi.add(UInt256.fromBytes(rBytes.get(0)));
-    return getOverflow(sumPhi, 2, "phi out of range");
+      long[] qLimbs, long[] cLimbs, long[] rLimbs, long[] iLimbs, long[] sum) {
+    Arrays.fill(sum, 0);
+    multiplyRange(qLimbs, 0, cLimbs, 0, 1, sum);
+    LimbArithmetic.addLimb(sum, iLimbs[0], 1);
+    LimbArithmetic.addLimb(sum, rLimbs[1], 1);
+    LimbArithmetic.addLimb(sum, rLimbs[0], 0);
+    return getOverflow(sum, 2, "phi out of range");
   }
 
   private static long calculatePsi(
       long phi,
-      BytesArray qBytes,
-      BytesArray cBytes,
-      BytesArray rBytes,
-      BytesArray iBytes,
-      UInt256 sigma) {
-
-    var sumPsi = UInt256.valueOf(phi);
-    sumPsi = sumPsi.add(UInt256.fromBytes(iBytes.get(1)));
-    sumPsi = sumPsi.add(UInt256.valueOf(sigma.toUnsignedBigInteger().shiftLeft(64)));
-    var prodPsi = multiplyRange(cBytes.getBytesRange(0, 2), qBytes.getBytesRange(0, 2));
-    sumPsi = sumPsi.add(UInt256.fromBytes(prodPsi));
-    sumPsi = sumPsi.add(UInt256.valueOf(iBytes.get(2).toUnsignedBigInteger().shiftLeft(64)));
-    sumPsi = sumPsi.add(UInt256.valueOf(rBytes.get(3).toUnsignedBigInteger().shiftLeft(64)));
-    sumPsi = sumPsi.add(UInt256.fromBytes(rBytes.get(2)));
-    return getOverflow(UInt256.fromBytes(sumPsi.toBytes()), 4, "psi out of range");
+      long[] qLimbs,
+      long[] cLimbs,
+      long[] rLimbs,
+      long[] iLimbs,
+      long sigma,
+      long[] sum) {
+    Arrays.fill(sum, 0);
+    sum[0] = phi;
+    LimbArithmetic.addLimb(sum, iLimbs[1], 0);
+    LimbArithmetic.addLimb(sum, sigma, 1);
+    multiplyRange(cLimbs, 0, qLimbs, 0, 3, sum);
+    LimbArithmetic.addLimb(sum, iLimbs[2], 1);
+    LimbArithmetic.addLimb(sum, rLimbs[3], 1);
+    LimbArithmetic.addLimb(sum, rLimbs[2], 0);
+    return getOverflow(sum, 4, "psi out of range");
   }
 
   private static long calculateChi(
-      long psi, BytesArray qBytes, BytesArray cBytes, BytesArray iBytes, UInt256 tau) {
-
-    var sumChi = UInt256.valueOf(psi);
-    sumChi = sumChi.add(UInt256.fromBytes(iBytes.get(3)));
-    sumChi = sumChi.add(UInt256.valueOf(tau.toUnsignedBigInteger().shiftLeft(64)));
-    var prodChi = multiplyRange(cBytes.getBytesRange(0, 3), qBytes.getBytesRange(1, 4));
-    sumChi = sumChi.add(prodChi);
-    sumChi = sumChi.add(UInt256.valueOf(iBytes.get(4).toUnsignedBigInteger().shiftLeft(64)));
-    return getOverflow(sumChi, 4, "chi out of range");
+      long psi, long[] qLimbs, long[] cLimbs, long[] iLimbs, long tau, long[] sum) {
+    Arrays.fill(sum, 0);
+    sum[0] = psi;
+    LimbArithmetic.addLimb(sum, iLimbs[3], 0);
+    LimbArithmetic.addLimb(sum, tau, 1);
+    multiplyRange(cLimbs, 0, qLimbs, 1, 4, sum);
+    LimbArithmetic.addLimb(sum, iLimbs[4], 1);
+    return getOverflow(sum, 4, "chi out of range");
   }
 }
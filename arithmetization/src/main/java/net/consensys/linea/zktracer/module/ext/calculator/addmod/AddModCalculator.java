@@ -15,55 +15,48 @@
 
 package net.consensys.linea.zktracer.module.ext.calculator.addmod;
 
-import net.consensys.linea.zktracer.bytestheta.BaseBytes;
-import net.consensys.linea.zktracer.bytestheta.BytesArray;
+import java.util.Arrays;
+
+import net.consensys.linea.zktracer.bytestheta.LimbArithmetic;
 import net.consensys.linea.zktracer.module.ext.calculator.AbstractExtCalculator;
-import org.apache.tuweni.bytes.Bytes32;
-import org.apache.tuweni.units.bigints.UInt256;
 
 /** Calculator for performing extended modular arithmetic operations. */
 public class AddModCalculator extends AbstractExtCalculator {
 
+  /**
+   * Computes the Js as the 257-bit sum of the two arguments: the carry of the addition, if any, is
+   * stored in the fifth limb.
+   *
+   * @param arg1 the first argument
+   * @param arg2 the second argument
+   * @param jLimbs where to write the Js
+   */
   @Override
-  public UInt256 computeResult(final Bytes32 arg1, final Bytes32 arg2, final Bytes32 arg3) {
-    if (arg3.isZero()) {
-      return UInt256.ZERO;
+  public void computeJs(final long[] arg1, final long[] arg2, final long[] jLimbs) {
+    Arrays.fill(jLimbs, 0);
+    System.arraycopy(arg1, 0, jLimbs, 0, LimbArithmetic.WORD_LIMBS);
+    for (int k = 0; k < LimbArithmetic.WORD_LIMBS; k++) {
+      LimbArithmetic.addLimb(jLimbs, arg2[k], k);
     }
-
-    return UInt256.fromBytes(arg1).addMod(UInt256.fromBytes(arg2), UInt256.fromBytes(arg3));
-  }
-
-  @Override
-  public BytesArray computeJs(final Bytes32 arg1, final Bytes32 arg2) {
-    return AddModBytesJCalculator.computeJs(arg1, arg2);
-  }
-
-  @Override
-  public BytesArray computeQs(final Bytes32 arg1, final Bytes32 arg2, final Bytes32 arg3) {
-    return AddModBytesQCalculator.computeQs(arg1, arg2, arg3);
   }
 
   /**
    * Computes the overflow result for the given arguments.
    *
-   * @param arg1 the arg1 value.
-   * @param arg2 the arg2 value.
-   * @param aBytes the aBytes value.
-   * @param bBytes the bBytes value.
-   * @param hBytes the hBytes value.
+   * @param aLimbs the limbs of the first argument.
+   * @param bLimbs the limbs of the second argument.
+   * @param hLimbs the hs array.
    * @param alpha the alpha value.
    * @param beta the beta value.
    * @return the overflow result.
    */
   @Override
   public boolean[] computeOverflowRes(
-      final BaseBytes arg1,
-      final BaseBytes arg2,
-      final BytesArray aBytes,
-      final BytesArray bBytes,
-      final BytesArray hBytes,
-      final UInt256 alpha,
-      final UInt256 beta) {
-    return AddModOverflowResCalculator.calculateOverflow(arg1, arg2);
+      final long[] aLimbs,
+      final long[] bLimbs,
+      final long[] hLimbs,
+      final long alpha,
+      final long beta) {
+    return AddModOverflowResCalculator.calculateOverflow(aLimbs, bLimbs);
   }
 }
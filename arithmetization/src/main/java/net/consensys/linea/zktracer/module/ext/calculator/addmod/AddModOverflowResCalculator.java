@@ -15,11 +15,11 @@
 
 package net.consensys.linea.zktracer.module.ext.calculator.addmod;
 
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.WORD_LIMBS;
 import static net.consensys.linea.zktracer.module.Util.getBit;
 import static net.consensys.linea.zktracer.module.Util.getOverflow;
 
-import net.consensys.linea.zktracer.bytestheta.BaseBytes;
-import org.apache.tuweni.units.bigints.UInt256;
+import net.consensys.linea.zktracer.bytestheta.LimbArithmetic;
 
 /**
  * A utility class to calculate overflow values for the AddMod operation. The class provides methods
@@ -32,17 +32,18 @@ public class AddModOverflowResCalculator {
   /**
    * Calculates the overflow values of the result for two input arguments of the AddMod operation.
    *
-   * @param arg1 the first input argument of the AddMod operation.
-   * @param arg2 the second input argument of the AddMod operation.
+   * @param aLimbs the limbs of the first input argument of the AddMod operation.
+   * @param bLimbs the limbs of the second input argument of the AddMod operation.
    * @return a boolean array of size 2 that contains the overflow values for lambda and mu
    *     respectively.
    */
-  static boolean[] calculateOverflow(BaseBytes arg1, BaseBytes arg2) {
+  static boolean[] calculateOverflow(long[] aLimbs, long[] bLimbs) {
     boolean[] overflowRes = new boolean[8];
+    final long[] sum = new long[WORD_LIMBS];
 
-    long lambda = calculateLambda(arg1, arg2);
+    long lambda = calculateLambda(aLimbs, bLimbs, sum);
 
-    long mu = calculateMu(lambda, arg1, arg2);
+    long mu = calculateMu(lambda, aLimbs, bLimbs, sum);
 
     overflowRes[0] = getBit(lambda, 0);
     overflowRes[1] = getBit(mu, 0);
@@ -53,12 +54,18 @@ public class AddModOverflowResCalculator {
   /**
    * Calculates the lambda value.
    *
-   * @param arg1 the first input argument of the AddMod operation.
-   * @param arg2 the second input argument of the AddMod operation.
+   * @param aLimbs the limbs of the first input argument of the AddMod operation.
+   * @param bLimbs the limbs of the second input argument of the AddMod operation.
+   * @param sum scratch space for the sum.
    * @return the lambda value.
    */
-  private static long calculateLambda(BaseBytes arg1, BaseBytes arg2) {
-    UInt256 sum = UInt256.fromBytes(arg1.getLow()).add(UInt256.fromBytes(arg2.getLow()));
+  private static long calculateLambda(long[] aLimbs, long[] bLimbs, long[] sum) {
+    sum[0] = aLimbs[0];
+    sum[1] = aLimbs[1];
+    sum[2] = 0;
+    sum[3] = 0;
+    LimbArithmetic.addLimb(sum, bLimbs[0], 0);
+    LimbArithmetic.addLimb(sum, bLimbs[1], 1);
 
     return getOverflow(sum, 1, "lambda out of range (ADDMOD)");
   }
@@ -67,14 +74,20 @@ public class AddModOverflowResCalculator {
    * Calculates the mu value.
    *
    * @param lambda the lambda value.
-   * @param arg1 the first input argument of the AddMod operation.
-   * @param arg2 the second input argument of the AddMod operation.
+   * @param aLimbs the limbs of the first input argument of the AddMod operation.
+   * @param bLimbs the limbs of the second input argument of the AddMod operation.
+   * @param sum scratch space for the sum.
    * @return the mu value.
    */
-  private static long calculateMu(long lambda, BaseBytes arg1, BaseBytes arg2) {
-    UInt256 sum = UInt256.valueOf(lambda);
-    sum = sum.add(UInt256.fromBytes(arg1.getHigh()));
-    sum = sum.add(UInt256.fromBytes(arg2.getHigh()));
+  private static long calculateMu(long lambda, long[] aLimbs, long[] bLimbs, long[] sum) {
+    sum[0] = lambda;
+    sum[1] = 0;
+    sum[2] = 0;
+    sum[3] = 0;
+    LimbArithmetic.addLimb(sum, aLimbs[2], 0);
+    LimbArithmetic.addLimb(sum, aLimbs[3], 1);
+    LimbArithmetic.addLimb(sum, bLimbs[2], 0);
+    LimbArithmetic.addLimb(sum, bLimbs[3], 1);
 
     return getOverflow(sum, 3, "mu out of range (ADDMOD)");
   }
@@ -15,69 +15,35 @@
 
 package net.consensys.linea.zktracer.module.ext.calculator.mulmod;
 
-import net.consensys.linea.zktracer.bytestheta.BaseBytes;
-import net.consensys.linea.zktracer.bytestheta.BytesArray;
+import net.consensys.linea.zktracer.bytestheta.LimbArithmetic;
 import net.consensys.linea.zktracer.module.ext.calculator.AbstractExtCalculator;
-import org.apache.tuweni.bytes.Bytes32;
-import org.apache.tuweni.units.bigints.UInt256;
 
 public class MulModCalculator extends AbstractExtCalculator {
-  @Override
-  public UInt256 computeResult(Bytes32 arg1, Bytes32 arg2, Bytes32 modulo) {
-    if (modulo.isZero()) {
-      return UInt256.ZERO;
-    }
-
-    return UInt256.fromBytes(arg1).multiplyMod(UInt256.fromBytes(arg2), UInt256.fromBytes(modulo));
-  }
-
-  /**
-   * Computes the product of two Bytes32 arguments and returns the result as a BytesArray.
-   *
-   * @param arg1 The first Bytes32 argument.
-   * @param arg2 The second Bytes32 argument.
-   * @return The product of the two arguments as a BytesArray.
-   */
-  @Override
-  public BytesArray computeJs(Bytes32 arg1, Bytes32 arg2) {
-    return MulModBytesJCalculator.computeJs(arg1, arg2);
-  }
-
   /**
-   * Computes the quotient of the product of arg1 and arg2 divided by arg3, all of Bytes32 type, and
-   * returns the result as a BytesArray.
+   * Computes the Js as the 512-bit product of the two arguments.
    *
-   * @param arg1 The first Bytes32 argument.
-   * @param arg2 The second Bytes32 argument.
-   * @param arg3 The third Bytes32 argument.
-   * @return The quotient of the product of arg1 and arg2 divided by arg3 as a BytesArray.
+   * @param arg1 the first argument
+   * @param arg2 the second argument
+   * @param jLimbs where to write the Js
    */
   @Override
-  public BytesArray computeQs(Bytes32 arg1, Bytes32 arg2, Bytes32 arg3) {
-    return MulModBytesQCalculator.computeQs(arg1, arg2, arg3);
+  public void computeJs(long[] arg1, long[] arg2, long[] jLimbs) {
+    LimbArithmetic.multiply(arg1, arg2, jLimbs);
   }
 
   /**
    * Computes the overflow result for the given arguments.
    *
-   * @param arg1 the arg1 value.
-   * @param arg2 the arg2 value.
-   * @param aBytes the aBytes value.
-   * @param bBytes the bBytes value.
-   * @param hBytes the hBytes value.
+   * @param aLimbs the limbs of the first argument.
+   * @param bLimbs the limbs of the second argument.
+   * @param hLimbs the hs array.
    * @param alpha the alpha value.
    * @param beta the beta value.
    * @return the overflow result.
    */
   @Override
   public boolean[] computeOverflowRes(
-      BaseBytes arg1,
-      BaseBytes arg2,
-      BytesArray aBytes,
-      BytesArray bBytes,
-      BytesArray hBytes,
-      UInt256 alpha,
-      UInt256 beta) {
-    return MulModOverflowResCalculator.calculateOverflow(aBytes, bBytes, hBytes, alpha, beta);
+      long[] aLimbs, long[] bLimbs, long[] hLimbs, long alpha, long beta) {
+    return MulModOverflowResCalculator.calculateOverflow(aLimbs, bLimbs, hLimbs, alpha, beta);
   }
 }
@@ -15,12 +15,14 @@
 
 package net.consensys.linea.zktracer.module.ext.calculator.mulmod;
 
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.WORD_LIMBS;
 import static net.consensys.linea.zktracer.module.Util.getBit;
 import static net.consensys.linea.zktracer.module.Util.getOverflow;
 import static net.consensys.linea.zktracer.module.Util.multiplyRange;
 
-import net.consensys.linea.zktracer.bytestheta.BytesArray;
-import org.apache.tuweni.units.bigints.UInt256;
+import java.util.Arrays;
+
+import net.consensys.linea.zktracer.bytestheta.LimbArithmetic;
 
 /**
  * A utility class for computing the Result overflow value for extended modular arithmetic
@@ -28,21 +30,22 @@ import org.apache.tuweni.units.bigints.UInt256;
  */
 public class MulModOverflowResCalculator {
   static boolean[] calculateOverflow(
-      BytesArray aBytes, BytesArray bBytes, BytesArray hBytes, UInt256 alpha, UInt256 beta) {
+      long[] aLimbs, long[] bLimbs, long[] hLimbs, long alpha, long beta) {
 
     boolean[] overflowRes = new boolean[8];
+    final long[] sum = new long[WORD_LIMBS];
     // Calculate lambda
-    long lambda = calculateLambda(aBytes, bBytes, hBytes);
+    long lambda = calculateLambda(aLimbs, bLimbs, hLimbs, sum);
 
     // Calculate mu
-    long mu = calculateMu(lambda, aBytes, bBytes, hBytes, alpha);
+    long mu = calculateMu(lambda, aLimbs, bLimbs, hLimbs, alpha, sum);
     // Store results in the boolean array
     overflowRes[0] = getBit(lambda, 0);
     overflowRes[1] = getBit(mu, 0);
     overflowRes[2] = getBit(mu, 1);
 
     // Calculate nu
-    long nu = calculateNu(mu, aBytes, bBytes, hBytes, beta);
+    long nu = calculateNu(mu, aLimbs, bLimbs, hLimbs, beta, sum);
     // Store results in the boolean array
     overflowRes[3] = getBit(nu, 0);
     overflowRes[4] = getBit(nu, 1);
@@ -54,14 +57,16 @@ public class MulModOverflowResCalculator {
   /**
    * Calculates lambda based on input parameters.
    *
-   * @param aBytes the first input parameter as a BaseTheta object
-   * @param bBytes the second input parameter as a BaseTheta object
-   * @param hBytes the third input parameter as a BytesArray object
+   * @param aLimbs the limbs of the first argument
+   * @param bLimbs the limbs of the second argument
+   * @param hLimbs the hs array
+   * @param sum scratch space for the sum
    * @return the calculated lambda value as a long
    */
-  private static long calculateLambda(BytesArray aBytes, BytesArray bBytes, BytesArray hBytes) {
-    var sum = multiplyRange(aBytes.getBytesRange(0, 0), bBytes.getBytesRange(0, 0));
-    sum = sum.add(UInt256.valueOf(hBytes.get(0).toUnsignedBigInteger().shiftLeft(64)));
+  private static long calculateLambda(long[] aLimbs, long[] bLimbs, long[] hLimbs, long[] sum) {
+    Arrays.fill(sum, 0);
+    multiplyRange(aLimbs, 0, bLimbs, 0, 1, sum);
+    LimbArithmetic.addLimb(sum, hLimbs[0], 1);
     return getOverflow(sum, 1, "lambda out of range (MULMOD)");
   }
 
@@ -69,21 +74,23 @@ public class MulModOverflowResCalculator {
    * Calculates mu based on input parameters.
    *
    * @param lambda the lambda value as a long
-   * @param aBytes the first input parameter as a BaseTheta object
-   * @param bBytes the second input parameter as a BaseTheta object
-   * @param hBytes the third input parameter as a BytesArray object
-   * @param alpha the fourth input parameter as a UInt256 object
+   * @param aLimbs the limbs of the first argument
+   * @param bLimbs the limbs of the second argument
+   * @param hLimbs the hs array
+   * @param alpha the alpha value
+   * @param sum scratch space for the sum
    * @return the calculated mu value as a long
    */
   private static long calculateMu(
-      long lambda, BytesArray aBytes, BytesArray bBytes, BytesArray hBytes, UInt256 alpha) {
-    var sum = UInt256.valueOf(lambda);
-    sum = sum.add(UInt256.fromBytes(hBytes.get(1)));
-    sum = sum.add(UInt256.valueOf(alpha.toUnsignedBigInteger().shiftLeft(64)));
-    sum = sum.add((UInt256.fromBytes(aBytes.get(2)).multiply(UInt256.fromBytes(bBytes.get(0)))));
-    sum = sum.add((UInt256.fromBytes(aBytes.get(1)).multiply(UInt256.fromBytes(bBytes.get(1)))));
-    sum = sum.add((UInt256.fromBytes(aBytes.get(0)).multiply(UInt256.fromBytes(bBytes.get(2)))));
-    sum = sum.add(UInt256.valueOf(hBytes.get(2).toUnsignedBigInteger().shiftLeft(64)));
+      long lambda, long[] aLimbs, long[] bLimbs, long[] hLimbs, long alpha, long[] sum) {
+    Arrays.fill(sum, 0);
+    sum[0] = lambda;
+    LimbArithmetic.addLimb(sum, hLimbs[1], 0);
+    LimbArithmetic.addLimb(sum, alpha, 1);
+    LimbArithmetic.addProduct(sum, aLimbs[2], bLimbs[0], 0);
+    LimbArithmetic.addProduct(sum, aLimbs[1], bLimbs[1], 0);
+    LimbArithmetic.addProduct(sum, aLimbs[0], bLimbs[2], 0);
+    LimbArithmetic.addLimb(sum, hLimbs[2], 1);
     return getOverflow(sum, 3, "mu out of range (MULMOD)");
   }
 
@@ -91,19 +98,21 @@ public class MulModOverflowResCalculator {
    * Calculates nu based on input parameters.
    *
    * @param mu the mu value as a long
-   * @param aBytes the first input parameter as a BaseTheta object
-   * @param bBytes the second input parameter as a BaseTheta object
-   * @param hBytes the third input parameter as a BytesArray object
-   * @param beta the fifth input parameter as a UInt256 object
+   * @param aLimbs the limbs of the first argument
+   * @param bLimbs the limbs of the second argument
+   * @param hLimbs the hs array
+   * @param beta the beta value
+   * @param sum scratch space for the sum
    * @return the calculated nu value as a long
    */
   private static long calculateNu(
-      long mu, BytesArray aBytes, BytesArray bBytes, BytesArray hBytes, UInt256 beta) {
-    var sum = UInt256.valueOf(mu);
-    sum = sum.add(UInt256.fromBytes(hBytes.get(3)));
-    sum = sum.add(UInt256.valueOf(beta.toUnsignedBigInteger().shiftLeft(64)));
-    sum = sum.add(multiplyRange(bBytes.getBytesRange(1, 3), aBytes.getBytesRange(1, 3)));
-    sum = sum.add(UInt256.valueOf(hBytes.get(4).toUnsignedBigInteger().shiftLeft(64)));
+      long mu, long[] aLimbs, long[] bLimbs, long[] hLimbs, long beta, long[] sum) {
+    Arrays.fill(sum, 0);
+    sum[0] = mu;
+    LimbArithmetic.addLimb(sum, hLimbs[3], 0);
+    LimbArithmetic.addLimb(sum, beta, 1);
+    multiplyRange(bLimbs, 1, aLimbs, 1, 3, sum);
+    LimbArithmetic.addLimb(sum, hLimbs[4], 1);
     return getOverflow(sum, 3, "nu out of range (MULMOD)");
   }
 }
@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -85,11 +86,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc1.put((byte) 0);
-    }
-    acc1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -101,11 +98,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc2.put((byte) 0);
-    }
-    acc2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -165,11 +158,7 @@ public class Trace {
       filled.set(6);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasCost.put((byte) 0);
-    }
-    gasCost.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasCost, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -15,6 +15,7 @@
 
 package net.consensys.linea.zktracer.module.hub;
 
+import static net.consensys.linea.zktracer.module.constants.GlobalConstants.WORD_SIZE;
 import static net.consensys.linea.zktracer.types.AddressUtils.effectiveToAddress;
 import static net.consensys.linea.zktracer.types.AddressUtils.isPrecompile;
 import static net.consensys.linea.zktracer.types.AddressUtils.precompileAddress;
@@ -34,6 +35,7 @@ import lombok.Getter;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.ModuleProfiler;
 import net.consensys.linea.zktracer.ZkTracer;
 import net.consensys.linea.zktracer.module.Module;
 import net.consensys.linea.zktracer.module.add.Add;
@@ -85,6 +87,7 @@ import net.consensys.linea.zktracer.module.romlex.RomLex;
 import net.consensys.linea.zktracer.module.shakiradata.ShakiraData;
 import net.consensys.linea.zktracer.module.shf.Shf;
 import net.consensys.linea.zktracer.module.stp.Stp;
+import net.consensys.linea.zktracer.module.tables.CachedReferenceTable;
 import net.consensys.linea.zktracer.module.tables.bin.BinRt;
 import net.consensys.linea.zktracer.module.tables.instructionDecoder.InstructionDecoder;
 import net.consensys.linea.zktracer.module.tables.shf.ShfRt;
@@ -154,6 +157,15 @@ public class Hub implements Module {
   /** stores all data related to failure states & module activation */
   @Getter private final PlatformController pch;
 
+  /**
+   * whether only line counts are required, in which case the trace sections of a transaction are
+   * discarded as soon as it is over
+   */
+  @Getter private final boolean countingOnly;
+
+  /** The number of post-conflation defers registered before the current transaction */
+  private int postConflationDefersAtTxStart = 0;
+
   @Override
   public String moduleKey() {
     return "HUB";
@@ -235,7 +247,7 @@ public class Hub implements Module {
 
   @Getter private final RomLex romLex;
   private final TxnData txnData;
-  private final ShakiraData shakiraData = new ShakiraData(this.wcp);
+  @Getter private final ShakiraData shakiraData = new ShakiraData(this.wcp);
   private final ModexpEffectiveCall modexpEffectiveCall;
   private final Stp stp = new Stp(this, wcp, mod);
   private final L2Block l2Block;
@@ -248,11 +260,25 @@ public class Hub implements Module {
    * precompile to meet the prover limits
    */
   private final List<Module> precompileLimitModules;
-  private final List<Module> refTableModules;
+
+  /**
+   * Reference tables are stateless, and may thus be shared by every {@link Hub} instance; their
+   * immutable content is only generated once.
+   */
+  private static final List<Module> REF_TABLE_MODULES =
+      List.of(
+          new CachedReferenceTable(new BinRt()),
+          new CachedReferenceTable(new InstructionDecoder()),
+          new CachedReferenceTable(new ShfRt()));
 
   private boolean previousOperationWasCallToEcPrecompile;
 
   public Hub(final Address l2l1ContractAddress, final Bytes l2l1Topic) {
+    this(l2l1ContractAddress, l2l1Topic, false);
+  }
+
+  public Hub(final Address l2l1ContractAddress, final Bytes l2l1Topic, final boolean countingOnly) {
+    this.countingOnly = countingOnly;
     this.l2Block = new L2Block(l2l1ContractAddress, LogTopic.of(l2l1Topic));
     this.transients = new Transients(this);
     this.factories = new Factories(this);
@@ -306,8 +332,6 @@ public class Hub implements Module {
             new Keccak(this, ecRec, l2Block, shakiraData),
             new L2L1Logs(l2Block));
 
-    this.refTableModules = List.of(new BinRt(), new InstructionDecoder(), new ShfRt());
-
     this.modules =
         Stream.concat(
                 Stream.of(
@@ -349,7 +373,7 @@ public class Hub implements Module {
    */
   public List<Module> getModulesToTrace() {
     return Stream.concat(
-            this.refTableModules.stream(),
+            REF_TABLE_MODULES.stream(),
             // Modules
             Stream.of(
                 this,
@@ -366,7 +390,7 @@ public class Hub implements Module {
                 //                this.gas,
                 this.logData,
                 this.logInfo,
-                this.mmu, // WARN: must be called before the MMIO
+                this.mmu,
                 this.mmio,
                 this.mod,
                 this.mul,
@@ -386,6 +410,19 @@ public class Hub implements Module {
         .toList();
   }
 
+  /**
+   * Lists the commit-time ordering constraints between the modules to trace: each module is
+   * associated to the modules that must be fully committed before its own commit may start.
+   * Modules absent from this map may be committed in any order.
+   *
+   * @return the commit dependency graph of the modules to trace
+   */
+  public Map<Module, List<Module>> getCommitDependencies() {
+    return Map.of(
+        // the MMIO reads the exo bytes that the MMU sets on its operations when committing
+        this.mmio, List.of(this.mmu));
+  }
+
   /**
    * List all the modules for which to generate counters. Intersects with, but is not equal to
    * {@code getModulesToTrace}.
@@ -428,7 +465,7 @@ public class Hub implements Module {
             this.l2Block);
 
     return Stream.concat(
-            this.refTableModules.stream(),
+            REF_TABLE_MODULES.stream(),
             Stream.concat(regularModulesStream, this.precompileLimitModules.stream()))
         .toList();
   }
@@ -684,69 +721,84 @@ public class Hub implements Module {
   void triggerModules(MessageFrame frame) {
     if (Exceptions.none(this.pch.exceptions()) && this.pch.aborts().none()) {
       for (Module precompileLimit : this.precompileLimitModules) {
-        precompileLimit.tracePreOpcode(frame);
+        this.triggerPreOpcode(precompileLimit, frame);
       }
     }
 
     if (this.pch.signals().romLex()) {
-      this.romLex.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.romLex, frame);
     }
     if (this.pch.signals().add()) {
-      this.add.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.add, frame);
     }
     if (this.pch.signals().bin()) {
-      this.bin.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.bin, frame);
     }
     if (this.pch.signals().rlpAddr()) {
-      this.rlpAddr.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.rlpAddr, frame);
     }
     if (this.pch.signals().mul()) {
-      this.mul.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.mul, frame);
     }
     if (this.pch.signals().ext()) {
-      this.ext.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.ext, frame);
     }
     if (this.pch.signals().mod()) {
-      this.mod.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.mod, frame);
     }
     if (this.pch.signals().wcp()) {
-      this.wcp.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.wcp, frame);
     }
     if (this.pch.signals().shf()) {
-      this.shf.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.shf, frame);
     }
     if (this.pch.signals().mxp()) {
-      this.mxp.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.mxp, frame);
     }
     if (this.pch.signals().oob()) {
-      this.oob.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.oob, frame);
     }
     if (this.pch.signals().stp()) {
-      this.stp.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.stp, frame);
     }
     if (this.pch.signals().exp()) {
-      this.exp.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.exp, frame);
     }
     if (this.pch.signals().trm()) {
-      this.trm.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.trm, frame);
     }
     if (this.pch.signals().hashInfo()) {
       // TODO: this.hashInfo.tracePreOpcode(frame);
     }
     if (this.pch.signals().ecData()) {
-      this.ecData.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.ecData, frame);
     }
     if (this.pch.signals().blockhash()) {
-      this.blockhash.tracePreOpcode(frame);
+      this.triggerPreOpcode(this.blockhash, frame);
     }
   }
 
+  /** Calls the pre-opcode hook of a module, profiling it if enabled. */
+  private void triggerPreOpcode(final Module m, final MessageFrame frame) {
+    final long start = ModuleProfiler.start();
+    m.tracePreOpcode(frame);
+    ModuleProfiler.stop(m, ModuleProfiler.Hook.PRE_OPCODE, start);
+  }
+
+  /** Calls the post-opcode hook of a module, profiling it if enabled. */
+  private void triggerPostOpcode(final Module m, final MessageFrame frame) {
+    final long start = ModuleProfiler.start();
+    m.tracePostOpcode(frame);
+    ModuleProfiler.stop(m, ModuleProfiler.Hook.POST_OPCODE, start);
+  }
+
   void processStateExec(MessageFrame frame) {
     // Note: in some cases there is no operation since ECPAIRING arguments are invalid
     if (previousOperationWasCallToEcPrecompile && this.ecData.getOperations().size() > 0) {
       this.ecData.getEcdDataOperation().setReturnData(frame.getReturnData());
       previousOperationWasCallToEcPrecompile = false;
     }
+    this.shakiraData.capturePrecompileResult(frame);
     this.currentFrame().frame(frame);
     this.state.stamps().incrementHubStamp();
 
@@ -763,7 +815,11 @@ public class Hub implements Module {
       if (this.pch.signals().ecData()) {
         this.previousOperationWasCallToEcPrecompile = true;
       }
+      // Includes the operations directly handed over to other modules, e.g. MMU calls
+      final long start = ModuleProfiler.start();
       this.traceOperation(frame);
+      ModuleProfiler.stop(this, ModuleProfiler.Hook.PRE_OPCODE, start);
+      this.trackMemoryWrites(frame);
     } else {
       this.addTraceSection(new StackOnlySection(this));
       this.currentTraceSection()
@@ -771,6 +827,42 @@ public class Hub implements Module {
     }
   }
 
+  /**
+   * Records the memory span the current instruction is about to write to, once the MMU has read the
+   * memory it needed, so that the next memory snapshot of the current frame reads it again. Writes
+   * performed by callees returning data are handled at re-entry.
+   */
+  private void trackMemoryWrites(MessageFrame frame) {
+    switch (this.currentFrame().opCode()) {
+      case MSTORE -> this.memoryWritten(frame.getStackItem(0), WORD_SIZE);
+      case MSTORE8 -> this.memoryWritten(frame.getStackItem(0), 1);
+      case CALLDATACOPY, CODECOPY, RETURNDATACOPY -> this.memoryWritten(
+          frame.getStackItem(0), frame.getStackItem(2));
+      case EXTCODECOPY -> this.memoryWritten(frame.getStackItem(1), frame.getStackItem(3));
+      default -> {}
+    }
+  }
+
+  private void memoryWritten(Bytes offset, Bytes length) {
+    final Bytes trimmedLength = length.trimLeadingZeros();
+    if (trimmedLength.size() > 4) {
+      // Such a write can not succeed
+      return;
+    }
+    this.memoryWritten(offset, trimmedLength.toLong());
+  }
+
+  private void memoryWritten(Bytes offset, long length) {
+    final Bytes trimmedOffset = offset.trimLeadingZeros();
+    if (length == 0 || trimmedOffset.size() > 4) {
+      return;
+    }
+    final long start = trimmedOffset.toLong();
+    if (start + length <= Integer.MAX_VALUE) {
+      this.currentFrame().memoryWritten(start, length);
+    }
+  }
+
   void processStateFinal(WorldView worldView, Transaction tx, boolean isSuccess) {
     this.transients().tx().state(TxState.TX_FINAL);
     this.state.stamps().incrementHubStamp();
@@ -870,6 +962,7 @@ public class Hub implements Module {
   public void traceStartTx(final WorldView world, final Transaction tx) {
     this.pch.reset();
     this.state.enter();
+    this.postConflationDefersAtTxStart = this.defers.postConflationCount();
 
     this.defers.postTx(this.state.currentTxTrace());
 
@@ -889,7 +982,9 @@ public class Hub implements Module {
     }
 
     for (Module m : this.modules) {
+      final long start = ModuleProfiler.start();
       m.traceStartTx(world, tx);
+      ModuleProfiler.stop(m, ModuleProfiler.Hook.START_TX, start);
     }
   }
 
@@ -918,7 +1013,18 @@ public class Hub implements Module {
     this.defers.runPostTx(this, world, tx, isSuccessful);
 
     for (Module m : this.modules) {
+      final long start = ModuleProfiler.start();
       m.traceEndTx(world, tx, isSuccessful, output, logs, gasUsed);
+      ModuleProfiler.stop(m, ModuleProfiler.Hook.END_TX, start);
+    }
+
+    // The root frame is never exited from the call stack
+    this.callStack.maybeCurrent().ifPresent(CallFrame::compact);
+
+    if (this.countingOnly) {
+      this.state.release(
+          this.state.currentTxTrace(),
+          this.defers.postConflationCount() > this.postConflationDefersAtTxStart);
     }
   }
 
@@ -943,19 +1049,12 @@ public class Hub implements Module {
         }
 
         // This works because we are certain that the stack chunks are the first.
-        ((StackFragment) section.lines().get(i).specific())
-            .stackOps()
-            .get(line.resultColumn() - 1)
-            .value(result);
+        section.setStackItemValue(i, line.resultColumn() - 1, result);
       }
     }
 
     if (Exceptions.none(this.pch.exceptions())) {
-      for (TraceSection.TraceLine line : section.lines()) {
-        if (line.specific() instanceof StackFragment stackFragment) {
-          stackFragment.feedHashedValue(frame);
-        }
-      }
+      section.feedHashedValues(frame);
     }
   }
 
@@ -1063,7 +1162,9 @@ public class Hub implements Module {
       this.defers.runNextContext(this, frame);
 
       for (Module m : this.modules) {
+        final long start = ModuleProfiler.start();
         m.traceContextEnter(frame);
+        ModuleProfiler.stop(m, ModuleProfiler.Hook.CONTEXT_ENTER, start);
       }
     }
   }
@@ -1081,6 +1182,8 @@ public class Hub implements Module {
   }
 
   public void traceContextReEnter(MessageFrame frame) {
+    // The callee may have written its return data to the memory of the current frame
+    this.currentFrame().memoryOverwritten();
     this.defers.runReEntry(this, frame);
     if (this.currentFrame().needsUnlatchingAtReEntry() != null) {
       this.unlatchStack(frame, this.currentFrame().needsUnlatchingAtReEntry());
@@ -1106,7 +1209,9 @@ public class Hub implements Module {
       this.callStack.exit();
 
       for (Module m : this.modules) {
+        final long start = ModuleProfiler.start();
         m.traceContextExit(frame);
+        ModuleProfiler.stop(m, ModuleProfiler.Hook.CONTEXT_EXIT, start);
       }
     }
   }
@@ -1128,8 +1233,10 @@ public class Hub implements Module {
       this.handleCreate(Words.toAddress(frame.getStackItem(0)));
     }
 
+    final long start = ModuleProfiler.start();
     this.defers.runPostExec(this, frame, operationResult);
-    this.romLex.tracePostOpcode(frame);
+    ModuleProfiler.stop(this, ModuleProfiler.Hook.POST_OPCODE, start);
+    this.triggerPostOpcode(this.romLex, frame);
 
     if (this.currentFrame().needsUnlatchingAtReEntry() == null) {
       this.unlatchStack(frame);
@@ -1138,33 +1245,33 @@ public class Hub implements Module {
     switch (this.opCodeData().instructionFamily()) {
       case ADD -> {
         if (Exceptions.noStackException(this.pch.exceptions())) {
-          this.add.tracePostOpcode(frame);
+          this.triggerPostOpcode(this.add, frame);
         }
       }
       case MOD -> {
         if (Exceptions.noStackException(this.pch.exceptions())) {
-          this.mod.tracePostOpcode(frame);
+          this.triggerPostOpcode(this.mod, frame);
         }
       }
       case MUL -> {
         if (Exceptions.noStackException(this.pch.exceptions())) {
-          this.mul.tracePostOpcode(frame);
+          this.triggerPostOpcode(this.mul, frame);
         }
       }
       case EXT -> {
         if (Exceptions.noStackException(this.pch.exceptions())) {
-          this.ext.tracePostOpcode(frame);
+          this.triggerPostOpcode(this.ext, frame);
         }
       }
       case WCP -> {
         if (Exceptions.noStackException(this.pch.exceptions())) {
-          this.wcp.tracePostOpcode(frame);
+          this.triggerPostOpcode(this.wcp, frame);
         }
       }
       case BIN -> {}
       case SHF -> {
         if (Exceptions.noStackException(this.pch.exceptions())) {
-          this.shf.tracePostOpcode(frame);
+          this.triggerPostOpcode(this.shf, frame);
         }
       }
       case KEC -> {}
@@ -1174,12 +1281,12 @@ public class Hub implements Module {
       case TRANSACTION -> {}
       case BATCH -> {
         if (this.currentFrame().opCode() == OpCode.BLOCKHASH) {
-          this.blockhash.tracePostOpcode(frame);
+          this.triggerPostOpcode(this.blockhash, frame);
         }
       }
       case STACK_RAM -> {
         if (Exceptions.noStackException(this.pch.exceptions())) {
-          this.mxp.tracePostOpcode(frame);
+          this.triggerPostOpcode(this.mxp, frame);
         }
       }
       case STORAGE -> {}
@@ -1227,6 +1334,7 @@ public class Hub implements Module {
   @Override
   public void traceEndConflation(final WorldView state) {
     this.defers.runPostConflation(this, state);
+    this.state.releasePending();
 
     for (Module m : this.modules) {
       m.traceEndConflation(state);
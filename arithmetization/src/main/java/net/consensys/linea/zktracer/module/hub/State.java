@@ -23,11 +23,22 @@ import lombok.Getter;
 import lombok.experimental.Accessors;
 import net.consensys.linea.zktracer.container.StackedContainer;
 import net.consensys.linea.zktracer.module.hub.State.TxState.Stamps;
+import net.consensys.linea.zktracer.module.hub.rows.HubRows;
 import net.consensys.linea.zktracer.module.hub.signals.PlatformController;
 
+@Accessors(fluent = true)
 public class State implements StackedContainer {
   private final Deque<TxState> state = new ArrayDeque<>(50);
 
+  /** The cumulated line count of all the currently traced transactions */
+  private int lineCount = 0;
+
+  /** The lines of all the currently traced transactions */
+  @Getter private final HubRows rows = new HubRows();
+
+  /** The transaction traces whose release waits for the post-conflation defers */
+  private final Deque<TxTrace> pendingReleases = new ArrayDeque<>();
+
   State() {}
 
   private TxState current() {
@@ -67,25 +78,52 @@ public class State implements StackedContainer {
    * @return the cumulated line numbers for all currently traced transactions
    */
   int lineCount() {
-    int sum = 0;
-    for (TxState s : this.state) {
-      sum += s.txTrace.lineCount();
+    return this.lineCount;
+  }
+
+  void countLines(int count) {
+    this.lineCount += count;
+  }
+
+  /**
+   * Release the rows of a transaction trace that will never be committed. Post-conflation defers
+   * registered while tracing it may still read or write these rows, so its release is then
+   * postponed until {@link #releasePending()}.
+   *
+   * @param txTrace the transaction trace to release
+   * @param hasPendingDefers whether post-conflation defers were registered during the transaction
+   */
+  void release(TxTrace txTrace, boolean hasPendingDefers) {
+    if (hasPendingDefers) {
+      this.pendingReleases.push(txTrace);
+    } else {
+      txTrace.release();
+    }
+  }
+
+  /** Release the postponed transaction traces, once the post-conflation defers have run. */
+  void releasePending() {
+    // Latest first, as each release discards all the rows from its first one onwards
+    while (!this.pendingReleases.isEmpty()) {
+      this.pendingReleases.pop().release();
     }
-    return sum;
   }
 
   @Override
   public void enter() {
     if (this.state.isEmpty()) {
-      this.state.push(new TxState());
+      this.state.push(new TxState(this));
     } else {
-      this.state.push(this.current().spinOff());
+      this.state.push(this.current().spinOff(this));
     }
   }
 
   @Override
   public void pop() {
-    this.state.pop();
+    final TxTrace txTrace = this.state.pop().txTrace;
+    this.pendingReleases.remove(txTrace);
+    this.lineCount -= txTrace.lineCount();
+    this.rows.truncate(txTrace.firstRow());
   }
 
   /** Describes the Hub state during a given transaction. */
@@ -95,18 +133,18 @@ public class State implements StackedContainer {
     Stamps stamps;
     TxTrace txTrace;
 
-    TxState() {
+    TxState(State parent) {
       this.stamps = new Stamps();
-      this.txTrace = new TxTrace();
+      this.txTrace = new TxTrace(parent);
     }
 
-    public TxState(Stamps stamps) {
+    public TxState(Stamps stamps, State parent) {
       this.stamps = stamps;
-      this.txTrace = new TxTrace();
+      this.txTrace = new TxTrace(parent);
     }
 
-    TxState spinOff() {
-      return new TxState(this.stamps.spinOff());
+    TxState spinOff(State parent) {
+      return new TxState(this.stamps.spinOff(), parent);
     }
 
     /** Stores all the stamps associated to the tracing of a transaction. */
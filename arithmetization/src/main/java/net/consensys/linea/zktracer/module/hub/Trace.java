@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import org.apache.tuweni.bytes.Bytes;
 
 /**
@@ -694,11 +695,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      absoluteTransactionNumber.put((byte) 0);
-    }
-    absoluteTransactionNumber.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(absoluteTransactionNumber, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -734,11 +731,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      batchNumber.put((byte) 0);
-    }
-    batchNumber.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(batchNumber, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -750,11 +743,7 @@ public class Trace {
       filled.set(2);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      callerContextNumber.put((byte) 0);
-    }
-    callerContextNumber.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(callerContextNumber, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -766,11 +755,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeFragmentIndex.put((byte) 0);
-    }
-    codeFragmentIndex.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(codeFragmentIndex, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -830,11 +815,7 @@ public class Trace {
       filled.set(6);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      contextNumber.put((byte) 0);
-    }
-    contextNumber.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(contextNumber, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -846,11 +827,7 @@ public class Trace {
       filled.set(7);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      contextNumberNew.put((byte) 0);
-    }
-    contextNumberNew.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(contextNumberNew, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -862,11 +839,7 @@ public class Trace {
       filled.set(8);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      contextRevertStamp.put((byte) 0);
-    }
-    contextRevertStamp.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(contextRevertStamp, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -902,11 +875,7 @@ public class Trace {
       filled.set(11);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      counterNsr.put((byte) 0);
-    }
-    counterNsr.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(counterNsr, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -930,11 +899,7 @@ public class Trace {
       filled.set(13);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      domStamp.put((byte) 0);
-    }
-    domStamp.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(domStamp, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -958,11 +923,7 @@ public class Trace {
       filled.set(15);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasActual.put((byte) 0);
-    }
-    gasActual.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasActual, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -974,11 +935,7 @@ public class Trace {
       filled.set(16);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasCost.put((byte) 0);
-    }
-    gasCost.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasCost, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -990,11 +947,7 @@ public class Trace {
       filled.set(17);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasExpected.put((byte) 0);
-    }
-    gasExpected.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasExpected, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1006,11 +959,7 @@ public class Trace {
       filled.set(18);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasNext.put((byte) 0);
-    }
-    gasNext.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasNext, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1022,11 +971,7 @@ public class Trace {
       filled.set(19);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      hashInfoStamp.put((byte) 0);
-    }
-    hashInfoStamp.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(hashInfoStamp, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1038,11 +983,7 @@ public class Trace {
       filled.set(20);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      height.put((byte) 0);
-    }
-    height.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(height, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1054,11 +995,7 @@ public class Trace {
       filled.set(21);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      heightNew.put((byte) 0);
-    }
-    heightNew.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(heightNew, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1070,11 +1007,7 @@ public class Trace {
       filled.set(22);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      hubStamp.put((byte) 0);
-    }
-    hubStamp.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(hubStamp, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1086,11 +1019,7 @@ public class Trace {
       filled.set(23);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      hubStampTransactionEnd.put((byte) 0);
-    }
-    hubStampTransactionEnd.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(hubStampTransactionEnd, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1102,11 +1031,7 @@ public class Trace {
       filled.set(24);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      logInfoStamp.put((byte) 0);
-    }
-    logInfoStamp.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(logInfoStamp, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1118,11 +1043,7 @@ public class Trace {
       filled.set(25);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      mmuStamp.put((byte) 0);
-    }
-    mmuStamp.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(mmuStamp, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1134,11 +1055,7 @@ public class Trace {
       filled.set(26);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      mxpStamp.put((byte) 0);
-    }
-    mxpStamp.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(mxpStamp, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1150,11 +1067,7 @@ public class Trace {
       filled.set(27);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      nonStackRows.put((byte) 0);
-    }
-    nonStackRows.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(nonStackRows, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1166,11 +1079,10 @@ public class Trace {
       filled.set(118);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee.put((byte) 0);
-    }
-    addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1182,11 +1094,10 @@ public class Trace {
       filled.set(119);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum.put((byte) 0);
-    }
-    addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1198,13 +1109,10 @@ public class Trace {
       filled.set(120);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize
-          .put((byte) 0);
-    }
-    balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1216,13 +1124,10 @@ public class Trace {
       filled.set(121);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi
-          .put((byte) 0);
-    }
-    balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1234,13 +1139,10 @@ public class Trace {
       filled.set(122);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo
-          .put((byte) 0);
-    }
-    codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1252,13 +1154,10 @@ public class Trace {
       filled.set(123);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi
-          .put((byte) 0);
-    }
-    codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1270,13 +1169,10 @@ public class Trace {
       filled.set(124);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo
-          .put((byte) 0);
-    }
-    codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1288,13 +1184,10 @@ public class Trace {
       filled.set(125);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable
-          .put((byte) 0);
-    }
-    codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1306,13 +1199,10 @@ public class Trace {
       filled.set(126);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover.put(
-          (byte) 0);
-    }
-    codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1324,13 +1214,10 @@ public class Trace {
       filled.set(127);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit.put(
-          (byte) 0);
-    }
-    codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1342,13 +1229,10 @@ public class Trace {
       filled.set(128);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice
-          .put((byte) 0);
-    }
-    codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1360,13 +1244,10 @@ public class Trace {
       filled.set(129);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance
-          .put((byte) 0);
-    }
-    deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1378,13 +1259,10 @@ public class Trace {
       filled.set(130);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize.put(
-          (byte) 0);
-    }
-    deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1396,12 +1274,10 @@ public class Trace {
       filled.set(131);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce.put((byte) 0);
-    }
-    deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1543,11 +1419,10 @@ public class Trace {
       filled.set(132);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas.put((byte) 0);
-    }
-    nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1559,12 +1434,10 @@ public class Trace {
       filled.set(133);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity.put((byte) 0);
-    }
-    nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1576,13 +1449,10 @@ public class Trace {
       filled.set(134);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective.put(
-          (byte) 0);
-    }
-    rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1594,12 +1464,10 @@ public class Trace {
       filled.set(135);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi.put((byte) 0);
-    }
-    rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1623,13 +1491,10 @@ public class Trace {
       filled.set(136);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo.put(
-          (byte) 0);
-    }
-    rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1641,11 +1506,10 @@ public class Trace {
       filled.set(137);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue.put((byte) 0);
-    }
-    rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1657,11 +1521,8 @@ public class Trace {
       filled.set(138);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrRecipeXorReturnDataSizeXorOobData3XorStackItemValueHi3.put((byte) 0);
-    }
-    rlpaddrRecipeXorReturnDataSizeXorOobData3XorStackItemValueHi3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrRecipeXorReturnDataSizeXorOobData3XorStackItemValueHi3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1673,11 +1534,7 @@ public class Trace {
       filled.set(139);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrSaltHiXorOobData4XorStackItemValueHi4.put((byte) 0);
-    }
-    rlpaddrSaltHiXorOobData4XorStackItemValueHi4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(rlpaddrSaltHiXorOobData4XorStackItemValueHi4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1689,11 +1546,7 @@ public class Trace {
       filled.set(140);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrSaltLoXorOobData5XorStackItemValueLo1.put((byte) 0);
-    }
-    rlpaddrSaltLoXorOobData5XorStackItemValueLo1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(rlpaddrSaltLoXorOobData5XorStackItemValueLo1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1729,11 +1582,8 @@ public class Trace {
       filled.set(141);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      trmRawAddressHiXorOobData6XorStackItemValueLo2.put((byte) 0);
-    }
-    trmRawAddressHiXorOobData6XorStackItemValueLo2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        trmRawAddressHiXorOobData6XorStackItemValueLo2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1769,11 +1619,10 @@ public class Trace {
       filled.set(118);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee.put((byte) 0);
-    }
-    addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1785,11 +1634,10 @@ public class Trace {
       filled.set(119);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum.put((byte) 0);
-    }
-    addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1801,13 +1649,10 @@ public class Trace {
       filled.set(120);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize
-          .put((byte) 0);
-    }
-    balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1819,13 +1664,10 @@ public class Trace {
       filled.set(121);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi
-          .put((byte) 0);
-    }
-    balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1837,13 +1679,10 @@ public class Trace {
       filled.set(122);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo
-          .put((byte) 0);
-    }
-    codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1855,13 +1694,10 @@ public class Trace {
       filled.set(123);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi
-          .put((byte) 0);
-    }
-    codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1873,13 +1709,10 @@ public class Trace {
       filled.set(124);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo
-          .put((byte) 0);
-    }
-    codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1891,13 +1724,10 @@ public class Trace {
       filled.set(125);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable
-          .put((byte) 0);
-    }
-    codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1909,13 +1739,10 @@ public class Trace {
       filled.set(128);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice
-          .put((byte) 0);
-    }
-    codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1927,13 +1754,10 @@ public class Trace {
       filled.set(129);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance
-          .put((byte) 0);
-    }
-    deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1945,13 +1769,10 @@ public class Trace {
       filled.set(130);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize.put(
-          (byte) 0);
-    }
-    deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1963,12 +1784,10 @@ public class Trace {
       filled.set(131);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce.put((byte) 0);
-    }
-    deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1980,11 +1799,10 @@ public class Trace {
       filled.set(132);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas.put((byte) 0);
-    }
-    nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -1996,13 +1814,10 @@ public class Trace {
       filled.set(126);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover.put(
-          (byte) 0);
-    }
-    codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2014,13 +1829,10 @@ public class Trace {
       filled.set(127);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit.put(
-          (byte) 0);
-    }
-    codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2032,12 +1844,10 @@ public class Trace {
       filled.set(133);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity.put((byte) 0);
-    }
-    nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2075,13 +1885,10 @@ public class Trace {
       filled.set(134);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective.put(
-          (byte) 0);
-    }
-    rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2093,12 +1900,10 @@ public class Trace {
       filled.set(135);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi.put((byte) 0);
-    }
-    rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2110,13 +1915,10 @@ public class Trace {
       filled.set(136);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo.put(
-          (byte) 0);
-    }
-    rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2128,11 +1930,10 @@ public class Trace {
       filled.set(137);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue.put((byte) 0);
-    }
-    rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2144,11 +1945,8 @@ public class Trace {
       filled.set(138);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrRecipeXorReturnDataSizeXorOobData3XorStackItemValueHi3.put((byte) 0);
-    }
-    rlpaddrRecipeXorReturnDataSizeXorOobData3XorStackItemValueHi3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrRecipeXorReturnDataSizeXorOobData3XorStackItemValueHi3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2173,11 +1971,10 @@ public class Trace {
       filled.set(118);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee.put((byte) 0);
-    }
-    addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2202,11 +1999,10 @@ public class Trace {
       filled.set(119);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum.put((byte) 0);
-    }
-    addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2218,13 +2014,10 @@ public class Trace {
       filled.set(120);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize
-          .put((byte) 0);
-    }
-    balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2236,13 +2029,10 @@ public class Trace {
       filled.set(121);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi
-          .put((byte) 0);
-    }
-    balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2254,13 +2044,10 @@ public class Trace {
       filled.set(122);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo
-          .put((byte) 0);
-    }
-    codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2272,13 +2059,10 @@ public class Trace {
       filled.set(123);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi
-          .put((byte) 0);
-    }
-    codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2364,11 +2148,7 @@ public class Trace {
       filled.set(113);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      mmuLimb1.put((byte) 0);
-    }
-    mmuLimb1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(mmuLimb1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2380,11 +2160,7 @@ public class Trace {
       filled.set(114);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      mmuLimb2.put((byte) 0);
-    }
-    mmuLimb2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(mmuLimb2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2456,11 +2232,7 @@ public class Trace {
       filled.set(115);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      mmuSrcOffsetHi.put((byte) 0);
-    }
-    mmuSrcOffsetHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(mmuSrcOffsetHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2472,11 +2244,7 @@ public class Trace {
       filled.set(116);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      mmuSrcOffsetLo.put((byte) 0);
-    }
-    mmuSrcOffsetLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(mmuSrcOffsetLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2513,11 +2281,7 @@ public class Trace {
       filled.set(117);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      mmuTgtOffsetLo.put((byte) 0);
-    }
-    mmuTgtOffsetLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(mmuTgtOffsetLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2555,13 +2319,10 @@ public class Trace {
       filled.set(124);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo
-          .put((byte) 0);
-    }
-    codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2573,13 +2334,10 @@ public class Trace {
       filled.set(125);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable
-          .put((byte) 0);
-    }
-    codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2591,13 +2349,10 @@ public class Trace {
       filled.set(126);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover.put(
-          (byte) 0);
-    }
-    codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2622,13 +2377,10 @@ public class Trace {
       filled.set(127);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit.put(
-          (byte) 0);
-    }
-    codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2640,13 +2392,10 @@ public class Trace {
       filled.set(128);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice
-          .put((byte) 0);
-    }
-    codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2658,13 +2407,10 @@ public class Trace {
       filled.set(129);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance
-          .put((byte) 0);
-    }
-    deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2676,13 +2422,10 @@ public class Trace {
       filled.set(130);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize.put(
-          (byte) 0);
-    }
-    deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2694,12 +2437,10 @@ public class Trace {
       filled.set(131);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce.put((byte) 0);
-    }
-    deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2711,11 +2452,10 @@ public class Trace {
       filled.set(132);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas.put((byte) 0);
-    }
-    nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2727,12 +2467,10 @@ public class Trace {
       filled.set(133);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity.put((byte) 0);
-    }
-    nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2744,13 +2482,10 @@ public class Trace {
       filled.set(134);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective.put(
-          (byte) 0);
-    }
-    rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2762,12 +2497,10 @@ public class Trace {
       filled.set(135);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi.put((byte) 0);
-    }
-    rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2779,13 +2512,10 @@ public class Trace {
       filled.set(136);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo.put(
-          (byte) 0);
-    }
-    rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2797,11 +2527,10 @@ public class Trace {
       filled.set(137);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue.put((byte) 0);
-    }
-    rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -2813,11 +2542,8 @@ public class Trace {
       filled.set(138);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrRecipeXorReturnDataSizeXorOobData3XorStackItemValueHi3.put((byte) 0);
-    }
-    rlpaddrRecipeXorReturnDataSizeXorOobData3XorStackItemValueHi3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrRecipeXorReturnDataSizeXorOobData3XorStackItemValueHi3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2829,11 +2555,7 @@ public class Trace {
       filled.set(139);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrSaltHiXorOobData4XorStackItemValueHi4.put((byte) 0);
-    }
-    rlpaddrSaltHiXorOobData4XorStackItemValueHi4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(rlpaddrSaltHiXorOobData4XorStackItemValueHi4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2845,11 +2567,7 @@ public class Trace {
       filled.set(140);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrSaltLoXorOobData5XorStackItemValueLo1.put((byte) 0);
-    }
-    rlpaddrSaltLoXorOobData5XorStackItemValueLo1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(rlpaddrSaltLoXorOobData5XorStackItemValueLo1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2861,11 +2579,8 @@ public class Trace {
       filled.set(141);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      trmRawAddressHiXorOobData6XorStackItemValueLo2.put((byte) 0);
-    }
-    trmRawAddressHiXorOobData6XorStackItemValueLo2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        trmRawAddressHiXorOobData6XorStackItemValueLo2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2877,11 +2592,7 @@ public class Trace {
       filled.set(142);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      oobData7XorStackItemValueLo3.put((byte) 0);
-    }
-    oobData7XorStackItemValueLo3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(oobData7XorStackItemValueLo3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2893,11 +2604,7 @@ public class Trace {
       filled.set(143);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      oobData8XorStackItemValueLo4.put((byte) 0);
-    }
-    oobData8XorStackItemValueLo4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(oobData8XorStackItemValueLo4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2960,11 +2667,7 @@ public class Trace {
       filled.set(144);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      stpGasHiXorStaticGas.put((byte) 0);
-    }
-    stpGasHiXorStaticGas.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(stpGasHiXorStaticGas, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2976,11 +2679,7 @@ public class Trace {
       filled.set(145);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      stpGasLo.put((byte) 0);
-    }
-    stpGasLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(stpGasLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -2992,11 +2691,7 @@ public class Trace {
       filled.set(146);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      stpGasMxp.put((byte) 0);
-    }
-    stpGasMxp.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(stpGasMxp, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -3008,11 +2703,7 @@ public class Trace {
       filled.set(147);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      stpGasPaidOutOfPocket.put((byte) 0);
-    }
-    stpGasPaidOutOfPocket.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(stpGasPaidOutOfPocket, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -3024,11 +2715,7 @@ public class Trace {
       filled.set(148);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      stpGasStipend.put((byte) 0);
-    }
-    stpGasStipend.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(stpGasStipend, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -3040,11 +2727,7 @@ public class Trace {
       filled.set(149);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      stpGasUpfrontGasCost.put((byte) 0);
-    }
-    stpGasUpfrontGasCost.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(stpGasUpfrontGasCost, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -3056,11 +2739,7 @@ public class Trace {
       filled.set(150);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      stpInstruction.put((byte) 0);
-    }
-    stpInstruction.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(stpInstruction, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -3084,11 +2763,7 @@ public class Trace {
       filled.set(151);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      stpValHi.put((byte) 0);
-    }
-    stpValHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(stpValHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -3100,11 +2775,7 @@ public class Trace {
       filled.set(152);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      stpValLo.put((byte) 0);
-    }
-    stpValLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(stpValLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -3813,11 +3484,10 @@ public class Trace {
       filled.set(118);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee.put((byte) 0);
-    }
-    addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -3957,11 +3627,10 @@ public class Trace {
       filled.set(119);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum.put((byte) 0);
-    }
-    addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4021,13 +3690,10 @@ public class Trace {
       filled.set(120);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize
-          .put((byte) 0);
-    }
-    balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4039,13 +3705,10 @@ public class Trace {
       filled.set(121);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi
-          .put((byte) 0);
-    }
-    balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4057,13 +3720,10 @@ public class Trace {
       filled.set(122);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo
-          .put((byte) 0);
-    }
-    codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4087,13 +3747,10 @@ public class Trace {
       filled.set(123);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi
-          .put((byte) 0);
-    }
-    codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4262,13 +3919,10 @@ public class Trace {
       filled.set(124);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo
-          .put((byte) 0);
-    }
-    codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4280,13 +3934,10 @@ public class Trace {
       filled.set(125);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable
-          .put((byte) 0);
-    }
-    codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4322,13 +3973,10 @@ public class Trace {
       filled.set(126);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover.put(
-          (byte) 0);
-    }
-    codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4340,13 +3988,10 @@ public class Trace {
       filled.set(127);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit.put(
-          (byte) 0);
-    }
-    codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4418,13 +4063,10 @@ public class Trace {
       filled.set(128);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice
-          .put((byte) 0);
-    }
-    codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4436,13 +4078,10 @@ public class Trace {
       filled.set(129);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance
-          .put((byte) 0);
-    }
-    deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4454,13 +4093,10 @@ public class Trace {
       filled.set(130);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize.put(
-          (byte) 0);
-    }
-    deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4472,12 +4108,10 @@ public class Trace {
       filled.set(131);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce.put((byte) 0);
-    }
-    deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4537,11 +4171,10 @@ public class Trace {
       filled.set(132);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas.put((byte) 0);
-    }
-    nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4553,12 +4186,10 @@ public class Trace {
       filled.set(133);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity.put((byte) 0);
-    }
-    nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4570,13 +4201,10 @@ public class Trace {
       filled.set(134);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective.put(
-          (byte) 0);
-    }
-    rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4588,12 +4216,10 @@ public class Trace {
       filled.set(135);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi.put((byte) 0);
-    }
-    rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4605,13 +4231,10 @@ public class Trace {
       filled.set(136);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo.put(
-          (byte) 0);
-    }
-    rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4623,11 +4246,10 @@ public class Trace {
       filled.set(137);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue.put((byte) 0);
-    }
-    rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4639,11 +4261,8 @@ public class Trace {
       filled.set(138);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrRecipeXorReturnDataSizeXorOobData3XorStackItemValueHi3.put((byte) 0);
-    }
-    rlpaddrRecipeXorReturnDataSizeXorOobData3XorStackItemValueHi3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrRecipeXorReturnDataSizeXorOobData3XorStackItemValueHi3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -4655,11 +4274,7 @@ public class Trace {
       filled.set(139);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrSaltHiXorOobData4XorStackItemValueHi4.put((byte) 0);
-    }
-    rlpaddrSaltHiXorOobData4XorStackItemValueHi4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(rlpaddrSaltHiXorOobData4XorStackItemValueHi4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -4671,11 +4286,7 @@ public class Trace {
       filled.set(140);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrSaltLoXorOobData5XorStackItemValueLo1.put((byte) 0);
-    }
-    rlpaddrSaltLoXorOobData5XorStackItemValueLo1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(rlpaddrSaltLoXorOobData5XorStackItemValueLo1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -4687,11 +4298,8 @@ public class Trace {
       filled.set(141);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      trmRawAddressHiXorOobData6XorStackItemValueLo2.put((byte) 0);
-    }
-    trmRawAddressHiXorOobData6XorStackItemValueLo2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        trmRawAddressHiXorOobData6XorStackItemValueLo2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -4703,11 +4311,7 @@ public class Trace {
       filled.set(142);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      oobData7XorStackItemValueLo3.put((byte) 0);
-    }
-    oobData7XorStackItemValueLo3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(oobData7XorStackItemValueLo3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -4719,11 +4323,7 @@ public class Trace {
       filled.set(143);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      oobData8XorStackItemValueLo4.put((byte) 0);
-    }
-    oobData8XorStackItemValueLo4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(oobData8XorStackItemValueLo4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -4759,11 +4359,7 @@ public class Trace {
       filled.set(144);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      stpGasHiXorStaticGas.put((byte) 0);
-    }
-    stpGasHiXorStaticGas.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(stpGasHiXorStaticGas, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -4847,11 +4443,10 @@ public class Trace {
       filled.set(118);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee.put((byte) 0);
-    }
-    addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4863,11 +4458,10 @@ public class Trace {
       filled.set(119);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum.put((byte) 0);
-    }
-    addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4879,13 +4473,10 @@ public class Trace {
       filled.set(120);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize
-          .put((byte) 0);
-    }
-    balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4897,13 +4488,10 @@ public class Trace {
       filled.set(121);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi
-          .put((byte) 0);
-    }
-    balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4915,13 +4503,10 @@ public class Trace {
       filled.set(122);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo
-          .put((byte) 0);
-    }
-    codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4933,13 +4518,10 @@ public class Trace {
       filled.set(123);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi
-          .put((byte) 0);
-    }
-    codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -4964,13 +4546,10 @@ public class Trace {
       filled.set(124);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo
-          .put((byte) 0);
-    }
-    codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5008,13 +4587,10 @@ public class Trace {
       filled.set(125);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable
-          .put((byte) 0);
-    }
-    codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5026,13 +4602,10 @@ public class Trace {
       filled.set(126);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover.put(
-          (byte) 0);
-    }
-    codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5083,13 +4656,10 @@ public class Trace {
       filled.set(127);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit.put(
-          (byte) 0);
-    }
-    codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5101,13 +4671,10 @@ public class Trace {
       filled.set(128);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice
-          .put((byte) 0);
-    }
-    codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5132,13 +4699,10 @@ public class Trace {
       filled.set(129);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance
-          .put((byte) 0);
-    }
-    deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5176,11 +4740,10 @@ public class Trace {
       filled.set(118);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee.put((byte) 0);
-    }
-    addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        addressHiXorAccountAddressHiXorCcrsStampXorAlphaXorAddressHiXorBasefee,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5192,11 +4755,10 @@ public class Trace {
       filled.set(119);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum.put((byte) 0);
-    }
-    addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        addressLoXorAccountAddressLoXorExpData1XorDeltaXorAddressLoXorBatchNum,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5208,13 +4770,10 @@ public class Trace {
       filled.set(120);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize
-          .put((byte) 0);
-    }
-    balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        balanceXorAccountDeploymentNumberXorExpData2XorHashInfoKeccakHiXorDeploymentNumberXorCallDataSize,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5226,13 +4785,10 @@ public class Trace {
       filled.set(121);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi
-          .put((byte) 0);
-    }
-    balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        balanceNewXorByteCodeAddressHiXorExpData3XorHashInfoKeccakLoXorDeploymentNumberInftyXorCoinbaseAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5244,13 +4800,10 @@ public class Trace {
       filled.set(122);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo
-          .put((byte) 0);
-    }
-    codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeFragmentIndexXorByteCodeAddressLoXorExpData4XorHashInfoSizeXorStorageKeyHiXorCoinbaseAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5275,13 +4828,10 @@ public class Trace {
       filled.set(123);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi
-          .put((byte) 0);
-    }
-    codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashHiXorByteCodeCodeFragmentIndexXorExpData5XorInstructionXorStorageKeyLoXorFromAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5293,13 +4843,10 @@ public class Trace {
       filled.set(124);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo
-          .put((byte) 0);
-    }
-    codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashHiNewXorByteCodeDeploymentNumberXorMxpGasMxpXorNbAddedXorValueCurrHiXorFromAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5311,13 +4858,10 @@ public class Trace {
       filled.set(125);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable
-          .put((byte) 0);
-    }
-    codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashLoXorByteCodeDeploymentStatusXorMxpInstXorNbRemovedXorValueCurrLoXorGasInitiallyAvailable,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5329,13 +4873,10 @@ public class Trace {
       filled.set(126);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover.put(
-          (byte) 0);
-    }
-    codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeHashLoNewXorCallerAddressHiXorMxpMtntopXorPushValueHiXorValueNextHiXorGasLeftover,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5347,13 +4888,10 @@ public class Trace {
       filled.set(127);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit.put(
-          (byte) 0);
-    }
-    codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeSizeXorCallerAddressLoXorMxpOffset1HiXorPushValueLoXorValueNextLoXorGasLimit,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5365,13 +4903,10 @@ public class Trace {
       filled.set(128);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice
-          .put((byte) 0);
-    }
-    codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        codeSizeNewXorCallDataContextNumberXorMxpOffset1LoXorStackItemHeight1XorValueOrigHiXorGasPrice,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5383,13 +4918,10 @@ public class Trace {
       filled.set(130);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize.put(
-          (byte) 0);
-    }
-    deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberInftyXorCallDataSizeXorMxpOffset2LoXorStackItemHeight3XorInitCodeSize,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5401,13 +4933,10 @@ public class Trace {
       filled.set(129);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance
-          .put((byte) 0);
-    }
-    deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance
-        .put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberXorCallDataOffsetXorMxpOffset2HiXorStackItemHeight2XorValueOrigLoXorInitialBalance,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5445,12 +4974,10 @@ public class Trace {
       filled.set(131);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce.put((byte) 0);
-    }
-    deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        deploymentNumberNewXorCallStackDepthXorMxpSize1HiXorStackItemHeight4XorNonce,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5462,11 +4989,10 @@ public class Trace {
       filled.set(132);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas.put((byte) 0);
-    }
-    nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        nonceXorCallValueXorMxpSize1LoXorStackItemStamp1XorPriorityFeePerGas,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5478,12 +5004,10 @@ public class Trace {
       filled.set(133);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity.put((byte) 0);
-    }
-    nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        nonceNewXorContextNumberXorMxpSize2HiXorStackItemStamp2XorRefundCounterInfinity,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5495,13 +5019,10 @@ public class Trace {
       filled.set(134);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective.put(
-          (byte) 0);
-    }
-    rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrDepAddrHiXorReturnAtCapacityXorMxpSize2LoXorStackItemStamp3XorRefundEffective,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5539,12 +5060,10 @@ public class Trace {
       filled.set(135);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi.put((byte) 0);
-    }
-    rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrDepAddrLoXorReturnAtOffsetXorMxpWordsXorStackItemStamp4XorToAddressHi,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5556,13 +5075,10 @@ public class Trace {
       filled.set(136);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo.put(
-          (byte) 0);
-    }
-    rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo.put(
-        b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrKecHiXorReturnDataContextNumberXorOobData1XorStackItemValueHi1XorToAddressLo,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5574,11 +5090,10 @@ public class Trace {
       filled.set(137);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue.put((byte) 0);
-    }
-    rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(
+        rlpaddrKecLoXorReturnDataOffsetXorOobData2XorStackItemValueHi2XorValue,
+        b.toArrayUnsafe(),
+        32);
 
     return this;
   }
@@ -5674,11 +5189,7 @@ public class Trace {
       filled.set(35);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      programCounter.put((byte) 0);
-    }
-    programCounter.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(programCounter, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -5690,11 +5201,7 @@ public class Trace {
       filled.set(36);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      programCounterNew.put((byte) 0);
-    }
-    programCounterNew.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(programCounterNew, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -5706,11 +5213,7 @@ public class Trace {
       filled.set(37);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      refundCounter.put((byte) 0);
-    }
-    refundCounter.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(refundCounter, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -5722,11 +5225,7 @@ public class Trace {
       filled.set(38);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      refundCounterNew.put((byte) 0);
-    }
-    refundCounterNew.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(refundCounterNew, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -5762,11 +5261,7 @@ public class Trace {
       filled.set(39);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      subStamp.put((byte) 0);
-    }
-    subStamp.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(subStamp, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -34,13 +34,24 @@ public class TxTrace implements PostTransactionDefer {
   /** The {@link TraceSection} of which this transaction trace is made of */
   @Getter private final List<TraceSection> trace = new ArrayList<>();
 
-  /** A cache for the line count of this transaction */
-  private int cachedLineCount = 0;
+  /** The {@link State} this transaction trace belongs to, which keeps a running line total */
+  private final State state;
+
+  /** The first row of this transaction trace in the {@link State} rows */
+  @Getter private final int firstRow;
+
+  /** The number of lines in this transaction trace, kept up to date as lines are added */
+  private int lineCount = 0;
 
   private long refundedGas = -1;
   @Getter private long leftoverGas = -1;
   @Getter private long gasRefundFinalCounter = 0; // TODO:
 
+  TxTrace(final State state) {
+    this.state = state;
+    this.firstRow = state.rows().size();
+  }
+
   public int size() {
     return this.trace.size();
   }
@@ -69,6 +80,17 @@ public class TxTrace implements PostTransactionDefer {
   public void add(TraceSection section) {
     section.parentTrace(this);
     this.trace.add(section);
+    this.countLines(section.lineCount());
+  }
+
+  /**
+   * Account for lines added to a {@link TraceSection} after it has been added to this trace.
+   *
+   * @param count the number of new lines
+   */
+  public void countLines(int count) {
+    this.lineCount += count;
+    this.state.countLines(count);
   }
 
   public long refundedGas() {
@@ -84,6 +106,17 @@ public class TxTrace implements PostTransactionDefer {
     return this.refundedGas;
   }
 
+  /**
+   * Discard the trace sections of this transaction, whose line count is preserved. Only valid when
+   * the trace will never be committed.
+   */
+  public void release() {
+    // Sections are only required to compute the refunds
+    this.refundedGas();
+    this.trace.clear();
+    this.state.rows().truncate(this.firstRow);
+  }
+
   @Override
   public void runPostTx(Hub hub, WorldView state, Transaction tx, boolean isSuccessful) {}
 
@@ -94,9 +127,7 @@ public class TxTrace implements PostTransactionDefer {
    */
   public void commit(Trace hubTrace) {
     for (TraceSection opSection : this.trace) {
-      for (TraceSection.TraceLine line : opSection.lines()) {
-        line.trace(hubTrace, opSection.stackHeight(), opSection.stackHeightNew());
-      }
+      opSection.trace(hubTrace);
     }
   }
 
@@ -104,11 +135,6 @@ public class TxTrace implements PostTransactionDefer {
    * @return the line count in this transaction trace
    */
   public int lineCount() {
-    if (this.cachedLineCount == 0) {
-      for (TraceSection s : trace) {
-        this.cachedLineCount += s.lines().size();
-      }
-    }
-    return this.cachedLineCount;
+    return this.lineCount;
   }
 }
@@ -65,6 +65,13 @@ public class DeferRegistry {
     this.conflationDefers.add(defer);
   }
 
+  /**
+   * @return the number of actions currently deferred until the end of the conflation
+   */
+  public int postConflationCount() {
+    return this.conflationDefers.size();
+  }
+
   /** Schedule an action to be executed at the re-entry in the current context. */
   public void reEntry(ReEnterContextDefer defer) {
     this.reEntryDefers.add(defer);
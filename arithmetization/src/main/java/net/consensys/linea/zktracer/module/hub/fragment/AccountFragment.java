@@ -43,19 +43,28 @@ public final class AccountFragment
 
   /**
    * {@link AccountFragment} creation requires access to a {@link DeferRegistry} for post-conflation
-   * data gathering, which is provided by this factory.
+   * data gathering, which is provided by this factory. As this data is only ever traced, it is not
+   * gathered when only counting lines.
    */
   @RequiredArgsConstructor
   public static class AccountFragmentFactory {
     private final DeferRegistry defers;
+    private final boolean countingOnly;
 
     public AccountFragment make(AccountSnapshot oldState, AccountSnapshot newState) {
-      return new AccountFragment(this.defers, oldState, newState, Optional.empty());
+      return this.register(new AccountFragment(oldState, newState, Optional.empty()));
     }
 
     public AccountFragment makeWithTrm(
         AccountSnapshot oldState, AccountSnapshot newState, Bytes toTrim) {
-      return new AccountFragment(this.defers, oldState, newState, Optional.of(toTrim));
+      return this.register(new AccountFragment(oldState, newState, Optional.of(toTrim)));
+    }
+
+    private AccountFragment register(AccountFragment fragment) {
+      if (!this.countingOnly) {
+        this.defers.postConflation(fragment);
+      }
+      return fragment;
     }
   }
 
@@ -71,7 +80,6 @@ public final class AccountFragment
   private final Optional<Bytes> addressToTrim;
 
   public AccountFragment(
-      final DeferRegistry defers,
       AccountSnapshot oldState,
       AccountSnapshot newState,
       Optional<Bytes> addressToTrim) {
@@ -83,8 +91,6 @@ public final class AccountFragment
     this.deploymentNumber = newState.deploymentNumber();
     this.isDeployment = newState.deploymentStatus();
     this.addressToTrim = addressToTrim;
-
-    defers.postConflation(this);
   }
 
   @Override
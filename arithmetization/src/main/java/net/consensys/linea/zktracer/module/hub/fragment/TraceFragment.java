@@ -16,10 +16,11 @@
 package net.consensys.linea.zktracer.module.hub.fragment;
 
 import net.consensys.linea.zktracer.module.hub.Trace;
+import net.consensys.linea.zktracer.module.hub.rows.HubRows;
 
 /**
- * A TraceFragment represents a piece of a trace line; either a {@link CommonFragment} present in
- * each line, or a perspective-specific fragment.
+ * A TraceFragment represents the perspective-specific piece of a non-stack trace line; the columns
+ * shared by all lines and the stack perspective are stored directly in the {@link HubRows}.
  */
 public interface TraceFragment {
   Trace trace(Trace trace);
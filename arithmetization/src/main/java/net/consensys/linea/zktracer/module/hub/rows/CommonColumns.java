@@ -0,0 +1,187 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.module.hub.rows;
+
+import net.consensys.linea.zktracer.module.hub.Hub;
+import net.consensys.linea.zktracer.module.hub.Trace;
+import net.consensys.linea.zktracer.module.hub.TransactionStack;
+import net.consensys.linea.zktracer.module.hub.signals.Exceptions;
+import net.consensys.linea.zktracer.opcode.InstructionFamily;
+import net.consensys.linea.zktracer.runtime.callstack.CallFrame;
+import net.consensys.linea.zktracer.types.TxState;
+import org.apache.tuweni.bytes.Bytes;
+
+/** The columns shared by all the perspectives of the Hub, one row per Hub line. */
+final class CommonColumns {
+  private static final TxState[] TX_STATES = TxState.values();
+  private static final InstructionFamily[] INSTRUCTION_FAMILIES = InstructionFamily.values();
+
+  // int columns
+  private static final int TX_ID = 0;
+  private static final int BATCH_NUMBER = 1;
+  private static final int STAMP = 2;
+  private static final int EXCEPTIONS = 3;
+  private static final int CALL_FRAME_ID = 4;
+  private static final int CONTEXT_NUMBER = 5;
+  private static final int NEW_CONTEXT_NUMBER = 6;
+  private static final int PC = 7;
+  private static final int NEW_PC = 8;
+  private static final int CALLER_CONTEXT_NUMBER = 9;
+  private static final int NUMBER_OF_NON_STACK_ROWS = 10;
+  private static final int NON_STACK_ROWS_COUNTER = 11;
+  private static final int INT_WIDTH = 12;
+
+  // byte columns
+  private static final int TX_STATE = 0;
+  private static final int INSTRUCTION_FAMILY = 1;
+  private static final int FLAGS = 2;
+  private static final int BYTE_WIDTH = 3;
+
+  // flags
+  private static final int TWO_LINES_INSTRUCTION = 1;
+  private static final int TWO_LINES_INSTRUCTION_COUNTER = 1 << 1;
+
+  private final IntColumn ints = new IntColumn(INT_WIDTH);
+  private final ByteColumn bytes = new ByteColumn(BYTE_WIDTH);
+
+  void set(
+      final int row,
+      final Hub hub,
+      final CallFrame frame,
+      boolean tliCounter,
+      int nonStackRowsCounter) {
+    this.ints.set(row, TX_ID, hub.transients().tx().id());
+    this.ints.set(row, BATCH_NUMBER, hub.transients().conflation().number());
+    this.ints.set(row, STAMP, hub.stamp());
+    this.ints.set(row, EXCEPTIONS, hub.pch().exceptions());
+    this.ints.set(row, CALL_FRAME_ID, frame.id());
+    this.ints.set(row, CONTEXT_NUMBER, frame.contextNumber());
+    this.ints.set(row, NEW_CONTEXT_NUMBER, frame.contextNumber());
+    this.ints.set(row, PC, frame.pc());
+    this.ints.set(row, NEW_PC, 0);
+    this.ints.set(
+        row, CALLER_CONTEXT_NUMBER, hub.callStack().getParentOf(frame.id()).contextNumber());
+    this.ints.set(row, NUMBER_OF_NON_STACK_ROWS, 0);
+    this.ints.set(row, NON_STACK_ROWS_COUNTER, nonStackRowsCounter);
+
+    int flags = 0;
+    if (hub.opCodeData().stackSettings().twoLinesInstruction()) {
+      flags |= TWO_LINES_INSTRUCTION;
+    }
+    if (tliCounter) {
+      flags |= TWO_LINES_INSTRUCTION_COUNTER;
+    }
+    this.bytes.set(row, TX_STATE, (byte) hub.transients().tx().state().ordinal());
+    this.bytes.set(
+        row, INSTRUCTION_FAMILY, (byte) hub.opCodeData().instructionFamily().ordinal());
+    this.bytes.set(row, FLAGS, (byte) flags);
+  }
+
+  int txId(final int row) {
+    return this.ints.get(row, TX_ID);
+  }
+
+  int contextNumber(final int row) {
+    return this.ints.get(row, CONTEXT_NUMBER);
+  }
+
+  int pc(final int row) {
+    return this.ints.get(row, PC);
+  }
+
+  void newContextNumber(final int row, final int newContextNumber) {
+    this.ints.set(row, NEW_CONTEXT_NUMBER, newContextNumber);
+  }
+
+  void newPc(final int row, final int newPc) {
+    this.ints.set(row, NEW_PC, newPc);
+  }
+
+  void numberOfNonStackRows(final int row, final int numberOfNonStackRows) {
+    this.ints.set(row, NUMBER_OF_NON_STACK_ROWS, numberOfNonStackRows);
+  }
+
+  void nonStackRowsCounter(final int row, final int nonStackRowsCounter) {
+    this.ints.set(row, NON_STACK_ROWS_COUNTER, nonStackRowsCounter);
+  }
+
+  void truncate(final int rows) {
+    this.ints.truncate(rows);
+    this.bytes.truncate(rows);
+  }
+
+  Trace trace(
+      final int row, final Hub hub, Trace trace, final int stackHeight, final int stackHeightNew) {
+    final CallFrame frame = hub.callStack().getById(this.ints.get(row, CALL_FRAME_ID));
+    final TransactionStack.MetaTransaction tx = hub.txStack().getById(this.txId(row));
+    final TxState txState = TX_STATES[this.bytes.get(row, TX_STATE)];
+    final InstructionFamily instructionFamily =
+        INSTRUCTION_FAMILIES[this.bytes.get(row, INSTRUCTION_FAMILY)];
+    final short exceptions = (short) this.ints.get(row, EXCEPTIONS);
+    final int flags = this.bytes.get(row, FLAGS);
+    // TODO: after ROMLex merge
+    final int codeFragmentIndex = 0;
+    final boolean selfReverts = frame.selfReverts();
+    final boolean getsReverted = frame.getsReverted();
+
+    return trace
+        .codeFragmentIndex(Bytes.ofUnsignedInt(codeFragmentIndex))
+        .absoluteTransactionNumber(Bytes.ofUnsignedInt(tx.absNumber()))
+        .height(Bytes.ofUnsignedShort(stackHeight))
+        .heightNew(Bytes.ofUnsignedShort(stackHeightNew))
+        .batchNumber(Bytes.ofUnsignedInt(this.ints.get(row, BATCH_NUMBER)))
+        .txSkip(txState == TxState.TX_SKIP)
+        .txWarm(txState == TxState.TX_WARM)
+        .txInit(txState == TxState.TX_INIT)
+        .txExec(txState == TxState.TX_EXEC)
+        .txFinl(txState == TxState.TX_FINAL)
+        .hubStamp(Bytes.ofUnsignedInt(this.ints.get(row, STAMP)))
+        .hubStampTransactionEnd(Bytes.ofUnsignedLong(tx.endStamp()))
+        .transactionReverts(tx.status())
+        .contextMayChange(
+            txState == TxState.TX_EXEC
+                && ((instructionFamily == InstructionFamily.CALL
+                        || instructionFamily == InstructionFamily.CREATE
+                        || instructionFamily == InstructionFamily.HALT
+                        || instructionFamily == InstructionFamily.INVALID)
+                    || Exceptions.any(exceptions)))
+        .exceptionAhoy(Exceptions.any(exceptions))
+
+        // Context data
+        .contextNumber(Bytes.ofUnsignedInt(this.contextNumber(row)))
+        .contextNumberNew(Bytes.ofUnsignedInt(this.ints.get(row, NEW_CONTEXT_NUMBER)))
+        .contextRevertStamp(Bytes.ofUnsignedInt(0))
+        .contextWillRevert(getsReverted || selfReverts)
+        .contextGetsReverted(getsReverted)
+        .contextSelfReverts(selfReverts)
+        .programCounter(Bytes.ofUnsignedInt(this.pc(row)))
+        .programCounterNew(Bytes.ofUnsignedInt(this.ints.get(row, NEW_PC)))
+
+        // Bytecode metadata
+        .callerContextNumber(Bytes.ofUnsignedInt(this.ints.get(row, CALLER_CONTEXT_NUMBER)))
+        // Gas columns are not tracked yet
+        .gasExpected(Bytes.ofUnsignedLong(0))
+        .gasActual(Bytes.ofUnsignedLong(0))
+        .gasCost(Bytes.ofUnsignedLong(0))
+        .gasNext(Bytes.ofUnsignedLong(0))
+        .refundCounter(Bytes.ofUnsignedInt(0))
+        .refundCounterNew(Bytes.EMPTY)
+        .twoLineInstruction((flags & TWO_LINES_INSTRUCTION) != 0)
+        .counterTli((flags & TWO_LINES_INSTRUCTION_COUNTER) != 0)
+        .nonStackRows(Bytes.ofUnsignedShort(this.ints.get(row, NUMBER_OF_NON_STACK_ROWS)))
+        .counterNsr(Bytes.ofUnsignedShort(this.ints.get(row, NON_STACK_ROWS_COUNTER)));
+  }
+}
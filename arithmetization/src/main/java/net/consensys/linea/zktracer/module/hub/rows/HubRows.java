@@ -0,0 +1,254 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.module.hub.rows;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import net.consensys.linea.zktracer.module.hub.DeploymentExceptions;
+import net.consensys.linea.zktracer.module.hub.Hub;
+import net.consensys.linea.zktracer.module.hub.Trace;
+import net.consensys.linea.zktracer.module.hub.fragment.TraceFragment;
+import net.consensys.linea.zktracer.opcode.gas.projector.GasProjection;
+import net.consensys.linea.zktracer.runtime.callstack.CallFrame;
+import net.consensys.linea.zktracer.runtime.stack.StackOperation;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+
+/**
+ * Stores the lines of the Hub trace as primitive columns indexed by row number, so that a
+ * conflation does not hold several small objects per line.
+ *
+ * <p>The common columns are stored for every row. The stack perspective has its own columns,
+ * indexed by stack row. The other perspectives are still resolved by post-transaction and
+ * post-conflation defers, and are stored as {@link TraceFragment} references.
+ */
+@Accessors(fluent = true)
+public final class HubRows {
+  /** The number of rows in the store */
+  @Getter private int size = 0;
+
+  /** The number of rows in the stack perspective columns */
+  private int stackSize = 0;
+
+  /** The number of non-stack fragments */
+  private int fragmentsSize = 0;
+
+  private final CommonColumns common = new CommonColumns();
+  private final StackColumns stack = new StackColumns();
+  private final ReferenceColumn<TraceFragment> fragments = new ReferenceColumn<>();
+
+  /**
+   * For each row, its index in the stack columns if non-negative, or the bitwise complement of its
+   * index in the fragments otherwise.
+   */
+  private final IntColumn perspective = new IntColumn(1);
+
+  private int addCommon(
+      final Hub hub, final CallFrame frame, boolean tliCounter, int nonStackRowsCounter) {
+    final int row = this.size++;
+    this.common.set(row, hub, frame, tliCounter, nonStackRowsCounter);
+    return row;
+  }
+
+  /**
+   * Add a stack perspective row.
+   *
+   * @param hub the execution context
+   * @param frame the {@link CallFrame} containing the execution context
+   * @param tliCounter whether this is the second line of a two-lines instruction
+   * @param nonStackRowsCounter the number of non-stack rows preceding this one in its section
+   * @param stackOperations the four stack items of this row
+   * @param gp the gas projection of the current instruction
+   * @return the index of the new row
+   */
+  public int addStackRow(
+      final Hub hub,
+      final CallFrame frame,
+      boolean tliCounter,
+      int nonStackRowsCounter,
+      final List<StackOperation> stackOperations,
+      final GasProjection gp) {
+    final int row = this.addCommon(hub, frame, tliCounter, nonStackRowsCounter);
+    final int stackRow = this.stackSize++;
+    this.stack.set(
+        stackRow,
+        hub,
+        frame.stack().getCurrentOpcodeData(),
+        stackOperations,
+        hub.pch().exceptions(),
+        hub.pch().aborts(),
+        gp,
+        frame.underDeployment());
+    this.perspective.set(row, stackRow);
+    return row;
+  }
+
+  /**
+   * Add a row of any non-stack perspective.
+   *
+   * @param hub the execution context
+   * @param frame the {@link CallFrame} containing the execution context
+   * @param tliCounter whether this is the second line of a two-lines instruction
+   * @param nonStackRowsCounter the number of non-stack rows preceding this one in its section
+   * @param fragment the perspective-specific data of this row
+   * @return the index of the new row
+   */
+  public int addRow(
+      final Hub hub,
+      final CallFrame frame,
+      boolean tliCounter,
+      int nonStackRowsCounter,
+      final TraceFragment fragment) {
+    final int row = this.addCommon(hub, frame, tliCounter, nonStackRowsCounter);
+    final int fragmentIndex = this.fragmentsSize++;
+    this.fragments.set(fragmentIndex, fragment);
+    this.perspective.set(row, ~fragmentIndex);
+    return row;
+  }
+
+  public boolean isStack(final int row) {
+    return this.perspective.get(row) >= 0;
+  }
+
+  public int txId(final int row) {
+    return this.common.txId(row);
+  }
+
+  public int contextNumber(final int row) {
+    return this.common.contextNumber(row);
+  }
+
+  public int pc(final int row) {
+    return this.common.pc(row);
+  }
+
+  public void newContextNumber(final int row, final int newContextNumber) {
+    this.common.newContextNumber(row, newContextNumber);
+  }
+
+  public void newPc(final int row, final int newPc) {
+    this.common.newPc(row, newPc);
+  }
+
+  public void numberOfNonStackRows(final int row, final int numberOfNonStackRows) {
+    this.common.numberOfNonStackRows(row, numberOfNonStackRows);
+  }
+
+  public void nonStackRowsCounter(final int row, final int nonStackRowsCounter) {
+    this.common.nonStackRowsCounter(row, nonStackRowsCounter);
+  }
+
+  /**
+   * Retroactively set the value of a stack item of a stack row.
+   *
+   * @param row the stack row
+   * @param item the 0-based stack item
+   * @param value the value of the stack item
+   */
+  public void stackItemValue(final int row, final int item, final Bytes value) {
+    this.stack.value(this.perspective.get(row), item, value);
+  }
+
+  /**
+   * Update the deployment exceptions of a row; no-op if it is not a stack row.
+   *
+   * @param row the row to update
+   * @param contextExceptions the computed exceptions
+   */
+  public void contextExceptions(final int row, final DeploymentExceptions contextExceptions) {
+    if (this.isStack(row)) {
+      this.stack.contextExceptions(this.perspective.get(row), contextExceptions);
+    }
+  }
+
+  /**
+   * Fill the hash info of a row from the frame state after the instruction execution; no-op if it
+   * is not a stack row.
+   *
+   * @param row the row to update
+   * @param frame the frame after the instruction execution
+   */
+  public void feedHashedValue(final int row, final MessageFrame frame) {
+    if (this.isStack(row)) {
+      this.stack.feedHashedValue(this.perspective.get(row), frame);
+    }
+  }
+
+  /**
+   * Discard all the rows from the given one onwards.
+   *
+   * @param rows the number of rows to keep
+   */
+  public void truncate(final int rows) {
+    if (rows >= this.size) {
+      return;
+    }
+
+    // Rows are appended in order, so the first discarded row of each perspective gives its size
+    int newStackSize = -1;
+    int newFragmentsSize = -1;
+    for (int row = rows; row < this.size && (newStackSize < 0 || newFragmentsSize < 0); row++) {
+      final int index = this.perspective.get(row);
+      if (index >= 0 && newStackSize < 0) {
+        newStackSize = index;
+      } else if (index < 0 && newFragmentsSize < 0) {
+        newFragmentsSize = ~index;
+      }
+    }
+
+    if (newStackSize >= 0) {
+      this.stackSize = newStackSize;
+      this.stack.truncate(newStackSize);
+    }
+    if (newFragmentsSize >= 0) {
+      this.fragmentsSize = newFragmentsSize;
+      this.fragments.truncate(newFragmentsSize);
+    }
+    this.size = rows;
+    this.common.truncate(rows);
+    this.perspective.truncate(rows);
+  }
+
+  /**
+   * Trace a row in the given trace builder.
+   *
+   * @param hub the linked {@link Hub} context
+   * @param row the row to trace
+   * @param trace where to trace the row
+   * @param stackHeight the stack height before the instruction of the row's section
+   * @param stackHeightNew the stack height after the instruction of the row's section
+   * @return the trace builder
+   */
+  public Trace trace(
+      final Hub hub,
+      final int row,
+      Trace trace,
+      final int stackHeight,
+      final int stackHeightNew) {
+    this.common.trace(row, hub, trace, stackHeight, stackHeightNew);
+
+    final int index = this.perspective.get(row);
+    if (index >= 0) {
+      this.stack.trace(index, trace);
+    } else {
+      this.fragments.get(~index).trace(trace);
+    }
+
+    return trace.fillAndValidateRow();
+  }
+}
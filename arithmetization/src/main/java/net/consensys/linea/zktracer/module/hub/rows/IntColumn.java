@@ -0,0 +1,70 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.module.hub.rows;
+
+import java.util.Arrays;
+
+/**
+ * A growable column of int values, storing a fixed number of values per row. Storage is allocated
+ * in chunks of {@link #CHUNK_ROWS} rows, so that growing never copies the existing rows.
+ */
+final class IntColumn {
+  static final int CHUNK_BITS = 12;
+  static final int CHUNK_ROWS = 1 << CHUNK_BITS;
+
+  /** The number of values stored per row */
+  private final int width;
+
+  private int[][] chunks = new int[8][];
+
+  IntColumn(final int width) {
+    this.width = width;
+  }
+
+  int get(final int row, final int k) {
+    return this.chunks[row >>> CHUNK_BITS][(row & (CHUNK_ROWS - 1)) * this.width + k];
+  }
+
+  int get(final int row) {
+    return this.get(row, 0);
+  }
+
+  void set(final int row, final int k, final int value) {
+    final int chunk = row >>> CHUNK_BITS;
+    while (chunk >= this.chunks.length) {
+      this.chunks = Arrays.copyOf(this.chunks, 2 * this.chunks.length);
+    }
+    if (this.chunks[chunk] == null) {
+      this.chunks[chunk] = new int[CHUNK_ROWS * this.width];
+    }
+    this.chunks[chunk][(row & (CHUNK_ROWS - 1)) * this.width + k] = value;
+  }
+
+  void set(final int row, final int value) {
+    this.set(row, 0, value);
+  }
+
+  /**
+   * Release the chunks lying entirely past the given row count.
+   *
+   * @param rows the number of rows to keep
+   */
+  void truncate(final int rows) {
+    for (int chunk = (rows + CHUNK_ROWS - 1) >>> CHUNK_BITS; chunk < this.chunks.length; chunk++) {
+      this.chunks[chunk] = null;
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.module.hub.rows;
+
+import java.util.Arrays;
+
+/**
+ * A growable column of references, allocated in chunks of {@link IntColumn#CHUNK_ROWS} rows like
+ * the primitive columns.
+ *
+ * @param <T> the type of the stored references
+ */
+final class ReferenceColumn<T> {
+  private Object[][] chunks = new Object[8][];
+
+  @SuppressWarnings("unchecked")
+  T get(final int row) {
+    return (T) this.chunks[row >>> IntColumn.CHUNK_BITS][row & (IntColumn.CHUNK_ROWS - 1)];
+  }
+
+  void set(final int row, final T value) {
+    final int chunk = row >>> IntColumn.CHUNK_BITS;
+    while (chunk >= this.chunks.length) {
+      this.chunks = Arrays.copyOf(this.chunks, 2 * this.chunks.length);
+    }
+    if (this.chunks[chunk] == null) {
+      this.chunks[chunk] = new Object[IntColumn.CHUNK_ROWS];
+    }
+    this.chunks[chunk][row & (IntColumn.CHUNK_ROWS - 1)] = value;
+  }
+
+  /**
+   * Drop the references past the given row count, so that they may be garbage collected.
+   *
+   * @param rows the number of rows to keep
+   */
+  void truncate(final int rows) {
+    for (int row = rows; row < ((rows + IntColumn.CHUNK_ROWS - 1) & -IntColumn.CHUNK_ROWS); row++) {
+      this.chunks[row >>> IntColumn.CHUNK_BITS][row & (IntColumn.CHUNK_ROWS - 1)] = null;
+    }
+    for (int chunk = (rows + IntColumn.CHUNK_ROWS - 1) >>> IntColumn.CHUNK_BITS;
+        chunk < this.chunks.length;
+        chunk++) {
+      this.chunks[chunk] = null;
+    }
+  }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.module.hub.rows;
+
+import java.util.List;
+import java.util.Optional;
+
+import net.consensys.linea.zktracer.module.hub.DeploymentExceptions;
+import net.consensys.linea.zktracer.module.hub.Hub;
+import net.consensys.linea.zktracer.module.hub.Trace;
+import net.consensys.linea.zktracer.module.hub.signals.AbortingConditions;
+import net.consensys.linea.zktracer.module.hub.signals.Exceptions;
+import net.consensys.linea.zktracer.opcode.InstructionFamily;
+import net.consensys.linea.zktracer.opcode.OpCode;
+import net.consensys.linea.zktracer.opcode.OpCodeData;
+import net.consensys.linea.zktracer.opcode.OpCodes;
+import net.consensys.linea.zktracer.opcode.gas.MxpType;
+import net.consensys.linea.zktracer.opcode.gas.projector.GasProjection;
+import net.consensys.linea.zktracer.runtime.stack.Action;
+import net.consensys.linea.zktracer.runtime.stack.StackOperation;
+import net.consensys.linea.zktracer.types.EWord;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.evm.account.AccountState;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+
+/**
+ * The columns of the stack perspective, one row per stack line. 256-bit words are stored as four
+ * big-endian long limbs.
+ */
+final class StackColumns {
+  private static final int ITEMS = 4;
+
+  // int columns
+  private static final int OPCODE = 0;
+  private static final int EXCEPTIONS = 1;
+  private static final int HEIGHT = 2;
+  private static final int STAMP = HEIGHT + ITEMS;
+  private static final int INT_WIDTH = STAMP + ITEMS;
+
+  // long columns
+  private static final int STATIC_GAS = 0;
+  private static final int HASH_INFO_SIZE = 1;
+  private static final int HASH_INFO_KECCAK = 2;
+  private static final int VALUE = HASH_INFO_KECCAK + 4;
+  private static final int LONG_WIDTH = VALUE + 4 * ITEMS;
+
+  // flags; the first ITEMS bits are the POP flags of the stack items
+  private static final int HASH_INFO_FLAG = 1 << ITEMS;
+  private static final int ICPX = 1 << (ITEMS + 1);
+  private static final int MAXCSX = 1 << (ITEMS + 2);
+
+  private final IntColumn ints = new IntColumn(INT_WIDTH);
+  private final LongColumn longs = new LongColumn(LONG_WIDTH);
+  private final ByteColumn flags = new ByteColumn(1);
+
+  void set(
+      final int row,
+      final Hub hub,
+      final OpCodeData opCodeData,
+      final List<StackOperation> stackOps,
+      final short exceptions,
+      final AbortingConditions aborts,
+      final GasProjection gp,
+      final boolean isDeploying) {
+    final boolean hashInfoFlag =
+        switch (opCodeData.mnemonic()) {
+          case SHA3 -> Exceptions.none(exceptions) && gp.messageSize() > 0;
+          case RETURN -> Exceptions.none(exceptions) && gp.messageSize() > 0 && isDeploying;
+          case CREATE2 -> Exceptions.none(exceptions) && aborts.none() && gp.messageSize() > 0;
+          default -> false;
+        };
+
+    this.ints.set(row, OPCODE, opCodeData.value());
+    this.ints.set(row, EXCEPTIONS, exceptions);
+    this.longs.set(row, STATIC_GAS, gp.staticGas());
+    this.longs.set(row, HASH_INFO_SIZE, hashInfoFlag ? gp.messageSize() : 0);
+    this.setWord(
+        row,
+        HASH_INFO_KECCAK,
+        opCodeData.mnemonic() == OpCode.RETURN && Exceptions.none(exceptions)
+            ? org.hyperledger.besu.crypto.Hash.keccak256(hub.transients().op().returnData())
+            : Bytes.EMPTY);
+
+    int flags = hashInfoFlag ? HASH_INFO_FLAG : 0;
+    for (int i = 0; i < ITEMS; i++) {
+      final StackOperation op = stackOps.get(i);
+      this.ints.set(row, HEIGHT + i, op.height());
+      this.ints.set(row, STAMP + i, op.stackStamp());
+      this.setWord(row, VALUE + 4 * i, op.value());
+      if (op.action() == Action.POP) {
+        flags |= 1 << i;
+      }
+    }
+    this.flags.set(row, (byte) flags);
+  }
+
+  private OpCodeData opCodeData(final int row) {
+    return OpCodes.of(this.ints.get(row, OPCODE));
+  }
+
+  private boolean flag(final int row, final int flag) {
+    return (this.flags.get(row) & flag) != 0;
+  }
+
+  private void setFlag(final int row, final int flag, final boolean value) {
+    final int flags = this.flags.get(row);
+    this.flags.set(row, (byte) (value ? flags | flag : flags & ~flag));
+  }
+
+  private void setWord(final int row, final int k, final Bytes value) {
+    final Bytes32 word = Bytes32.leftPad(value);
+    for (int i = 0; i < 4; i++) {
+      this.longs.set(row, k + i, word.getLong(8 * i));
+    }
+  }
+
+  private Bytes hi(final int row, final int k) {
+    return Bytes.concatenate(
+        Bytes.ofUnsignedLong(this.longs.get(row, k)),
+        Bytes.ofUnsignedLong(this.longs.get(row, k + 1)));
+  }
+
+  private Bytes lo(final int row, final int k) {
+    return Bytes.concatenate(
+        Bytes.ofUnsignedLong(this.longs.get(row, k + 2)),
+        Bytes.ofUnsignedLong(this.longs.get(row, k + 3)));
+  }
+
+  /**
+   * Retroactively set the value of a stack item, typically the result of an instruction.
+   *
+   * @param row the stack row
+   * @param item the 0-based stack item
+   * @param value the value of the stack item
+   */
+  void value(final int row, final int item, final Bytes value) {
+    this.setWord(row, VALUE + 4 * item, value);
+  }
+
+  void contextExceptions(final int row, final DeploymentExceptions contextExceptions) {
+    this.setFlag(row, ICPX, contextExceptions.invalidCodePrefix());
+    this.setFlag(row, MAXCSX, contextExceptions.codeSizeOverflow());
+  }
+
+  void feedHashedValue(final int row, final MessageFrame frame) {
+    if (!this.flag(row, HASH_INFO_FLAG)) {
+      return;
+    }
+
+    switch (this.opCodeData(row).mnemonic()) {
+      case SHA3 -> this.setWord(row, HASH_INFO_KECCAK, frame.getStackItem(0));
+      case CREATE2 -> {
+        Address newAddress = EWord.of(frame.getStackItem(0)).toAddress();
+        // zero address indicates a failed deployment
+        if (!newAddress.isZero()) {
+          this.setWord(
+              row,
+              HASH_INFO_KECCAK,
+              Optional.ofNullable(frame.getWorldUpdater().get(newAddress))
+                  .map(AccountState::getCodeHash)
+                  .orElse(Hash.EMPTY));
+        }
+      }
+      case RETURN -> {
+        /* already set at opcode invocation */
+      }
+      default -> throw new IllegalStateException("unexpected opcode");
+    }
+  }
+
+  void truncate(final int rows) {
+    this.ints.truncate(rows);
+    this.longs.truncate(rows);
+    this.flags.truncate(rows);
+  }
+
+  Trace trace(final int row, Trace trace) {
+    final OpCodeData opCodeData = this.opCodeData(row);
+    final short exceptions = (short) this.ints.get(row, EXCEPTIONS);
+    final InstructionFamily family = opCodeData.instructionFamily();
+
+    trace
+        .pStackStackItemHeight1(Bytes.ofUnsignedShort(this.ints.get(row, HEIGHT)))
+        .pStackStackItemHeight2(Bytes.ofUnsignedShort(this.ints.get(row, HEIGHT + 1)))
+        .pStackStackItemHeight3(Bytes.ofUnsignedShort(this.ints.get(row, HEIGHT + 2)))
+        .pStackStackItemHeight4(Bytes.ofUnsignedShort(this.ints.get(row, HEIGHT + 3)))
+        .pStackStackItemValueHi1(this.hi(row, VALUE))
+        .pStackStackItemValueHi2(this.hi(row, VALUE + 4))
+        .pStackStackItemValueHi3(this.hi(row, VALUE + 8))
+        .pStackStackItemValueHi4(this.hi(row, VALUE + 12))
+        .pStackStackItemValueLo1(this.lo(row, VALUE))
+        .pStackStackItemValueLo2(this.lo(row, VALUE + 4))
+        .pStackStackItemValueLo3(this.lo(row, VALUE + 8))
+        .pStackStackItemValueLo4(this.lo(row, VALUE + 12))
+        .pStackStackItemPop1(this.flag(row, 1))
+        .pStackStackItemPop2(this.flag(row, 1 << 1))
+        .pStackStackItemPop3(this.flag(row, 1 << 2))
+        .pStackStackItemPop4(this.flag(row, 1 << 3))
+        .pStackStackItemStamp1(Bytes.ofUnsignedLong(this.ints.get(row, STAMP)))
+        .pStackStackItemStamp2(Bytes.ofUnsignedLong(this.ints.get(row, STAMP + 1)))
+        .pStackStackItemStamp3(Bytes.ofUnsignedLong(this.ints.get(row, STAMP + 2)))
+        .pStackStackItemStamp4(Bytes.ofUnsignedLong(this.ints.get(row, STAMP + 3)));
+
+    // The push value is the last stack item of a PUSH instruction
+    final int pushItem = opCodeData.isPush() ? VALUE + 4 * (ITEMS - 1) : -1;
+
+    return trace
+        .peekAtStack(true)
+        // Instruction details
+        .pStackAlpha(Bytes.ofUnsignedInt(opCodeData.stackSettings().alpha()))
+        .pStackDelta(Bytes.ofUnsignedInt(opCodeData.stackSettings().delta()))
+        .pStackNbAdded(Bytes.ofUnsignedInt(opCodeData.stackSettings().nbAdded()))
+        .pStackNbRemoved(Bytes.ofUnsignedInt(opCodeData.stackSettings().nbRemoved()))
+        .pStackInstruction(Bytes.of(opCodeData.value()))
+        .pStackStaticGas(Bytes.ofUnsignedInt(this.longs.get(row, STATIC_GAS)))
+        .pStackPushValueHi(pushItem < 0 ? EWord.ZERO.hi() : this.hi(row, pushItem))
+        .pStackPushValueLo(pushItem < 0 ? EWord.ZERO.lo() : this.lo(row, pushItem))
+        .pStackDecFlag1(opCodeData.stackSettings().flag1())
+        .pStackDecFlag2(opCodeData.stackSettings().flag2())
+        .pStackDecFlag3(opCodeData.stackSettings().flag3())
+        .pStackDecFlag4(opCodeData.stackSettings().flag4())
+        // Exception flag
+        .pStackOpcx(Exceptions.invalidOpcode(exceptions))
+        .pStackSux(Exceptions.stackUnderflow(exceptions))
+        .pStackSox(Exceptions.stackOverflow(exceptions))
+        .pStackOogx(Exceptions.outOfGas(exceptions))
+        .pStackMxpx(Exceptions.outOfMemoryExpansion(exceptions))
+        .pStackRdcx(Exceptions.returnDataCopyFault(exceptions))
+        .pStackJumpx(Exceptions.jumpFault(exceptions))
+        .pStackStaticx(Exceptions.staticFault(exceptions))
+        .pStackSstorex(Exceptions.outOfSStore(exceptions))
+        .pStackIcpx(this.flag(row, ICPX))
+        .pStackMaxcsx(this.flag(row, MAXCSX))
+        // Opcode families
+        .pStackAddFlag(family == InstructionFamily.ADD)
+        .pStackModFlag(family == InstructionFamily.MOD)
+        .pStackMulFlag(family == InstructionFamily.MUL)
+        .pStackExtFlag(family == InstructionFamily.EXT)
+        .pStackWcpFlag(family == InstructionFamily.WCP)
+        .pStackBinFlag(family == InstructionFamily.BIN)
+        .pStackShfFlag(family == InstructionFamily.SHF)
+        .pStackKecFlag(family == InstructionFamily.KEC)
+        .pStackConFlag(family == InstructionFamily.CONTEXT)
+        .pStackAccFlag(family == InstructionFamily.ACCOUNT)
+        .pStackCopyFlag(family == InstructionFamily.COPY)
+        .pStackTxnFlag(family == InstructionFamily.TRANSACTION)
+        .pStackBtcFlag(family == InstructionFamily.BATCH)
+        .pStackStackramFlag(family == InstructionFamily.STACK_RAM)
+        .pStackStoFlag(family == InstructionFamily.STORAGE)
+        .pStackJumpFlag(family == InstructionFamily.JUMP)
+        .pStackPushpopFlag(family == InstructionFamily.PUSH_POP)
+        .pStackDupFlag(family == InstructionFamily.DUP)
+        .pStackSwapFlag(family == InstructionFamily.SWAP)
+        .pStackLogFlag(family == InstructionFamily.LOG)
+        .pStackCreateFlag(family == InstructionFamily.CREATE)
+        .pStackCallFlag(family == InstructionFamily.CALL)
+        .pStackHaltFlag(family == InstructionFamily.HALT)
+        .pStackInvalidFlag(family == InstructionFamily.INVALID)
+        .pStackMxpFlag(
+            Optional.ofNullable(opCodeData.billing())
+                .map(b -> b.type() != MxpType.NONE)
+                .orElse(false))
+        .pStackStaticFlag(opCodeData.stackSettings().forbiddenInStatic())
+        // Hash data
+        .pStackHashInfoSize(Bytes.ofUnsignedInt(this.longs.get(row, HASH_INFO_SIZE)))
+        .pStackHashInfoKeccakHi(this.hi(row, HASH_INFO_KECCAK))
+        .pStackHashInfoKeccakLo(this.lo(row, HASH_INFO_KECCAK))
+        .pStackHashInfoFlag(this.flag(row, HASH_INFO_FLAG));
+  }
+}
@@ -15,8 +15,9 @@
 
 package net.consensys.linea.zktracer.module.hub.section;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntConsumer;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
@@ -26,12 +27,16 @@ import net.consensys.linea.zktracer.module.hub.DeploymentExceptions;
 import net.consensys.linea.zktracer.module.hub.Hub;
 import net.consensys.linea.zktracer.module.hub.Trace;
 import net.consensys.linea.zktracer.module.hub.TxTrace;
-import net.consensys.linea.zktracer.module.hub.fragment.CommonFragment;
-import net.consensys.linea.zktracer.module.hub.fragment.StackFragment;
 import net.consensys.linea.zktracer.module.hub.fragment.TraceFragment;
 import net.consensys.linea.zktracer.module.hub.fragment.TransactionFragment;
+import net.consensys.linea.zktracer.module.hub.rows.HubRows;
+import net.consensys.linea.zktracer.module.hub.signals.Exceptions;
+import net.consensys.linea.zktracer.opcode.gas.projector.GasProjection;
 import net.consensys.linea.zktracer.runtime.callstack.CallFrame;
 import net.consensys.linea.zktracer.runtime.stack.StackLine;
+import net.consensys.linea.zktracer.runtime.stack.StackOperation;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.evm.frame.MessageFrame;
 
 @Accessors(fluent = true)
 /* A TraceSection gather the trace lines linked to a single operation */
@@ -39,30 +44,6 @@ public abstract class TraceSection {
   @Getter private int stackHeight = 0;
   @Getter private int stackHeightNew = 0;
 
-  /**
-   * A TraceLine stores the information required to generate a trace line.
-   *
-   * @param common data required to trace shared columns
-   * @param specific data required to trace perspective-specific columns
-   */
-  public record TraceLine(CommonFragment common, TraceFragment specific) {
-    /**
-     * Trace the line in the given trace builder.
-     *
-     * @param trace where to trace the line
-     * @return the trace builder
-     */
-    public Trace trace(Trace trace, int stackInt, int stackHeight) {
-      Preconditions.checkNotNull(common);
-      Preconditions.checkNotNull(specific);
-
-      common.trace(trace, stackInt, stackHeight);
-      specific.trace(trace);
-
-      return trace.fillAndValidateRow();
-    }
-  }
-
   /** Count the stack lines */
   @Getter private int stackRowsCounter;
 
@@ -71,56 +52,123 @@ public abstract class TraceSection {
 
   @Getter @Setter private TxTrace parentTrace;
 
-  /** A list of {@link TraceLine} representing the trace lines associated with this section. */
-  @Getter List<TraceLine> lines = new ArrayList<>(32);
+  /** The {@link Hub} this section belongs to, set when its first line is added */
+  private Hub hub;
+
+  /** The {@link HubRows} storing the lines of this section */
+  private HubRows rows;
 
   /**
-   * Fill the columns shared by all type of lines.
-   *
-   * @return a {@link CommonFragment} representing the shared columns
+   * The rows of this section, as consecutive [start, end) pairs. Lines are almost always added in
+   * a single run, but some sections add lines when their transaction ends.
    */
-  private CommonFragment traceCommon(Hub hub, CallFrame frame) {
-    return CommonFragment.fromHub(hub, frame, this.stackRowsCounter == 2, this.nonStackRowsCounter);
-  }
+  private int[] ranges = new int[2];
+
+  /** The number of used pairs in {@link #ranges} */
+  private int rangeCount = 0;
+
+  /** The number of lines in this section */
+  private int lineCount = 0;
+
+  /** The gas refund delta incurred by this operation, computed with its first line */
+  @Getter private long refundDelta = 0;
 
   /** Default creator for an empty section. */
   public TraceSection() {}
 
   /**
-   * Add a fragment to the section while pairing it to its common piece.
+   * Record a new row as the last line of this section.
+   *
+   * @param row the row to append
+   */
+  private void appendRow(int row) {
+    if (this.rangeCount > 0 && this.ranges[2 * this.rangeCount - 1] == row) {
+      this.ranges[2 * this.rangeCount - 1]++;
+    } else {
+      if (2 * this.rangeCount == this.ranges.length) {
+        this.ranges = Arrays.copyOf(this.ranges, 2 * this.ranges.length);
+      }
+      this.ranges[2 * this.rangeCount] = row;
+      this.ranges[2 * this.rangeCount + 1] = row + 1;
+      this.rangeCount++;
+    }
+
+    this.lineCount++;
+    if (this.parentTrace != null) {
+      this.parentTrace.countLines(1);
+    }
+  }
+
+  /**
+   * Prepare the insertion of a new line.
+   *
+   * @param hub the execution context
+   * @param callFrame the {@link CallFrame} of the new line
+   * @param gp the gas projection of the current instruction in this frame, if already computed
+   */
+  private void prepareLine(Hub hub, CallFrame callFrame, GasProjection gp) {
+    if (this.lineCount == 0) {
+      this.hub = hub;
+      this.rows = hub.state().rows();
+      if (Exceptions.noStackException(hub.pch().exceptions())) {
+        this.refundDelta =
+            (gp != null ? gp : Hub.GAS_PROJECTOR.of(callFrame.frame(), hub.opCode())).refund();
+      }
+    }
+  }
+
+  /**
+   * Add a non-stack fragment to the section, along with the common columns of its line.
    *
    * @param hub the execution context
    * @param fragment the fragment to insert
    */
   public final void addFragment(Hub hub, CallFrame callFrame, TraceFragment fragment) {
-    Preconditions.checkArgument(!(fragment instanceof CommonFragment));
-
-    if (fragment instanceof StackFragment) {
-      this.stackRowsCounter++;
-    } else if (fragment instanceof TransactionFragment f) {
+    if (fragment instanceof TransactionFragment f) {
       f.setParentSection(this);
     } else {
       this.nonStackRowsCounter++;
     }
 
-    this.lines.add(new TraceLine(traceCommon(hub, callFrame), fragment));
+    this.prepareLine(hub, callFrame, null);
+    this.appendRow(
+        this.rows.addRow(
+            hub, callFrame, this.stackRowsCounter == 2, this.nonStackRowsCounter, fragment));
   }
 
   /**
-   * Add the fragments containing the stack lines.
+   * Add the lines of the current stack state.
    *
    * @param hub the execution context
    */
   public final void addStack(Hub hub) {
-    for (var stackFragment : this.makeStackFragments(hub, hub.currentFrame())) {
-      this.stackHeight = hub.currentFrame().stack().getHeight();
-      this.stackHeightNew = hub.currentFrame().stack().getHeightNew();
-      this.addFragment(hub, hub.currentFrame(), stackFragment);
+    final CallFrame f = hub.currentFrame();
+    this.stackHeight = f.stack().getHeight();
+    this.stackHeightNew = f.stack().getHeightNew();
+    final GasProjection gp = Hub.GAS_PROJECTOR.of(f.frame(), f.opCode());
+
+    if (f.pending().lines().isEmpty()) {
+      for (int i = 0; i < (f.opCodeData().stackSettings().twoLinesInstruction() ? 2 : 1); i++) {
+        this.addStackLine(hub, f, new StackLine().asStackOperations(), gp);
+      }
+    } else {
+      for (StackLine line : f.pending().lines()) {
+        this.addStackLine(hub, f, line.asStackOperations(), gp);
+      }
     }
   }
 
+  private void addStackLine(
+      Hub hub, CallFrame f, List<StackOperation> stackOperations, GasProjection gp) {
+    this.stackRowsCounter++;
+    this.prepareLine(hub, f, gp);
+    this.appendRow(
+        this.rows.addStackRow(
+            hub, f, this.stackRowsCounter == 2, this.nonStackRowsCounter, stackOperations, gp));
+  }
+
   /**
-   * Create several {@link TraceLine} within this section for the specified fragments.
+   * Create several trace lines within this section for the specified fragments.
    *
    * @param hub the Hub linked to fragments execution
    * @param fragments the fragments to add to the section
@@ -133,7 +181,7 @@ public abstract class TraceSection {
   }
 
   /**
-   * Create several {@link TraceLine} within this section for the specified fragments.
+   * Create several trace lines within this section for the specified fragments.
    *
    * @param hub the Hub linked to fragments execution
    * @param fragments the fragments to add to the section
@@ -145,7 +193,7 @@ public abstract class TraceSection {
   }
 
   /**
-   * Insert {@link TraceLine} related to the current state of the stack, then insert the provided
+   * Insert trace lines related to the current state of the stack, then insert the provided
    * fragments in a single swoop.
    *
    * @param hub the execution context
@@ -159,7 +207,7 @@ public abstract class TraceSection {
   }
 
   /**
-   * Insert {@link TraceLine} related to the current state of the stack of the current {@link
+   * Insert trace lines related to the current state of the stack of the current {@link
    * CallFrame}, then insert the provided fragments in a single swoop.
    *
    * @param hub the execution context
@@ -171,12 +219,50 @@ public abstract class TraceSection {
   }
 
   /**
-   * Returns the context number associated with the operation encoded by this TraceLine.
+   * @return the number of lines in this section
+   */
+  public final int lineCount() {
+    return this.lineCount;
+  }
+
+  /**
+   * Returns the row of the i-th line of this section.
+   *
+   * @param i the line index within this section
+   * @return the row in the {@link HubRows}
+   */
+  public final int row(int i) {
+    Preconditions.checkElementIndex(i, this.lineCount);
+    for (int r = 0; r < this.rangeCount; r++) {
+      final int length = this.ranges[2 * r + 1] - this.ranges[2 * r];
+      if (i < length) {
+        return this.ranges[2 * r] + i;
+      }
+      i -= length;
+    }
+    throw new IllegalStateException("unreachable");
+  }
+
+  /**
+   * Apply an action on the rows of this section, in order.
+   *
+   * @param action the action to run on each row
+   */
+  private void forEachRow(IntConsumer action) {
+    for (int r = 0; r < this.rangeCount; r++) {
+      for (int row = this.ranges[2 * r]; row < this.ranges[2 * r + 1]; row++) {
+        action.accept(row);
+      }
+    }
+  }
+
+  /**
+   * Returns the context number associated with the operation encoded by this TraceSection.
    *
    * @return the CN
    */
   public final int contextNumber() {
-    return this.lines.get(0).common.contextNumber();
+    return this.rows.contextNumber(this.ranges[0]);
   }
 
   /**
@@ -185,7 +271,7 @@ public abstract class TraceSection {
    * @return the PC
    */
   public final int pc() {
-    return this.lines.get(0).common.pc();
+    return this.rows.pc(this.ranges[0]);
   }
 
   /**
@@ -195,17 +281,20 @@ public abstract class TraceSection {
    * @param hub the linked {@link Hub} context
    */
   public void seal(Hub hub) {
-    int nonStackLineNumbers =
-        (int) this.lines.stream().filter(l -> !(l.specific instanceof StackFragment)).count();
+    final int newPc = hub.lastPc();
+    final int newContextNumber = hub.lastContextNumber();
+    final int nonStackLineNumbers = this.lineCount - this.stackRowsCounter;
     int nonStackLineCounter = 0;
-    for (TraceLine line : this.lines) {
-      if (!(line.specific instanceof StackFragment)) {
-        nonStackLineCounter++;
-        line.common.nonStackRowsCounter(nonStackLineCounter);
+    for (int r = 0; r < this.rangeCount; r++) {
+      for (int row = this.ranges[2 * r]; row < this.ranges[2 * r + 1]; row++) {
+        if (!this.rows.isStack(row)) {
+          nonStackLineCounter++;
+          this.rows.nonStackRowsCounter(row, nonStackLineCounter);
+        }
+        this.rows.newPc(row, newPc);
+        this.rows.newContextNumber(row, newContextNumber);
+        this.rows.numberOfNonStackRows(row, nonStackLineNumbers);
       }
-      line.common.newPc(hub.lastPc());
-      line.common.newContextNumber(hub.lastContextNumber());
-      line.common.numberOfNonStackRows(nonStackLineNumbers);
     }
   }
 
@@ -216,59 +305,46 @@ public abstract class TraceSection {
    * @return true if the context reverted
    */
   public final boolean hasReverted() {
-    return this.lines.get(0).common.txReverts();
+    return this.hub.txStack().getById(this.rows.txId(this.ranges[0])).status();
   }
 
   /**
-   * Returns the gas refund delta incurred by this operation. As it is section-specific, we simply
-   * take the first one.
+   * Update the stack lines of the section with the provided {@link DeploymentExceptions}.
    *
-   * @return the gas delta
+   * @param contEx the computed exceptions
    */
-  public final long refundDelta() {
-    return this.lines.get(0).common.refundDelta();
+  public void setContextExceptions(DeploymentExceptions contEx) {
+    this.forEachRow(row -> this.rows.contextExceptions(row, contEx));
   }
 
   /**
-   * Update the stack fragments of the section with the provided {@link DeploymentExceptions}.
+   * Retroactively set the value of a stack item in one of the stack lines of this section.
    *
-   * @param contEx the computed exceptions
+   * @param line the index of the stack line within this section
+   * @param item the 0-based stack item
+   * @param value the value of the stack item
    */
-  public void setContextExceptions(DeploymentExceptions contEx) {
-    for (TraceLine line : this.lines) {
-      if (line.specific instanceof StackFragment fragment) {
-        fragment.contextExceptions(contEx);
-      }
-    }
+  public final void setStackItemValue(int line, int item, Bytes value) {
+    this.rows.stackItemValue(this.row(line), item, value);
   }
 
-  private List<TraceFragment> makeStackFragments(final Hub hub, CallFrame f) {
-    List<TraceFragment> r = new ArrayList<>(2);
-    if (f.pending().lines().isEmpty()) {
-      for (int i = 0; i < (f.opCodeData().stackSettings().twoLinesInstruction() ? 2 : 1); i++) {
-        r.add(
-            StackFragment.prepare(
-                hub,
-                f.stack().snapshot(),
-                new StackLine().asStackOperations(),
-                hub.pch().exceptions(),
-                hub.pch().aborts().snapshot(),
-                Hub.GAS_PROJECTOR.of(f.frame(), f.opCode()),
-                f.underDeployment()));
-      }
-    } else {
-      for (StackLine line : f.pending().lines()) {
-        r.add(
-            StackFragment.prepare(
-                hub,
-                f.stack().snapshot(),
-                line.asStackOperations(),
-                hub.pch().exceptions(),
-                hub.pch().aborts().snapshot(),
-                Hub.GAS_PROJECTOR.of(f.frame(), f.opCode()),
-                f.underDeployment()));
-      }
-    }
-    return r;
+  /**
+   * Fill the hash info of the stack lines of this section from the state of the frame after the
+   * instruction execution.
+   *
+   * @param frame the frame after the instruction execution
+   */
+  public final void feedHashedValues(MessageFrame frame) {
+    this.forEachRow(row -> this.rows.feedHashedValue(row, frame));
+  }
+
+  /**
+   * Generate the numeric trace lines of this section.
+   *
+   * @param trace where to materialize the lines
+   */
+  public final void trace(Trace trace) {
+    this.forEachRow(
+        row -> this.rows.trace(this.hub, row, trace, this.stackHeight, this.stackHeightNew));
   }
 }
@@ -19,6 +19,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
@@ -26,6 +27,7 @@ import lombok.RequiredArgsConstructor;
 import net.consensys.linea.zktracer.ColumnHeader;
 import net.consensys.linea.zktracer.module.Module;
 import net.consensys.linea.zktracer.module.hub.Hub;
+import net.consensys.linea.zktracer.module.hub.defer.PostExecDefer;
 import net.consensys.linea.zktracer.module.hub.signals.Exceptions;
 import net.consensys.linea.zktracer.module.hub.signals.PlatformController;
 import net.consensys.linea.zktracer.module.limits.precompiles.EcRecoverEffectiveCall;
@@ -91,7 +93,9 @@ public class Keccak implements Module {
     if (Exceptions.none(pch.exceptions())) {
       // Capture calls to SHA3.
       if (opCode == OpCode.SHA3) {
-        callShakira(frame, 0, 1, this.sha3Sizes);
+        // The digest is pushed on the stack by the EVM, no need to compute it again
+        callShakira(frame, 0, 1, this.sha3Sizes)
+            .ifPresent(operation -> this.hub.defers().postExec(readDigestFromStack(operation)));
       }
 
       // Capture contract deployment
@@ -106,7 +110,15 @@ public class Keccak implements Module {
     }
   }
 
-  private void callShakira(
+  private static PostExecDefer readDigestFromStack(final ShakiraDataOperation operation) {
+    return (hub, frame, operationResult) -> {
+      if (operationResult.getHaltReason() == null) {
+        operation.result(frame.getStackItem(0));
+      }
+    };
+  }
+
+  private Optional<ShakiraDataOperation> callShakira(
       final MessageFrame frame,
       final int codeOffsetStackItemOffset,
       final int codeSizeStackItemOffset,
@@ -118,9 +130,13 @@ public class Keccak implements Module {
       final long codeOffset = Words.clampedToLong(frame.getStackItem(codeOffsetStackItemOffset));
       final Bytes byteCode = frame.shadowReadMemory(codeOffset, codeSize);
 
-      this.shakiraData.call(
-          new ShakiraDataOperation(hub.stamp(), ShakiraPrecompileType.KECCAK, byteCode));
+      final ShakiraDataOperation operation =
+          new ShakiraDataOperation(hub.stamp(), ShakiraPrecompileType.KECCAK, byteCode);
+      this.shakiraData.call(operation);
+      return Optional.of(operation);
     }
+
+    return Optional.empty();
   }
 
   @Override
@@ -117,7 +117,8 @@ public final class RipemdBlocks implements Module {
         final Bytes inputData = hub.transients().op().callData();
 
         if (hub.transients().op().gasAllowanceForCall() >= gasNeeded) {
-          this.shakiraData.call(
+          this.shakiraData.callPrecompile(
+              this.hub,
               new ShakiraDataOperation(hub.stamp(), ShakiraPrecompileType.RIPEMD, inputData));
 
           this.counts.push(this.counts.pop() + blockCount);
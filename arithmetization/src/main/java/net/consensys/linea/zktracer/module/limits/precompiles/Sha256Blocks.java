@@ -114,7 +114,8 @@ public final class Sha256Blocks implements Module {
         final Bytes inputData = hub.transients().op().callData();
 
         if (hasEnoughGas(this.hub)) {
-          this.shakiraData.call(
+          this.shakiraData.callPrecompile(
+              this.hub,
               new ShakiraDataOperation(hub.stamp(), ShakiraPrecompileType.SHA256, inputData));
 
           this.counts.push(this.counts.pop() + blockCount);
@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -198,11 +199,7 @@ public class Trace {
       filled.set(5);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addrLo.put((byte) 0);
-    }
-    addrLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(addrLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -238,11 +235,7 @@ public class Trace {
       filled.set(8);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      dataHi.put((byte) 0);
-    }
-    dataHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(dataHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -254,11 +247,7 @@ public class Trace {
       filled.set(9);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      dataLo.put((byte) 0);
-    }
-    dataLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(dataLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -366,11 +355,7 @@ public class Trace {
       filled.set(18);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      topicHi1.put((byte) 0);
-    }
-    topicHi1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(topicHi1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -382,11 +367,7 @@ public class Trace {
       filled.set(19);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      topicHi2.put((byte) 0);
-    }
-    topicHi2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(topicHi2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -398,11 +379,7 @@ public class Trace {
       filled.set(20);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      topicHi3.put((byte) 0);
-    }
-    topicHi3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(topicHi3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -414,11 +391,7 @@ public class Trace {
       filled.set(21);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      topicHi4.put((byte) 0);
-    }
-    topicHi4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(topicHi4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -430,11 +403,7 @@ public class Trace {
       filled.set(22);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      topicLo1.put((byte) 0);
-    }
-    topicLo1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(topicLo1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -446,11 +415,7 @@ public class Trace {
       filled.set(23);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      topicLo2.put((byte) 0);
-    }
-    topicLo2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(topicLo2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -462,11 +427,7 @@ public class Trace {
       filled.set(24);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      topicLo3.put((byte) 0);
-    }
-    topicLo3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(topicLo3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -478,11 +439,7 @@ public class Trace {
       filled.set(25);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      topicLo4.put((byte) 0);
-    }
-    topicLo4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(topicLo4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -22,7 +22,6 @@ import net.consensys.linea.zktracer.runtime.callstack.CallFrame;
 import net.consensys.linea.zktracer.runtime.callstack.CallFrameType;
 import net.consensys.linea.zktracer.runtime.callstack.CallStack;
 import org.apache.tuweni.bytes.Bytes;
-import org.hyperledger.besu.evm.frame.MessageFrame;
 
 @Getter
 @RequiredArgsConstructor
@@ -45,8 +44,6 @@ public class CallStackReader {
       }
     }
 
-    final MessageFrame messageFrame = callFrame.frame();
-
-    return messageFrame.shadowReadMemory(0, messageFrame.memoryByteSize());
+    return callFrame.memory();
   }
 }
@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -270,11 +271,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc1.put((byte) 0);
-    }
-    acc1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -286,11 +283,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc2.put((byte) 0);
-    }
-    acc2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -302,11 +295,7 @@ public class Trace {
       filled.set(2);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc3.put((byte) 0);
-    }
-    acc3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -318,11 +307,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc4.put((byte) 0);
-    }
-    acc4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -334,11 +319,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accA.put((byte) 0);
-    }
-    accA.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accA, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -350,11 +331,7 @@ public class Trace {
       filled.set(5);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accB.put((byte) 0);
-    }
-    accB.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accB, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -366,11 +343,7 @@ public class Trace {
       filled.set(6);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accC.put((byte) 0);
-    }
-    accC.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accC, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -382,11 +355,7 @@ public class Trace {
       filled.set(7);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accLimb.put((byte) 0);
-    }
-    accLimb.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accLimb, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -506,11 +475,7 @@ public class Trace {
       filled.set(17);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      cnA.put((byte) 0);
-    }
-    cnA.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(cnA, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -522,11 +487,7 @@ public class Trace {
       filled.set(18);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      cnB.put((byte) 0);
-    }
-    cnB.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(cnB, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -538,11 +499,7 @@ public class Trace {
       filled.set(19);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      cnC.put((byte) 0);
-    }
-    cnC.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(cnC, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -554,11 +511,7 @@ public class Trace {
       filled.set(20);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      contextSource.put((byte) 0);
-    }
-    contextSource.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(contextSource, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -570,11 +523,7 @@ public class Trace {
       filled.set(21);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      contextTarget.put((byte) 0);
-    }
-    contextTarget.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(contextTarget, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -718,11 +667,7 @@ public class Trace {
       filled.set(33);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      indexA.put((byte) 0);
-    }
-    indexA.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(indexA, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -734,11 +679,7 @@ public class Trace {
       filled.set(34);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      indexB.put((byte) 0);
-    }
-    indexB.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(indexB, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -750,11 +691,7 @@ public class Trace {
       filled.set(35);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      indexC.put((byte) 0);
-    }
-    indexC.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(indexC, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -766,11 +703,7 @@ public class Trace {
       filled.set(36);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      indexX.put((byte) 0);
-    }
-    indexX.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(indexX, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -950,11 +883,7 @@ public class Trace {
       filled.set(51);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      limb.put((byte) 0);
-    }
-    limb.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(limb, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1002,11 +931,7 @@ public class Trace {
       filled.set(55);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      pow2561.put((byte) 0);
-    }
-    pow2561.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(pow2561, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1018,11 +943,7 @@ public class Trace {
       filled.set(56);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      pow2562.put((byte) 0);
-    }
-    pow2562.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(pow2562, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1034,11 +955,7 @@ public class Trace {
       filled.set(57);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      size.put((byte) 0);
-    }
-    size.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(size, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1074,11 +991,7 @@ public class Trace {
       filled.set(60);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      sourceLimbOffset.put((byte) 0);
-    }
-    sourceLimbOffset.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(sourceLimbOffset, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1114,11 +1027,7 @@ public class Trace {
       filled.set(63);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      targetLimbOffset.put((byte) 0);
-    }
-    targetLimbOffset.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(targetLimbOffset, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1130,11 +1039,7 @@ public class Trace {
       filled.set(64);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      totalSize.put((byte) 0);
-    }
-    totalSize.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(totalSize, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1146,11 +1051,7 @@ public class Trace {
       filled.set(65);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      valA.put((byte) 0);
-    }
-    valA.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(valA, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1162,11 +1063,7 @@ public class Trace {
       filled.set(66);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      valANew.put((byte) 0);
-    }
-    valANew.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(valANew, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1178,11 +1075,7 @@ public class Trace {
       filled.set(67);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      valB.put((byte) 0);
-    }
-    valB.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(valB, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1194,11 +1087,7 @@ public class Trace {
       filled.set(68);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      valBNew.put((byte) 0);
-    }
-    valBNew.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(valBNew, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1210,11 +1099,7 @@ public class Trace {
       filled.set(69);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      valC.put((byte) 0);
-    }
-    valC.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(valC, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1226,11 +1111,7 @@ public class Trace {
       filled.set(70);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      valCNew.put((byte) 0);
-    }
-    valCNew.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(valCNew, b.toArrayUnsafe(), 32);
 
     return this;
   }
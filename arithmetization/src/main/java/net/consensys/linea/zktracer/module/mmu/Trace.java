@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -596,11 +597,7 @@ public class Trace {
       filled.set(26);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      out1.put((byte) 0);
-    }
-    out1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(out1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -612,11 +609,7 @@ public class Trace {
       filled.set(27);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      out2.put((byte) 0);
-    }
-    out2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(out2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -628,11 +621,7 @@ public class Trace {
       filled.set(28);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      out3.put((byte) 0);
-    }
-    out3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(out3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -644,11 +633,7 @@ public class Trace {
       filled.set(29);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      out4.put((byte) 0);
-    }
-    out4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(out4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -660,11 +645,7 @@ public class Trace {
       filled.set(30);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      out5.put((byte) 0);
-    }
-    out5.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(out5, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -676,11 +657,7 @@ public class Trace {
       filled.set(52);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      auxIdXorCnSXorEucA.put((byte) 0);
-    }
-    auxIdXorCnSXorEucA.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(auxIdXorCnSXorEucA, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -716,11 +693,7 @@ public class Trace {
       filled.set(59);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      limb1XorLimbXorWcpArg1Hi.put((byte) 0);
-    }
-    limb1XorLimbXorWcpArg1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(limb1XorLimbXorWcpArg1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -732,11 +705,7 @@ public class Trace {
       filled.set(60);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      limb2XorWcpArg1Lo.put((byte) 0);
-    }
-    limb2XorWcpArg1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(limb2XorWcpArg1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -760,11 +729,7 @@ public class Trace {
       filled.set(53);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      refOffsetXorCnTXorEucB.put((byte) 0);
-    }
-    refOffsetXorCnTXorEucB.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(refOffsetXorCnTXorEucB, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -776,11 +741,7 @@ public class Trace {
       filled.set(54);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      refSizeXorSloXorEucCeil.put((byte) 0);
-    }
-    refSizeXorSloXorEucCeil.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(refSizeXorSloXorEucCeil, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -792,11 +753,7 @@ public class Trace {
       filled.set(55);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      sizeXorTloXorEucQuot.put((byte) 0);
-    }
-    sizeXorTloXorEucQuot.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(sizeXorTloXorEucQuot, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -808,11 +765,7 @@ public class Trace {
       filled.set(56);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      srcIdXorTotalSizeXorEucRem.put((byte) 0);
-    }
-    srcIdXorTotalSizeXorEucRem.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(srcIdXorTotalSizeXorEucRem, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -824,11 +777,7 @@ public class Trace {
       filled.set(61);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      srcOffsetHiXorWcpArg2Lo.put((byte) 0);
-    }
-    srcOffsetHiXorWcpArg2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(srcOffsetHiXorWcpArg2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -840,11 +789,7 @@ public class Trace {
       filled.set(62);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      srcOffsetLo.put((byte) 0);
-    }
-    srcOffsetLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(srcOffsetLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -868,11 +813,7 @@ public class Trace {
       filled.set(57);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      tgtId.put((byte) 0);
-    }
-    tgtId.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(tgtId, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -884,11 +825,7 @@ public class Trace {
       filled.set(58);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      tgtOffsetLo.put((byte) 0);
-    }
-    tgtOffsetLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(tgtOffsetLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -900,11 +837,7 @@ public class Trace {
       filled.set(52);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      auxIdXorCnSXorEucA.put((byte) 0);
-    }
-    auxIdXorCnSXorEucA.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(auxIdXorCnSXorEucA, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -916,11 +849,7 @@ public class Trace {
       filled.set(53);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      refOffsetXorCnTXorEucB.put((byte) 0);
-    }
-    refOffsetXorCnTXorEucB.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(refOffsetXorCnTXorEucB, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -980,11 +909,7 @@ public class Trace {
       filled.set(59);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      limb1XorLimbXorWcpArg1Hi.put((byte) 0);
-    }
-    limb1XorLimbXorWcpArg1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(limb1XorLimbXorWcpArg1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1032,11 +957,7 @@ public class Trace {
       filled.set(54);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      refSizeXorSloXorEucCeil.put((byte) 0);
-    }
-    refSizeXorSloXorEucCeil.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(refSizeXorSloXorEucCeil, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1072,11 +993,7 @@ public class Trace {
       filled.set(55);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      sizeXorTloXorEucQuot.put((byte) 0);
-    }
-    sizeXorTloXorEucQuot.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(sizeXorTloXorEucQuot, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1088,11 +1005,7 @@ public class Trace {
       filled.set(56);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      srcIdXorTotalSizeXorEucRem.put((byte) 0);
-    }
-    srcIdXorTotalSizeXorEucRem.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(srcIdXorTotalSizeXorEucRem, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1116,11 +1029,7 @@ public class Trace {
       filled.set(52);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      auxIdXorCnSXorEucA.put((byte) 0);
-    }
-    auxIdXorCnSXorEucA.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(auxIdXorCnSXorEucA, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1132,11 +1041,7 @@ public class Trace {
       filled.set(53);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      refOffsetXorCnTXorEucB.put((byte) 0);
-    }
-    refOffsetXorCnTXorEucB.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(refOffsetXorCnTXorEucB, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1148,11 +1053,7 @@ public class Trace {
       filled.set(54);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      refSizeXorSloXorEucCeil.put((byte) 0);
-    }
-    refSizeXorSloXorEucCeil.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(refSizeXorSloXorEucCeil, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1176,11 +1077,7 @@ public class Trace {
       filled.set(55);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      sizeXorTloXorEucQuot.put((byte) 0);
-    }
-    sizeXorTloXorEucQuot.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(sizeXorTloXorEucQuot, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1192,11 +1089,7 @@ public class Trace {
       filled.set(56);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      srcIdXorTotalSizeXorEucRem.put((byte) 0);
-    }
-    srcIdXorTotalSizeXorEucRem.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(srcIdXorTotalSizeXorEucRem, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1208,11 +1101,7 @@ public class Trace {
       filled.set(59);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      limb1XorLimbXorWcpArg1Hi.put((byte) 0);
-    }
-    limb1XorLimbXorWcpArg1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(limb1XorLimbXorWcpArg1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1224,11 +1113,7 @@ public class Trace {
       filled.set(60);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      limb2XorWcpArg1Lo.put((byte) 0);
-    }
-    limb2XorWcpArg1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(limb2XorWcpArg1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1240,11 +1125,7 @@ public class Trace {
       filled.set(61);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      srcOffsetHiXorWcpArg2Lo.put((byte) 0);
-    }
-    srcOffsetHiXorWcpArg2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(srcOffsetHiXorWcpArg2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
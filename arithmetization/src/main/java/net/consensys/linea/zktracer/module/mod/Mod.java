@@ -18,6 +18,7 @@ package net.consensys.linea.zktracer.module.mod;
 import java.math.BigInteger;
 import java.nio.MappedByteBuffer;
 import java.util.List;
+import java.util.Optional;
 
 import net.consensys.linea.zktracer.ColumnHeader;
 import net.consensys.linea.zktracer.container.stacked.set.StackedSet;
@@ -103,4 +104,9 @@ public class Mod implements Module {
     this.chunks.add(new ModOperation(OpCode.MOD, arg1, arg2));
     return arg1.toUnsignedBigInteger().mod(arg2.toUnsignedBigInteger());
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.chunks);
+  }
 }
@@ -15,24 +15,22 @@
 
 package net.consensys.linea.zktracer.module.mod;
 
-import static com.google.common.base.Preconditions.checkElementIndex;
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.WORD_LIMBS;
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.accumulator;
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.byteOf;
 import static net.consensys.linea.zktracer.module.Util.byteBits;
+import static net.consensys.linea.zktracer.module.constants.GlobalConstants.LLARGE;
 import static net.consensys.linea.zktracer.module.constants.GlobalConstants.MMEDIUM;
 
-import java.math.BigInteger;
 import java.util.Arrays;
 
 import lombok.EqualsAndHashCode;
-import net.consensys.linea.zktracer.bytestheta.BaseBytes;
-import net.consensys.linea.zktracer.bytestheta.BaseTheta;
+import net.consensys.linea.zktracer.bytestheta.LimbArithmetic;
 import net.consensys.linea.zktracer.container.ModuleOperation;
 import net.consensys.linea.zktracer.opcode.OpCode;
 import net.consensys.linea.zktracer.opcode.OpCodeData;
 import net.consensys.linea.zktracer.types.UnsignedByte;
-import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
-import org.apache.tuweni.units.bigints.UInt256;
-import org.apache.tuweni.units.bigints.UInt64;
 
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 public class ModOperation extends ModuleOperation {
@@ -41,16 +39,16 @@ public class ModOperation extends ModuleOperation {
   @EqualsAndHashCode.Include private final Bytes32 rawArg1;
   @EqualsAndHashCode.Include private final Bytes32 rawArg2;
   private final boolean oli;
-  private BaseBytes arg1;
-  private BaseBytes arg2;
-
-  private BaseBytes result = BaseBytes.fromBytes32(Bytes32.ZERO);
-  private BaseTheta aBytes = BaseTheta.fromBytes32(Bytes32.ZERO);
-  private BaseTheta bBytes = BaseTheta.fromBytes32(Bytes32.ZERO);
-  private BaseTheta qBytes = BaseTheta.fromBytes32(Bytes32.ZERO);
-  private BaseTheta rBytes = BaseTheta.fromBytes32(Bytes32.ZERO);
-  private BaseTheta hBytes = BaseTheta.fromBytes32(Bytes32.ZERO);
-  private BaseTheta dBytes = BaseTheta.fromBytes32(Bytes32.ZERO);
+  private final long[] arg1 = new long[WORD_LIMBS];
+  private final long[] arg2 = new long[WORD_LIMBS];
+
+  private Bytes32 result = Bytes32.ZERO;
+  private final long[] aLimbs = new long[WORD_LIMBS];
+  private final long[] bLimbs = new long[WORD_LIMBS];
+  private final long[] qLimbs = new long[WORD_LIMBS];
+  private final long[] rLimbs = new long[WORD_LIMBS];
+  private final long[] hLimbs = new long[3];
+  private final long[] dLimbs = new long[WORD_LIMBS];
   private final boolean[] cmp1 = new boolean[8];
   private final boolean[] cmp2 = new boolean[8];
   private Boolean[] msb1 = new Boolean[8];
@@ -76,8 +74,8 @@ public class ModOperation extends ModuleOperation {
   }
 
   private void compute() {
-    this.arg1 = BaseBytes.fromBytes32(this.rawArg1);
-    this.arg2 = BaseBytes.fromBytes32(this.rawArg2);
+    LimbArithmetic.fromBytes32(this.rawArg1, this.arg1);
+    LimbArithmetic.fromBytes32(this.rawArg2, this.arg2);
 
     Arrays.fill(msb1, false);
     Arrays.fill(msb2, false);
@@ -89,131 +87,118 @@ public class ModOperation extends ModuleOperation {
     isMod = opCode == OpCode.MOD;
 
     if (!this.oli) {
-      this.result = getRes(opCode, this.rawArg1, this.rawArg2);
+      absoluteValueIfSignedInst(this.arg1, this.aLimbs);
+      absoluteValueIfSignedInst(this.arg2, this.bLimbs);
+      LimbArithmetic.divide(this.aLimbs, this.bLimbs, this.qLimbs, this.rLimbs);
+      this.result = LimbArithmetic.toBytes32(this.getRes());
 
-      UInt256 a = absoluteValueIfSignedInst(this.rawArg1);
-      this.aBytes = BaseTheta.fromBytes32(a);
-
-      UInt256 b = absoluteValueIfSignedInst(this.rawArg2);
-      this.bBytes = BaseTheta.fromBytes32(b);
-
-      UInt256 q = a.divide(b);
-      this.qBytes = BaseTheta.fromBytes32(q);
-
-      UInt256 r = a.mod(b);
-      this.rBytes = BaseTheta.fromBytes32(r);
-
-      this.dBytes = BaseTheta.fromBytes32(Bytes32.ZERO);
+      Arrays.fill(this.dLimbs, 0);
       this.setCmp12();
       this.setDeltas();
       this.setAlphaBetasH012();
 
-      UnsignedByte msb1 = UnsignedByte.of(this.arg1.getHigh().get(0));
-      UnsignedByte msb2 = UnsignedByte.of(this.arg2.getHigh().get(0));
+      UnsignedByte msb1 = UnsignedByte.of(byteOf(this.arg1[3], 0));
+      UnsignedByte msb2 = UnsignedByte.of(byteOf(this.arg2[3], 0));
 
       this.msb1 = byteBits(msb1);
       this.msb2 = byteBits(msb2);
     }
   }
 
-  private static BaseBytes getRes(OpCode op, Bytes32 arg1, Bytes32 arg2) {
-    return switch (op) {
-      case DIV -> BaseBytes.fromBytes32(UInt256.fromBytes(arg1).divide(UInt256.fromBytes(arg2)));
-      case SDIV -> BaseBytes.fromBytes32(UInt256.fromBytes(arg1).sdiv0(UInt256.fromBytes(arg2)));
-      case MOD -> BaseBytes.fromBytes32(UInt256.fromBytes(arg1).mod(UInt256.fromBytes(arg2)));
-      case SMOD -> BaseBytes.fromBytes32(UInt256.fromBytes(arg1).smod0(UInt256.fromBytes(arg2)));
+  /**
+   * Derive the result of the instruction from the quotient and the remainder of the division of
+   * the absolute values of the arguments: signed results take the sign of the quotient, resp. of
+   * the dividend.
+   */
+  private long[] getRes() {
+    final long[] res = new long[WORD_LIMBS];
+    switch (opCode) {
+      case DIV -> System.arraycopy(this.qLimbs, 0, res, 0, WORD_LIMBS);
+      case SDIV -> {
+        if (LimbArithmetic.isNegative(this.arg1) != LimbArithmetic.isNegative(this.arg2)) {
+          LimbArithmetic.negate(this.qLimbs, res);
+        } else {
+          System.arraycopy(this.qLimbs, 0, res, 0, WORD_LIMBS);
+        }
+      }
+      case MOD -> System.arraycopy(this.rLimbs, 0, res, 0, WORD_LIMBS);
+      case SMOD -> {
+        if (LimbArithmetic.isNegative(this.arg1)) {
+          LimbArithmetic.negate(this.rLimbs, res);
+        } else {
+          System.arraycopy(this.rLimbs, 0, res, 0, WORD_LIMBS);
+        }
+      }
       default -> throw new IllegalArgumentException("Modular arithmetic was given wrong opcode");
-    };
-  }
-
-  private UInt256 absoluteValueIfSignedInst(Bytes32 arg) {
-    if (isSigned) {
-      return UInt256.valueOf(arg.toBigInteger().abs());
     }
-    return UInt256.fromBytes(arg);
+    return res;
   }
 
-  private UInt256 bVar(int k) {
-    checkElementIndex(k, 4);
-    return UInt256.fromBytes(bBytes.get(k));
-  }
-
-  private UInt256 qVar(int k) {
-    checkElementIndex(k, 4);
-    return UInt256.fromBytes(qBytes.get(k));
-  }
-
-  private UInt256 rVar(int k) {
-    checkElementIndex(k, 4);
-    return UInt256.fromBytes(rBytes.get(k));
-  }
-
-  private UInt256 hVar(int k) {
-    checkElementIndex(k, 3);
-    return UInt256.fromBytes(hBytes.get(k));
+  private void absoluteValueIfSignedInst(long[] arg, long[] out) {
+    if (isSigned && LimbArithmetic.isNegative(arg)) {
+      LimbArithmetic.negate(arg, out);
+    } else {
+      System.arraycopy(arg, 0, out, 0, WORD_LIMBS);
+    }
   }
 
   private void setCmp12() {
     for (int k = 0; k < 4; k++) {
-      cmp1[k] = bVar(k).compareTo(rVar(k)) > 0;
-      cmp2[k] = bVar(k).compareTo(rVar(k)) == 0;
+      cmp1[k] = Long.compareUnsigned(bLimbs[k], rLimbs[k]) > 0;
+      cmp2[k] = bLimbs[k] == rLimbs[k];
     }
   }
 
   private void setDeltas() {
     for (int k = 0; k < 4; k++) {
-      UInt256 delta;
       if (this.cmp1[k]) {
-        delta = bVar(k).subtract(rVar(k)).subtract(UInt256.ONE);
+        dLimbs[k] = bLimbs[k] - rLimbs[k] - 1;
       } else {
-        delta = rVar(k).subtract(bVar(k));
+        dLimbs[k] = rLimbs[k] - bLimbs[k];
       }
-      dBytes.set(k, delta.slice(24, 8));
     }
   }
 
   private void setAlphaBetasH012() {
-    UInt256 theta = UInt256.ONE;
-    UInt256 thetaSquared = UInt256.ONE;
-
-    theta = theta.shiftLeft(64);
-    thetaSquared = thetaSquared.shiftLeft(128);
+    final long[] b = this.bLimbs;
+    final long[] q = this.qLimbs;
+    final long[] sum = new long[WORD_LIMBS];
 
-    UInt256 sum = bVar(0).multiply(qVar(1)).add(bVar(1).multiply(qVar(0)));
-    this.hBytes = BaseTheta.fromBytes32(sum);
+    LimbArithmetic.addProduct(sum, b[0], q[1], 0);
+    LimbArithmetic.addProduct(sum, b[1], q[0], 0);
+    this.hLimbs[0] = sum[0];
+    this.hLimbs[1] = sum[1];
 
     // alpha
-    cmp2[4] = sum.compareTo(thetaSquared) >= 0;
+    cmp2[4] = sum[2] != 0 || sum[3] != 0;
 
-    sum =
-        bVar(0)
-            .multiply(qVar(3))
-            .add(bVar(1).multiply(qVar(2)))
-            .add(bVar(2).multiply(qVar(1)))
-            .add(bVar(3).multiply(qVar(0)));
+    Arrays.fill(sum, 0);
+    LimbArithmetic.addProduct(sum, b[0], q[3], 0);
+    LimbArithmetic.addProduct(sum, b[1], q[2], 0);
+    LimbArithmetic.addProduct(sum, b[2], q[1], 0);
+    LimbArithmetic.addProduct(sum, b[3], q[0], 0);
 
-    if (sum.bitLength() > 64) {
+    if (sum[1] != 0 || sum[2] != 0 || sum[3] != 0) {
       throw new RuntimeException("b[0]q[3] + b[1]q[2] + b[2]q[1] + b[3]q[0] >= (1 << 64)");
     }
 
-    hBytes.set(2, sum.slice(24, 8));
+    this.hLimbs[2] = sum[0];
 
-    sum = qVar(0).multiply(bVar(0));
-    sum = sum.add(hVar(0).multiply(theta));
-    sum = sum.add(UInt256.fromBytes(rBytes.getLow()));
+    Arrays.fill(sum, 0);
+    LimbArithmetic.addProduct(sum, q[0], b[0], 0);
+    LimbArithmetic.addLimb(sum, this.hLimbs[0], 1);
+    LimbArithmetic.addLimb(sum, this.rLimbs[0], 0);
+    LimbArithmetic.addLimb(sum, this.rLimbs[1], 1);
 
-    UInt256 beta = sum.divide(thetaSquared);
-    if (beta.compareTo(UInt256.valueOf(2)) > 0) {
+    final long beta = sum[2];
+    if (sum[3] != 0 || Long.compareUnsigned(beta, 2) > 0) {
       throw new RuntimeException("b[0]q[0] + theta.h[0] + rLo = [beta|...] with beta > 2");
     }
 
-    UInt64 betaUInt64 = UInt64.valueOf(beta.toUnsignedBigInteger());
-    cmp2[5] = betaUInt64.mod(UInt64.valueOf(2)).compareTo(UInt64.ONE) == 0; // beta_0
-    cmp2[6] = betaUInt64.divide(UInt64.valueOf(2)).compareTo(UInt64.ONE) == 0; // beta_1
+    cmp2[5] = beta % 2 == 1; // beta_0
+    cmp2[6] = beta / 2 == 1; // beta_1
 
-    BigInteger sumInt = sum.mod(thetaSquared).toUnsignedBigInteger();
-    BigInteger aLo = this.aBytes.getLow().toUnsignedBigInteger();
-    if (sumInt.compareTo(aLo) != 0) {
+    if (sum[0] != this.aLimbs[0] || sum[1] != this.aLimbs[1]) {
       throw new RuntimeException("b[0]q[0] + theta.h[0] + rLo = [beta|xxx] and xxx != aLo");
     }
   }
@@ -250,58 +235,58 @@ public class ModOperation extends ModuleOperation {
           .isSmod(isSmod)
           .isMod(isMod)
           .signed(isSigned)
-          .arg1Hi(this.arg1.getHigh())
-          .arg1Lo(this.arg1.getLow())
-          .arg2Hi(this.arg2.getHigh())
-          .arg2Lo(this.arg2.getLow())
-          .resHi(this.result.getHigh())
-          .resLo(this.result.getLow())
-          .acc12(this.arg1.getBytes32().slice(8, ct + 1))
-          .acc13(this.arg1.getBytes32().slice(0, ct + 1))
-          .acc22(this.arg2.getBytes32().slice(8, ct + 1))
-          .acc23(this.arg2.getBytes32().slice(0, ct + 1))
-          .accB0(this.bBytes.get(0).slice(0, accLength))
-          .accB1(this.bBytes.get(1).slice(0, accLength))
-          .accB2(this.bBytes.get(2).slice(0, accLength))
-          .accB3(this.bBytes.get(3).slice(0, accLength))
-          .accR0(this.rBytes.get(0).slice(0, accLength))
-          .accR1(this.rBytes.get(1).slice(0, accLength))
-          .accR2(this.rBytes.get(2).slice(0, accLength))
-          .accR3(this.rBytes.get(3).slice(0, accLength))
-          .accQ0(this.qBytes.get(0).slice(0, accLength))
-          .accQ1(this.qBytes.get(1).slice(0, accLength))
-          .accQ2(this.qBytes.get(2).slice(0, accLength))
-          .accQ3(this.qBytes.get(3).slice(0, accLength))
-          .accDelta0(this.dBytes.get(0).slice(0, accLength))
-          .accDelta1(this.dBytes.get(1).slice(0, accLength))
-          .accDelta2(this.dBytes.get(2).slice(0, accLength))
-          .accDelta3(this.dBytes.get(3).slice(0, accLength))
-          .byte22(UnsignedByte.of(this.arg2.getByte(ct + 8)))
-          .byte23(UnsignedByte.of(this.arg2.getByte(ct)))
-          .byte12(UnsignedByte.of(this.arg1.getByte(ct + 8)))
-          .byte13(UnsignedByte.of(this.arg1.getByte(ct)))
-          .byteB0(UnsignedByte.of(this.bBytes.get(0).get(ct)))
-          .byteB1(UnsignedByte.of(this.bBytes.get(1).get(ct)))
-          .byteB2(UnsignedByte.of(this.bBytes.get(2).get(ct)))
-          .byteB3(UnsignedByte.of(this.bBytes.get(3).get(ct)))
-          .byteR0(UnsignedByte.of(this.rBytes.get(0).get(ct)))
-          .byteR1(UnsignedByte.of(this.rBytes.get(1).get(ct)))
-          .byteR2(UnsignedByte.of(this.rBytes.get(2).get(ct)))
-          .byteR3(UnsignedByte.of(this.rBytes.get(3).get(ct)))
-          .byteQ0(UnsignedByte.of(this.qBytes.get(0).get(ct)))
-          .byteQ1(UnsignedByte.of(this.qBytes.get(1).get(ct)))
-          .byteQ2(UnsignedByte.of(this.qBytes.get(2).get(ct)))
-          .byteQ3(UnsignedByte.of(this.qBytes.get(3).get(ct)))
-          .byteDelta0(UnsignedByte.of(this.dBytes.get(0).get(ct)))
-          .byteDelta1(UnsignedByte.of(this.dBytes.get(1).get(ct)))
-          .byteDelta2(UnsignedByte.of(this.dBytes.get(2).get(ct)))
-          .byteDelta3(UnsignedByte.of(this.dBytes.get(3).get(ct)))
-          .byteH0(UnsignedByte.of(this.hBytes.get(0).get(ct)))
-          .byteH1(UnsignedByte.of(this.hBytes.get(1).get(ct)))
-          .byteH2(UnsignedByte.of(this.hBytes.get(2).get(ct)))
-          .accH0(Bytes.wrap(this.hBytes.get(0)).slice(0, ct + 1))
-          .accH1(Bytes.wrap(this.hBytes.get(1)).slice(0, ct + 1))
-          .accH2(Bytes.wrap(this.hBytes.get(2)).slice(0, ct + 1))
+          .arg1Hi(this.rawArg1.slice(0, LLARGE))
+          .arg1Lo(this.rawArg1.slice(LLARGE, LLARGE))
+          .arg2Hi(this.rawArg2.slice(0, LLARGE))
+          .arg2Lo(this.rawArg2.slice(LLARGE, LLARGE))
+          .resHi(this.result.slice(0, LLARGE))
+          .resLo(this.result.slice(LLARGE, LLARGE))
+          .acc12(accumulator(this.arg1[2], accLength))
+          .acc13(accumulator(this.arg1[3], accLength))
+          .acc22(accumulator(this.arg2[2], accLength))
+          .acc23(accumulator(this.arg2[3], accLength))
+          .accB0(accumulator(this.bLimbs[0], accLength))
+          .accB1(accumulator(this.bLimbs[1], accLength))
+          .accB2(accumulator(this.bLimbs[2], accLength))
+          .accB3(accumulator(this.bLimbs[3], accLength))
+          .accR0(accumulator(this.rLimbs[0], accLength))
+          .accR1(accumulator(this.rLimbs[1], accLength))
+          .accR2(accumulator(this.rLimbs[2], accLength))
+          .accR3(accumulator(this.rLimbs[3], accLength))
+          .accQ0(accumulator(this.qLimbs[0], accLength))
+          .accQ1(accumulator(this.qLimbs[1], accLength))
+          .accQ2(accumulator(this.qLimbs[2], accLength))
+          .accQ3(accumulator(this.qLimbs[3], accLength))
+          .accDelta0(accumulator(this.dLimbs[0], accLength))
+          .accDelta1(accumulator(this.dLimbs[1], accLength))
+          .accDelta2(accumulator(this.dLimbs[2], accLength))
+          .accDelta3(accumulator(this.dLimbs[3], accLength))
+          .byte22(UnsignedByte.of(byteOf(this.arg2[2], ct)))
+          .byte23(UnsignedByte.of(byteOf(this.arg2[3], ct)))
+          .byte12(UnsignedByte.of(byteOf(this.arg1[2], ct)))
+          .byte13(UnsignedByte.of(byteOf(this.arg1[3], ct)))
+          .byteB0(UnsignedByte.of(byteOf(this.bLimbs[0], ct)))
+          .byteB1(UnsignedByte.of(byteOf(this.bLimbs[1], ct)))
+          .byteB2(UnsignedByte.of(byteOf(this.bLimbs[2], ct)))
+          .byteB3(UnsignedByte.of(byteOf(this.bLimbs[3], ct)))
+          .byteR0(UnsignedByte.of(byteOf(this.rLimbs[0], ct)))
+          .byteR1(UnsignedByte.of(byteOf(this.rLimbs[1], ct)))
+          .byteR2(UnsignedByte.of(byteOf(this.rLimbs[2], ct)))
+          .byteR3(UnsignedByte.of(byteOf(this.rLimbs[3], ct)))
+          .byteQ0(UnsignedByte.of(byteOf(this.qLimbs[0], ct)))
+          .byteQ1(UnsignedByte.of(byteOf(this.qLimbs[1], ct)))
+          .byteQ2(UnsignedByte.of(byteOf(this.qLimbs[2], ct)))
+          .byteQ3(UnsignedByte.of(byteOf(this.qLimbs[3], ct)))
+          .byteDelta0(UnsignedByte.of(byteOf(this.dLimbs[0], ct)))
+          .byteDelta1(UnsignedByte.of(byteOf(this.dLimbs[1], ct)))
+          .byteDelta2(UnsignedByte.of(byteOf(this.dLimbs[2], ct)))
+          .byteDelta3(UnsignedByte.of(byteOf(this.dLimbs[3], ct)))
+          .byteH0(UnsignedByte.of(byteOf(this.hLimbs[0], ct)))
+          .byteH1(UnsignedByte.of(byteOf(this.hLimbs[1], ct)))
+          .byteH2(UnsignedByte.of(byteOf(this.hLimbs[2], ct)))
+          .accH0(accumulator(this.hLimbs[0], accLength))
+          .accH1(accumulator(this.hLimbs[1], accLength))
+          .accH2(accumulator(this.hLimbs[2], accLength))
           .cmp1(this.cmp1[ct])
           .cmp2(this.cmp2[ct])
           .msb1(this.msb1[ct])
@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -255,11 +256,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc12.put((byte) 0);
-    }
-    acc12.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc12, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -271,11 +268,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc13.put((byte) 0);
-    }
-    acc13.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc13, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -287,11 +280,7 @@ public class Trace {
       filled.set(2);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc22.put((byte) 0);
-    }
-    acc22.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc22, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -303,11 +292,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc23.put((byte) 0);
-    }
-    acc23.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc23, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -319,11 +304,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accB0.put((byte) 0);
-    }
-    accB0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accB0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -335,11 +316,7 @@ public class Trace {
       filled.set(5);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accB1.put((byte) 0);
-    }
-    accB1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accB1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -351,11 +328,7 @@ public class Trace {
       filled.set(6);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accB2.put((byte) 0);
-    }
-    accB2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accB2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -367,11 +340,7 @@ public class Trace {
       filled.set(7);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accB3.put((byte) 0);
-    }
-    accB3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accB3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -383,11 +352,7 @@ public class Trace {
       filled.set(8);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accDelta0.put((byte) 0);
-    }
-    accDelta0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accDelta0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -399,11 +364,7 @@ public class Trace {
       filled.set(9);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accDelta1.put((byte) 0);
-    }
-    accDelta1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accDelta1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -415,11 +376,7 @@ public class Trace {
       filled.set(10);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accDelta2.put((byte) 0);
-    }
-    accDelta2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accDelta2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -431,11 +388,7 @@ public class Trace {
       filled.set(11);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accDelta3.put((byte) 0);
-    }
-    accDelta3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accDelta3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -447,11 +400,7 @@ public class Trace {
       filled.set(12);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accH0.put((byte) 0);
-    }
-    accH0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accH0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -463,11 +412,7 @@ public class Trace {
       filled.set(13);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accH1.put((byte) 0);
-    }
-    accH1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accH1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -479,11 +424,7 @@ public class Trace {
       filled.set(14);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accH2.put((byte) 0);
-    }
-    accH2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accH2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -495,11 +436,7 @@ public class Trace {
       filled.set(15);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accQ0.put((byte) 0);
-    }
-    accQ0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accQ0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -511,11 +448,7 @@ public class Trace {
       filled.set(16);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accQ1.put((byte) 0);
-    }
-    accQ1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accQ1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -527,11 +460,7 @@ public class Trace {
       filled.set(17);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accQ2.put((byte) 0);
-    }
-    accQ2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accQ2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -543,11 +472,7 @@ public class Trace {
       filled.set(18);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accQ3.put((byte) 0);
-    }
-    accQ3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accQ3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -559,11 +484,7 @@ public class Trace {
       filled.set(19);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accR0.put((byte) 0);
-    }
-    accR0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accR0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -575,11 +496,7 @@ public class Trace {
       filled.set(20);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accR1.put((byte) 0);
-    }
-    accR1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accR1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -591,11 +508,7 @@ public class Trace {
       filled.set(21);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accR2.put((byte) 0);
-    }
-    accR2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accR2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -607,11 +520,7 @@ public class Trace {
       filled.set(22);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accR3.put((byte) 0);
-    }
-    accR3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accR3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -623,11 +532,7 @@ public class Trace {
       filled.set(23);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg1Hi.put((byte) 0);
-    }
-    arg1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -639,11 +544,7 @@ public class Trace {
       filled.set(24);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg1Lo.put((byte) 0);
-    }
-    arg1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -655,11 +556,7 @@ public class Trace {
       filled.set(25);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg2Hi.put((byte) 0);
-    }
-    arg2Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg2Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -671,11 +568,7 @@ public class Trace {
       filled.set(26);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg2Lo.put((byte) 0);
-    }
-    arg2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1107,11 +1000,7 @@ public class Trace {
       filled.set(62);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      resHi.put((byte) 0);
-    }
-    resHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(resHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1123,11 +1012,7 @@ public class Trace {
       filled.set(63);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      resLo.put((byte) 0);
-    }
-    resLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(resLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
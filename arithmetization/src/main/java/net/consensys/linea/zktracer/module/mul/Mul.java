@@ -17,6 +17,7 @@ package net.consensys.linea.zktracer.module.mul;
 
 import java.nio.MappedByteBuffer;
 import java.util.List;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import net.consensys.linea.zktracer.ColumnHeader;
@@ -86,4 +87,9 @@ public class Mul implements Module {
     }
     (new MulOperation(OpCode.EXP, Bytes32.ZERO, Bytes32.ZERO)).trace(trace, stamp + 1);
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.operations);
+  }
 }
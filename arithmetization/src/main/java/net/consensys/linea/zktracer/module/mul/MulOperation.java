@@ -15,27 +15,27 @@
 
 package net.consensys.linea.zktracer.module.mul;
 
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.WORD_LIMBS;
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.accumulator;
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.byteOf;
+import static net.consensys.linea.zktracer.bytestheta.LimbArithmetic.withByte;
 import static net.consensys.linea.zktracer.module.Util.boolToByte;
 import static net.consensys.linea.zktracer.module.Util.byteBits;
 import static net.consensys.linea.zktracer.module.Util.getBit;
 import static net.consensys.linea.zktracer.module.Util.getOverflow;
 
-import java.lang.reflect.Array;
 import java.math.BigInteger;
 import java.util.Arrays;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import net.consensys.linea.zktracer.bytestheta.BaseBytes;
-import net.consensys.linea.zktracer.bytestheta.BaseTheta;
+import net.consensys.linea.zktracer.bytestheta.LimbArithmetic;
 import net.consensys.linea.zktracer.container.ModuleOperation;
 import net.consensys.linea.zktracer.opcode.OpCode;
 import net.consensys.linea.zktracer.types.Bytes16;
-import net.consensys.linea.zktracer.types.Conversions;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
-import org.apache.tuweni.units.bigints.UInt256;
 
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 public class MulOperation extends ModuleOperation {
@@ -45,49 +45,68 @@ public class MulOperation extends ModuleOperation {
   @EqualsAndHashCode.Include @Getter private final Bytes32 arg1;
   @EqualsAndHashCode.Include @Getter private final Bytes32 arg2;
 
-  @Getter private final Bytes16 arg1Hi;
-  @Getter private final Bytes16 arg1Lo;
-  @Getter private final Bytes16 arg2Hi;
-  @Getter private final Bytes16 arg2Lo;
-
   @Getter private final boolean tinyBase;
   @Getter private final boolean tinyExponent;
 
-  UInt256 resAcc =
-      UInt256.ZERO; // accumulator which converges in a series of "square and multiply"'s
-  UInt256 expAcc =
-      UInt256.ZERO; // accumulator for doubles and adds of the exponent, resets at some point
-
-  final BaseTheta aBytes;
-  final BaseTheta bBytes;
-  BaseTheta cBytes = BaseTheta.fromBytes32(Bytes32.ZERO);
-  BaseTheta hBytes = BaseTheta.fromBytes32(Bytes32.ZERO);
+  /** Whether the result of an EXP vanishes, known from the 2-adicity of the base alone */
+  private final boolean expResultVanishes;
+
+  // Everything below is only required to trace the operation, and is computed on demand by
+  // setup(): operations may be discarded as duplicates, or only used for their line count.
+  @Getter private Bytes16 arg1Hi;
+  @Getter private Bytes16 arg1Lo;
+  @Getter private Bytes16 arg2Hi;
+  @Getter private Bytes16 arg2Lo;
+
+  // accumulator which converges in a series of "square and multiply"'s
+  final long[] resAcc = new long[WORD_LIMBS];
+  // accumulator for doubles and adds of the exponent, resets at some point
+  final long[] expAcc = new long[WORD_LIMBS];
+
+  final long[] aLimbs = new long[WORD_LIMBS];
+  final long[] bLimbs = new long[WORD_LIMBS];
+  final long[] cLimbs = new long[WORD_LIMBS];
+  final long[] hLimbs = new long[WORD_LIMBS];
+  private final long[] product = new long[WORD_LIMBS];
+  private final long[] sum = new long[WORD_LIMBS];
   boolean squareAndMultiply = false;
   int index;
   Boolean[] bits = new Boolean[8];
-  String exponentBits = "0";
 
-  BaseBytes res;
+  /** The exponent of the square-and-multiply loop, whose bits are read most significant first */
+  private long[] exponent = new long[WORD_LIMBS];
+
+  private int exponentBitLength = 1;
+
+  Bytes32 res;
 
   public MulOperation(OpCode opCode, Bytes32 arg1, Bytes32 arg2) {
     this.opCode = opCode;
     this.arg1 = arg1;
     this.arg2 = arg2;
-    this.aBytes = BaseTheta.fromBytes32(arg1);
-    this.bBytes = BaseTheta.fromBytes32(arg2);
+
+    this.tinyBase = isTiny(arg1);
+    this.tinyExponent = isTiny(arg2);
+    this.expResultVanishes =
+        OpCode.EXP.equals(opCode) && !this.isOneLineInstruction() && expVanishes(arg1, arg2);
+  }
+
+  private void setup() {
+    if (this.res != null) {
+      return;
+    }
+
+    LimbArithmetic.fromBytes32(arg1, this.aLimbs);
+    LimbArithmetic.fromBytes32(arg2, this.bLimbs);
 
     arg1Hi = Bytes16.wrap(arg1.slice(0, 16));
     arg1Lo = Bytes16.wrap(arg1.slice(16));
     arg2Hi = Bytes16.wrap(arg2.slice(0, 16));
     arg2Lo = Bytes16.wrap(arg2.slice(16));
 
-    this.res = getRes(opCode, arg1, arg2);
-
-    final BigInteger arg1BigInt = UInt256.fromBytes(arg1).toUnsignedBigInteger();
-    final BigInteger arg2BigInt = UInt256.fromBytes(arg2).toUnsignedBigInteger();
-
-    this.tinyBase = isTiny(arg1BigInt);
-    this.tinyExponent = isTiny(arg2BigInt);
+    final long[] result = new long[WORD_LIMBS];
+    getRes(opCode, this.aLimbs, this.bLimbs, result);
+    this.res = LimbArithmetic.toBytes32(result);
 
     // initialize bits
     Arrays.fill(bits, false);
@@ -95,10 +114,11 @@ public class MulOperation extends ModuleOperation {
     final Regime regime = getRegime();
     switch (regime) {
       case TRIVIAL_MUL -> {}
-      case NON_TRIVIAL_MUL -> cBytes = BaseTheta.fromBytes32(res.getBytes32());
+      case NON_TRIVIAL_MUL -> System.arraycopy(result, 0, cLimbs, 0, WORD_LIMBS);
       case EXPONENT_ZERO_RESULT -> setArraysForZeroResultCase();
       case EXPONENT_NON_ZERO_RESULT -> {
-        this.exponentBits = new BigInteger(1, arg2.toArray()).toString(2);
+        this.exponent = this.bLimbs;
+        this.exponentBitLength = LimbArithmetic.bitLength(this.bLimbs);
         squareAndMultiply = false;
       }
       case IOTA -> throw new RuntimeException("alu/mul regime was never set");
@@ -106,16 +126,29 @@ public class MulOperation extends ModuleOperation {
     }
   }
 
+  /** (2^nu * odd)^e vanishes modulo 2^256 iff nu * e >= 256, for non-tiny arguments. */
+  private static boolean expVanishes(Bytes32 base, Bytes32 exponent) {
+    final int nu = twoAdicity(base);
+    if (nu == 0) {
+      return false;
+    }
+    if (exponent.numberOfLeadingZeros() < 256 - 8) {
+      // exponent >= 256
+      return true;
+    }
+    return nu * (exponent.get(31) & 0xff) >= 256;
+  }
+
   public MulOperation clone() {
     return new MulOperation(this.opCode, this.arg1, this.arg2);
   }
 
-  private static BaseBytes getRes(OpCode opCode, Bytes32 arg1, Bytes32 arg2) {
-    return switch (opCode) {
-      case MUL -> BaseBytes.fromBytes32(UInt256.fromBytes(arg1).multiply(UInt256.fromBytes(arg2)));
-      case EXP -> BaseBytes.fromBytes32(UInt256.fromBytes(arg1).pow(UInt256.fromBytes(arg2)));
+  private static void getRes(OpCode opCode, long[] arg1, long[] arg2, long[] out) {
+    switch (opCode) {
+      case MUL -> LimbArithmetic.multiply(arg1, arg2, out);
+      case EXP -> LimbArithmetic.pow(arg1, arg2, out);
       default -> throw new IllegalStateException("[MUL module] Unexpected opcode: " + opCode);
-    };
+    }
   }
 
   private void setArraysForZeroResultCase() {
@@ -125,33 +158,30 @@ public class MulOperation extends ModuleOperation {
       return;
     }
 
-    Bytes ones = Bytes.repeat((byte) 1, 8);
-    Bytes bytes;
+    long bytes;
 
     if (128 > nu && nu >= 64) {
-      bytes = aBytes.get(1);
+      bytes = aLimbs[1];
     } else {
-      for (int i = 0; i < 8; i++) {
-        cBytes.setChunk(0, ones);
-      }
-      bytes = aBytes.get(0);
+      cLimbs[0] = 0x0101010101010101L;
+      bytes = aLimbs[0];
     }
 
     int nuQuo = (nu / 8) % 8;
     int nuRem = nu % 8;
-    byte pivotByte = bytes.get(7 - nuQuo);
+    byte pivotByte = byteOf(bytes, 7 - nuQuo);
 
     for (int i = 0; i < 8; i++) {
-      cBytes.set(1, i, pivotByte);
-      cBytes.set(2, i, boolToByte(i > 7 - nuRem));
-      cBytes.set(3, i, boolToByte(i > 7 - nuQuo));
-      hBytes.set(2, i, callFunc(i, 7 - nuRem));
-      hBytes.set(3, i, callFunc(i, 7 - nuQuo));
+      cLimbs[1] = withByte(cLimbs[1], i, pivotByte);
+      cLimbs[2] = withByte(cLimbs[2], i, boolToByte(i > 7 - nuRem));
+      cLimbs[3] = withByte(cLimbs[3], i, boolToByte(i > 7 - nuQuo));
+      hLimbs[2] = withByte(hLimbs[2], i, callFunc(i, 7 - nuRem));
+      hLimbs[3] = withByte(hLimbs[3], i, callFunc(i, 7 - nuQuo));
     }
 
     bits = byteBits(UnsignedByte.of(pivotByte));
 
-    int lowerBoundOnTwoAdicity = 8 * (int) (hBytes.get(3, 7)) + (int) (hBytes.get(2, 7));
+    int lowerBoundOnTwoAdicity = 8 * (int) byteOf(hLimbs[3], 7) + (int) byteOf(hLimbs[2], 7);
 
     if (nu >= 64) {
       lowerBoundOnTwoAdicity += 64;
@@ -168,14 +198,13 @@ public class MulOperation extends ModuleOperation {
       throw new RuntimeException("lower bound on 2 adicity == 0 in the zero result case");
     }
 
-    final UInt256 twoFiftySix = UInt256.valueOf(256);
-    if (arg2.compareTo(twoFiftySix) >= 0) {
+    if (bLimbs[3] != 0 || bLimbs[2] != 0 || bLimbs[1] != 0 || bLimbs[0] >>> 8 != 0) {
       // arg2 = exponent >= 256
-      hBytes.set(1, 6, (byte) ((lowerBoundOnTwoAdicity - 1) / 256));
-      hBytes.set(1, 7, (byte) ((lowerBoundOnTwoAdicity - 1) % 256));
+      hLimbs[1] = withByte(hLimbs[1], 6, (byte) ((lowerBoundOnTwoAdicity - 1) / 256));
+      hLimbs[1] = withByte(hLimbs[1], 7, (byte) ((lowerBoundOnTwoAdicity - 1) % 256));
     } else {
       // exponent < 256
-      int exponent = arg2.toUnsignedBigInteger().intValue();
+      int exponent = (int) bLimbs[0];
       int target = exponent * lowerBoundOnTwoAdicity - 256;
 
       if (target < 0) {
@@ -186,8 +215,7 @@ public class MulOperation extends ModuleOperation {
         throw new RuntimeException("something went awfully wrong ...");
       }
 
-      final BaseTheta thing = BaseTheta.fromBytes32(UInt256.valueOf(target));
-      hBytes.setChunk(1, thing.get(0));
+      hLimbs[1] = target;
     }
   }
 
@@ -200,30 +228,23 @@ public class MulOperation extends ModuleOperation {
   }
 
   public boolean isExponentBitSet() {
-    return exponentBits.charAt(index) == '1';
+    return LimbArithmetic.testBit(exponent, exponentBitLength - 1 - index);
   }
 
   public boolean isExponentInSource() {
-    return this.index + 128 >= exponentBits.length();
+    return this.index + 128 >= exponentBitLength;
   }
 
   public static int twoAdicity(final Bytes32 x) {
-    if (x.isZero()) {
-      // panic("twoAdicity was called on zero")
-      return 256;
-    }
-
-    String baseStringBase2 = Conversions.reallyToSignedBigInteger(x).toString(2);
-
-    for (int i = 0; i < baseStringBase2.length(); i++) {
-      int j = baseStringBase2.length() - i - 1;
-      char zeroAscii = '0';
-      if (baseStringBase2.charAt(j) != zeroAscii) {
-        return i;
+    for (int k = 0; k < WORD_LIMBS; k++) {
+      final long limb = x.getLong(8 * (WORD_LIMBS - 1 - k));
+      if (limb != 0) {
+        return 64 * k + Long.numberOfTrailingZeros(limb);
       }
     }
 
-    return 0;
+    // panic("twoAdicity was called on zero")
+    return 256;
   }
 
   public boolean isOneLineInstruction() {
@@ -240,7 +261,7 @@ public class MulOperation extends ModuleOperation {
     }
 
     if (OpCode.EXP.equals(opCode)) {
-      if (res.isZero()) {
+      if (this.expResultVanishes) {
         return Regime.EXPONENT_ZERO_RESULT;
       } else {
         return Regime.EXPONENT_NON_ZERO_RESULT;
@@ -254,12 +275,17 @@ public class MulOperation extends ModuleOperation {
     return arg.compareTo(BigInteger.valueOf(1)) <= 0;
   }
 
+  private static boolean isTiny(Bytes32 arg) {
+    return arg.numberOfLeadingZeros() >= 255;
+  }
+
   public boolean carryOn() {
     // first round is special
     if (index == 0 && !squareAndMultiply) {
       squareAndMultiply = true;
-      resAcc = UInt256.valueOf(1);
-      cBytes = BaseTheta.fromBytes32(arg1);
+      Arrays.fill(resAcc, 0);
+      resAcc[0] = 1;
+      System.arraycopy(aLimbs, 0, cLimbs, 0, WORD_LIMBS);
 
       return true;
     }
@@ -268,7 +294,7 @@ public class MulOperation extends ModuleOperation {
       hiToLoExponentBitAccumulatorReset();
       index++;
       squareAndMultiply = false;
-      return index != exponentBits.length();
+      return index != exponentBitLength;
     } else {
       squareAndMultiply = true;
     }
@@ -277,7 +303,7 @@ public class MulOperation extends ModuleOperation {
   }
 
   public int getBitNum() {
-    return bitNum(index, exponentBits.length());
+    return bitNum(index, exponentBitLength);
   }
 
   private int bitNum(int i, int length) {
@@ -293,78 +319,58 @@ public class MulOperation extends ModuleOperation {
   }
 
   public void update() {
-    final BigInteger arg1BigInt = UInt256.fromBytes(arg1).toUnsignedBigInteger();
     if (!squareAndMultiply) {
       // squaring
       setHsAndBits(resAcc, resAcc);
-      expAcc = expAcc.add(expAcc);
-      resAcc = resAcc.multiply(resAcc);
+      LimbArithmetic.add(expAcc, expAcc, expAcc);
+      LimbArithmetic.multiply(resAcc, resAcc, product);
     } else {
       // multiplying by base
-      setHsAndBits(UInt256.valueOf(arg1BigInt), resAcc);
-      expAcc = expAcc.add(UInt256.ONE);
-      resAcc = UInt256.valueOf(arg1BigInt).multiply(resAcc);
+      setHsAndBits(aLimbs, resAcc);
+      LimbArithmetic.addLimb(expAcc, 1, 0);
+      LimbArithmetic.multiply(aLimbs, resAcc, product);
     }
-    cBytes = BaseTheta.fromBytes32(resAcc);
-  }
-
-  public void setHsAndBits(UInt256 a, UInt256 b) {
-    setHsAndBitsFromBaseThetas(BaseTheta.fromBytes32(a), BaseTheta.fromBytes32(b));
+    System.arraycopy(product, 0, resAcc, 0, WORD_LIMBS);
+    System.arraycopy(resAcc, 0, cLimbs, 0, WORD_LIMBS);
   }
 
-  @SuppressWarnings("checkstyle:VariableDeclarationUsageDistance")
-  public void setHsAndBitsFromBaseThetas(BaseTheta aBaseTheta, BaseTheta bBaseTheta) {
-    UInt256[] aBaseThetaInts = (UInt256[]) Array.newInstance(UInt256.class, 4);
-    UInt256[] bBaseThetaInts = (UInt256[]) Array.newInstance(UInt256.class, 4);
+  public void setHsAndBits(long[] a, long[] b) {
+    final long[] sum = this.sum;
 
-    for (int i = 0; i < 4; i++) {
-      aBaseThetaInts[i] = UInt256.fromBytes(aBaseTheta.get(i));
-      bBaseThetaInts[i] = UInt256.fromBytes(bBaseTheta.get(i));
-    }
-
-    UInt256 prod = aBaseThetaInts[1].multiply(bBaseThetaInts[0]);
-    UInt256 sum = prod; // sum := a1 * b0
-    prod = aBaseThetaInts[0].multiply(bBaseThetaInts[1]);
-    sum = sum.add(prod); // sum += a0 * b1
+    Arrays.fill(sum, 0);
+    LimbArithmetic.addProduct(sum, a[1], b[0], 0); // sum := a1 * b0
+    LimbArithmetic.addProduct(sum, a[0], b[1], 0); // sum += a0 * b1
 
-    BaseTheta sumBaseTheta = BaseTheta.fromBytes32(sum);
-    hBytes.setChunk(0, sumBaseTheta.get(0));
-    hBytes.setChunk(1, sumBaseTheta.get(1));
+    hLimbs[0] = sum[0];
+    hLimbs[1] = sum[1];
 
     long alpha = getOverflow(sum, 1, "alpha OOB");
 
-    sum = aBaseThetaInts[3].multiply(bBaseThetaInts[0]); // sum := a3 * b0
-    prod = aBaseThetaInts[2].multiply(bBaseThetaInts[1]);
-    sum = sum.add(prod); // sum += a2 * b1
-    prod = aBaseThetaInts[1].multiply(bBaseThetaInts[2]);
-    sum = sum.add(prod); // sum += a1 * b2
-    prod = aBaseThetaInts[0].multiply(bBaseThetaInts[3]);
-    sum = sum.add(prod); // sum += a0 * b3
+    Arrays.fill(sum, 0);
+    LimbArithmetic.addProduct(sum, a[3], b[0], 0); // sum := a3 * b0
+    LimbArithmetic.addProduct(sum, a[2], b[1], 0); // sum += a2 * b1
+    LimbArithmetic.addProduct(sum, a[1], b[2], 0); // sum += a1 * b2
+    LimbArithmetic.addProduct(sum, a[0], b[3], 0); // sum += a0 * b3
 
-    sumBaseTheta = BaseTheta.fromBytes32(sum);
-    hBytes.setChunk(2, sumBaseTheta.get(0));
-    hBytes.setChunk(3, sumBaseTheta.get(1));
+    hLimbs[2] = sum[0];
+    hLimbs[3] = sum[1];
 
     long beta = getOverflow(sum, 3, "beta OOB");
-    prod = aBaseThetaInts[0].multiply(bBaseThetaInts[0]);
-    sum = prod; // sum := a0 * b0
 
-    prod = UInt256.fromBytes(hBytes.get(0)).shiftLeft(64);
-    sum = sum.add(prod); // sum += (h0 << 64)
+    Arrays.fill(sum, 0);
+    LimbArithmetic.addProduct(sum, a[0], b[0], 0); // sum := a0 * b0
+    LimbArithmetic.addLimb(sum, hLimbs[0], 1); // sum += (h0 << 64)
 
     long eta = getOverflow(sum, 1, "eta OOB");
 
-    sum = UInt256.valueOf(eta); // sum := eta
-    sum = sum.add(UInt256.fromBytes(hBytes.get(1))); // sum += h1
-    prod = UInt256.valueOf(alpha).shiftLeft(64);
-    sum = sum.add(prod); // sum += (alpha << 64)
-    prod = aBaseThetaInts[2].multiply(bBaseThetaInts[0]);
-    sum = sum.add(prod); // sum += a2 * b0
-    prod = aBaseThetaInts[1].multiply(bBaseThetaInts[1]);
-    sum = sum.add(prod); // sum += a1 * b1
-    prod = aBaseThetaInts[0].multiply(bBaseThetaInts[2]);
-    sum = sum.add(prod); // sum += a0 * b2
-    sum = sum.add(UInt256.fromBytes(hBytes.get(2)).shiftLeft(64)); // sum += (h2 << 64)
+    Arrays.fill(sum, 0);
+    sum[0] = eta; // sum := eta
+    LimbArithmetic.addLimb(sum, hLimbs[1], 0); // sum += h1
+    LimbArithmetic.addLimb(sum, alpha, 1); // sum += (alpha << 64)
+    LimbArithmetic.addProduct(sum, a[2], b[0], 0); // sum += a2 * b0
+    LimbArithmetic.addProduct(sum, a[1], b[1], 0); // sum += a1 * b1
+    LimbArithmetic.addProduct(sum, a[0], b[2], 0); // sum += a0 * b2
+    LimbArithmetic.addLimb(sum, hLimbs[2], 1); // sum += (h2 << 64)
 
     long mu = getOverflow(sum, 3, "mu OOB");
 
@@ -386,9 +392,9 @@ public class MulOperation extends ModuleOperation {
   private void hiToLoExponentBitAccumulatorReset() {
     if (!isExponentInSource()) {
       if (squareAndMultiply == isExponentBitSet()) { // note: when called this is already assumed
-        Bytes32 arg2Copy = arg2.copy();
-        if (arg2Copy.shiftRight(128).equals(expAcc)) {
-          expAcc = UInt256.MIN_VALUE;
+        // compare the accumulator with arg2 >> 128
+        if (expAcc[0] == bLimbs[2] && expAcc[1] == bLimbs[3] && expAcc[2] == 0 && expAcc[3] == 0) {
+          Arrays.fill(expAcc, 0);
         }
       }
     }
@@ -399,6 +405,7 @@ public class MulOperation extends ModuleOperation {
   }
 
   void trace(Trace trace, int stamp) {
+    this.setup();
     switch (this.getRegime()) {
       case EXPONENT_ZERO_RESULT -> this.traceSubOp(trace, stamp);
 
@@ -410,7 +417,7 @@ public class MulOperation extends ModuleOperation {
       }
 
       case TRIVIAL_MUL, NON_TRIVIAL_MUL -> {
-        this.setHsAndBits(UInt256.fromBytes(this.getArg1()), UInt256.fromBytes(this.getArg2()));
+        this.setHsAndBits(this.aLimbs, this.bLimbs);
         this.traceSubOp(trace, stamp);
       }
 
@@ -419,6 +426,9 @@ public class MulOperation extends ModuleOperation {
   }
 
   private void traceSubOp(Trace trace, int stamp) {
+    final Bytes32 exponentBitAccumulator = LimbArithmetic.toBytes32(this.expAcc);
+    final Bytes resHi = this.res.slice(0, 16);
+    final Bytes resLo = this.res.slice(16);
     for (int i = 0; i < this.maxCt(); i++) {
       trace
           .mulStamp(stamp)
@@ -432,43 +442,43 @@ public class MulOperation extends ModuleOperation {
           .arg1Lo(this.getArg1Lo())
           .arg2Hi(this.getArg2Hi())
           .arg2Lo(this.getArg2Lo())
-          .resHi(this.res.getHigh())
-          .resLo(this.res.getLow())
+          .resHi(resHi)
+          .resLo(resLo)
           .bits(this.bits[i])
-          .byteA3(UnsignedByte.of(this.aBytes.get(3, i)))
-          .byteA2(UnsignedByte.of(this.aBytes.get(2, i)))
-          .byteA1(UnsignedByte.of(this.aBytes.get(1, i)))
-          .byteA0(UnsignedByte.of(this.aBytes.get(0, i)))
-          .accA3(this.aBytes.getRange(3, 0, i + 1))
-          .accA2(this.aBytes.getRange(2, 0, i + 1))
-          .accA1(this.aBytes.getRange(1, 0, i + 1))
-          .accA0(this.aBytes.getRange(0, 0, i + 1))
-          .byteB3(UnsignedByte.of(this.bBytes.get(3, i)))
-          .byteB2(UnsignedByte.of(this.bBytes.get(2, i)))
-          .byteB1(UnsignedByte.of(this.bBytes.get(1, i)))
-          .byteB0(UnsignedByte.of(this.bBytes.get(0, i)))
-          .accB3(this.bBytes.getRange(3, 0, i + 1))
-          .accB2(this.bBytes.getRange(2, 0, i + 1))
-          .accB1(this.bBytes.getRange(1, 0, i + 1))
-          .accB0(this.bBytes.getRange(0, 0, i + 1))
-          .byteC3(UnsignedByte.of(this.cBytes.get(3, i)))
-          .byteC2(UnsignedByte.of(this.cBytes.get(2, i)))
-          .byteC1(UnsignedByte.of(this.cBytes.get(1, i)))
-          .byteC0(UnsignedByte.of(this.cBytes.get(0, i)))
-          .accC3(this.cBytes.getRange(3, 0, i + 1))
-          .accC2(this.cBytes.getRange(2, 0, i + 1))
-          .accC1(this.cBytes.getRange(1, 0, i + 1))
-          .accC0(this.cBytes.getRange(0, 0, i + 1))
-          .byteH3(UnsignedByte.of(this.hBytes.get(3, i)))
-          .byteH2(UnsignedByte.of(this.hBytes.get(2, i)))
-          .byteH1(UnsignedByte.of(this.hBytes.get(1, i)))
-          .byteH0(UnsignedByte.of(this.hBytes.get(0, i)))
-          .accH3(this.hBytes.getRange(3, 0, i + 1))
-          .accH2(this.hBytes.getRange(2, 0, i + 1))
-          .accH1(this.hBytes.getRange(1, 0, i + 1))
-          .accH0(this.hBytes.getRange(0, 0, i + 1))
+          .byteA3(UnsignedByte.of(byteOf(this.aLimbs[3], i)))
+          .byteA2(UnsignedByte.of(byteOf(this.aLimbs[2], i)))
+          .byteA1(UnsignedByte.of(byteOf(this.aLimbs[1], i)))
+          .byteA0(UnsignedByte.of(byteOf(this.aLimbs[0], i)))
+          .accA3(accumulator(this.aLimbs[3], i + 1))
+          .accA2(accumulator(this.aLimbs[2], i + 1))
+          .accA1(accumulator(this.aLimbs[1], i + 1))
+          .accA0(accumulator(this.aLimbs[0], i + 1))
+          .byteB3(UnsignedByte.of(byteOf(this.bLimbs[3], i)))
+          .byteB2(UnsignedByte.of(byteOf(this.bLimbs[2], i)))
+          .byteB1(UnsignedByte.of(byteOf(this.bLimbs[1], i)))
+          .byteB0(UnsignedByte.of(byteOf(this.bLimbs[0], i)))
+          .accB3(accumulator(this.bLimbs[3], i + 1))
+          .accB2(accumulator(this.bLimbs[2], i + 1))
+          .accB1(accumulator(this.bLimbs[1], i + 1))
+          .accB0(accumulator(this.bLimbs[0], i + 1))
+          .byteC3(UnsignedByte.of(byteOf(this.cLimbs[3], i)))
+          .byteC2(UnsignedByte.of(byteOf(this.cLimbs[2], i)))
+          .byteC1(UnsignedByte.of(byteOf(this.cLimbs[1], i)))
+          .byteC0(UnsignedByte.of(byteOf(this.cLimbs[0], i)))
+          .accC3(accumulator(this.cLimbs[3], i + 1))
+          .accC2(accumulator(this.cLimbs[2], i + 1))
+          .accC1(accumulator(this.cLimbs[1], i + 1))
+          .accC0(accumulator(this.cLimbs[0], i + 1))
+          .byteH3(UnsignedByte.of(byteOf(this.hLimbs[3], i)))
+          .byteH2(UnsignedByte.of(byteOf(this.hLimbs[2], i)))
+          .byteH1(UnsignedByte.of(byteOf(this.hLimbs[1], i)))
+          .byteH0(UnsignedByte.of(byteOf(this.hLimbs[0], i)))
+          .accH3(accumulator(this.hLimbs[3], i + 1))
+          .accH2(accumulator(this.hLimbs[2], i + 1))
+          .accH1(accumulator(this.hLimbs[1], i + 1))
+          .accH0(accumulator(this.hLimbs[0], i + 1))
           .exponentBit(this.isExponentBitSet())
-          .exponentBitAccumulator(this.expAcc)
+          .exponentBitAccumulator(exponentBitAccumulator)
           .exponentBitSource(this.isExponentInSource())
           .squareAndMultiply(this.squareAndMultiply)
           .bitNum(UnsignedByte.of(this.getBitNum()))
@@ -478,25 +488,16 @@ public class MulOperation extends ModuleOperation {
 
   @Override
   protected int computeLineCount() {
-    final MulOperation op = this.clone();
-
     return switch (this.getRegime()) {
-      case EXPONENT_ZERO_RESULT -> op.maxCt();
-
+      case TRIVIAL_MUL -> 1;
+      case NON_TRIVIAL_MUL, EXPONENT_ZERO_RESULT -> MMEDIUM;
       case EXPONENT_NON_ZERO_RESULT -> {
-        int r = 0;
-        while (op.carryOn()) {
-          op.update();
-          r += op.maxCt();
-        }
-        yield r;
+        // The square-and-multiply loop runs once per bit of the exponent, plus once per set bit
+        // but the leading one
+        final long[] exponent = LimbArithmetic.fromBytes32(arg2);
+        yield MMEDIUM
+            * (LimbArithmetic.bitLength(exponent) + LimbArithmetic.bitCount(exponent) - 1);
       }
-
-      case TRIVIAL_MUL, NON_TRIVIAL_MUL -> {
-        op.setHsAndBits(UInt256.fromBytes(op.getArg1()), UInt256.fromBytes(op.getArg2()));
-        yield op.maxCt();
-      }
-
       default -> throw new RuntimeException("regime not supported");
     };
   }
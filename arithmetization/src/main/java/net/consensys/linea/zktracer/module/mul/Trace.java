@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -210,11 +211,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accA0.put((byte) 0);
-    }
-    accA0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accA0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -226,11 +223,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accA1.put((byte) 0);
-    }
-    accA1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accA1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -242,11 +235,7 @@ public class Trace {
       filled.set(2);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accA2.put((byte) 0);
-    }
-    accA2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accA2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -258,11 +247,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accA3.put((byte) 0);
-    }
-    accA3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accA3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -274,11 +259,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accB0.put((byte) 0);
-    }
-    accB0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accB0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -290,11 +271,7 @@ public class Trace {
       filled.set(5);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accB1.put((byte) 0);
-    }
-    accB1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accB1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -306,11 +283,7 @@ public class Trace {
       filled.set(6);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accB2.put((byte) 0);
-    }
-    accB2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accB2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -322,11 +295,7 @@ public class Trace {
       filled.set(7);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accB3.put((byte) 0);
-    }
-    accB3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accB3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -338,11 +307,7 @@ public class Trace {
       filled.set(8);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accC0.put((byte) 0);
-    }
-    accC0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accC0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -354,11 +319,7 @@ public class Trace {
       filled.set(9);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accC1.put((byte) 0);
-    }
-    accC1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accC1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -370,11 +331,7 @@ public class Trace {
       filled.set(10);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accC2.put((byte) 0);
-    }
-    accC2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accC2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -386,11 +343,7 @@ public class Trace {
       filled.set(11);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accC3.put((byte) 0);
-    }
-    accC3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accC3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -402,11 +355,7 @@ public class Trace {
       filled.set(12);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accH0.put((byte) 0);
-    }
-    accH0.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accH0, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -418,11 +367,7 @@ public class Trace {
       filled.set(13);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accH1.put((byte) 0);
-    }
-    accH1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accH1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -434,11 +379,7 @@ public class Trace {
       filled.set(14);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accH2.put((byte) 0);
-    }
-    accH2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accH2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -450,11 +391,7 @@ public class Trace {
       filled.set(15);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accH3.put((byte) 0);
-    }
-    accH3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accH3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -466,11 +403,7 @@ public class Trace {
       filled.set(16);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg1Hi.put((byte) 0);
-    }
-    arg1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -482,11 +415,7 @@ public class Trace {
       filled.set(17);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg1Lo.put((byte) 0);
-    }
-    arg1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -498,11 +427,7 @@ public class Trace {
       filled.set(18);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg2Hi.put((byte) 0);
-    }
-    arg2Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg2Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -514,11 +439,7 @@ public class Trace {
       filled.set(19);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg2Lo.put((byte) 0);
-    }
-    arg2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -770,11 +691,7 @@ public class Trace {
       filled.set(40);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      exponentBitAccumulator.put((byte) 0);
-    }
-    exponentBitAccumulator.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(exponentBitAccumulator, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -834,11 +751,7 @@ public class Trace {
       filled.set(46);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      resHi.put((byte) 0);
-    }
-    resHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(resHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -850,11 +763,7 @@ public class Trace {
       filled.set(47);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      resLo.put((byte) 0);
-    }
-    resLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(resLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
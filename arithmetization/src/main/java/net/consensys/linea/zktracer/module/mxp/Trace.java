@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -217,11 +218,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc1.put((byte) 0);
-    }
-    acc1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -233,11 +230,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc2.put((byte) 0);
-    }
-    acc2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -249,11 +242,7 @@ public class Trace {
       filled.set(2);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc3.put((byte) 0);
-    }
-    acc3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -265,11 +254,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc4.put((byte) 0);
-    }
-    acc4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -281,11 +266,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accA.put((byte) 0);
-    }
-    accA.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accA, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -297,11 +278,7 @@ public class Trace {
       filled.set(5);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accQ.put((byte) 0);
-    }
-    accQ.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accQ, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -313,11 +290,7 @@ public class Trace {
       filled.set(6);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accW.put((byte) 0);
-    }
-    accW.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accW, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -437,11 +410,7 @@ public class Trace {
       filled.set(19);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      cMem.put((byte) 0);
-    }
-    cMem.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(cMem, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -453,11 +422,7 @@ public class Trace {
       filled.set(20);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      cMemNew.put((byte) 0);
-    }
-    cMemNew.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(cMemNew, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -469,11 +434,7 @@ public class Trace {
       filled.set(16);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      cn.put((byte) 0);
-    }
-    cn.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(cn, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -533,11 +494,7 @@ public class Trace {
       filled.set(23);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasMxp.put((byte) 0);
-    }
-    gasMxp.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasMxp, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -549,11 +506,7 @@ public class Trace {
       filled.set(24);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gbyte.put((byte) 0);
-    }
-    gbyte.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gbyte, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -565,11 +518,7 @@ public class Trace {
       filled.set(25);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gword.put((byte) 0);
-    }
-    gword.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gword, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -593,11 +542,7 @@ public class Trace {
       filled.set(27);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      linCost.put((byte) 0);
-    }
-    linCost.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(linCost, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -609,11 +554,7 @@ public class Trace {
       filled.set(28);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      maxOffset.put((byte) 0);
-    }
-    maxOffset.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(maxOffset, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -625,11 +566,7 @@ public class Trace {
       filled.set(29);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      maxOffset1.put((byte) 0);
-    }
-    maxOffset1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(maxOffset1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -641,11 +578,7 @@ public class Trace {
       filled.set(30);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      maxOffset2.put((byte) 0);
-    }
-    maxOffset2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(maxOffset2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -753,11 +686,7 @@ public class Trace {
       filled.set(39);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      offset1Hi.put((byte) 0);
-    }
-    offset1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(offset1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -769,11 +698,7 @@ public class Trace {
       filled.set(40);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      offset1Lo.put((byte) 0);
-    }
-    offset1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(offset1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -785,11 +710,7 @@ public class Trace {
       filled.set(41);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      offset2Hi.put((byte) 0);
-    }
-    offset2Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(offset2Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -801,11 +722,7 @@ public class Trace {
       filled.set(42);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      offset2Lo.put((byte) 0);
-    }
-    offset2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(offset2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -817,11 +734,7 @@ public class Trace {
       filled.set(43);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      quadCost.put((byte) 0);
-    }
-    quadCost.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(quadCost, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -845,11 +758,7 @@ public class Trace {
       filled.set(45);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      size1Hi.put((byte) 0);
-    }
-    size1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(size1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -861,11 +770,7 @@ public class Trace {
       filled.set(46);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      size1Lo.put((byte) 0);
-    }
-    size1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(size1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -877,11 +782,7 @@ public class Trace {
       filled.set(47);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      size2Hi.put((byte) 0);
-    }
-    size2Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(size2Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -893,11 +794,7 @@ public class Trace {
       filled.set(48);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      size2Lo.put((byte) 0);
-    }
-    size2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(size2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -921,11 +818,7 @@ public class Trace {
       filled.set(50);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      words.put((byte) 0);
-    }
-    words.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(words, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -937,11 +830,7 @@ public class Trace {
       filled.set(51);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      wordsNew.put((byte) 0);
-    }
-    wordsNew.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(wordsNew, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -249,11 +250,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      data1.put((byte) 0);
-    }
-    data1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(data1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -265,11 +262,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      data2.put((byte) 0);
-    }
-    data2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(data2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -281,11 +274,7 @@ public class Trace {
       filled.set(5);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      data3.put((byte) 0);
-    }
-    data3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(data3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -297,11 +286,7 @@ public class Trace {
       filled.set(6);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      data4.put((byte) 0);
-    }
-    data4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(data4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -313,11 +298,7 @@ public class Trace {
       filled.set(7);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      data5.put((byte) 0);
-    }
-    data5.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(data5, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -329,11 +310,7 @@ public class Trace {
       filled.set(8);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      data6.put((byte) 0);
-    }
-    data6.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(data6, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -345,11 +322,7 @@ public class Trace {
       filled.set(9);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      data7.put((byte) 0);
-    }
-    data7.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(data7, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -361,11 +334,7 @@ public class Trace {
       filled.set(10);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      data8.put((byte) 0);
-    }
-    data8.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(data8, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -665,11 +634,7 @@ public class Trace {
       filled.set(35);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      oobInst.put((byte) 0);
-    }
-    oobInst.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(oobInst, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -681,11 +646,7 @@ public class Trace {
       filled.set(36);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      outgoingData1.put((byte) 0);
-    }
-    outgoingData1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(outgoingData1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -697,11 +658,7 @@ public class Trace {
       filled.set(37);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      outgoingData2.put((byte) 0);
-    }
-    outgoingData2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(outgoingData2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -713,11 +670,7 @@ public class Trace {
       filled.set(38);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      outgoingData3.put((byte) 0);
-    }
-    outgoingData3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(outgoingData3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -729,11 +682,7 @@ public class Trace {
       filled.set(39);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      outgoingData4.put((byte) 0);
-    }
-    outgoingData4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(outgoingData4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -757,11 +706,7 @@ public class Trace {
       filled.set(41);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      outgoingResLo.put((byte) 0);
-    }
-    outgoingResLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(outgoingResLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -140,11 +141,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc.put((byte) 0);
-    }
-    acc.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -180,11 +177,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addrLo.put((byte) 0);
-    }
-    addrLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(addrLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -256,11 +249,7 @@ public class Trace {
       filled.set(9);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      depAddrLo.put((byte) 0);
-    }
-    depAddrLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(depAddrLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -284,11 +273,7 @@ public class Trace {
       filled.set(11);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      kecHi.put((byte) 0);
-    }
-    kecHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(kecHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -300,11 +285,7 @@ public class Trace {
       filled.set(12);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      kecLo.put((byte) 0);
-    }
-    kecLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(kecLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -328,11 +309,7 @@ public class Trace {
       filled.set(14);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      limb.put((byte) 0);
-    }
-    limb.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(limb, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -356,11 +333,7 @@ public class Trace {
       filled.set(15);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      nonce.put((byte) 0);
-    }
-    nonce.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(nonce, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -372,11 +345,7 @@ public class Trace {
       filled.set(16);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      power.put((byte) 0);
-    }
-    power.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(power, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -388,11 +357,7 @@ public class Trace {
       filled.set(17);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rawAddrHi.put((byte) 0);
-    }
-    rawAddrHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(rawAddrHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -440,11 +405,7 @@ public class Trace {
       filled.set(21);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      saltHi.put((byte) 0);
-    }
-    saltHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(saltHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -456,11 +417,7 @@ public class Trace {
       filled.set(22);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      saltLo.put((byte) 0);
-    }
-    saltLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(saltLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -39,8 +39,10 @@ import static net.consensys.linea.zktracer.module.constants.GlobalConstants.RLP_
 import static net.consensys.linea.zktracer.module.constants.GlobalConstants.RLP_TXN_PHASE_VALUE;
 import static net.consensys.linea.zktracer.module.constants.GlobalConstants.RLP_TXN_PHASE_Y;
 import static net.consensys.linea.zktracer.module.rlputils.Pattern.byteCounting;
-import static net.consensys.linea.zktracer.module.rlputils.Pattern.innerRlpSize;
+import static net.consensys.linea.zktracer.module.rlputils.Pattern.bytesRlpSize;
+import static net.consensys.linea.zktracer.module.rlputils.Pattern.listRlpSize;
 import static net.consensys.linea.zktracer.module.rlputils.Pattern.outerRlpSize;
+import static net.consensys.linea.zktracer.module.rlputils.Pattern.scalarRlpSize;
 import static net.consensys.linea.zktracer.types.Conversions.bigIntegerToBytes;
 import static net.consensys.linea.zktracer.types.Conversions.longToUnsignedBigInteger;
 import static net.consensys.linea.zktracer.types.TransactionUtils.getChainIdFromTransaction;
@@ -50,6 +52,7 @@ import static net.consensys.linea.zktracer.types.Utils.rightPadTo;
 import static org.hyperledger.besu.ethereum.core.encoding.EncodingContext.BLOCK_BODY;
 import static org.hyperledger.besu.ethereum.core.encoding.TransactionEncoder.encodeOpaqueBytes;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigInteger;
 import java.nio.MappedByteBuffer;
 import java.util.ArrayList;
@@ -96,10 +99,16 @@ public class RlpTxn implements Module {
 
   public final StackedList<RlpTxnChunk> chunkList = new StackedList<>();
 
+  /**
+   * Whether the RLPs reconstructed from the traced limbs are checked against the ones encoded by
+   * Besu; only when assertions are enabled, e.g. in tests.
+   */
+  private static final boolean VERIFY_RECONSTRUCTION = RlpTxn.class.desiredAssertionStatus();
+
   // Used to check the reconstruction of RLPs
-  Bytes reconstructedRlpLt;
+  private ByteArrayOutputStream reconstructedRlpLt;
 
-  Bytes reconstructedRlpLx;
+  private ByteArrayOutputStream reconstructedRlpLx;
 
   @Override
   public void enterTransaction() {
@@ -146,67 +155,12 @@ public class RlpTxn implements Module {
             : 0;
     traceValue.txType = getTxTypeAsInt(chunk.tx().getType());
 
-    // Initialise RLP_LT and RLP_LX byte size + verify that we construct the right RLP
-    this.reconstructedRlpLt = Bytes.EMPTY;
-    this.reconstructedRlpLx = Bytes.EMPTY;
-    Bytes besuRlpLt =
-        encodeOpaqueBytes((org.hyperledger.besu.ethereum.core.Transaction) chunk.tx(), BLOCK_BODY);
-    // the encodeOpaqueBytes method already concatenate with the first byte "transaction  type"
-    if (traceValue.txType == 0) {
-      traceValue.rlpLtByteSize = innerRlpSize(besuRlpLt.size());
-    } else {
-      traceValue.rlpLtByteSize = innerRlpSize(besuRlpLt.size() - 1);
-    }
-
-    Bytes besuRlpLx;
-    switch (traceValue.txType) {
-      case 0 -> {
-        besuRlpLx =
-            frontierPreimage(
-                chunk.tx().getNonce(),
-                (Wei) chunk.tx().getGasPrice().orElseThrow(),
-                chunk.tx().getGasLimit(),
-                chunk.tx().getTo().map(x -> (Address) x),
-                (Wei) chunk.tx().getValue(),
-                chunk.tx().getPayload(),
-                chunk.tx().getChainId());
-        traceValue.rlpLxByteSize = innerRlpSize(besuRlpLx.size());
-      }
-      case 1 -> {
-        List<AccessListEntry> accessList = null;
-        if (chunk.tx().getAccessList().isPresent()) {
-          accessList = chunk.tx().getAccessList().orElseThrow();
-        }
-        besuRlpLx =
-            accessListPreimage(
-                chunk.tx().getNonce(),
-                (Wei) chunk.tx().getGasPrice().orElseThrow(),
-                chunk.tx().getGasLimit(),
-                chunk.tx().getTo().map(x -> (Address) x),
-                (Wei) chunk.tx().getValue(),
-                chunk.tx().getPayload(),
-                accessList,
-                chunk.tx().getChainId());
-        // the innerRlp method already concatenate with the first byte "transaction  type"
-        traceValue.rlpLxByteSize = innerRlpSize(besuRlpLx.size() - 1);
-      }
-      case 2 -> {
-        besuRlpLx =
-            eip1559Preimage(
-                chunk.tx().getNonce(),
-                (Wei) chunk.tx().getMaxPriorityFeePerGas().orElseThrow(),
-                (Wei) chunk.tx().getMaxFeePerGas().orElseThrow(),
-                chunk.tx().getGasLimit(),
-                chunk.tx().getTo().map(x -> (Address) x),
-                (Wei) chunk.tx().getValue(),
-                chunk.tx().getPayload(),
-                chunk.tx().getChainId(),
-                chunk.tx().getAccessList());
-        // the innerRlp method already concatenate with the first byte "transaction  type"
-        traceValue.rlpLxByteSize = innerRlpSize(besuRlpLx.size() - 1);
-      }
-      default -> throw new IllegalStateException(
-          "Transaction Type not supported: " + traceValue.txType);
+    // Initialise RLP_LT and RLP_LX byte size, computed from the transaction fields
+    traceValue.rlpLtByteSize = rlpLtPayloadSize(chunk.tx());
+    traceValue.rlpLxByteSize = rlpLxPayloadSize(chunk.tx());
+    if (VERIFY_RECONSTRUCTION) {
+      this.reconstructedRlpLt = new ByteArrayOutputStream();
+      this.reconstructedRlpLx = new ByteArrayOutputStream();
     }
 
     // Phase Global RLP prefix
@@ -306,10 +260,106 @@ public class RlpTxn implements Module {
     // Phase S
     handle32BytesInteger(traceValue, RLP_TXN_PHASE_S, chunk.tx().getS(), trace);
 
+    if (VERIFY_RECONSTRUCTION) {
+      verifyReconstruction(chunk.tx());
+    }
+  }
+
+  /**
+   * Checks the RLPs reconstructed from the traced limbs against the ones encoded by Besu. Only
+   * performed when assertions are enabled, as Besu has to encode the transaction again.
+   */
+  private void verifyReconstruction(Transaction tx) {
+    final Bytes besuRlpLt =
+        encodeOpaqueBytes((org.hyperledger.besu.ethereum.core.Transaction) tx, BLOCK_BODY);
+    final Bytes besuRlpLx =
+        switch (tx.getType()) {
+          case FRONTIER -> frontierPreimage(
+              tx.getNonce(),
+              (Wei) tx.getGasPrice().orElseThrow(),
+              tx.getGasLimit(),
+              tx.getTo().map(x -> (Address) x),
+              (Wei) tx.getValue(),
+              tx.getPayload(),
+              tx.getChainId());
+          case ACCESS_LIST -> accessListPreimage(
+              tx.getNonce(),
+              (Wei) tx.getGasPrice().orElseThrow(),
+              tx.getGasLimit(),
+              tx.getTo().map(x -> (Address) x),
+              (Wei) tx.getValue(),
+              tx.getPayload(),
+              tx.getAccessList().orElse(null),
+              tx.getChainId());
+          case EIP1559 -> eip1559Preimage(
+              tx.getNonce(),
+              (Wei) tx.getMaxPriorityFeePerGas().orElseThrow(),
+              (Wei) tx.getMaxFeePerGas().orElseThrow(),
+              tx.getGasLimit(),
+              tx.getTo().map(x -> (Address) x),
+              (Wei) tx.getValue(),
+              tx.getPayload(),
+              tx.getChainId(),
+              tx.getAccessList());
+          default -> throw new IllegalStateException(
+              "Transaction Type not supported: " + tx.getType());
+        };
+
     Preconditions.checkArgument(
-        this.reconstructedRlpLt.equals(besuRlpLt), "Reconstructed RLP LT and Besu RLP LT differ");
+        Bytes.wrap(this.reconstructedRlpLt.toByteArray()).equals(besuRlpLt),
+        "Reconstructed RLP LT and Besu RLP LT differ");
     Preconditions.checkArgument(
-        this.reconstructedRlpLx.equals(besuRlpLx), "Reconstructed RLP LX and Besu RLP LX differ");
+        Bytes.wrap(this.reconstructedRlpLx.toByteArray()).equals(besuRlpLx),
+        "Reconstructed RLP LX and Besu RLP LX differ");
+  }
+
+  /** Returns the size of the payload of the RLP list of the signed transaction, i.e. RLP_LT. */
+  private static int rlpLtPayloadSize(Transaction tx) {
+    final int signatureSize =
+        scalarRlpSize(tx.getType() == TransactionType.FRONTIER ? tx.getV() : tx.getYParity())
+            + scalarRlpSize(tx.getR())
+            + scalarRlpSize(tx.getS());
+    return commonFieldsRlpSize(tx) + signatureSize;
+  }
+
+  /** Returns the size of the payload of the RLP list of the signed message, i.e. RLP_LX. */
+  private static int rlpLxPayloadSize(Transaction tx) {
+    if (tx.getType() == TransactionType.FRONTIER && tx.getChainId().isPresent()) {
+      // EIP-155: the chain id followed by two zeros
+      return commonFieldsRlpSize(tx) + scalarRlpSize(tx.getChainId().get()) + 2;
+    }
+    return commonFieldsRlpSize(tx);
+  }
+
+  /** Returns the size of the RLP encoding of the fields shared by RLP_LT and RLP_LX. */
+  private static int commonFieldsRlpSize(Transaction tx) {
+    int size = 0;
+    if (tx.getType() != TransactionType.FRONTIER) {
+      size += scalarRlpSize(tx.getChainId().orElseThrow());
+    }
+    size += scalarRlpSize(longToUnsignedBigInteger(tx.getNonce()));
+    if (tx.getType() == TransactionType.EIP1559) {
+      size += scalarRlpSize(tx.getMaxPriorityFeePerGas().orElseThrow().getAsBigInteger());
+      size += scalarRlpSize(tx.getMaxFeePerGas().orElseThrow().getAsBigInteger());
+    } else {
+      size += scalarRlpSize(tx.getGasPrice().orElseThrow().getAsBigInteger());
+    }
+    size += scalarRlpSize(BigInteger.valueOf(tx.getGasLimit()));
+    size += bytesRlpSize(tx.getTo().map(Bytes::copy).orElse(Bytes.EMPTY));
+    size += scalarRlpSize(tx.getValue().getAsBigInteger());
+    size += bytesRlpSize(tx.getPayload());
+    if (tx.getType() != TransactionType.FRONTIER) {
+      int accessListSize = 0;
+      for (AccessListEntry entry : tx.getAccessList().orElse(List.of())) {
+        final int storageKeyRlpSize = Bytes32.SIZE + 1;
+        accessListSize +=
+            listRlpSize(
+                bytesRlpSize(entry.address())
+                    + listRlpSize(storageKeyRlpSize * entry.storageKeys().size()));
+      }
+      size += listRlpSize(accessListSize);
+    }
+    return size;
   }
 
   // Define each phase's constraints
@@ -1188,13 +1238,14 @@ public class RlpTxn implements Module {
     builder.validateRow();
 
     // reconstruct RLPs
-    if (traceValue.limbConstructed && traceValue.lt) {
-      this.reconstructedRlpLt =
-          Bytes.concatenate(this.reconstructedRlpLt, traceValue.limb.slice(0, traceValue.nBytes));
-    }
-    if (traceValue.limbConstructed && traceValue.lx) {
-      this.reconstructedRlpLx =
-          Bytes.concatenate(this.reconstructedRlpLx, traceValue.limb.slice(0, traceValue.nBytes));
+    if (VERIFY_RECONSTRUCTION && traceValue.limbConstructed) {
+      final byte[] limb = traceValue.limb.slice(0, traceValue.nBytes).toArrayUnsafe();
+      if (traceValue.lt) {
+        this.reconstructedRlpLt.writeBytes(limb);
+      }
+      if (traceValue.lx) {
+        this.reconstructedRlpLx.writeBytes(limb);
+      }
     }
   }
 
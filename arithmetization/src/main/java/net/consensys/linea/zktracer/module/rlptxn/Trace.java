@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -261,11 +262,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc1.put((byte) 0);
-    }
-    acc1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -277,11 +274,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc2.put((byte) 0);
-    }
-    acc2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -329,11 +322,7 @@ public class Trace {
       filled.set(7);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addrLo.put((byte) 0);
-    }
-    addrLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(addrLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -429,11 +418,7 @@ public class Trace {
       filled.set(15);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      dataHi.put((byte) 0);
-    }
-    dataHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(dataHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -445,11 +430,7 @@ public class Trace {
       filled.set(16);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      dataLo.put((byte) 0);
-    }
-    dataLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(dataLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -533,11 +514,7 @@ public class Trace {
       filled.set(23);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      input1.put((byte) 0);
-    }
-    input1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(input1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -549,11 +526,7 @@ public class Trace {
       filled.set(24);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      input2.put((byte) 0);
-    }
-    input2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(input2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -769,11 +742,7 @@ public class Trace {
       filled.set(42);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      limb.put((byte) 0);
-    }
-    limb.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(limb, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -917,11 +886,7 @@ public class Trace {
       filled.set(49);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      power.put((byte) 0);
-    }
-    power.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(power, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -242,11 +243,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc1.put((byte) 0);
-    }
-    acc1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -258,11 +255,7 @@ public class Trace {
       filled.set(5);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc2.put((byte) 0);
-    }
-    acc2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -274,11 +267,7 @@ public class Trace {
       filled.set(6);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc3.put((byte) 0);
-    }
-    acc3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -290,11 +279,7 @@ public class Trace {
       filled.set(7);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc4.put((byte) 0);
-    }
-    acc4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -450,11 +435,7 @@ public class Trace {
       filled.set(20);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      input1.put((byte) 0);
-    }
-    input1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(input1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -466,11 +447,7 @@ public class Trace {
       filled.set(21);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      input2.put((byte) 0);
-    }
-    input2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(input2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -482,11 +459,7 @@ public class Trace {
       filled.set(22);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      input3.put((byte) 0);
-    }
-    input3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(input3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -498,11 +471,7 @@ public class Trace {
       filled.set(23);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      input4.put((byte) 0);
-    }
-    input4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(input4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -562,11 +531,7 @@ public class Trace {
       filled.set(28);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      limb.put((byte) 0);
-    }
-    limb.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(limb, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -734,11 +699,7 @@ public class Trace {
       filled.set(40);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      power.put((byte) 0);
-    }
-    power.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(power, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -15,6 +15,8 @@
 
 package net.consensys.linea.zktracer.module.rlputils;
 
+import static net.consensys.linea.zktracer.module.constants.GlobalConstants.RLP_PREFIX_INT_SHORT;
+
 import java.math.BigInteger;
 import java.util.ArrayList;
 
@@ -105,4 +107,35 @@ public class Pattern {
     }
     return output;
   }
+
+  /** Returns the size of the RLP encoding of the given (non-negative) integer scalar. */
+  public static int scalarRlpSize(BigInteger value) {
+    if (value.signum() == 0) {
+      return 1;
+    }
+    final int byteSize = (value.bitLength() + 7) / 8;
+    if (byteSize == 1 && value.intValue() < RLP_PREFIX_INT_SHORT) {
+      return 1;
+    }
+    return prefixRlpSize(byteSize) + byteSize;
+  }
+
+  /** Returns the size of the RLP encoding of the given byte string. */
+  public static int bytesRlpSize(Bytes bytes) {
+    if (bytes.size() == 1 && (bytes.get(0) & 0xff) < RLP_PREFIX_INT_SHORT) {
+      return 1;
+    }
+    return prefixRlpSize(bytes.size()) + bytes.size();
+  }
+
+  /**
+   * Returns the size of the RLP encoding of a list whose items are encoded on payloadSize bytes.
+   */
+  public static int listRlpSize(int payloadSize) {
+    return prefixRlpSize(payloadSize) + payloadSize;
+  }
+
+  private static int prefixRlpSize(int payloadSize) {
+    return payloadSize < 56 ? 1 : 1 + Bytes.minimalBytes(payloadSize).size();
+  }
 }
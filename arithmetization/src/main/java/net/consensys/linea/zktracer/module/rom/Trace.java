@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -126,11 +127,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc.put((byte) 0);
-    }
-    acc.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -274,11 +271,7 @@ public class Trace {
       filled.set(12);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      limb.put((byte) 0);
-    }
-    limb.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(limb, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -374,11 +367,7 @@ public class Trace {
       filled.set(18);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      pushValueAcc.put((byte) 0);
-    }
-    pushValueAcc.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(pushValueAcc, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -390,11 +379,7 @@ public class Trace {
       filled.set(19);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      pushValueHi.put((byte) 0);
-    }
-    pushValueHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(pushValueHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -406,11 +391,7 @@ public class Trace {
       filled.set(20);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      pushValueLo.put((byte) 0);
-    }
-    pushValueLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(pushValueLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
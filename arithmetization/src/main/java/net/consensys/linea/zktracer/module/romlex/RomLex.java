@@ -29,6 +29,7 @@ import java.util.Optional;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.container.stacked.set.SortedStackedSet;
 import net.consensys.linea.zktracer.container.stacked.set.StackedSet;
 import net.consensys.linea.zktracer.module.Module;
 import net.consensys.linea.zktracer.module.hub.Hub;
@@ -39,6 +40,7 @@ import org.hyperledger.besu.datatypes.Transaction;
 import org.hyperledger.besu.evm.account.AccountState;
 import org.hyperledger.besu.evm.frame.MessageFrame;
 import org.hyperledger.besu.evm.internal.Words;
+import org.hyperledger.besu.evm.log.Log;
 import org.hyperledger.besu.evm.worldstate.WorldView;
 
 @Accessors(fluent = true)
@@ -47,8 +49,13 @@ public class RomLex implements Module {
 
   private final Hub hub;
 
-  @Getter private final StackedSet<RomChunk> chunks = new StackedSet<>();
+  @Getter private final SortedStackedSet<RomChunk> chunks =
+      new SortedStackedSet<>(ROM_CHUNK_COMPARATOR);
   @Getter private final List<RomChunk> sortedChunks = new ArrayList<>();
+
+  /** The code fragment index of every chunk, filled alongside {@link #sortedChunks} */
+  private final Map<ContractMetadata, Integer> cfiByMetadata = new HashMap<>();
+
   @Getter private final Map<Address, RomChunk> addressRomChunkMap = new HashMap<>();
   private Bytes byteCode = Bytes.EMPTY;
   private Address address = Address.ZERO;
@@ -79,14 +86,12 @@ public class RomLex implements Module {
       throw new RuntimeException("Chunks have not been sorted yet");
     }
 
-    for (int i = 0; i < this.sortedChunks.size(); i++) {
-      final RomChunk c = this.sortedChunks.get(i);
-      if (c.metadata().equals(metadata)) {
-        return i + 1;
-      }
+    final Integer cfi = this.cfiByMetadata.get(metadata);
+    if (cfi == null) {
+      throw new RuntimeException("RomChunk not found");
     }
 
-    throw new RuntimeException("RomChunk not found");
+    return cfi;
   }
 
   public Optional<RomChunk> getChunkByMetadata(final ContractMetadata metadata) {
@@ -94,13 +99,8 @@ public class RomLex implements Module {
       throw new RuntimeException("Chunks have not been sorted yet");
     }
 
-    for (RomChunk c : this.chunks) {
-      if (c.metadata().equals(metadata)) {
-        return Optional.of(c);
-      }
-    }
-
-    return Optional.empty();
+    return Optional.ofNullable(this.cfiByMetadata.get(metadata))
+        .map(cfi -> this.sortedChunks.get(cfi - 1));
   }
 
   @Override
@@ -275,10 +275,23 @@ public class RomLex implements Module {
         .validateRow();
   }
 
+  @Override
+  public void traceEndTx(
+      WorldView worldView,
+      Transaction tx,
+      boolean isSuccessful,
+      Bytes output,
+      List<Log> logs,
+      long gasUsed) {
+    this.chunks.seal();
+  }
+
   @Override
   public void traceEndConflation(final WorldView state) {
-    this.sortedChunks.addAll(this.chunks);
-    this.sortedChunks.sort(ROM_CHUNK_COMPARATOR);
+    this.chunks.sorted().forEach(this.sortedChunks::add);
+    for (int i = 0; i < this.sortedChunks.size(); i++) {
+      this.cfiByMetadata.put(this.sortedChunks.get(i).metadata(), i + 1);
+    }
   }
 
   @Override
@@ -305,4 +318,9 @@ public class RomLex implements Module {
       traceChunk(chunk, cfi, codeFragmentIndexInfinity, trace);
     }
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.chunks);
+  }
 }
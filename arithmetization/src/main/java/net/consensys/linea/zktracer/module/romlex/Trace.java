@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import org.apache.tuweni.bytes.Bytes;
 
 /**
@@ -101,11 +102,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      addressLo.put((byte) 0);
-    }
-    addressLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(addressLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -141,11 +138,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashHi.put((byte) 0);
-    }
-    codeHashHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(codeHashHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -157,11 +150,7 @@ public class Trace {
       filled.set(5);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      codeHashLo.put((byte) 0);
-    }
-    codeHashLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(codeHashLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -16,28 +16,40 @@
 package net.consensys.linea.zktracer.module.shakiradata;
 
 import static net.consensys.linea.zktracer.module.constants.GlobalConstants.LLARGE;
+import static net.consensys.linea.zktracer.module.constants.GlobalConstants.WORD_SIZE;
 
 import java.nio.MappedByteBuffer;
-import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.container.stacked.set.SortedStackedSet;
 import net.consensys.linea.zktracer.container.stacked.set.StackedSet;
 import net.consensys.linea.zktracer.module.Module;
+import net.consensys.linea.zktracer.module.hub.Hub;
 import net.consensys.linea.zktracer.module.wcp.Wcp;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.datatypes.Transaction;
+import org.hyperledger.besu.evm.frame.MessageFrame;
 import org.hyperledger.besu.evm.log.Log;
 import org.hyperledger.besu.evm.worldstate.WorldView;
 
 @RequiredArgsConstructor
 public class ShakiraData implements Module {
   private final Wcp wcp;
-  private final StackedSet<ShakiraDataOperation> operations = new StackedSet<>();
-  private final List<ShakiraDataOperation> sortedOperations = new ArrayList<>();
-  private int numberOfOperationsAtStartTx = 0;
-  private final ShakiraDataComparator comparator = new ShakiraDataComparator();
+  private final SortedStackedSet<ShakiraDataOperation> operations =
+      new SortedStackedSet<>(new ShakiraDataComparator());
+
+  /** The hashing precompile call whose digest is to be read once its caller resumes */
+  private ShakiraDataOperation pendingPrecompile;
+
+  /** The frame which called {@link #pendingPrecompile} */
+  private MessageFrame pendingPrecompileCaller;
 
   @Override
   public String moduleKey() {
@@ -51,7 +63,6 @@ public class ShakiraData implements Module {
 
   @Override
   public void popTransaction() {
-    this.sortedOperations.removeAll(this.operations.sets.getLast());
     this.operations.pop();
   }
 
@@ -72,9 +83,40 @@ public class ShakiraData implements Module {
     this.wcp.callLEQ(operation.lastNBytes(), LLARGE);
   }
 
-  @Override
-  public void traceStartTx(WorldView worldView, Transaction tx) {
-    this.numberOfOperationsAtStartTx = operations.size();
+  /**
+   * Register a call to a hashing precompile, whose digest will be read from the return data once
+   * the caller resumes, see {@link #capturePrecompileResult(MessageFrame)}.
+   *
+   * @param hub the {@link Hub} executing the call
+   * @param operation the hashing of the call data
+   */
+  public void callPrecompile(final Hub hub, final ShakiraDataOperation operation) {
+    this.call(operation);
+    this.pendingPrecompile = operation;
+    this.pendingPrecompileCaller = hub.currentFrame().frame();
+  }
+
+  /**
+   * Read the digest of the latest hashing precompile call, if any, from the return data of its
+   * caller. Must be called before each instruction: the precompile has only been executed once the
+   * instruction following the CALL starts, and the CALL success flag is then on top of the stack.
+   * If the caller does not resume, e.g. the CALL was its last instruction, the digest is computed
+   * at commit time instead.
+   *
+   * @param frame the frame about to execute an instruction
+   */
+  public void capturePrecompileResult(final MessageFrame frame) {
+    if (this.pendingPrecompile == null) {
+      return;
+    }
+
+    if (frame == this.pendingPrecompileCaller
+        && !frame.getStackItem(0).isZero()
+        && frame.getReturnData().size() == WORD_SIZE) {
+      this.pendingPrecompile.result(frame.getReturnData());
+    }
+    this.pendingPrecompile = null;
+    this.pendingPrecompileCaller = null;
   }
 
   @Override
@@ -85,14 +127,10 @@ public class ShakiraData implements Module {
       Bytes output,
       List<Log> logs,
       long gasUsed) {
-    final List<ShakiraDataOperation> newOperations =
-        new ArrayList<>(this.operations.sets.getLast());
-    newOperations.sort(comparator);
-    this.sortedOperations.addAll(newOperations);
-    final int numberOfOperationsAtEndTx = sortedOperations.size();
-    for (int i = numberOfOperationsAtStartTx; i < numberOfOperationsAtEndTx; i++) {
-      final long previousID = i == 0 ? 0 : sortedOperations.get(i - 1).ID();
-      this.wcp.callLT(previousID, sortedOperations.get(i).ID());
+    long previousID = this.operations.lastSealed().map(ShakiraDataOperation::ID).orElse(0L);
+    for (ShakiraDataOperation operation : this.operations.seal()) {
+      this.wcp.callLT(previousID, operation.ID());
+      previousID = operation.ID();
     }
   }
 
@@ -103,10 +141,19 @@ public class ShakiraData implements Module {
     /* WARN: do not remove, the lookup HUB -> SHAKIRA requires at least two padding rows. TODO: should be done by Corset*/
     trace.fillAndValidateRow();
 
+    // Identical preimages are frequent, e.g. the same initcode deployed many times
+    final Map<ShakiraPrecompileType, Map<Bytes, Bytes32>> digests =
+        new EnumMap<>(ShakiraPrecompileType.class);
     int stamp = 0;
-    for (ShakiraDataOperation operation : sortedOperations) {
+    for (ShakiraDataOperation operation : this.operations.sorted()) {
       stamp++;
-      operation.trace(trace, stamp);
+      operation.trace(
+          trace, stamp, digests.computeIfAbsent(operation.precompileType(), t -> new HashMap<>()));
     }
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.operations);
+  }
 }
@@ -30,6 +30,9 @@ import static net.consensys.linea.zktracer.module.shakiradata.ShakiraPrecompileT
 import static net.consensys.linea.zktracer.module.shakiradata.Trace.INDEX_MAX_RESULT;
 import static net.consensys.linea.zktracer.types.Utils.rightPadTo;
 
+import java.util.Map;
+
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 import net.consensys.linea.zktracer.container.ModuleOperation;
@@ -41,12 +44,15 @@ import org.hyperledger.besu.crypto.Hash;
 @Accessors(fluent = true)
 public class ShakiraDataOperation extends ModuleOperation {
 
-  private final ShakiraPrecompileType precompileType;
+  @Getter private final ShakiraPrecompileType precompileType;
   private final Bytes hashInput;
   @Getter private final long ID;
   private final int inputSize;
   @Getter private final short lastNBytes;
   private final int indexMaxData;
+
+  /** The digest, if it has already been computed by the EVM */
+  @Getter(AccessLevel.PACKAGE)
   private Bytes32 result;
 
   public ShakiraDataOperation(
@@ -65,9 +71,25 @@ public class ShakiraDataOperation extends ModuleOperation {
     return indexMaxData + 1 + INDEX_MAX_RESULT + 1;
   }
 
-  void trace(Trace trace, final int stamp) {
+  /**
+   * Record the digest as computed by the EVM, so that it does not have to be computed again.
+   *
+   * @param result the digest of the hash input
+   */
+  public void result(final Bytes result) {
+    this.result = Bytes32.leftPad(result);
+  }
 
-    this.result = Bytes32.leftPad(this.computeResult());
+  /**
+   * @param digests the digests already known for the preimages hashed by the same function
+   */
+  void trace(Trace trace, final int stamp, final Map<Bytes, Bytes32> digests) {
+    if (this.result == null) {
+      this.result =
+          digests.computeIfAbsent(this.hashInput, x -> Bytes32.leftPad(this.computeResult()));
+    } else {
+      digests.putIfAbsent(this.hashInput, this.result);
+    }
     traceData(trace, stamp);
     traceResult(trace, stamp);
   }
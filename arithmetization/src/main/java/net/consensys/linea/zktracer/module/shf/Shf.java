@@ -17,6 +17,7 @@ package net.consensys.linea.zktracer.module.shf;
 
 import java.nio.MappedByteBuffer;
 import java.util.List;
+import java.util.Optional;
 
 import net.consensys.linea.zktracer.ColumnHeader;
 import net.consensys.linea.zktracer.container.stacked.set.StackedSet;
@@ -71,4 +72,9 @@ public class Shf implements Module {
   public int lineCount() {
     return this.operations.lineCount();
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.operations);
+  }
 }
@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -210,11 +211,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc1.put((byte) 0);
-    }
-    acc1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -226,11 +223,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc2.put((byte) 0);
-    }
-    acc2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -242,11 +235,7 @@ public class Trace {
       filled.set(2);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc3.put((byte) 0);
-    }
-    acc3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -258,11 +247,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc4.put((byte) 0);
-    }
-    acc4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -274,11 +259,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc5.put((byte) 0);
-    }
-    acc5.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc5, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -290,11 +271,7 @@ public class Trace {
       filled.set(5);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg1Hi.put((byte) 0);
-    }
-    arg1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -306,11 +283,7 @@ public class Trace {
       filled.set(6);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg1Lo.put((byte) 0);
-    }
-    arg1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -322,11 +295,7 @@ public class Trace {
       filled.set(7);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg2Hi.put((byte) 0);
-    }
-    arg2Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg2Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -338,11 +307,7 @@ public class Trace {
       filled.set(8);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg2Lo.put((byte) 0);
-    }
-    arg2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -606,11 +571,7 @@ public class Trace {
       filled.set(30);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      low3.put((byte) 0);
-    }
-    low3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(low3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -670,11 +631,7 @@ public class Trace {
       filled.set(35);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      resHi.put((byte) 0);
-    }
-    resHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(resHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -686,11 +643,7 @@ public class Trace {
       filled.set(36);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      resLo.put((byte) 0);
-    }
-    resLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(resLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -726,11 +679,7 @@ public class Trace {
       filled.set(39);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      shb3Hi.put((byte) 0);
-    }
-    shb3Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(shb3Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -742,11 +691,7 @@ public class Trace {
       filled.set(40);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      shb3Lo.put((byte) 0);
-    }
-    shb3Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(shb3Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -758,11 +703,7 @@ public class Trace {
       filled.set(41);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      shb4Hi.put((byte) 0);
-    }
-    shb4Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(shb4Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -774,11 +715,7 @@ public class Trace {
       filled.set(42);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      shb4Lo.put((byte) 0);
-    }
-    shb4Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(shb4Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -790,11 +727,7 @@ public class Trace {
       filled.set(43);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      shb5Hi.put((byte) 0);
-    }
-    shb5Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(shb5Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -806,11 +739,7 @@ public class Trace {
       filled.set(44);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      shb5Lo.put((byte) 0);
-    }
-    shb5Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(shb5Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -822,11 +751,7 @@ public class Trace {
       filled.set(45);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      shb6Hi.put((byte) 0);
-    }
-    shb6Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(shb6Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -838,11 +763,7 @@ public class Trace {
       filled.set(46);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      shb6Lo.put((byte) 0);
-    }
-    shb6Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(shb6Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -854,11 +775,7 @@ public class Trace {
       filled.set(47);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      shb7Hi.put((byte) 0);
-    }
-    shb7Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(shb7Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -870,11 +787,7 @@ public class Trace {
       filled.set(48);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      shb7Lo.put((byte) 0);
-    }
-    shb7Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(shb7Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -21,6 +21,7 @@ import static net.consensys.linea.zktracer.types.Conversions.longToBytes32;
 
 import java.nio.MappedByteBuffer;
 import java.util.List;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import net.consensys.linea.zktracer.ColumnHeader;
@@ -218,4 +219,9 @@ public class Stp implements Module {
       chunk.trace(trace, stamp);
     }
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.chunks);
+  }
 }
@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -144,11 +145,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg1Hi.put((byte) 0);
-    }
-    arg1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -160,11 +157,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg1Lo.put((byte) 0);
-    }
-    arg1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -176,11 +169,7 @@ public class Trace {
       filled.set(2);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      arg2Lo.put((byte) 0);
-    }
-    arg2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(arg2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -240,11 +229,7 @@ public class Trace {
       filled.set(7);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasActual.put((byte) 0);
-    }
-    gasActual.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasActual, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -256,11 +241,7 @@ public class Trace {
       filled.set(8);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasHi.put((byte) 0);
-    }
-    gasHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -272,11 +253,7 @@ public class Trace {
       filled.set(9);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasLo.put((byte) 0);
-    }
-    gasLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -288,11 +265,7 @@ public class Trace {
       filled.set(10);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasMxp.put((byte) 0);
-    }
-    gasMxp.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasMxp, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -304,11 +277,7 @@ public class Trace {
       filled.set(11);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasOutOfPocket.put((byte) 0);
-    }
-    gasOutOfPocket.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasOutOfPocket, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -320,11 +289,7 @@ public class Trace {
       filled.set(12);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasStipend.put((byte) 0);
-    }
-    gasStipend.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasStipend, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -336,11 +301,7 @@ public class Trace {
       filled.set(13);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasUpfront.put((byte) 0);
-    }
-    gasUpfront.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasUpfront, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -460,11 +421,7 @@ public class Trace {
       filled.set(23);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      resLo.put((byte) 0);
-    }
-    resLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(resLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -488,11 +445,7 @@ public class Trace {
       filled.set(25);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      valHi.put((byte) 0);
-    }
-    valHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(valHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -504,11 +457,7 @@ public class Trace {
       filled.set(26);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      valLo.put((byte) 0);
-    }
-    valLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(valLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -0,0 +1,124 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.module.tables;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
+import net.consensys.linea.zktracer.module.Module;
+
+/**
+ * Wraps a reference table, whose content never changes, so that it is only generated once.
+ *
+ * <p>The first commit traces the table into a scratch file and keeps an image of every column; all
+ * the commits then bulk-copy these images in the trace file.
+ */
+public final class CachedReferenceTable implements Module {
+  private final Module table;
+
+  /** The content of every column of the table, once generated */
+  private volatile List<byte[]> columns;
+
+  public CachedReferenceTable(final Module table) {
+    this.table = table;
+  }
+
+  @Override
+  public String moduleKey() {
+    return this.table.moduleKey();
+  }
+
+  @Override
+  public void enterTransaction() {}
+
+  @Override
+  public void popTransaction() {}
+
+  @Override
+  public int lineCount() {
+    return this.table.lineCount();
+  }
+
+  @Override
+  public List<ColumnHeader> columnsHeaders() {
+    return this.table.columnsHeaders();
+  }
+
+  @Override
+  public void commit(List<MappedByteBuffer> buffers) {
+    final List<byte[]> columns = this.columns();
+    for (int i = 0; i < columns.size(); i++) {
+      buffers.get(i).put(0, columns.get(i));
+    }
+  }
+
+  private List<byte[]> columns() {
+    List<byte[]> r = this.columns;
+    if (r == null) {
+      synchronized (this) {
+        r = this.columns;
+        if (r == null) {
+          r = this.generate();
+          this.columns = r;
+        }
+      }
+    }
+    return r;
+  }
+
+  private List<byte[]> generate() {
+    final List<ColumnHeader> headers = this.table.columnsHeaders();
+    final long size = headers.stream().mapToLong(ColumnHeader::dataSize).sum();
+
+    try {
+      final Path scratch = Files.createTempFile(this.moduleKey(), ".bin");
+      try (FileChannel channel =
+          FileChannel.open(
+              scratch,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.DELETE_ON_CLOSE)) {
+        if (size > 0) {
+          // Extending the file zero-fills it, as expected by the generated Trace classes
+          channel.write(ByteBuffer.allocate(1), size - 1);
+        }
+
+        final List<MappedByteBuffer> buffers = TraceColumns.map(channel, 0, headers);
+        this.table.commit(buffers);
+
+        final List<byte[]> r = new ArrayList<>(buffers.size());
+        for (MappedByteBuffer buffer : buffers) {
+          final byte[] column = new byte[buffer.capacity()];
+          buffer.get(0, column);
+          r.add(column);
+        }
+        return List.copyOf(r);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
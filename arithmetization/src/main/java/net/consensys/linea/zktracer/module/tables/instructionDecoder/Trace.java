@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -336,11 +337,7 @@ public class Trace {
       filled.set(2);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      billingPerByte.put((byte) 0);
-    }
-    billingPerByte.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(billingPerByte, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -352,11 +349,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      billingPerWord.put((byte) 0);
-    }
-    billingPerWord.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(billingPerWord, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -848,11 +841,7 @@ public class Trace {
       filled.set(44);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      opcode.put((byte) 0);
-    }
-    opcode.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(opcode, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1320,11 +1309,7 @@ public class Trace {
       filled.set(83);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      staticGas.put((byte) 0);
-    }
-    staticGas.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(staticGas, b.toArrayUnsafe(), 32);
 
     return this;
   }
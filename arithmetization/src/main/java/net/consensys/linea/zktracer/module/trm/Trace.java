@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -96,11 +97,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accHi.put((byte) 0);
-    }
-    accHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -112,11 +109,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      accLo.put((byte) 0);
-    }
-    accLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(accLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -212,11 +205,7 @@ public class Trace {
       filled.set(9);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rawAddressHi.put((byte) 0);
-    }
-    rawAddressHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(rawAddressHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -228,11 +217,7 @@ public class Trace {
       filled.set(10);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      rawAddressLo.put((byte) 0);
-    }
-    rawAddressLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(rawAddressLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
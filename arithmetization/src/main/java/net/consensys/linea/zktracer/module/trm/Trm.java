@@ -20,6 +20,7 @@ import static net.consensys.linea.zktracer.module.constants.GlobalConstants.LLAR
 import java.math.BigInteger;
 import java.nio.MappedByteBuffer;
 import java.util.List;
+import java.util.Optional;
 
 import net.consensys.linea.zktracer.ColumnHeader;
 import net.consensys.linea.zktracer.container.stacked.set.StackedSet;
@@ -119,4 +120,9 @@ public class Trm implements Module {
   public int lineCount() {
     return this.trimmings.lineCount();
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.trimmings);
+  }
 }
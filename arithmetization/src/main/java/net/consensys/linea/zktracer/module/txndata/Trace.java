@@ -21,6 +21,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -565,11 +566,7 @@ public class Trace {
       filled.set(2);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      argOneLo.put((byte) 0);
-    }
-    argOneLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(argOneLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -581,11 +578,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      argTwoLo.put((byte) 0);
-    }
-    argTwoLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(argTwoLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -597,11 +590,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      basefee.put((byte) 0);
-    }
-    basefee.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(basefee, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -613,11 +602,7 @@ public class Trace {
       filled.set(5);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      blockGasLimit.put((byte) 0);
-    }
-    blockGasLimit.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(blockGasLimit, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -665,11 +650,7 @@ public class Trace {
       filled.set(9);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      coinbaseLo.put((byte) 0);
-    }
-    coinbaseLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(coinbaseLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -729,11 +710,7 @@ public class Trace {
       filled.set(14);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      fromLo.put((byte) 0);
-    }
-    fromLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(fromLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -745,11 +722,7 @@ public class Trace {
       filled.set(15);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasCumulative.put((byte) 0);
-    }
-    gasCumulative.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasCumulative, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -761,11 +734,7 @@ public class Trace {
       filled.set(16);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasInitiallyAvailable.put((byte) 0);
-    }
-    gasInitiallyAvailable.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasInitiallyAvailable, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -777,11 +746,7 @@ public class Trace {
       filled.set(17);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasLeftover.put((byte) 0);
-    }
-    gasLeftover.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasLeftover, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -793,11 +758,7 @@ public class Trace {
       filled.set(18);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasLimit.put((byte) 0);
-    }
-    gasLimit.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasLimit, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -809,11 +770,7 @@ public class Trace {
       filled.set(19);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      gasPrice.put((byte) 0);
-    }
-    gasPrice.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(gasPrice, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -837,11 +794,7 @@ public class Trace {
       filled.set(20);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      initialBalance.put((byte) 0);
-    }
-    initialBalance.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(initialBalance, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -889,11 +842,7 @@ public class Trace {
       filled.set(25);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      nonce.put((byte) 0);
-    }
-    nonce.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(nonce, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -905,11 +854,7 @@ public class Trace {
       filled.set(26);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      outgoingHi.put((byte) 0);
-    }
-    outgoingHi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(outgoingHi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -921,11 +866,7 @@ public class Trace {
       filled.set(27);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      outgoingLo.put((byte) 0);
-    }
-    outgoingLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(outgoingLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -937,11 +878,7 @@ public class Trace {
       filled.set(28);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      outgoingRlpTxnrcpt.put((byte) 0);
-    }
-    outgoingRlpTxnrcpt.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(outgoingRlpTxnrcpt, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -977,11 +914,7 @@ public class Trace {
       filled.set(31);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      priorityFeePerGas.put((byte) 0);
-    }
-    priorityFeePerGas.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(priorityFeePerGas, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -993,11 +926,7 @@ public class Trace {
       filled.set(32);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      refundCounter.put((byte) 0);
-    }
-    refundCounter.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(refundCounter, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1009,11 +938,7 @@ public class Trace {
       filled.set(33);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      refundEffective.put((byte) 0);
-    }
-    refundEffective.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(refundEffective, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1073,11 +998,7 @@ public class Trace {
       filled.set(38);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      res.put((byte) 0);
-    }
-    res.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(res, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1113,11 +1034,7 @@ public class Trace {
       filled.set(41);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      toLo.put((byte) 0);
-    }
-    toLo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(toLo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -1165,11 +1082,7 @@ public class Trace {
       filled.set(45);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      value.put((byte) 0);
-    }
-    value.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(value, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -20,6 +20,7 @@ import java.util.BitSet;
 import java.util.List;
 
 import net.consensys.linea.zktracer.ColumnHeader;
+import net.consensys.linea.zktracer.TraceColumns;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -171,11 +172,7 @@ public class Trace {
       filled.set(0);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc1.put((byte) 0);
-    }
-    acc1.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc1, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -187,11 +184,7 @@ public class Trace {
       filled.set(1);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc2.put((byte) 0);
-    }
-    acc2.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc2, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -203,11 +196,7 @@ public class Trace {
       filled.set(2);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc3.put((byte) 0);
-    }
-    acc3.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc3, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -219,11 +208,7 @@ public class Trace {
       filled.set(3);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc4.put((byte) 0);
-    }
-    acc4.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc4, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -235,11 +220,7 @@ public class Trace {
       filled.set(4);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc5.put((byte) 0);
-    }
-    acc5.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc5, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -251,11 +232,7 @@ public class Trace {
       filled.set(5);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      acc6.put((byte) 0);
-    }
-    acc6.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(acc6, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -267,11 +244,7 @@ public class Trace {
       filled.set(6);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      argument1Hi.put((byte) 0);
-    }
-    argument1Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(argument1Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -283,11 +256,7 @@ public class Trace {
       filled.set(7);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      argument1Lo.put((byte) 0);
-    }
-    argument1Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(argument1Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -299,11 +268,7 @@ public class Trace {
       filled.set(8);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      argument2Hi.put((byte) 0);
-    }
-    argument2Hi.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(argument2Hi, b.toArrayUnsafe(), 32);
 
     return this;
   }
@@ -315,11 +280,7 @@ public class Trace {
       filled.set(9);
     }
 
-    final byte[] bs = b.toArrayUnsafe();
-    for (int i = bs.length; i < 32; i++) {
-      argument2Lo.put((byte) 0);
-    }
-    argument2Lo.put(b.toArrayUnsafe());
+    TraceColumns.putLeftPadded(argument2Lo, b.toArrayUnsafe(), 32);
 
     return this;
   }
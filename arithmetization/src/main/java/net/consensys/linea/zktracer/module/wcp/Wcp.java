@@ -26,6 +26,7 @@ import java.nio.MappedByteBuffer;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
 
 import net.consensys.linea.zktracer.ColumnHeader;
 import net.consensys.linea.zktracer.container.stacked.set.StackedSet;
@@ -176,4 +177,9 @@ public class Wcp implements Module {
   public boolean callGEQ(final Bytes arg1, final Bytes arg2) {
     return this.callGEQ(Bytes32.leftPad(arg1), Bytes32.leftPad(arg2));
   }
+
+  @Override
+  public Optional<StackedSet<?>> operationSet() {
+    return Optional.of(this.operations);
+  }
 }
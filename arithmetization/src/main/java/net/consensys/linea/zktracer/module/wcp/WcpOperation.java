@@ -26,10 +26,7 @@ import static net.consensys.linea.zktracer.module.constants.GlobalConstants.LLAR
 import static net.consensys.linea.zktracer.module.constants.GlobalConstants.LLARGEMO;
 import static net.consensys.linea.zktracer.module.constants.GlobalConstants.WCP_INST_GEQ;
 import static net.consensys.linea.zktracer.module.constants.GlobalConstants.WCP_INST_LEQ;
-import static net.consensys.linea.zktracer.types.Conversions.bigIntegerToBytes;
-import static net.consensys.linea.zktracer.types.Conversions.reallyToSignedBigInteger;
 
-import java.math.BigInteger;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -37,8 +34,8 @@ import java.util.List;
 
 import lombok.EqualsAndHashCode;
 import lombok.extern.slf4j.Slf4j;
+import net.consensys.linea.zktracer.bytestheta.LimbArithmetic;
 import net.consensys.linea.zktracer.container.ModuleOperation;
-import net.consensys.linea.zktracer.types.Bytes16;
 import net.consensys.linea.zktracer.types.UnsignedByte;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -94,20 +91,19 @@ public class WcpOperation extends ModuleOperation {
     this.arg2Hi = arg2.slice(offset, length);
     this.arg2Lo = arg2.slice(LLARGE + offset, length);
 
+    final long[] first = LimbArithmetic.fromBytes32(this.arg1);
+    final long[] second = LimbArithmetic.fromBytes32(this.arg2);
+
     // Calculate Result Low
-    resLo = calculateResLow(wcpInst, arg1, arg2);
+    resLo = calculateResLow(wcpInst, first, second);
 
     // Set bit 3 and AdjHi
-    final BigInteger firstHi = this.arg1.slice(0, LLARGE).toUnsignedBigInteger();
-    final BigInteger secondHi = this.arg2.slice(0, LLARGE).toUnsignedBigInteger();
-    this.bit3 = firstHi.compareTo(secondHi) > 0;
-    this.adjHi = calculateAdj(bit3, firstHi, secondHi).slice(offset, length);
+    this.bit3 = compare128(first[3], first[2], second[3], second[2]) > 0;
+    this.adjHi = calculateAdj(bit3, first[3], first[2], second[3], second[2]).slice(offset, length);
 
     // Set bit 4 and AdjLo
-    final BigInteger firstLo = this.arg1.slice(LLARGE, LLARGE).toUnsignedBigInteger();
-    final BigInteger secondLo = this.arg2.slice(LLARGE, LLARGE).toUnsignedBigInteger();
-    this.bit4 = firstLo.compareTo(secondLo) > 0;
-    this.adjLo = calculateAdj(bit4, firstLo, secondLo).slice(offset, length);
+    this.bit4 = compare128(first[1], first[0], second[1], second[0]) > 0;
+    this.adjLo = calculateAdj(bit4, first[1], first[0], second[1], second[0]).slice(offset, length);
 
     // Initiate negatives and BITS
     if (this.ctMax == LLARGEMO && (this.wcpInst == SLTbv || this.wcpInst == SGTbv)) {
@@ -133,24 +129,37 @@ public class WcpOperation extends ModuleOperation {
     this.bit2 = this.arg1Lo.compareTo(this.arg2Lo) == 0;
   }
 
-  private boolean calculateResLow(byte opCode, Bytes32 arg1, Bytes32 arg2) {
+  private boolean calculateResLow(byte opCode, long[] arg1, long[] arg2) {
     return switch (opCode) {
-      case EQbv -> arg1.compareTo(arg2) == 0;
-      case ISZERObv -> arg1.isZero();
-      case SLTbv -> reallyToSignedBigInteger(arg1).compareTo(reallyToSignedBigInteger(arg2)) < 0;
-      case SGTbv -> reallyToSignedBigInteger(arg1).compareTo(reallyToSignedBigInteger(arg2)) > 0;
-      case LTbv -> arg1.compareTo(arg2) < 0;
-      case GTbv -> arg1.compareTo(arg2) > 0;
-      case LEQbv -> arg1.compareTo(arg2) <= 0;
-      case GEQbv -> arg1.compareTo(arg2) >= 0;
+      case EQbv -> LimbArithmetic.compareUnsigned(arg1, arg2) == 0;
+      case ISZERObv -> LimbArithmetic.isZero(arg1);
+      case SLTbv -> LimbArithmetic.compareSigned(arg1, arg2) < 0;
+      case SGTbv -> LimbArithmetic.compareSigned(arg1, arg2) > 0;
+      case LTbv -> LimbArithmetic.compareUnsigned(arg1, arg2) < 0;
+      case GTbv -> LimbArithmetic.compareUnsigned(arg1, arg2) > 0;
+      case LEQbv -> LimbArithmetic.compareUnsigned(arg1, arg2) <= 0;
+      case GEQbv -> LimbArithmetic.compareUnsigned(arg1, arg2) >= 0;
       default -> throw new InvalidParameterException("Invalid opcode");
     };
   }
 
-  private Bytes16 calculateAdj(boolean cmp, BigInteger arg1, BigInteger arg2) {
-    return cmp
-        ? Bytes16.leftPad(bigIntegerToBytes(arg1.subtract(arg2).subtract(BigInteger.ONE)))
-        : Bytes16.leftPad(bigIntegerToBytes(arg2.subtract(arg1)));
+  private static int compare128(long aHi, long aLo, long bHi, long bLo) {
+    final int cmp = Long.compareUnsigned(aHi, bHi);
+    return cmp != 0 ? cmp : Long.compareUnsigned(aLo, bLo);
+  }
+
+  /** Compute a - b - 1 if cmp, b - a otherwise; on 128 bits. */
+  private static Bytes calculateAdj(boolean cmp, long aHi, long aLo, long bHi, long bLo) {
+    final long lo;
+    final long hi;
+    if (cmp) {
+      lo = aLo - bLo - 1;
+      hi = aHi - bHi - (Long.compareUnsigned(aLo, bLo) <= 0 ? 1 : 0);
+    } else {
+      lo = bLo - aLo;
+      hi = bHi - aHi - (Long.compareUnsigned(bLo, aLo) < 0 ? 1 : 0);
+    }
+    return LimbArithmetic.toBytes(new long[] {lo, hi});
   }
 
   void trace(Trace trace, int stamp) {
@@ -161,7 +170,7 @@ public class WcpOperation extends ModuleOperation {
     final boolean vli = isVli();
     final UnsignedByte inst = UnsignedByte.of(this.wcpInst);
 
-    for (int ct = 0; ct <= this.maxCt(); ct++) {
+    for (int ct = 0; ct <= this.ctMax; ct++) {
       trace
           .wordComparisonStamp(stamp)
           .oneLineInstruction(oli)
@@ -230,18 +239,23 @@ public class WcpOperation extends ModuleOperation {
         if (this.arg1.isZero() && this.arg2.isZero()) {
           return 0;
         } else {
-          final ArrayList<Integer> sizes = new ArrayList<>(4);
-          sizes.add(this.arg1.slice(0, LLARGE).trimLeadingZeros().size());
-          sizes.add(this.arg2.slice(0, LLARGE).trimLeadingZeros().size());
-          sizes.add(this.arg1.slice(LLARGE, LLARGE).trimLeadingZeros().size());
-          sizes.add(this.arg2.slice(LLARGE, LLARGE).trimLeadingZeros().size());
-          return Collections.max(sizes) - 1;
+          // The size of the largest of the four 128-bit halves, ignoring leading zeros
+          final int leadingZeros =
+              Math.min(
+                  Math.min(leadingZeroBytes(this.arg1, 0), leadingZeroBytes(this.arg2, 0)),
+                  Math.min(
+                      leadingZeroBytes(this.arg1, LLARGE), leadingZeroBytes(this.arg2, LLARGE)));
+          return LLARGE - leadingZeros - 1;
         }
       }
       default -> throw new IllegalStateException("Unexpected value: " + this.wcpInst);
     }
   }
 
+  private static int leadingZeroBytes(Bytes32 arg, int offset) {
+    return LimbArithmetic.numberOfLeadingZeroBytes(arg.getLong(offset), arg.getLong(offset + 8));
+  }
+
   @Override
   protected int computeLineCount() {
     return this.ctMax + 1;
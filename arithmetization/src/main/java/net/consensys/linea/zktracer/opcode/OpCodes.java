@@ -18,9 +18,6 @@ package net.consensys.linea.zktracer.opcode;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.type.CollectionType;
@@ -30,29 +27,58 @@ import net.consensys.linea.zktracer.json.JsonConverter;
 
 /** Responsible for managing opcode loading and opcode metadata retrieval. */
 public class OpCodes {
-  private static final JsonConverter YAML_CONVERTER = JsonConverter.builder().enableYaml().build();
+  /**
+   * The opcode metadata tables, built once per JVM when first accessed.
+   *
+   * <p>Undefined opcode values map to the metadata of {@link OpCode#INVALID}.
+   */
+  private static final class Tables {
+    /** The metadata of every opcode, indexed by opcode value */
+    private static final OpCodeData[] BY_VALUE = new OpCodeData[256];
 
-  private static Map<Integer, OpCodeData> valueToOpCodeDataMap;
-  private static Map<OpCode, OpCodeData> opCodeToOpCodeDataMap;
+    /** The metadata of every opcode, indexed by {@link OpCode} ordinal */
+    private static final OpCodeData[] BY_MNEMONIC = new OpCodeData[OpCode.values().length];
 
-  /** Loads all opcode metadata from src/main/resources/opcodes.yml. */
-  @SneakyThrows(IOException.class)
-  public static void load() {
-    JsonNode rootNode =
-        YAML_CONVERTER
-            .getObjectMapper()
-            .readTree(OpCodes.class.getClassLoader().getResourceAsStream("opcodes.yml"))
-            .get("opcodes");
+    static {
+      for (OpCodeData opCode : parse()) {
+        BY_VALUE[opCode.value()] = opCode;
+        BY_MNEMONIC[opCode.mnemonic().ordinal()] = opCode;
+      }
+
+      final OpCodeData invalid = BY_MNEMONIC[OpCode.INVALID.ordinal()];
+      for (int i = 0; i < BY_VALUE.length; i++) {
+        if (BY_VALUE[i] == null) {
+          BY_VALUE[i] = invalid;
+        }
+      }
+    }
+
+    /** Does nothing by itself, but triggers the initialization of the tables. */
+    static void ensureLoaded() {}
 
-    CollectionType typeReference =
-        TypeFactory.defaultInstance().constructCollectionType(List.class, OpCodeData.class);
+    /** Parses all opcode metadata from src/main/resources/opcodes.yml. */
+    @SneakyThrows(IOException.class)
+    private static List<OpCodeData> parse() {
+      final JsonConverter yamlConverter = JsonConverter.builder().enableYaml().build();
+      JsonNode rootNode =
+          yamlConverter
+              .getObjectMapper()
+              .readTree(OpCodes.class.getClassLoader().getResourceAsStream("opcodes.yml"))
+              .get("opcodes");
 
-    List<OpCodeData> opCodes =
-        YAML_CONVERTER.getObjectMapper().treeToValue(rootNode, typeReference);
+      CollectionType typeReference =
+          TypeFactory.defaultInstance().constructCollectionType(List.class, OpCodeData.class);
 
-    valueToOpCodeDataMap = opCodes.stream().collect(Collectors.toMap(OpCodeData::value, e -> e));
-    opCodeToOpCodeDataMap =
-        opCodes.stream().collect(Collectors.toMap(OpCodeData::mnemonic, e -> e));
+      return yamlConverter.getObjectMapper().treeToValue(rootNode, typeReference);
+    }
+  }
+
+  /**
+   * Ensures that all opcode metadata from src/main/resources/opcodes.yml are loaded. They are only
+   * parsed once per JVM, so this is cheap to call repeatedly.
+   */
+  public static void load() {
+    Tables.ensureLoaded();
   }
 
   /**
@@ -66,7 +92,7 @@ public class OpCodes {
       throw new IllegalArgumentException("No OpCode with value %s is defined.".formatted(value));
     }
 
-    return valueToOpCodeDataMap.getOrDefault(value, of(OpCode.INVALID));
+    return Tables.BY_VALUE[value];
   }
 
   /**
@@ -76,11 +102,11 @@ public class OpCodes {
    * @return an instance of {@link OpCodeData} corresponding to mnemonic of type {@link OpCode}.
    */
   public static OpCodeData of(final OpCode code) {
-    return Optional.ofNullable(opCodeToOpCodeDataMap.get(code))
-        .orElseThrow(
-            () ->
-                new IllegalArgumentException(
-                    "No OpCode of mnemonic %s is defined.".formatted(code)));
+    final OpCodeData r = Tables.BY_MNEMONIC[code.ordinal()];
+    if (r == null) {
+      throw new IllegalArgumentException("No OpCode of mnemonic %s is defined.".formatted(code));
+    }
+    return r;
   }
 
   /**
@@ -26,9 +26,25 @@ import org.hyperledger.besu.evm.frame.MessageFrame;
 import org.hyperledger.besu.evm.internal.Words;
 
 public class GasProjector {
+  /**
+   * The projections of the instructions whose cost does not depend on the frame state. They are
+   * stateless, so a single instance of each is shared, and only created on first use.
+   */
+  private static final class Flyweights {
+    private static final GasProjection ZERO = new Zero();
+    private static final GasProjection VERY_LOW = new VeryLow();
+    private static final GasProjection LOW = new Low();
+    private static final GasProjection MID = new Mid();
+    private static final GasProjection HIGH = new High();
+    private static final GasProjection BASE = new Base();
+    private static final GasProjection BLOCK_HASH = new BlockHash();
+    private static final GasProjection JUMP_DEST = new JumpDest();
+    private static final GasProjection INVALID = new GasProjection() {};
+  }
+
   public GasProjection of(MessageFrame frame, OpCode opCode) {
     return switch (opCode) {
-      case STOP -> new Zero();
+      case STOP -> Flyweights.ZERO;
       case ADD,
           SUB,
           NOT,
@@ -109,9 +125,9 @@ public class GasProjector {
           SWAP13,
           SWAP14,
           SWAP15,
-          SWAP16 -> new VeryLow();
-      case MUL, DIV, SDIV, MOD, SMOD, SIGNEXTEND, SELFBALANCE -> new Low();
-      case ADDMOD, MULMOD, JUMP -> new Mid();
+          SWAP16 -> Flyweights.VERY_LOW;
+      case MUL, DIV, SDIV, MOD, SMOD, SIGNEXTEND, SELFBALANCE -> Flyweights.LOW;
+      case ADDMOD, MULMOD, JUMP -> Flyweights.MID;
       case EXP -> new Exp(frame);
       case SHA3 -> new Sha3(frame);
       case ADDRESS,
@@ -132,17 +148,17 @@ public class GasProjector {
           PC,
           MSIZE,
           GAS,
-          BASEFEE -> new Base();
+          BASEFEE -> Flyweights.BASE;
       case BALANCE, EXTCODESIZE, EXTCODEHASH -> new AccountAccess(frame);
       case CALLDATACOPY, CODECOPY, RETURNDATACOPY -> new DataCopy(frame, opCode);
       case EXTCODECOPY -> new ExtCodeCopy(frame);
-      case BLOCKHASH -> new BlockHash();
+      case BLOCKHASH -> Flyweights.BLOCK_HASH;
       case MLOAD, MSTORE -> new MLoadStore(frame);
       case MSTORE8 -> new MStore8(frame);
       case SLOAD -> new SLoad(frame);
       case SSTORE -> new SStore(frame);
-      case JUMPI -> new High();
-      case JUMPDEST -> new JumpDest();
+      case JUMPI -> Flyweights.HIGH;
+      case JUMPDEST -> Flyweights.JUMP_DEST;
       case LOG0 -> new Log(frame, 0);
       case LOG1 -> new Log(frame, 1);
       case LOG2 -> new Log(frame, 2);
@@ -222,7 +238,7 @@ public class GasProjector {
       }
       case RETURN -> new Return(frame);
       case REVERT -> new Revert(frame);
-      case INVALID -> new GasProjection() {};
+      case INVALID -> Flyweights.INVALID;
       case SELFDESTRUCT -> new SelfDestruct(frame);
       default -> throw new IllegalStateException("Unexpected value: " + opCode);
     };
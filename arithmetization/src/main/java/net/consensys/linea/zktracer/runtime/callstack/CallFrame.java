@@ -93,8 +93,16 @@ public class CallFrame {
   @Getter @Setter private int pc;
   @Getter @Setter private OpCode opCode = OpCode.STOP;
   @Getter @Setter private OpCodeData opCodeData = OpCodes.of(OpCode.STOP);
+
+  /** the live Besu frame of this frame; released once it has exited, see {@link #compact()} */
   @Getter private MessageFrame frame;
 
+  /** the memory of this frame when it exited; only set once it has been compacted */
+  private Bytes finalMemory = null;
+
+  /** the paged snapshots of the memory of this frame while it executes */
+  private PagedMemory pagedMemory = new PagedMemory();
+
   /** the ether amount given to this frame. */
   @Getter private Wei value = Wei.fromHexString("0xBadF00d"); // Marker for debugging
 
@@ -296,10 +304,72 @@ public class CallFrame {
     return (this.selfRevertsAt > 0) || (this.getsRevertedAt > 0);
   }
 
+  /**
+   * Returns the memory of this frame; live while it executes, and as it was when it exited
+   * afterward.
+   *
+   * @return the memory of this frame
+   */
+  public Bytes memory() {
+    if (this.finalMemory != null) {
+      return this.finalMemory;
+    }
+    return this.pagedMemory.snapshot(this.frame);
+  }
+
+  /**
+   * Records that the current instruction may write to the given span of the memory of this frame,
+   * so that the next {@link #memory()} reads it again.
+   *
+   * @param offset the start of the written span
+   * @param length the length of the written span
+   */
+  public void memoryWritten(long offset, long length) {
+    this.pagedMemory.written(offset, length);
+  }
+
+  /**
+   * Records that the memory of this frame may have been written to anywhere, e.g. by a callee
+   * returning data into it.
+   */
+  public void memoryOverwritten() {
+    this.pagedMemory.invalidate();
+  }
+
+  /**
+   * Release the {@link MessageFrame} of this frame, and all the data only required during its
+   * execution, once it has exited. Only its final memory, its return data span and its revert
+   * stamps are kept for the modules reading them post-hoc. The final memory is kept whole, but its
+   * pages are shared with the snapshots already handed to the modules (see {@link PagedMemory}).
+   */
+  public void compact() {
+    if (this.frame == null) {
+      return;
+    }
+
+    // Memory snapshots are immutable, so the latest one can be kept as is
+    this.finalMemory = this.memory();
+    this.frame = null;
+    this.pagedMemory = null;
+    this.pending = null;
+    this.needsUnlatchingAtReEntry = null;
+    this.returnData = Bytes.EMPTY;
+    this.latestReturnData = Bytes.EMPTY;
+    // The call data of the root frame are read from the call stack by the MMU
+    if (this.type != CallFrameType.BEDROCK) {
+      this.callDataInfo =
+          new CallDataInfo(
+              Bytes.EMPTY,
+              this.callDataInfo.memorySpan().offset(),
+              this.callDataInfo.memorySpan().length(),
+              this.callDataInfo.callDataContextNumber());
+    }
+  }
+
   public void frame(MessageFrame frame) {
     this.frame = frame;
-    this.opCode = OpCode.of(frame.getCurrentOperation().getOpcode());
-    this.opCodeData = OpCodes.of(this.opCode);
+    this.opCodeData = OpCodes.of(frame.getCurrentOperation().getOpcode());
+    this.opCode = this.opCodeData.mnemonic();
     this.pc = frame.getPC();
   }
 }
@@ -40,7 +40,10 @@ public final class CallStack {
   /** the maximal depth of the call stack (as defined by Ethereum) */
   static final int MAX_CALLSTACK_SIZE = 1024;
 
-  /** a never-pruned-tree of the {@link CallFrame} executed by the {@link Hub} */
+  /**
+   * a never-pruned-tree of the {@link CallFrame} executed by the {@link Hub}; exited frames are
+   * compacted to release their {@link org.hyperledger.besu.evm.frame.MessageFrame}
+   */
   private final List<CallFrame> frames = new ArrayList<>();
 
   /** the current depth of the call stack. */
@@ -254,9 +257,10 @@ public final class CallStack {
 
   /**
    * Exit the current context, sets it return data for the caller to read, and marks its last
-   * position in the hub traces.
+   * position in the hub traces. The exited frame is compacted, as it will never execute again.
    */
   public void exit() {
+    this.current().compact();
     this.depth -= 1;
     Preconditions.checkState(this.depth >= 0);
     this.current = this.current().parentFrame();
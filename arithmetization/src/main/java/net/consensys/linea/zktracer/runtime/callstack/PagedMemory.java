@@ -0,0 +1,188 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.runtime.callstack;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import com.google.common.base.Preconditions;
+import org.apache.tuweni.bytes.AbstractBytes;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.MutableBytes;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+
+/**
+ * Copy-on-write snapshots of the memory of a live frame. The memory is cut in fixed-size pages, and
+ * only the pages written to since the previous snapshot are read again from Besu; the others are
+ * shared with the previous snapshot. Pages are never mutated once read, so the snapshots handed to
+ * the MMU remain valid while the frame keeps executing.
+ */
+final class PagedMemory {
+  static final int PAGE_SHIFT = 12;
+  static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+  /**
+   * Whether every snapshot is checked against the whole memory read from Besu; only when assertions
+   * are enabled, e.g. in tests, as it defeats the purpose of the paging.
+   */
+  private static final boolean VERIFY_SNAPSHOTS = PagedMemory.class.desiredAssertionStatus();
+
+  /** the pages of the latest snapshot; unused bytes past its size are zeros */
+  private byte[][] pages = new byte[0][];
+
+  /** the pages written to since the latest snapshot */
+  private final BitSet dirty = new BitSet();
+
+  /** the latest snapshot, handed out again as long as the memory has not changed */
+  private Snapshot latest = new Snapshot(pages, 0);
+
+  /**
+   * Records that the memory span [offset, offset + length[ may have been written to.
+   *
+   * @param offset the start of the span
+   * @param length the length of the span
+   */
+  void written(long offset, long length) {
+    if (length <= 0) {
+      return;
+    }
+    this.dirty.set((int) (offset >>> PAGE_SHIFT), (int) ((offset + length - 1) >>> PAGE_SHIFT) + 1);
+  }
+
+  /** Records that any part of the memory may have been written to. */
+  void invalidate() {
+    this.dirty.set(0, Math.max(this.pages.length, 1));
+  }
+
+  /**
+   * Returns an immutable snapshot of the memory of the given frame, only reading from it the pages
+   * that changed since the previous snapshot.
+   *
+   * @param frame the live frame owning the memory
+   * @return the current content of the memory
+   */
+  Bytes snapshot(MessageFrame frame) {
+    final Snapshot snapshot = this.read(frame);
+    if (VERIFY_SNAPSHOTS) {
+      Preconditions.checkState(
+          snapshot.equals(frame.shadowReadMemory(0, frame.memoryByteSize())),
+          "Memory snapshot and Besu memory differ, a memory write was not recorded");
+    }
+    return snapshot;
+  }
+
+  private Snapshot read(MessageFrame frame) {
+    final int size = (int) frame.memoryByteSize();
+    final int pageCount = (size + PAGE_SIZE - 1) >>> PAGE_SHIFT;
+    final int previousPageCount = this.pages.length;
+    if (size == this.latest.size && this.dirty.isEmpty()) {
+      return this.latest;
+    }
+
+    final byte[][] newPages =
+        pageCount == previousPageCount ? this.pages.clone() : Arrays.copyOf(this.pages, pageCount);
+    for (int p = 0; p < pageCount; p++) {
+      if (p >= previousPageCount || this.dirty.get(p)) {
+        final int offset = p << PAGE_SHIFT;
+        final byte[] content =
+            frame.shadowReadMemory(offset, Math.min(PAGE_SIZE, size - offset)).toArrayUnsafe();
+        final byte[] page = new byte[PAGE_SIZE];
+        System.arraycopy(content, 0, page, 0, content.length);
+        newPages[p] = page;
+      }
+    }
+
+    this.dirty.clear();
+    this.pages = newPages;
+    this.latest = new Snapshot(newPages, size);
+    return this.latest;
+  }
+
+  /** An immutable {@link Bytes} view over the pages of a snapshot. */
+  private static final class Snapshot extends AbstractBytes {
+    private final byte[][] pages;
+    private final int size;
+
+    private Snapshot(byte[][] pages, int size) {
+      this.pages = pages;
+      this.size = size;
+    }
+
+    @Override
+    public int size() {
+      return this.size;
+    }
+
+    @Override
+    public byte get(int i) {
+      if (i < 0 || i >= this.size) {
+        throw new IndexOutOfBoundsException(
+            "Index %s out of bounds for size %s".formatted(i, this.size));
+      }
+      return this.pages[i >>> PAGE_SHIFT][i & (PAGE_SIZE - 1)];
+    }
+
+    @Override
+    public Bytes slice(int i, int length) {
+      if (i < 0 || length < 0 || i + length > this.size) {
+        throw new IndexOutOfBoundsException(
+            "Slice [%s, %s[ out of bounds for size %s".formatted(i, i + length, this.size));
+      }
+      if (length == 0) {
+        return Bytes.EMPTY;
+      }
+      // Slices within a single page share it; the others are gathered
+      final int offsetInPage = i & (PAGE_SIZE - 1);
+      if (offsetInPage + length <= PAGE_SIZE) {
+        return Bytes.wrap(this.pages[i >>> PAGE_SHIFT], offsetInPage, length);
+      }
+      return Bytes.wrap(this.copyRange(i, length));
+    }
+
+    @Override
+    public Bytes copy() {
+      return this;
+    }
+
+    @Override
+    public MutableBytes mutableCopy() {
+      return MutableBytes.wrap(this.toArray());
+    }
+
+    @Override
+    public byte[] toArray() {
+      return this.copyRange(0, this.size);
+    }
+
+    @Override
+    public byte[] toArrayUnsafe() {
+      return this.toArray();
+    }
+
+    private byte[] copyRange(int from, int length) {
+      final byte[] r = new byte[length];
+      int copied = 0;
+      while (copied < length) {
+        final int position = from + copied;
+        final int offsetInPage = position & (PAGE_SIZE - 1);
+        final int chunk = Math.min(PAGE_SIZE - offsetInPage, length - copied);
+        System.arraycopy(this.pages[position >>> PAGE_SHIFT], offsetInPage, r, copied, chunk);
+        copied += chunk;
+      }
+      return r;
+    }
+  }
+}
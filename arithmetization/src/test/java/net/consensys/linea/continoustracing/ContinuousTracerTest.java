@@ -21,10 +21,12 @@ import static org.mockito.Mockito.when;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 
 import net.consensys.linea.continoustracing.exception.InvalidBlockTraceException;
 import net.consensys.linea.continoustracing.exception.TraceVerificationException;
 import net.consensys.linea.corset.CorsetValidator;
+import net.consensys.linea.zktracer.TraceFormat;
 import net.consensys.linea.zktracer.ZkTracer;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.plugin.data.BlockTraceResult;
@@ -33,6 +35,7 @@ import org.hyperledger.besu.plugin.services.TraceService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -50,7 +53,9 @@ public class ContinuousTracerTest {
 
   @BeforeEach
   void setUp() {
-    continuousTracer = new ContinuousTracer(traceServiceMock, corsetValidatorMock);
+    continuousTracer =
+        new ContinuousTracer(
+            traceServiceMock, corsetValidatorMock, Optional.empty(), Optional.empty());
   }
 
   @Test
@@ -67,7 +72,8 @@ public class ContinuousTracerTest {
             new CorsetValidator.Result(
                 true, Path.of("testTraceFile").toFile(), "testCorsetOutput"));
 
-    when(zkTracerMock.writeToTmpFile()).thenReturn(Path.of(""));
+    when(corsetValidatorMock.getTraceFormat()).thenReturn(TraceFormat.V1);
+    when(zkTracerMock.writeToTmpFile(TraceFormat.V1)).thenReturn(Path.of(""));
 
     final CorsetValidator.Result validationResult =
         continuousTracer.verifyTraceOfBlock(BLOCK_HASH, "testZkEvmBin", zkTracerMock);
@@ -83,7 +89,8 @@ public class ContinuousTracerTest {
     when(traceServiceMock.traceBlock(ArgumentMatchers.any(), ArgumentMatchers.any()))
         .thenReturn(blockTraceResult);
 
-    when(zkTracerMock.writeToTmpFile()).thenReturn(Path.of(""));
+    when(corsetValidatorMock.getTraceFormat()).thenReturn(TraceFormat.V1);
+    when(zkTracerMock.writeToTmpFile(TraceFormat.V1)).thenReturn(Path.of(""));
 
     when(corsetValidatorMock.validate(ArgumentMatchers.any(), matches("testZkEvmBin")))
         .thenReturn(
@@ -107,4 +114,30 @@ public class ContinuousTracerTest {
         InvalidBlockTraceException.class,
         () -> continuousTracer.verifyTraceOfBlock(BLOCK_HASH, "testZkEvmBin", new ZkTracer()));
   }
+
+  @Test
+  void shouldWriteTracesInMemoryWhenTheyFit(@TempDir Path memory)
+      throws TraceVerificationException {
+    final ContinuousTracer tracer =
+        new ContinuousTracer(
+            traceServiceMock, corsetValidatorMock, Optional.empty(), Optional.of(memory));
+    when(corsetValidatorMock.getTraceFormat()).thenReturn(TraceFormat.V1);
+    when(zkTracerMock.traceFileSize()).thenReturn(1L);
+    when(zkTracerMock.writeToTmpFile(memory, TraceFormat.V1)).thenReturn(memory.resolve("trace"));
+
+    assertThat(tracer.writeTrace(BLOCK_HASH, zkTracerMock)).isEqualTo(memory.resolve("trace"));
+  }
+
+  @Test
+  void shouldWriteTracesOnDiskWhenTheyDoNotFitInMemory(@TempDir Path memory)
+      throws TraceVerificationException {
+    final ContinuousTracer tracer =
+        new ContinuousTracer(
+            traceServiceMock, corsetValidatorMock, Optional.empty(), Optional.of(memory));
+    when(corsetValidatorMock.getTraceFormat()).thenReturn(TraceFormat.V1);
+    when(zkTracerMock.traceFileSize()).thenReturn(Long.MAX_VALUE / 4);
+    when(zkTracerMock.writeToTmpFile(TraceFormat.V1)).thenReturn(Path.of("trace"));
+
+    assertThat(tracer.writeTrace(BLOCK_HASH, zkTracerMock)).isEqualTo(Path.of("trace"));
+  }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.continoustracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import net.consensys.linea.corset.CorsetValidator;
+import net.consensys.linea.corset.CorsetValidatorPool;
+import net.consensys.linea.zktracer.ZkTracer;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.plugin.data.BlockHeader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ContinuousTracingPipelineTest {
+  private static final Hash BLOCK_HASH =
+      Hash.fromHexString("0x0000000000000000000000000000000000000000000000000000000000000042");
+
+  private final ContinuousTracer continuousTracer = mock(ContinuousTracer.class);
+  private final TraceFailureHandler traceFailureHandler = mock(TraceFailureHandler.class);
+  private final CorsetValidatorPool validators = mock(CorsetValidatorPool.class);
+  private ContinuousTracingPipeline pipeline;
+
+  @AfterEach
+  void tearDown() {
+    this.pipeline.stop();
+  }
+
+  private ContinuousTracingPipeline pipeline(
+      final int tracingWorkers, final int maxPendingBlocks, final OverflowPolicy overflowPolicy) {
+    return new ContinuousTracingPipeline(
+        this.continuousTracer,
+        this.traceFailureHandler,
+        this.validators,
+        new ContinuousTracingConfiguration(
+            true, "testZkEvmBin", tracingWorkers, 1, 1, 1, maxPendingBlocks, overflowPolicy),
+        () -> mock(ZkTracer.class));
+  }
+
+  private static BlockHeader blockHeader(final long number) {
+    final BlockHeader header = mock(BlockHeader.class);
+    when(header.getNumber()).thenReturn(number);
+    when(header.getBlockHash()).thenReturn(BLOCK_HASH);
+    return header;
+  }
+
+  @Test
+  void blocksGoThroughEveryStage(@TempDir Path dir) throws Exception {
+    final Path traceFile = Files.createFile(dir.resolve("trace.lt"));
+    when(this.continuousTracer.writeTrace(eq(BLOCK_HASH), any())).thenReturn(traceFile);
+    when(this.continuousTracer.validateTrace(
+            BLOCK_HASH, traceFile, "testZkEvmBin", this.validators))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                new CorsetValidator.Result(false, traceFile.toFile(), "testCorsetOutput")));
+
+    this.pipeline = this.pipeline(1, 4, OverflowPolicy.SKIP);
+    this.pipeline.start();
+    final BlockHeader header = blockHeader(1);
+    assertThat(this.pipeline.submit(header)).isTrue();
+
+    verify(this.traceFailureHandler, timeout(5_000)).handleCorsetFailure(eq(header), any());
+    verify(this.continuousTracer).traceBlock(eq(BLOCK_HASH), any());
+  }
+
+  @Test
+  void blocksAreSkippedWhenThePipelineIsSaturated() throws Exception {
+    final CountDownLatch tracingStarted = new CountDownLatch(1);
+    final CountDownLatch releaseTracing = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              tracingStarted.countDown();
+              releaseTracing.await();
+              throw new IllegalStateException("stop here");
+            })
+        .when(this.continuousTracer)
+        .traceBlock(any(), any());
+
+    this.pipeline = this.pipeline(1, 1, OverflowPolicy.SKIP);
+    this.pipeline.start();
+    assertThat(this.pipeline.submit(blockHeader(1))).isTrue();
+    assertThat(tracingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // The single worker is busy, and the queue only has room for one more block
+    assertThat(this.pipeline.submit(blockHeader(2))).isTrue();
+    assertThat(this.pipeline.submit(blockHeader(3))).isFalse();
+    releaseTracing.countDown();
+  }
+
+  @Test
+  void submissionWaitsWhenThePipelineIsSaturated() throws Exception {
+    final CountDownLatch tracingStarted = new CountDownLatch(1);
+    final CountDownLatch releaseTracing = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              tracingStarted.countDown();
+              releaseTracing.await();
+              throw new IllegalStateException("stop here");
+            })
+        .when(this.continuousTracer)
+        .traceBlock(any(), any());
+
+    this.pipeline = this.pipeline(1, 1, OverflowPolicy.BLOCK);
+    this.pipeline.start();
+    assertThat(this.pipeline.submit(blockHeader(1))).isTrue();
+    assertThat(tracingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(this.pipeline.submit(blockHeader(2))).isTrue();
+
+    // The queue is full: the third block waits until the worker frees a slot
+    final CompletableFuture<Boolean> submission =
+        CompletableFuture.supplyAsync(() -> this.pipeline.submit(blockHeader(3)));
+    assertThatThrownBy(() -> submission.get(200, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+
+    releaseTracing.countDown();
+    assertThat(submission.get(5, TimeUnit.SECONDS)).isTrue();
+    verify(this.continuousTracer, timeout(5_000).times(3)).traceBlock(any(), any());
+  }
+
+  @Test
+  void stopWaitsForTheWorkers() throws Exception {
+    final AtomicReference<Thread> worker = new AtomicReference<>();
+    final CountDownLatch tracingStarted = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              worker.set(Thread.currentThread());
+              tracingStarted.countDown();
+              Thread.sleep(60_000);
+              return null;
+            })
+        .when(this.continuousTracer)
+        .traceBlock(any(), any());
+
+    this.pipeline = this.pipeline(1, 1, OverflowPolicy.SKIP);
+    this.pipeline.start();
+    assertThat(this.pipeline.submit(blockHeader(1))).isTrue();
+    assertThat(tracingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    this.pipeline.stop();
+    assertThat(worker.get().isAlive()).isFalse();
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.corset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class CorsetValidatorPoolTest {
+  private static final Path TRACE_FILE = Path.of("trace.lt");
+
+  private final CorsetValidator validator = mock(CorsetValidator.class);
+
+  @Test
+  void resultsAreDeliveredAsynchronously() throws Exception {
+    final CorsetValidator.Result expected =
+        new CorsetValidator.Result(true, TRACE_FILE.toFile(), "");
+    when(this.validator.validate(TRACE_FILE, "zkevm.bin")).thenReturn(expected);
+
+    try (CorsetValidatorPool pool = new CorsetValidatorPool(this.validator, 2, 1)) {
+      final CompletableFuture<CorsetValidator.Result> result = pool.submit(TRACE_FILE, "zkevm.bin");
+      assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void failedValidationsAreNotRetried() throws Exception {
+    when(this.validator.validate(TRACE_FILE, "zkevm.bin"))
+        .thenThrow(new RuntimeException("timed out"));
+
+    try (CorsetValidatorPool pool = new CorsetValidatorPool(this.validator, 1, 1)) {
+      final CompletableFuture<CorsetValidator.Result> result = pool.submit(TRACE_FILE, "zkevm.bin");
+      assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasMessageContaining("timed out");
+    }
+    verify(this.validator, times(1)).validate(TRACE_FILE, "zkevm.bin");
+  }
+
+  @Test
+  void warmProcessesAreReused() throws Exception {
+    final CorsetValidator.Result expected =
+        new CorsetValidator.Result(true, TRACE_FILE.toFile(), "");
+    final CorsetWorker zkEvm = mock(CorsetWorker.class);
+    final CorsetWorker otherZkEvm = mock(CorsetWorker.class);
+    when(this.validator.serving()).thenReturn(true);
+    when(this.validator.newWorker("zkevm.bin")).thenReturn(zkEvm);
+    when(this.validator.newWorker("other.bin")).thenReturn(otherZkEvm);
+    when(zkEvm.validate(TRACE_FILE)).thenReturn(expected);
+    when(otherZkEvm.validate(TRACE_FILE)).thenReturn(expected);
+
+    try (CorsetValidatorPool pool = new CorsetValidatorPool(this.validator, 1, 3)) {
+      pool.submit(TRACE_FILE, "zkevm.bin").get(5, TimeUnit.SECONDS);
+      pool.submit(TRACE_FILE, "zkevm.bin").get(5, TimeUnit.SECONDS);
+      // Other constraints require a fresh process
+      assertThat(pool.submit(TRACE_FILE, "other.bin").get(5, TimeUnit.SECONDS))
+          .isEqualTo(expected);
+    }
+    verify(this.validator, times(1)).newWorker("zkevm.bin");
+    verify(zkEvm, times(2)).validate(TRACE_FILE);
+    verify(zkEvm).close();
+    verify(otherZkEvm).close();
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.corset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import net.consensys.linea.zktracer.TraceFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Runs the worker against a shell stand-in of <code>corset check --serve</code>. */
+public class CorsetWorkerTest {
+  /** Answers each trace with the PID of the serving process and the trace path */
+  private static final String SERVE =
+      "while read -r trace; do out=\"$$:$trace\"; printf '0 %d\\n%s' \"${#out}\" \"$out\"; done";
+
+  @TempDir Path tmpDir;
+
+  private Path traceFile;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    this.traceFile = Files.createFile(this.tmpDir.resolve("trace.lt"));
+  }
+
+  private CorsetWorker worker(String script, Duration timeout) {
+    return new CorsetWorker(List.of("/bin/sh", "-c", script), timeout, TraceFormat.V1);
+  }
+
+  @Test
+  void processIsReusedAcrossTraces() {
+    try (CorsetWorker worker = this.worker(SERVE, Duration.ofSeconds(5))) {
+      final CorsetValidator.Result first = worker.validate(this.traceFile);
+      final CorsetValidator.Result second = worker.validate(this.traceFile);
+
+      assertThat(first.isValid()).isTrue();
+      assertThat(first.corsetOutput()).endsWith(":" + this.traceFile.toAbsolutePath());
+      assertThat(second.corsetOutput()).isEqualTo(first.corsetOutput());
+    }
+  }
+
+  @Test
+  void timeoutFailsAndRestartsTheProcess() {
+    // The first process hangs, the next ones serve
+    final Path marker = this.tmpDir.resolve("started");
+    final String script =
+        "if [ -e '%s' ]; then %s; else touch '%s'; exec sleep 10; fi"
+            .formatted(marker, SERVE, marker);
+
+    try (CorsetWorker worker = this.worker(script, Duration.ofMillis(500))) {
+      assertThatThrownBy(() -> worker.validate(this.traceFile))
+          .isInstanceOf(RuntimeException.class)
+          .hasMessageContaining("timed out");
+
+      assertThat(worker.validate(this.traceFile).isValid()).isTrue();
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.rpc.tracegeneration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import net.consensys.linea.zktracer.TraceFormat;
+import net.consensys.linea.zktracer.ZkTracer;
+import org.hyperledger.besu.plugin.BesuContext;
+import org.hyperledger.besu.plugin.services.BesuConfiguration;
+import org.hyperledger.besu.plugin.services.TraceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GenerateConflatedTracesV2Test {
+  private static final TraceRequestParams PARAMS = new TraceRequestParams(1, 2, "test", null, null);
+
+  @TempDir Path dataDir;
+
+  private final BesuContext besuContext = mock(BesuContext.class);
+  private final TraceService traceService = mock(TraceService.class);
+  private final ZkTracer tracer = mock(ZkTracer.class);
+
+  /** Whether writing the trace file fails midway */
+  private final AtomicBoolean failWrite = new AtomicBoolean(false);
+
+  private GenerateConflatedTracesV2 endpoint;
+
+  @BeforeEach
+  void setUp() {
+    final BesuConfiguration configuration = mock(BesuConfiguration.class);
+    when(configuration.getDataPath()).thenReturn(this.dataDir);
+    when(this.besuContext.getService(BesuConfiguration.class))
+        .thenReturn(Optional.of(configuration));
+    when(this.besuContext.getService(TraceService.class))
+        .thenReturn(Optional.of(this.traceService));
+
+    doAnswer(
+            invocation -> {
+              final Path file = invocation.getArgument(0);
+              Files.writeString(file, "trace");
+              if (this.failWrite.get()) {
+                throw new RuntimeException("disk full");
+              }
+              return null;
+            })
+        .when(this.tracer)
+        .writeToFile(any(Path.class), anyInt(), any(TraceFormat.class), any(Path.class));
+
+    this.endpoint = new GenerateConflatedTracesV2(this.besuContext, () -> this.tracer);
+  }
+
+  private Stream<Path> traceFiles() throws Exception {
+    return Files.list(this.dataDir.resolve("traces"));
+  }
+
+  @Test
+  void completeTracesAreReused() throws Exception {
+    final String first = this.endpoint.traceToFile(PARAMS);
+    final String second = this.endpoint.traceToFile(PARAMS);
+
+    assertThat(second).isEqualTo(first);
+    assertThat(Path.of(first)).hasContent("trace");
+    assertThat(this.traceFiles()).containsExactly(Path.of(first));
+    verify(this.traceService, times(1)).trace(anyLong(), anyLong(), any(), any(), any());
+  }
+
+  @Test
+  void failedWritesAreDiscarded() throws Exception {
+    this.failWrite.set(true);
+    assertThatThrownBy(() -> this.endpoint.traceToFile(PARAMS)).hasMessageContaining("disk full");
+    assertThat(this.traceFiles()).isEmpty();
+
+    // The conflation is traced again on retry
+    this.failWrite.set(false);
+    final String retried = this.endpoint.traceToFile(PARAMS);
+    assertThat(this.traceFiles()).containsExactly(Path.of(retried));
+    verify(this.traceService, times(2)).trace(anyLong(), anyLong(), any(), any(), any());
+  }
+}
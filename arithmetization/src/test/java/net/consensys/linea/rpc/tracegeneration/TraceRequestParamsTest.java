@@ -0,0 +1,59 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.rpc.tracegeneration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.InvalidParameterException;
+
+import net.consensys.linea.zktracer.TraceCompression;
+import net.consensys.linea.zktracer.TraceFormat;
+import org.junit.jupiter.api.Test;
+
+public class TraceRequestParamsTest {
+  private static TraceRequestParams params(String traceFormat, String traceCompression) {
+    return new TraceRequestParams(1, 2, "test", traceFormat, traceCompression);
+  }
+
+  @Test
+  void traceFormatsAreParsed() {
+    assertThat(params(null, null).traceFileFormat()).isEqualTo(TraceFormat.V1);
+    assertThat(params(" v2 ", null).traceFileFormat()).isEqualTo(TraceFormat.V2);
+  }
+
+  @Test
+  void unknownTraceFormatsAreInvalidParameters() {
+    assertThatThrownBy(() -> params("v9", null).traceFileFormat())
+        .isInstanceOf(InvalidParameterException.class)
+        .hasMessageStartingWith("INVALID_TRACE_FORMAT");
+  }
+
+  @Test
+  void traceCompressionsAreParsed() {
+    assertThat(params(null, null).traceFileCompression()).isEqualTo(TraceCompression.NONE);
+    assertThat(params(null, "Deflate").traceFileCompression()).isEqualTo(TraceCompression.DEFLATE);
+  }
+
+  @Test
+  void unknownTraceCompressionsAreInvalidParameters() {
+    assertThatThrownBy(() -> params(null, "zip").traceFileCompression())
+        .isInstanceOf(InvalidParameterException.class)
+        .hasMessageStartingWith("INVALID_TRACE_COMPRESSION");
+    assertThatThrownBy(() -> params(null, "zip").validateTraceFileOptions())
+        .isInstanceOf(InvalidParameterException.class);
+  }
+}
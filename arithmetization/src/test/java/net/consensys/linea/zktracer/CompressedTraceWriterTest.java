@@ -0,0 +1,83 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.consensys.linea.zktracer.module.Module;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CompressedTraceWriterTest {
+
+  @Test
+  void columnsCanBeReadBackIndividually(@TempDir Path dir) throws IOException {
+    final Module small = mock(Module.class);
+    final Module large = mock(Module.class);
+    when(small.moduleKey()).thenReturn("SMALL");
+    when(large.moduleKey()).thenReturn("LARGE");
+    final List<ColumnHeader> smallHeaders =
+        List.of(new ColumnHeader("small.A", 1, 3), new ColumnHeader("small.EMPTY", 8, 0));
+    // Spans several compression blocks
+    final List<ColumnHeader> largeHeaders =
+        List.of(new ColumnHeader("large.B", 32, 3 * CompressedTraceWriter.BLOCK_SIZE / 64));
+    final Map<Module, List<ColumnHeader>> moduleHeaders = new LinkedHashMap<>();
+    moduleHeaders.put(small, smallHeaders);
+    moduleHeaders.put(large, largeHeaders);
+
+    final byte[] a = {1, 2, 3};
+    final byte[] b = new byte[largeHeaders.get(0).dataSize()];
+    for (int i = 31; i < b.length; i += 32) {
+      b[i] = (byte) (i / 32);
+    }
+
+    final Path scratchDir = dir.resolve("scratch");
+    final Path target = dir.resolve("trace.ltz");
+    try (ScratchColumns scratch = new ScratchColumns(scratchDir, moduleHeaders);
+        CompressedTraceWriter writer =
+            new CompressedTraceWriter(target, moduleHeaders, scratch, 2)) {
+      // Modules may complete in any order
+      final List<MappedByteBuffer> largeColumns = scratch.open(large);
+      largeColumns.get(0).put(b);
+      final List<MappedByteBuffer> smallColumns = scratch.open(small);
+      smallColumns.get(0).put(a);
+      writer.committed(large, largeColumns);
+      writer.committed(small, smallColumns);
+      writer.finish();
+      // Scratch files are released as soon as their module is compressed
+      assertThat(scratchDir).isEmptyDirectory();
+    }
+
+    assertThat(Files.size(target)).isLessThan(b.length / 5);
+    try (CompressedTraceReader reader = new CompressedTraceReader(target)) {
+      assertThat(reader.getHeaders())
+          .containsExactly(smallHeaders.get(0), smallHeaders.get(1), largeHeaders.get(0));
+      assertThat(reader.readColumn("large.B")).isEqualTo(b);
+      assertThat(reader.readColumn("small.A")).isEqualTo(a);
+      assertThat(reader.readColumn("small.EMPTY")).isEmpty();
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import net.consensys.linea.zktracer.ModuleProfiler.Hook;
+import net.consensys.linea.zktracer.container.stacked.set.StackedSet;
+import net.consensys.linea.zktracer.module.Module;
+import net.consensys.linea.zktracer.module.add.AddOperation;
+import net.consensys.linea.zktracer.opcode.OpCode;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ModuleProfilerTest {
+  private static final String KEY = "PROFILED";
+
+  private final Module module = mock(Module.class);
+
+  @BeforeEach
+  void setUp() {
+    when(this.module.moduleKey()).thenReturn(KEY);
+    ModuleProfiler.reset();
+    ModuleProfiler.enable(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ModuleProfiler.enable(false);
+    ModuleProfiler.reset();
+  }
+
+  @Test
+  void hooksAreTimedAndCounted() {
+    ModuleProfiler.record(this.module, Hook.PRE_OPCODE, 5);
+    ModuleProfiler.record(this.module, Hook.PRE_OPCODE, 7);
+    final long start = ModuleProfiler.start();
+    ModuleProfiler.stop(this.module, Hook.COMMIT, start);
+
+    assertThat(ModuleProfiler.calls(KEY, Hook.PRE_OPCODE)).isEqualTo(2);
+    assertThat(ModuleProfiler.nanos(KEY, Hook.PRE_OPCODE)).isEqualTo(12);
+    assertThat(ModuleProfiler.calls(KEY, Hook.COMMIT)).isEqualTo(1);
+    assertThat(ModuleProfiler.calls(KEY, Hook.POST_OPCODE)).isZero();
+    assertThat(ModuleProfiler.profiles().get(KEY).hooks())
+        .containsOnlyKeys(Hook.PRE_OPCODE, Hook.COMMIT)
+        .containsEntry(Hook.PRE_OPCODE, new ModuleProfiler.HookProfile(2, 12));
+  }
+
+  @Test
+  void nothingIsRecordedWhileDisabled() {
+    ModuleProfiler.enable(false);
+    final long start = ModuleProfiler.start();
+    ModuleProfiler.stop(this.module, Hook.END_TX, start);
+    ModuleProfiler.record(this.module, Hook.END_TX, 5);
+
+    assertThat(start).isZero();
+    assertThat(ModuleProfiler.calls(KEY, Hook.END_TX)).isZero();
+  }
+
+  @Test
+  void hooksStartedWhileDisabledAreIgnored() {
+    ModuleProfiler.enable(false);
+    final long start = ModuleProfiler.start();
+    ModuleProfiler.enable(true);
+    ModuleProfiler.stop(this.module, Hook.START_TX, start);
+
+    assertThat(ModuleProfiler.calls(KEY, Hook.START_TX)).isZero();
+  }
+
+  @Test
+  void operationsAndDuplicatesAreAccumulated() {
+    final StackedSet<AddOperation> operations = new StackedSet<>();
+    when(this.module.operationSet()).thenReturn(Optional.<StackedSet<?>>of(operations));
+    operations.enter();
+    for (int i = 0; i < 4; i++) {
+      operations.add(new AddOperation(OpCode.ADD, Bytes.of(i % 2), Bytes.of(1)));
+    }
+
+    ModuleProfiler.recordOperations(List.of(this.module));
+    ModuleProfiler.recordOperations(List.of(this.module));
+
+    assertThat(ModuleProfiler.operations(KEY)).isEqualTo(8);
+    assertThat(ModuleProfiler.duplicates(KEY)).isEqualTo(4);
+    assertThat(ModuleProfiler.profiles().get(KEY).deduplicationRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  void resetDiscardsEverything() {
+    ModuleProfiler.record(this.module, Hook.LINE_COUNT, 5);
+    ModuleProfiler.reset();
+
+    assertThat(ModuleProfiler.calls(KEY, Hook.LINE_COUNT)).isZero();
+    assertThat(ModuleProfiler.nanos(KEY, Hook.LINE_COUNT)).isZero();
+    assertThat(ModuleProfiler.profiles().get(KEY).hooks()).isEmpty();
+  }
+
+  @Test
+  void listenersLearnOfEveryModule() {
+    ModuleProfiler.record(this.module, Hook.CONTEXT_ENTER, 1);
+    final List<String> keys = new ArrayList<>();
+    ModuleProfiler.onNewModule(keys::add);
+
+    final Module other = mock(Module.class);
+    when(other.moduleKey()).thenReturn(KEY + "_OTHER");
+    ModuleProfiler.record(other, Hook.CONTEXT_EXIT, 1);
+    ModuleProfiler.record(other, Hook.CONTEXT_EXIT, 1);
+
+    assertThat(keys).contains(KEY).containsOnlyOnce(KEY + "_OTHER");
+  }
+}
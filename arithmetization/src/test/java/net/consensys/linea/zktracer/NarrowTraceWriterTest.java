@@ -0,0 +1,94 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.consensys.linea.zktracer.module.Module;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class NarrowTraceWriterTest {
+
+  @Test
+  void narrowestWidthKeepsSignificantBytes() {
+    final ByteBuffer column = ByteBuffer.allocate(3 * 8);
+    column.put(7, (byte) 1);
+    column.put(8 + 5, (byte) 2);
+    assertThat(NarrowTraceWriter.narrowestWidth(column, 8)).isEqualTo(3);
+  }
+
+  @Test
+  void narrowestWidthOfEmptyColumnIsOne() {
+    assertThat(NarrowTraceWriter.narrowestWidth(ByteBuffer.allocate(4 * 32), 32)).isEqualTo(1);
+  }
+
+  @Test
+  void committedModulesAreNarrowedIntoTheTarget(@TempDir Path dir) throws IOException {
+    final Module wide = mock(Module.class);
+    final Module full = mock(Module.class);
+    when(wide.moduleKey()).thenReturn("WIDE");
+    when(full.moduleKey()).thenReturn("FULL");
+    final Map<Module, List<ColumnHeader>> moduleHeaders = new LinkedHashMap<>();
+    moduleHeaders.put(wide, List.of(new ColumnHeader("m.WIDE", 32, 2)));
+    moduleHeaders.put(full, List.of(new ColumnHeader("m.FULL", 2, 2)));
+
+    final Path scratchDir = dir.resolve("scratch");
+    final Path target = dir.resolve("trace.lt");
+    try (ScratchColumns scratch = new ScratchColumns(scratchDir, moduleHeaders);
+        NarrowTraceWriter writer = new NarrowTraceWriter(target, moduleHeaders, scratch)) {
+      final List<MappedByteBuffer> fullColumns = scratch.open(full);
+      fullColumns.get(0).putShort((short) 0x0102).putShort((short) 0x0304);
+      final List<MappedByteBuffer> wideColumns = scratch.open(wide);
+      wideColumns.get(0).put(31, (byte) 0x11).put(63, (byte) 0x22);
+
+      // Modules may complete in any order, and are released as soon as they are narrowed
+      writer.committed(full, fullColumns);
+      writer.committed(wide, wideColumns);
+      assertThat(scratchDir).isEmptyDirectory();
+      writer.finish();
+    }
+
+    assertThat(TraceFormat.of(target)).isEqualTo(TraceFormat.V2);
+    final ByteBuffer trace = ByteBuffer.wrap(Files.readAllBytes(target));
+    trace.position(TraceFormat.V2.preambleSize());
+    assertThat(trace.getInt()).isEqualTo(2);
+    final List<ColumnHeader> headers = List.of(readHeader(trace), readHeader(trace));
+    assertThat(headers)
+        .containsExactly(new ColumnHeader("m.FULL", 2, 2), new ColumnHeader("m.WIDE", 1, 2));
+    assertThat(trace.getInt()).isEqualTo(0x01020304);
+    assertThat(trace.get()).isEqualTo((byte) 0x11);
+    assertThat(trace.get()).isEqualTo((byte) 0x22);
+    assertThat(trace.hasRemaining()).isFalse();
+  }
+
+  private static ColumnHeader readHeader(final ByteBuffer trace) {
+    final byte[] name = new byte[trace.getShort()];
+    trace.get(name);
+    return new ColumnHeader(new String(name), trace.get(), trace.getInt());
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.bytestheta;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+
+/** Checks {@link LimbArithmetic} against {@link BigInteger}, on random and edge-case operands. */
+public class LimbArithmeticTest {
+  private static final Random RAND = new Random(666);
+  private static final int ITERATIONS = 10_000;
+  private static final BigInteger TWO_256 = BigInteger.ONE.shiftLeft(256);
+
+  @Test
+  void conversions() {
+    final Bytes32 word =
+        Bytes32.fromHexString("0x000000000000000a000000000000000b000000000000000c000000000000000d");
+    final long[] limbs = LimbArithmetic.fromBytes32(word);
+
+    assertThat(limbs).containsExactly(0xdL, 0xcL, 0xbL, 0xaL);
+    assertThat(LimbArithmetic.toBytes32(limbs)).isEqualTo(word);
+    assertThat(limbs).containsExactly(limbsOf(BaseTheta.fromBytes32(word)));
+  }
+
+  @Test
+  void bytesOfLimbs() {
+    final long limb = 0x0102030405060708L;
+
+    assertThat(LimbArithmetic.byteOf(limb, 0)).isEqualTo((byte) 1);
+    assertThat(LimbArithmetic.byteOf(limb, 7)).isEqualTo((byte) 8);
+    assertThat(LimbArithmetic.withByte(limb, 2, (byte) 0xff)).isEqualTo(0x0102ff0405060708L);
+    assertThat(LimbArithmetic.accumulator(limb, 3).toLong()).isEqualTo(0x010203L);
+    assertThat(LimbArithmetic.accumulator(limb, 8).toLong()).isEqualTo(limb);
+  }
+
+  @Test
+  void comparisons() {
+    for (int i = 0; i < ITERATIONS; i++) {
+      final Bytes32 x = randomWord();
+      final Bytes32 y = RAND.nextBoolean() ? randomWord() : x;
+      final long[] xLimbs = LimbArithmetic.fromBytes32(x);
+      final long[] yLimbs = LimbArithmetic.fromBytes32(y);
+
+      assertThat(Integer.signum(LimbArithmetic.compareUnsigned(xLimbs, yLimbs)))
+          .isEqualTo(x.toUnsignedBigInteger().compareTo(y.toUnsignedBigInteger()));
+      assertThat(Integer.signum(LimbArithmetic.compareSigned(xLimbs, yLimbs)))
+          .isEqualTo(x.toBigInteger().compareTo(y.toBigInteger()));
+    }
+  }
+
+  @Test
+  void additionAndSubtraction() {
+    for (int i = 0; i < ITERATIONS; i++) {
+      final Bytes32 x = randomWord();
+      final Bytes32 y = randomWord();
+      final long[] out = new long[LimbArithmetic.WORD_LIMBS];
+      final BigInteger sum = x.toUnsignedBigInteger().add(y.toUnsignedBigInteger());
+      final BigInteger difference = x.toUnsignedBigInteger().subtract(y.toUnsignedBigInteger());
+
+      final long carry =
+          LimbArithmetic.add(LimbArithmetic.fromBytes32(x), LimbArithmetic.fromBytes32(y), out);
+      assertThat(valueOf(out)).isEqualTo(sum.mod(TWO_256));
+      assertThat(carry).isEqualTo(sum.testBit(256) ? 1 : 0);
+
+      final long borrow =
+          LimbArithmetic.subtract(
+              LimbArithmetic.fromBytes32(x), LimbArithmetic.fromBytes32(y), out);
+      assertThat(valueOf(out)).isEqualTo(difference.mod(TWO_256));
+      assertThat(borrow).isEqualTo(difference.signum() < 0 ? 1 : 0);
+
+      LimbArithmetic.negate(LimbArithmetic.fromBytes32(x), out);
+      assertThat(valueOf(out)).isEqualTo(x.toUnsignedBigInteger().negate().mod(TWO_256));
+    }
+  }
+
+  @Test
+  void multiplication() {
+    for (int i = 0; i < ITERATIONS; i++) {
+      final Bytes32 x = randomWord();
+      final Bytes32 y = randomWord();
+      final BigInteger product = x.toUnsignedBigInteger().multiply(y.toUnsignedBigInteger());
+      final long[] wide = new long[2 * LimbArithmetic.WORD_LIMBS];
+      final long[] truncated = new long[LimbArithmetic.WORD_LIMBS];
+
+      LimbArithmetic.multiply(LimbArithmetic.fromBytes32(x), LimbArithmetic.fromBytes32(y), wide);
+      LimbArithmetic.multiply(
+          LimbArithmetic.fromBytes32(x), LimbArithmetic.fromBytes32(y), truncated);
+
+      assertThat(valueOf(wide)).isEqualTo(product);
+      assertThat(valueOf(truncated)).isEqualTo(product.mod(TWO_256));
+    }
+  }
+
+  @Test
+  void exponentiation() {
+    for (int i = 0; i < ITERATIONS / 10; i++) {
+      final Bytes32 x = randomWord();
+      final Bytes32 e = randomWord();
+      final long[] out = new long[LimbArithmetic.WORD_LIMBS];
+
+      LimbArithmetic.pow(LimbArithmetic.fromBytes32(x), LimbArithmetic.fromBytes32(e), out);
+
+      assertThat(valueOf(out))
+          .isEqualTo(x.toUnsignedBigInteger().modPow(e.toUnsignedBigInteger(), TWO_256));
+    }
+  }
+
+  @Test
+  void division() {
+    for (int i = 0; i < ITERATIONS; i++) {
+      final long[] n = new long[2 * LimbArithmetic.WORD_LIMBS];
+      LimbArithmetic.multiply(
+          LimbArithmetic.fromBytes32(randomWord()), LimbArithmetic.fromBytes32(randomWord()), n);
+      final long[] d = LimbArithmetic.fromBytes32(randomWord());
+      if (LimbArithmetic.isZero(d)) {
+        continue;
+      }
+      final long[] q = new long[2 * LimbArithmetic.WORD_LIMBS];
+      final long[] r = new long[LimbArithmetic.WORD_LIMBS];
+
+      LimbArithmetic.divide(n, d, q, r);
+
+      final BigInteger[] expected = valueOf(n).divideAndRemainder(valueOf(d));
+      assertThat(valueOf(q)).isEqualTo(expected[0]);
+      assertThat(valueOf(r)).isEqualTo(expected[1]);
+    }
+  }
+
+  @Test
+  void divisionByZero() {
+    final long[] x = LimbArithmetic.fromBytes32(Bytes32.fromHexString("0x2a"));
+
+    assertThatThrownBy(() -> LimbArithmetic.divide(x, new long[4], x, x))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  void bits() {
+    for (int i = 0; i < ITERATIONS; i++) {
+      final Bytes32 x = randomWord();
+      final BigInteger value = x.toUnsignedBigInteger();
+      final long[] limbs = LimbArithmetic.fromBytes32(x);
+
+      assertThat(LimbArithmetic.bitLength(limbs)).isEqualTo(value.bitLength());
+      assertThat(LimbArithmetic.bitCount(limbs)).isEqualTo(value.bitCount());
+      assertThat(LimbArithmetic.numberOfTrailingZeros(limbs))
+          .isEqualTo(value.signum() == 0 ? 256 : value.getLowestSetBit());
+      final int bit = RAND.nextInt(256);
+      assertThat(LimbArithmetic.testBit(limbs, bit)).isEqualTo(value.testBit(bit));
+      assertThat(LimbArithmetic.numberOfLeadingZeroBytes(limbs[1], limbs[0]))
+          .isEqualTo(16 - x.slice(16).trimLeadingZeros().size());
+    }
+  }
+
+  /** Random words, biased towards small values and runs of zero or 0xff bytes. */
+  private static Bytes32 randomWord() {
+    final byte[] bytes = new byte[32];
+    final int size = RAND.nextInt(33);
+    for (int i = 32 - size; i < 32; i++) {
+      bytes[i] =
+          switch (RAND.nextInt(4)) {
+            case 0 -> 0;
+            case 1 -> (byte) 0xff;
+            default -> (byte) RAND.nextInt(256);
+          };
+    }
+    return Bytes32.wrap(bytes);
+  }
+
+  private static BigInteger valueOf(long[] limbs) {
+    return LimbArithmetic.toBytes(limbs).toUnsignedBigInteger();
+  }
+
+  private static long[] limbsOf(BaseTheta baseTheta) {
+    final long[] limbs = new long[LimbArithmetic.WORD_LIMBS];
+    for (int k = 0; k < LimbArithmetic.WORD_LIMBS; k++) {
+      limbs[k] = Bytes.wrap(baseTheta.get(k)).toLong();
+    }
+    return limbs;
+  }
+}
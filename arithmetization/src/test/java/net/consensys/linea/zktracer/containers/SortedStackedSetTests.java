@@ -0,0 +1,93 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.containers;
+
+import java.util.Comparator;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import net.consensys.linea.zktracer.container.ModuleOperation;
+import net.consensys.linea.zktracer.container.stacked.set.SortedStackedSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SortedStackedSetTests {
+  @RequiredArgsConstructor
+  @EqualsAndHashCode(callSuper = false)
+  private static class IntegerModuleOperation extends ModuleOperation {
+    private final int x;
+
+    @Override
+    protected int computeLineCount() {
+      return 1;
+    }
+  }
+
+  private static final Comparator<IntegerModuleOperation> BY_VALUE =
+      Comparator.comparingInt(o -> o.x);
+
+  private static List<Integer> sorted(SortedStackedSet<IntegerModuleOperation> set) {
+    return ImmutableList.copyOf(set.sorted()).stream().map(o -> o.x).toList();
+  }
+
+  @Test
+  public void sealedLayersAreMerged() {
+    final SortedStackedSet<IntegerModuleOperation> set = new SortedStackedSet<>(BY_VALUE);
+    set.enter();
+    set.add(new IntegerModuleOperation(5));
+    set.add(new IntegerModuleOperation(1));
+    Assertions.assertEquals(2, set.seal().size());
+
+    set.enter();
+    set.add(new IntegerModuleOperation(3));
+    set.add(new IntegerModuleOperation(5));
+    Assertions.assertEquals(1, set.seal().size());
+
+    Assertions.assertEquals(List.of(1, 3, 5), sorted(set));
+  }
+
+  @Test
+  public void poppedLayersAreDropped() {
+    final SortedStackedSet<IntegerModuleOperation> set = new SortedStackedSet<>(BY_VALUE);
+    set.enter();
+    set.add(new IntegerModuleOperation(1));
+    set.add(new IntegerModuleOperation(2));
+    set.seal();
+
+    set.enter();
+    set.add(new IntegerModuleOperation(0));
+    set.seal();
+    set.pop();
+
+    set.enter();
+    set.add(new IntegerModuleOperation(3));
+    set.pop();
+
+    Assertions.assertEquals(List.of(1, 2), sorted(set));
+    Assertions.assertEquals(2, set.lastSealed().orElseThrow().x);
+  }
+
+  @Test
+  public void unsealedLayersCanNotBeIterated() {
+    final SortedStackedSet<IntegerModuleOperation> set = new SortedStackedSet<>(BY_VALUE);
+    set.enter();
+    set.add(new IntegerModuleOperation(1));
+
+    Assertions.assertThrows(IllegalStateException.class, set::sorted);
+  }
+}
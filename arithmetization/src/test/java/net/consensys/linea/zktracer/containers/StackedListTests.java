@@ -97,4 +97,39 @@ public class StackedListTests {
     chunks.pop();
     Assertions.assertEquals(2, ImmutableList.copyOf(chunks.iterator()).size());
   }
+
+  @Test
+  void randomAccessSpansContexts() {
+    final StackedList<IntegerModuleOperation> state = new StackedList<>();
+    final int n = 5000;
+    for (int i = 0; i < n; i++) {
+      if (i % 7 == 0) {
+        state.enter();
+      }
+      state.add(new IntegerModuleOperation(i));
+    }
+
+    assertThat(state.size()).isEqualTo(n);
+    for (int i = 0; i < n; i++) {
+      assertThat(state.get(i).x).isEqualTo(i);
+    }
+    assertThat(state.get(n)).isNull();
+    assertThat(state.getLast().x).isEqualTo(n - 1);
+  }
+
+  @Test
+  void lineCountFollowsPop() {
+    final StackedList<IntegerModuleOperation> state = new StackedList<>();
+    state.enter();
+    state.add(new IntegerModuleOperation(2));
+    state.enter();
+    state.add(new IntegerModuleOperation(3));
+    assertThat(state.lineCount()).isEqualTo(5);
+
+    state.pop();
+    assertThat(state.lineCount()).isEqualTo(2);
+    state.enter();
+    state.add(new IntegerModuleOperation(7));
+    assertThat(state.lineCount()).isEqualTo(9);
+  }
 }
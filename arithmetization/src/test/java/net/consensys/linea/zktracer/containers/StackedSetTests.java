@@ -16,6 +16,8 @@
 package net.consensys.linea.zktracer.containers;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.google.common.collect.ImmutableList;
 import net.consensys.linea.zktracer.container.stacked.set.StackedSet;
@@ -68,4 +70,92 @@ public class StackedSetTests {
     chunks.pop();
     Assertions.assertEquals(1, ImmutableList.copyOf(chunks.iterator()).size());
   }
+
+  @Test
+  public void lineCountFollowsPushPop() {
+    StackedSet<AddOperation> chunks = new StackedSet<>();
+    chunks.enter();
+    chunks.add(ONE_PLUS_ONE);
+    Assertions.assertEquals(ONE_PLUS_ONE.lineCount(), chunks.lineCount());
+
+    chunks.enter();
+    chunks.add(ONE_PLUS_ONE);
+    chunks.add(ONE_PLUS_TWO);
+    Assertions.assertEquals(
+        ONE_PLUS_ONE.lineCount() + ONE_PLUS_TWO.lineCount(), chunks.lineCount());
+
+    chunks.pop();
+    Assertions.assertEquals(ONE_PLUS_ONE.lineCount(), chunks.lineCount());
+    Assertions.assertEquals(1, chunks.size());
+
+    chunks.pop();
+    Assertions.assertEquals(0, chunks.lineCount());
+    Assertions.assertEquals(0, chunks.size());
+  }
+
+  @Test
+  public void iterationFollowsInsertionOrder() {
+    StackedSet<AddOperation> chunks = new StackedSet<>();
+    final List<AddOperation> expected = new ArrayList<>();
+    chunks.enter();
+    for (int i = 0; i < 100; i++) {
+      final AddOperation op =
+          new AddOperation(OpCode.ADD, Bytes.ofUnsignedInt(i), Bytes.ofUnsignedInt(i % 10));
+      chunks.add(op);
+      chunks.add(op);
+      expected.add(op);
+    }
+
+    chunks.enter();
+    for (int i = 50; i < 150; i++) {
+      chunks.add(
+          new AddOperation(OpCode.ADD, Bytes.ofUnsignedInt(i), Bytes.ofUnsignedInt(i % 10)));
+    }
+    Assertions.assertEquals(150, chunks.size());
+
+    chunks.pop();
+    Assertions.assertEquals(expected, ImmutableList.copyOf(chunks.iterator()));
+    Assertions.assertTrue(chunks.contains(expected.get(99)));
+    Assertions.assertFalse(
+        chunks.contains(
+            new AddOperation(OpCode.ADD, Bytes.ofUnsignedInt(100), Bytes.ofUnsignedInt(0))));
+  }
+
+  @Test
+  public void additionsAndDuplicatesAreCounted() {
+    StackedSet<AddOperation> chunks = new StackedSet<>();
+    chunks.enter();
+    // Enough distinct elements to grow the set several times
+    for (int i = 0; i < 100; i++) {
+      chunks.add(new AddOperation(OpCode.ADD, Bytes.ofUnsignedInt(i), Bytes.ofUnsignedInt(0)));
+    }
+    for (int i = 0; i < 100; i += 2) {
+      chunks.add(new AddOperation(OpCode.ADD, Bytes.ofUnsignedInt(i), Bytes.ofUnsignedInt(0)));
+    }
+    Assertions.assertEquals(150, chunks.additions());
+    Assertions.assertEquals(50, chunks.duplicates());
+
+    // Elements of an older context are duplicates; dropping a context keeps the counts
+    chunks.enter();
+    chunks.add(ONE_PLUS_ONE);
+    chunks.add(ONE_PLUS_ONE);
+    chunks.add(new AddOperation(OpCode.ADD, Bytes.ofUnsignedInt(3), Bytes.ofUnsignedInt(0)));
+    chunks.pop();
+    Assertions.assertEquals(153, chunks.additions());
+    Assertions.assertEquals(52, chunks.duplicates());
+
+    // A dropped element is not a duplicate anymore
+    chunks.add(ONE_PLUS_ONE);
+    Assertions.assertEquals(154, chunks.additions());
+    Assertions.assertEquals(52, chunks.duplicates());
+
+    chunks.clear();
+    Assertions.assertEquals(0, chunks.additions());
+    Assertions.assertEquals(0, chunks.duplicates());
+    chunks.enter();
+    chunks.add(ONE_PLUS_ONE);
+    chunks.add(ONE_PLUS_ONE);
+    Assertions.assertEquals(2, chunks.additions());
+    Assertions.assertEquals(1, chunks.duplicates());
+  }
 }
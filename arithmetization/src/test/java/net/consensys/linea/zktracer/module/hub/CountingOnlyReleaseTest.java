@@ -0,0 +1,93 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.module.hub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.consensys.linea.zktracer.module.hub.defer.DeferRegistry;
+import net.consensys.linea.zktracer.module.hub.fragment.TraceFragment;
+import net.consensys.linea.zktracer.opcode.InstructionFamily;
+import net.consensys.linea.zktracer.runtime.callstack.CallFrame;
+import net.consensys.linea.zktracer.types.TxState;
+import org.hyperledger.besu.evm.worldstate.WorldView;
+import org.junit.jupiter.api.Test;
+
+class CountingOnlyReleaseTest {
+  private static final int TX_ID = 7;
+
+  private final Hub hub = mock(Hub.class, RETURNS_DEEP_STUBS);
+  private final CallFrame frame = mock(CallFrame.class);
+  private final WorldView world = mock(WorldView.class);
+  private final State state = new State();
+  private final DeferRegistry defers = new DeferRegistry();
+
+  CountingOnlyReleaseTest() {
+    when(this.hub.transients().tx().id()).thenReturn(TX_ID);
+    when(this.hub.transients().tx().state()).thenReturn(TxState.TX_EXEC);
+    when(this.hub.opCodeData().instructionFamily()).thenReturn(InstructionFamily.ADD);
+  }
+
+  /** Traces a transaction of a single row, and releases it as a counting-only Hub does. */
+  private int traceAndRelease(boolean withDefer, List<Integer> deferredReads) {
+    this.state.enter();
+    final int defersAtTxStart = this.defers.postConflationCount();
+
+    final int row =
+        this.state.rows().addRow(this.hub, this.frame, false, 0, mock(TraceFragment.class));
+    if (withDefer) {
+      this.defers.postConflation(
+          (hub, world) -> {
+            deferredReads.add(this.state.rows().txId(row));
+            this.state.rows().newPc(row, 1);
+          });
+    }
+
+    this.state.release(
+        this.state.currentTxTrace(), this.defers.postConflationCount() > defersAtTxStart);
+    return row;
+  }
+
+  @Test
+  void releaseWithoutDefersIsImmediate() {
+    this.traceAndRelease(false, new ArrayList<>());
+
+    assertThat(this.state.rows().size()).isZero();
+    assertThat(this.state.currentTxTrace().isEmpty()).isTrue();
+  }
+
+  @Test
+  void postConflationDeferRunsAfterRelease() {
+    final List<Integer> deferredReads = new ArrayList<>();
+    this.traceAndRelease(true, deferredReads);
+    this.traceAndRelease(false, deferredReads);
+    this.traceAndRelease(true, deferredReads);
+
+    // The rows read by the defers are kept until they have run
+    assertThat(this.state.rows().size()).isEqualTo(2);
+
+    this.defers.runPostConflation(this.hub, this.world);
+    this.state.releasePending();
+
+    assertThat(deferredReads).containsExactly(TX_ID, TX_ID);
+    assertThat(this.state.rows().size()).isZero();
+  }
+}
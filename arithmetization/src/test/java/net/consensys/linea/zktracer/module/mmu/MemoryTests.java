@@ -15,13 +15,24 @@
 
 package net.consensys.linea.zktracer.module.mmu;
 
+import java.util.List;
 import java.util.Random;
 
 import net.consensys.linea.zktracer.opcode.OpCode;
 import net.consensys.linea.zktracer.testing.BytecodeCompiler;
 import net.consensys.linea.zktracer.testing.BytecodeRunner;
 import net.consensys.linea.zktracer.testing.EvmExtension;
+import net.consensys.linea.zktracer.testing.ToyAccount;
+import net.consensys.linea.zktracer.testing.ToyExecutionEnvironment;
+import net.consensys.linea.zktracer.testing.ToyTransaction;
+import net.consensys.linea.zktracer.testing.ToyWorld;
 import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.crypto.KeyPair;
+import org.hyperledger.besu.crypto.SECP256K1;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.core.Transaction;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -66,4 +77,82 @@ class MemoryTests {
             BytecodeCompiler.newProgram().push(66872).push(35).op(OpCode.MSTORE8).compile())
         .run();
   }
+
+  /**
+   * Interleaves MMU reads of the memory with every kind of write to it, around the 4096-byte
+   * boundaries of the memory snapshot pages; the snapshots are checked against Besu when assertions
+   * are enabled.
+   */
+  @Test
+  void memoryWritesBetweenMmuReads() {
+    final Bytes code =
+        BytecodeCompiler.newProgram()
+            // CALLDATACOPY over the end of the first page
+            .push(64)
+            .push(0)
+            .push(4080)
+            .op(OpCode.CALLDATACOPY)
+            .push(4064)
+            .op(OpCode.MLOAD)
+            // CALL to the IDENTITY precompile, returning over the end of the second page
+            .push(64) // retSize
+            .push(8176) // retOffset
+            .push(64) // argSize
+            .push(4080) // argOffset
+            .push(0) // value
+            .push(Address.ID)
+            .push(0xffff) // gas
+            .op(OpCode.CALL)
+            .push(8160)
+            .op(OpCode.MLOAD)
+            // RETURNDATACOPY into the first page
+            .push(32)
+            .push(16)
+            .push(0)
+            .op(OpCode.RETURNDATACOPY)
+            .push(0)
+            .op(OpCode.MLOAD)
+            // MSTORE8 at the last byte of the first page
+            .push(0xab)
+            .push(4095)
+            .op(OpCode.MSTORE8)
+            .push(4080)
+            .op(OpCode.MLOAD)
+            // RETURN the whole memory
+            .push(8256)
+            .push(0)
+            .op(OpCode.RETURN)
+            .compile();
+
+    final KeyPair keyPair = new SECP256K1().generateKeyPair();
+    final Address senderAddress =
+        Address.extract(Hash.hash(keyPair.getPublicKey().getEncodedBytes()));
+    final ToyAccount senderAccount =
+        ToyAccount.builder().balance(Wei.fromEth(1)).nonce(5).address(senderAddress).build();
+    final ToyAccount receiverAccount =
+        ToyAccount.builder()
+            .balance(Wei.fromEth(1))
+            .nonce(6)
+            .address(Address.fromHexString("0x1111111111111111111111111111111111111111"))
+            .code(code)
+            .build();
+
+    final byte[] callData = new byte[64];
+    rnd.nextBytes(callData);
+    final Transaction tx =
+        ToyTransaction.builder()
+            .sender(senderAccount)
+            .to(receiverAccount)
+            .keyPair(keyPair)
+            .payload(Bytes.wrap(callData))
+            .gasLimit(1_000_000L)
+            .build();
+
+    ToyExecutionEnvironment.builder()
+        .toyWorld(ToyWorld.builder().accounts(List.of(senderAccount, receiverAccount)).build())
+        .transaction(tx)
+        .testValidator(x -> {})
+        .build()
+        .run();
+  }
 }
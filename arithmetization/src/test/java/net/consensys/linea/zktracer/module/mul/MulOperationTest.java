@@ -0,0 +1,56 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.module.mul;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import net.consensys.linea.zktracer.opcode.OpCode;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.Test;
+
+public class MulOperationTest {
+  private static int lineCount(OpCode opCode, long arg1, long arg2) {
+    return new MulOperation(opCode, UInt256.valueOf(arg1), UInt256.valueOf(arg2)).lineCount();
+  }
+
+  @Test
+  void oneLineInstructions() {
+    assertThat(lineCount(OpCode.MUL, 1, 12345)).isEqualTo(1);
+    assertThat(lineCount(OpCode.EXP, 12345, 0)).isEqualTo(1);
+  }
+
+  @Test
+  void nonTrivialMul() {
+    assertThat(lineCount(OpCode.MUL, 3, 5)).isEqualTo(8);
+  }
+
+  @Test
+  void vanishingExponentiation() {
+    // 2^256 and 4^128 overflow to 0
+    assertThat(lineCount(OpCode.EXP, 2, 256)).isEqualTo(8);
+    assertThat(lineCount(OpCode.EXP, 4, 128)).isEqualTo(8);
+  }
+
+  @Test
+  void squareAndMultiply() {
+    // 0b101: 3 squarings and 1 multiplication
+    assertThat(lineCount(OpCode.EXP, 3, 5)).isEqualTo(8 * 4);
+    // 0b11111111: 8 squarings and 7 multiplications
+    assertThat(lineCount(OpCode.EXP, 3, 255)).isEqualTo(8 * 15);
+    // 2^255 does not vanish
+    assertThat(lineCount(OpCode.EXP, 2, 255)).isEqualTo(8 * 15);
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.module.rlputils;
+
+import static net.consensys.linea.zktracer.module.rlputils.Pattern.bytesRlpSize;
+import static net.consensys.linea.zktracer.module.rlputils.Pattern.listRlpSize;
+import static net.consensys.linea.zktracer.module.rlputils.Pattern.scalarRlpSize;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.datatypes.AccessListEntry;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.ethereum.core.encoding.AccessListTransactionEncoder;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/** Checks the RLP size helpers against the encodings computed by Besu. */
+class PatternTest {
+
+  static Stream<BigInteger> scalars() {
+    return Stream.of(
+        BigInteger.ZERO,
+        BigInteger.ONE,
+        BigInteger.valueOf(0x7f),
+        BigInteger.valueOf(0x80),
+        BigInteger.valueOf(0xff),
+        BigInteger.valueOf(0x100),
+        // pre-EIP-155 v
+        BigInteger.valueOf(27),
+        BigInteger.valueOf(28),
+        // EIP-155 v on mainnet and on Linea
+        BigInteger.valueOf(1 * 2 + 35),
+        BigInteger.valueOf(1 * 2 + 36),
+        BigInteger.valueOf(59144 * 2 + 35),
+        BigInteger.valueOf(59144 * 2 + 36),
+        // the largest 55-byte scalar, and the smallest 56-byte one
+        BigInteger.ONE.shiftLeft(8 * 55).subtract(BigInteger.ONE),
+        BigInteger.ONE.shiftLeft(8 * 55),
+        BigInteger.ONE.shiftLeft(256).subtract(BigInteger.ONE));
+  }
+
+  @ParameterizedTest
+  @MethodSource("scalars")
+  void scalarRlpSizeMatchesBesu(BigInteger scalar) {
+    assertThat(scalarRlpSize(scalar))
+        .isEqualTo(RLP.encode(out -> out.writeBigIntegerScalar(scalar)).size());
+  }
+
+  static Stream<Bytes> byteStrings() {
+    return Stream.of(
+        // empty to
+        Bytes.EMPTY,
+        Bytes.of(0x00),
+        Bytes.of(0x7f),
+        Bytes.of(0x80),
+        Bytes.of(0xff),
+        Bytes.of(0x00, 0x00),
+        Address.fromHexString("0x00000000000000000000000000000000000000ff"),
+        Bytes.wrap(new byte[55]),
+        Bytes.wrap(new byte[56]),
+        Bytes.wrap(new byte[255]),
+        Bytes.wrap(new byte[256]),
+        Bytes.wrap(new byte[65536]));
+  }
+
+  @ParameterizedTest
+  @MethodSource("byteStrings")
+  void bytesRlpSizeMatchesBesu(Bytes bytes) {
+    assertThat(bytesRlpSize(bytes)).isEqualTo(RLP.encode(out -> out.writeBytes(bytes)).size());
+  }
+
+  static Stream<Integer> listPayloadSizes() {
+    return Stream.of(0, 1, 55, 56, 255, 256, 65535, 65536);
+  }
+
+  @ParameterizedTest
+  @MethodSource("listPayloadSizes")
+  void listRlpSizeMatchesBesu(int payloadSize) {
+    final Bytes encoded =
+        RLP.encode(
+            out -> {
+              out.startList();
+              out.writeRaw(Bytes.wrap(new byte[payloadSize]));
+              out.endList();
+            });
+    assertThat(listRlpSize(payloadSize)).isEqualTo(encoded.size());
+  }
+
+  @Test
+  void accessListRlpSizeMatchesBesu() {
+    final Address address = Address.fromHexString("0x1234567890123456789012345678901234567890");
+    final List<List<AccessListEntry>> accessLists =
+        List.of(
+            List.of(),
+            List.of(new AccessListEntry(address, List.of())),
+            List.of(new AccessListEntry(address, List.of(Bytes32.ZERO))),
+            List.of(
+                new AccessListEntry(address, List.of(Bytes32.ZERO, Bytes32.ZERO)),
+                new AccessListEntry(Address.ZERO, List.of())),
+            List.of(
+                new AccessListEntry(
+                    address, Stream.generate(() -> Bytes32.ZERO).limit(100).toList())));
+
+    for (List<AccessListEntry> accessList : accessLists) {
+      int payloadSize = 0;
+      for (AccessListEntry entry : accessList) {
+        payloadSize +=
+            listRlpSize(
+                bytesRlpSize(entry.address())
+                    + listRlpSize(
+                        entry.storageKeys().stream().mapToInt(Pattern::bytesRlpSize).sum()));
+      }
+
+      final Bytes encoded =
+          RLP.encode(
+              out -> AccessListTransactionEncoder.writeAccessList(out, Optional.of(accessList)));
+      assertThat(listRlpSize(payloadSize)).isEqualTo(encoded.size());
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.module.shakiradata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import net.consensys.linea.zktracer.opcode.OpCode;
+import net.consensys.linea.zktracer.testing.BytecodeCompiler;
+import net.consensys.linea.zktracer.testing.BytecodeRunner;
+import net.consensys.linea.zktracer.testing.EvmExtension;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.crypto.Hash;
+import org.hyperledger.besu.datatypes.Address;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(EvmExtension.class)
+class ShakiraDataTest {
+  private static final Bytes32 PREIMAGE =
+      Bytes32.fromHexString("0x0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
+
+  /** Calls a precompile on the 32 bytes at offset 0, with 32 bytes of return data at offset 32. */
+  private static BytecodeCompiler callPrecompile(BytecodeCompiler program, Address precompile) {
+    return program
+        .push(32) // retSize
+        .push(32) // retOffset
+        .push(32) // argSize
+        .push(0) // argOffset
+        .push(0) // value
+        .push(precompile)
+        .push(0xffff) // gas
+        .op(OpCode.CALL)
+        .op(OpCode.POP);
+  }
+
+  @Test
+  void precompileDigestsAreNotReadFromThePreviousReturnData() {
+    final BytecodeCompiler program =
+        BytecodeCompiler.newProgram().push(PREIMAGE).push(0).op(OpCode.MSTORE);
+    // IDENTITY returns 32 bytes, which must not be mistaken for the digests
+    callPrecompile(program, Address.ID);
+    callPrecompile(program, Address.SHA256);
+    callPrecompile(program, Address.ID);
+    callPrecompile(program, Address.RIPEMD160);
+
+    final BytecodeRunner runner = BytecodeRunner.of(program.compile());
+    runner.run();
+
+    final List<ShakiraDataOperation> operations =
+        runner.getHub().shakiraData().operationSet().orElseThrow().stream()
+            .map(ShakiraDataOperation.class::cast)
+            .toList();
+    assertThat(operations)
+        .extracting(ShakiraDataOperation::precompileType)
+        .containsExactlyInAnyOrder(ShakiraPrecompileType.SHA256, ShakiraPrecompileType.RIPEMD);
+    for (ShakiraDataOperation operation : operations) {
+      final Bytes32 expected =
+          switch (operation.precompileType()) {
+            case SHA256 -> Hash.sha256(PREIMAGE);
+            case RIPEMD -> Bytes32.leftPad(Hash.ripemd160(PREIMAGE));
+            case KECCAK -> Hash.keccak256(PREIMAGE);
+          };
+      assertThat(operation.result()).isEqualTo(expected);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.runtime.callstack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import net.consensys.linea.zktracer.opcode.OpCode;
+import net.consensys.linea.zktracer.testing.BytecodeCompiler;
+import net.consensys.linea.zktracer.testing.EvmExtension;
+import net.consensys.linea.zktracer.testing.ToyAccount;
+import net.consensys.linea.zktracer.testing.ToyExecutionEnvironment;
+import net.consensys.linea.zktracer.testing.ToyTransaction;
+import net.consensys.linea.zktracer.testing.ToyWorld;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.crypto.KeyPair;
+import org.hyperledger.besu.crypto.SECP256K1;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Ensure that exited frames, once the data only required during their execution is released, are
+ * still traced correctly by the modules reading their memory after the transaction is over.
+ */
+@ExtendWith(EvmExtension.class)
+public class CallFrameCompactionTest {
+  private static final Bytes32 WORD =
+      Bytes32.fromHexString("0xdeadbeefcafebabe0123456789abcdef00112233445566778899aabbccddeeff");
+
+  @Test
+  void compactedFramesAreTraced() {
+    KeyPair keyPair = new SECP256K1().generateKeyPair();
+    Address senderAddress = Address.extract(Hash.hash(keyPair.getPublicKey().getEncodedBytes()));
+
+    ToyAccount senderAccount =
+        ToyAccount.builder().balance(Wei.fromEth(1)).nonce(5).address(senderAddress).build();
+
+    ToyAccount callerAccount =
+        ToyAccount.builder()
+            .balance(Wei.fromEth(1))
+            .nonce(6)
+            .address(Address.fromHexString("0x111111"))
+            .code(
+                BytecodeCompiler.newProgram()
+                    .push(32) // retSize
+                    .push(0) // retOffset
+                    .push(0) // argsSize
+                    .push(0) // argsOffset
+                    .push(0) // value
+                    .push(0x222222) // address
+                    .push(10000) // gas
+                    .op(OpCode.CALL)
+                    .op(OpCode.POP)
+                    .compile())
+            .build();
+
+    ToyAccount calleeAccount =
+        ToyAccount.builder()
+            .balance(Wei.ONE)
+            .nonce(1)
+            .address(Address.fromHexString("0x222222"))
+            .code(
+                BytecodeCompiler.newProgram()
+                    .push(WORD)
+                    .push(0)
+                    .op(OpCode.MSTORE)
+                    .push(32)
+                    .push(0)
+                    .op(OpCode.RETURN)
+                    .compile())
+            .build();
+
+    Transaction tx =
+        ToyTransaction.builder().sender(senderAccount).to(callerAccount).keyPair(keyPair).build();
+
+    ToyWorld toyWorld =
+        ToyWorld.builder().accounts(List.of(senderAccount, callerAccount, calleeAccount)).build();
+
+    ToyExecutionEnvironment.builder()
+        .toyWorld(toyWorld)
+        .transaction(tx)
+        .zkTracerValidator(
+            zkTracer -> {
+              final CallStack callStack = zkTracer.getHub().callStack();
+              final CallFrame caller = callStack.current();
+              final CallFrame callee = callStack.getById(caller.childFrames().get(0));
+
+              // Both frames are over, and only keep their final memory
+              assertThat(caller.frame()).isNull();
+              assertThat(callee.frame()).isNull();
+              assertThat(callee.memory()).isEqualTo(WORD);
+              assertThat(caller.memory()).isEqualTo(WORD);
+            })
+        .build()
+        // The MMU reads the memory of the callee when committing its RETURN
+        .run();
+  }
+}
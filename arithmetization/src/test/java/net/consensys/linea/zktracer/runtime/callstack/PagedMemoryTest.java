@@ -0,0 +1,137 @@
+/*
+ * Copyright Consensys Software Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.consensys.linea.zktracer.runtime.callstack;
+
+import static net.consensys.linea.zktracer.runtime.callstack.PagedMemory.PAGE_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.MutableBytes;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.junit.jupiter.api.Test;
+
+class PagedMemoryTest {
+  private final PagedMemory pagedMemory = new PagedMemory();
+  private final MessageFrame frame = mock(MessageFrame.class);
+
+  /** the memory of the frame, as Besu would hold it */
+  private MutableBytes memory = MutableBytes.EMPTY;
+
+  PagedMemoryTest() {
+    when(this.frame.memoryByteSize()).thenAnswer(invocation -> (long) this.memory.size());
+    when(this.frame.shadowReadMemory(anyLong(), anyLong()))
+        .thenAnswer(
+            invocation -> {
+              final long offset = invocation.getArgument(0);
+              final long length = invocation.getArgument(1);
+              return this.memory.slice((int) offset, (int) length).copy();
+            });
+  }
+
+  /** Expands the memory of the frame to the given size, zero-filling it as the EVM does. */
+  private void expand(int size) {
+    final MutableBytes expanded = MutableBytes.create(size);
+    this.memory.copyTo(expanded, 0);
+    this.memory = expanded;
+  }
+
+  /** Writes to the memory of the frame, and records the write as the Hub does. */
+  private void write(int offset, Bytes bytes) {
+    if (offset + bytes.size() > this.memory.size()) {
+      this.expand(offset + bytes.size());
+    }
+    bytes.copyTo(this.memory, offset);
+    this.pagedMemory.written(offset, bytes.size());
+  }
+
+  private static Bytes pattern(int size, int seed) {
+    final MutableBytes r = MutableBytes.create(size);
+    for (int i = 0; i < size; i++) {
+      r.set(i, (byte) (seed + i));
+    }
+    return r;
+  }
+
+  @Test
+  void emptyMemory() {
+    assertThat(this.pagedMemory.snapshot(this.frame)).isEqualTo(Bytes.EMPTY);
+  }
+
+  @Test
+  void partialLastPage() {
+    this.write(0, pattern(PAGE_SIZE + 10, 1));
+
+    final Bytes snapshot = this.pagedMemory.snapshot(this.frame);
+    assertThat(snapshot.size()).isEqualTo(PAGE_SIZE + 10);
+    assertThat(snapshot).isEqualTo(this.memory.copy());
+    assertThat(snapshot.get(PAGE_SIZE + 9)).isEqualTo(this.memory.get(PAGE_SIZE + 9));
+    assertThat(snapshot.slice(PAGE_SIZE, 10)).isEqualTo(this.memory.slice(PAGE_SIZE, 10));
+  }
+
+  @Test
+  void growthAcrossPageBoundaries() {
+    this.write(0, pattern(32, 1));
+    assertThat(this.pagedMemory.snapshot(this.frame)).isEqualTo(this.memory.copy());
+
+    // Expand over several pages without writing to the expanded part
+    this.expand(3 * PAGE_SIZE + 64);
+    assertThat(this.pagedMemory.snapshot(this.frame)).isEqualTo(this.memory.copy());
+
+    this.write(3 * PAGE_SIZE + 96, pattern(32, 2));
+    assertThat(this.pagedMemory.snapshot(this.frame)).isEqualTo(this.memory.copy());
+  }
+
+  @Test
+  void writeSpanningTwoPages() {
+    this.expand(2 * PAGE_SIZE);
+    assertThat(this.pagedMemory.snapshot(this.frame)).isEqualTo(this.memory.copy());
+
+    this.write(PAGE_SIZE - 16, pattern(32, 3));
+    final Bytes snapshot = this.pagedMemory.snapshot(this.frame);
+    assertThat(snapshot).isEqualTo(this.memory.copy());
+    assertThat(snapshot.slice(PAGE_SIZE - 16, 32)).isEqualTo(pattern(32, 3));
+  }
+
+  @Test
+  void snapshotsAreUnaffectedByLaterWrites() {
+    this.write(0, pattern(2 * PAGE_SIZE, 4));
+    final Bytes before = this.pagedMemory.snapshot(this.frame);
+    final Bytes expected = this.memory.copy();
+    final Bytes slice = before.slice(PAGE_SIZE - 16, 32);
+
+    this.write(PAGE_SIZE - 16, pattern(32, 5));
+    this.write(3 * PAGE_SIZE, pattern(32, 6));
+    final Bytes after = this.pagedMemory.snapshot(this.frame);
+
+    assertThat(before).isEqualTo(expected);
+    assertThat(slice).isEqualTo(expected.slice(PAGE_SIZE - 16, 32));
+    assertThat(after).isEqualTo(this.memory.copy());
+  }
+
+  @Test
+  void invalidatedMemoryIsReadAgain() {
+    this.write(0, pattern(2 * PAGE_SIZE, 7));
+    this.pagedMemory.snapshot(this.frame);
+
+    // e.g. a callee returning data, which is not recorded as a write
+    pattern(64, 8).copyTo(this.memory, PAGE_SIZE + 100);
+    this.pagedMemory.invalidate();
+    assertThat(this.pagedMemory.snapshot(this.frame)).isEqualTo(this.memory.copy());
+  }
+}
@@ -134,6 +134,18 @@ public class ToyExecutionEnvironment {
     this.checkTracer();
   }
 
+  /**
+   * Traces the conflation defined in a {@link ConflationSnapshot}, without checking the resulting
+   * trace; e.g. to benchmark the tracer.
+   *
+   * @param conflation the conflation to replay
+   * @return the tracer having traced the conflation
+   */
+  public ZkTracer traceReplay(final ConflationSnapshot conflation) {
+    this.executeFrom(conflation);
+    return this.tracer;
+  }
+
   /**
    * Loads the states and the conflation defined in a {@link ConflationSnapshot}, mimick the
    * accounts, storage and blocks state as it was on the blockchain before the conflation played
@@ -1,3 +1,7 @@
+import java.util.regex.Matcher
+import java.util.regex.Pattern
+
+import org.gradle.api.GradleException
 import org.gradle.api.provider.ListProperty
 import org.gradle.api.provider.Property
 import org.gradle.api.tasks.Exec
@@ -6,6 +10,17 @@ import org.gradle.api.tasks.Optional
 
 abstract class TraceFilesTask extends Exec {
 
+  /**
+   * The byte-by-byte left-padding emitted by Corset in the setters of the byte columns; the trace
+   * file being zero-filled before the modules are committed, it is replaced by a single bulk put
+   * skipping over the padding, see TraceColumns#putLeftPadded.
+   */
+  private static final Pattern PADDING_LOOP = Pattern.compile(
+  /final byte\[\] bs = b\.toArrayUnsafe\(\);\s*for \(int i = bs\.length; i < (\d+); i\+\+\) \{\s*(\w+)\s*\.put\(\s*\(byte\) 0\);\s*\}\s*\2\s*\.put\(\s*b\.toArrayUnsafe\(\)\);/)
+
+  private static final String COLUMN_HEADER_IMPORT = "import net.consensys.linea.zktracer.ColumnHeader;\n"
+  private static final String TRACE_COLUMNS_IMPORT = "import net.consensys.linea.zktracer.TraceColumns;\n"
+
   @Input
   abstract Property<String> getModule()
 
@@ -18,9 +33,10 @@ abstract class TraceFilesTask extends Exec {
 
   @Override
   protected void exec() {
+    def outputDir = "${project.projectDir}/src/main/java/net/consensys/linea/zktracer/module/${moduleDir.getOrElse(module.get())}"
     def arguments = ["besu",
                      "-P", module.get(),
-                     "-o", "${project.projectDir}/src/main/java/net/consensys/linea/zktracer/module/${moduleDir.getOrElse(module.get())}"
+                     "-o", outputDir
     ]
     arguments.addAll(files.get().collect({"zkevm-constraints/${it}"}))
 
@@ -30,5 +46,31 @@ abstract class TraceFilesTask extends Exec {
 
     println "Generating traces for ${module.get()} from ${arguments}"
     super.exec()
+
+    bulkPadding(project.file("${outputDir}/Trace.java"))
+  }
+
+  /**
+   * Rewrite the padding loops of a generated Trace class into bulk puts; fails if any of them can
+   * not be rewritten, e.g. because the Corset template changed.
+   *
+   * @param traceFile the generated Trace class
+   */
+  private static void bulkPadding(File traceFile) {
+    final String generated = traceFile.text
+    final Matcher m = PADDING_LOOP.matcher(generated)
+    if (!m.find()) {
+      return
+    }
+
+    String rewritten = m.replaceAll('TraceColumns.putLeftPadded($2, b.toArrayUnsafe(), $1);')
+    if (rewritten.contains("bs.length")) {
+      throw new GradleException("unexpected padding loop left in ${traceFile}, check the Corset template")
+    }
+    if (!rewritten.contains(TRACE_COLUMNS_IMPORT)) {
+      rewritten = rewritten.replaceFirst(Pattern.quote(COLUMN_HEADER_IMPORT),
+          Matcher.quoteReplacement(COLUMN_HEADER_IMPORT + TRACE_COLUMNS_IMPORT))
+    }
+    traceFile.text = rewritten
   }
 }